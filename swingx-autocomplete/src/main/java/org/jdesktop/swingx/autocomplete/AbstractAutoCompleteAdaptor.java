@@ -22,6 +22,8 @@ package org.jdesktop.swingx.autocomplete;
 
 import javax.swing.text.JTextComponent;
 
+import org.jdesktop.swingx.util.Contract;
+
 /**
  * This is the interface that binds the mechanism for automatic completion to
  * a data model, a selection model (e.g. those used by JList, JComboBox and JTable)
@@ -40,6 +42,24 @@ public abstract class AbstractAutoCompleteAdaptor {
     /** the string representation in use for the currently selected item*/
     private String selectedItemAsString;
     
+    /** flag to indicate whether lookups use an index of the items */
+    private boolean indexed;
+    
+    /** the index of the items, created lazily */
+    private LookupIndex lookupIndex;
+    
+    /** the way to match the typed text against the items */
+    private MatchMode matchMode = MatchMode.PREFIX;
+    
+    /** the time in milliseconds a search for substring or fuzzy matches may take */
+    private int matchTimeBudget = DEFAULT_MATCH_TIME_BUDGET;
+    
+    /** the trigram index of the items, created lazily */
+    private TrigramIndex trigramIndex;
+    
+    /** the default time budget for substring and fuzzy matching, in milliseconds */
+    public static final int DEFAULT_MATCH_TIME_BUDGET = 20;
+    
     /**
      * Returns the currently selected item.
      * @return the selected item
@@ -93,6 +113,184 @@ public abstract class AbstractAutoCompleteAdaptor {
         return false;
     }
     
+    /**
+     * Returns a flag indicating whether items are looked up in an index.
+     * 
+     * @return true if items are looked up in an index, false if all items
+     *   are scanned
+     * @see #setIndexed(boolean)
+     */
+    public boolean isIndexed() {
+        return indexed;
+    }
+    
+    /**
+     * Sets a flag indicating whether items are looked up in an index. The
+     * index is a sorted array of the items' string representations, created 
+     * on the first lookup. A lookup in the index is O(log n + k), with k the
+     * number of strings matching ignoring case, instead of several full scans
+     * of all items. Worth it for large numbers of items. <p>
+     * 
+     * The default is false. <p>
+     * 
+     * Note: the index is re-created if the number of items changed. 
+     * Subclasses which can observe other changes to the items must call 
+     * {@link #invalidateIndex()}, as the adaptors for JComboBox and JList do.
+     * Otherwise, client code is responsible to do so. 
+     * 
+     * @param indexed true to look up items in an index, false to scan
+     *   all items
+     */
+    public void setIndexed(boolean indexed) {
+        this.indexed = indexed;
+        invalidateIndex();
+        indexingChanged();
+    }
+    
+    /**
+     * Returns the way the typed text is matched against the items.
+     * 
+     * @return the match mode
+     * @see #setMatchMode(MatchMode)
+     */
+    public MatchMode getMatchMode() {
+        return matchMode;
+    }
+    
+    /**
+     * Sets the way the typed text is matched against the items. The 
+     * default is PREFIX. <p>
+     * 
+     * The other modes match the text against all of an item's strings, 
+     * if no string starts with the text. They are backed by an inverted 
+     * index of the strings' trigrams, created on the first lookup, which
+     * narrows the items to check to those containing all trigrams of the 
+     * text. A match of this kind is selected, but the text isn't completed. 
+     * With strict matching the text must remain one of the items' strings,
+     * so such matches are ignored and the text is matched by prefix only;
+     * they are still available as candidates through 
+     * {@link AutoCompleteDocument#getMatchingItems(String, int)}.
+     * The index is invalidated as described in {@link #setIndexed(boolean)}.
+     * 
+     * @param matchMode the match mode, must not be null
+     * @see #setMatchTimeBudget(int)
+     */
+    public void setMatchMode(MatchMode matchMode) {
+        this.matchMode = Contract.asNotNull(matchMode, "matchMode must not be null");
+        invalidateIndex();
+        indexingChanged();
+    }
+    
+    /**
+     * Returns the time a search for substring or fuzzy matches may take. 
+     * 
+     * @return the time budget in milliseconds
+     * @see #setMatchTimeBudget(int)
+     */
+    public int getMatchTimeBudget() {
+        return matchTimeBudget;
+    }
+    
+    /**
+     * Sets the time a search for substring or fuzzy matches may take. A
+     * search exceeding it returns the best of the matches found so far. 
+     * The creation of the index isn't included. The default is 
+     * {@link #DEFAULT_MATCH_TIME_BUDGET}.
+     * 
+     * @param matchTimeBudget the time budget in milliseconds
+     * @throws IllegalArgumentException if the budget isn't positive
+     */
+    public void setMatchTimeBudget(int matchTimeBudget) {
+        if (matchTimeBudget <= 0) {
+            throw new IllegalArgumentException("matchTimeBudget must be positive: " 
+                    + matchTimeBudget);
+        }
+        this.matchTimeBudget = matchTimeBudget;
+    }
+    
+    /**
+     * Invalidates the index of the items, if any. It will be re-created
+     * on the next lookup. 
+     * 
+     * @see #setIndexed(boolean)
+     * @see #setMatchMode(MatchMode)
+     */
+    public void invalidateIndex() {
+        lookupIndex = null;
+        trigramIndex = null;
+    }
+    
+    /**
+     * Returns a flag indicating whether lookups use an index of the items, 
+     * that is if indexed or matching other than by prefix.
+     * 
+     * @return true if an index of the items is used, false otherwise
+     */
+    boolean isIndexing() {
+        return isIndexed() || getMatchMode() != MatchMode.PREFIX;
+    }
+    
+    /**
+     * Notifies the adaptor that the indexing property might have changed.
+     * Subclasses which can observe the changes of their items start or 
+     * stop to do so. This implementation does nothing.
+     * 
+     * @see #isIndexing()
+     */
+    void indexingChanged() {
+    }
+    
+    /**
+     * Resets the indexed and match mode properties to their defaults,
+     * releasing the listeners of subclasses.
+     */
+    void resetIndexing() {
+        indexed = false;
+        matchMode = MatchMode.PREFIX;
+        invalidateIndex();
+        indexingChanged();
+    }
+    
+    /**
+     * Returns the index of the items for the given converter, re-creating
+     * it as needed.
+     * 
+     * @param stringConverter the converter used to transform items to strings
+     * @return the index or null if not indexed
+     */
+    LookupIndex getLookupIndex(ObjectToStringConverter stringConverter) {
+        if (!isIndexed()) return null;
+        if (lookupIndex == null || !lookupIndex.isValid(stringConverter, getItemCount())) {
+            lookupIndex = new LookupIndex(this, stringConverter);
+        }
+        return lookupIndex;
+    }
+    
+    /**
+     * Returns the trigram index of the items for the given converter, 
+     * re-creating it as needed.
+     * 
+     * @param stringConverter the converter used to transform items to strings
+     * @return the index
+     */
+    TrigramIndex getTrigramIndex(ObjectToStringConverter stringConverter) {
+        if (trigramIndex == null || !trigramIndex.isValid(stringConverter, getItemCount())) {
+            trigramIndex = new TrigramIndex(this, stringConverter);
+        }
+        return trigramIndex;
+    }
+    
+    /**
+     * Notifies the adaptor that the text typed into the given document 
+     * changed. Called by the document before looking up items. This 
+     * implementation does nothing.
+     * 
+     * @param document the document which is changed
+     * @param pattern the text typed into the document
+     */
+    void patternChanged(AutoCompleteDocument document, String pattern) {
+    }
+    
     /**
      * Returns the text component that is being used for the automatic completion.
      * @return the text component being used for the automatic completion
@@ -0,0 +1,385 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.autocomplete;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.swing.AbstractListModel;
+import javax.swing.ListModel;
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import javax.swing.text.JTextComponent;
+
+/**
+ * An adaptor for automatic completion against the candidates of a 
+ * {@link CandidateProvider}. The candidates matching the typed text are 
+ * queried on a background thread, after the user stopped typing for a 
+ * short delay. A query still running when the text changes again is 
+ * cancelled, its results are discarded. When the results arrive, they 
+ * replace the current candidates and the text is completed if it still
+ * is the text of the query. <p>
+ * 
+ * The current candidates are available as a ListModel, f.i. to show them
+ * in a popup:
+ * 
+ * <pre><code>
+ * AsyncCandidateAdaptor adaptor = AutoCompleteDecorator.decorate(textField, provider, null);
+ * JList list = new JList(adaptor.getCandidateModel());
+ * </code></pre>
+ * 
+ * Only the first page of candidates is queried automatically, more can be
+ * requested by {@link #loadMoreCandidates()}. <p>
+ * 
+ * Note: the completion is never strict, typed text which doesn't match any 
+ * of the current candidates might be matched by the next query.
+ * 
+ * @author agent
+ * 
+ * @see AutoCompleteDecorator#decorate(JTextComponent, CandidateProvider, ObjectToStringConverter)
+ */
+public class AsyncCandidateAdaptor extends AbstractAutoCompleteAdaptor {
+    
+    private static final Logger LOG = Logger.getLogger(AsyncCandidateAdaptor.class.getName());
+
+    /** the default number of candidates per query. */
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    
+    /** the default delay after the last change of the text, in milliseconds. */
+    public static final int DEFAULT_DELAY = 150;
+    
+    private static ExecutorService sharedExecutor;
+    
+    private final JTextComponent textComponent;
+    private final CandidateProvider provider;
+    private final Executor executor;
+    private final CandidateModel candidates;
+    private final Timer timer;
+    private int pageSize = DEFAULT_PAGE_SIZE;
+    
+    /** the item that is currently selected */
+    private Object selectedItem;
+    /** the document to complete when candidates arrive */
+    private AutoCompleteDocument document;
+    /** the pattern of the next query */
+    private String pattern;
+    /** the pattern of the current candidates */
+    private String candidatesPattern;
+    private boolean hasMore;
+    /** true from restarting the timer until it performs its action */
+    private boolean scheduled;
+    /** the running query, if any */
+    private FutureTask<List<?>> query;
+    /** incremented on each query, to discard stale results */
+    private int generation;
+    
+    /**
+     * Creates an adaptor for the given text component and provider, querying
+     * on a shared background thread.
+     * 
+     * @param textComponent the text component that will be used for automatic 
+     *   completion
+     * @param provider the source of the candidates
+     */
+    public AsyncCandidateAdaptor(JTextComponent textComponent, CandidateProvider provider) {
+        this(textComponent, provider, null);
+    }
+    
+    /**
+     * Creates an adaptor for the given text component and provider, querying
+     * with the given executor.
+     * 
+     * @param textComponent the text component that will be used for automatic 
+     *   completion
+     * @param provider the source of the candidates
+     * @param executor the executor to run the queries, may be null to use a
+     *   shared background thread
+     */
+    public AsyncCandidateAdaptor(JTextComponent textComponent, CandidateProvider provider,
+            Executor executor) {
+        this.textComponent = textComponent;
+        this.provider = provider;
+        this.executor = executor != null ? executor : getSharedExecutor();
+        candidates = new CandidateModel();
+        timer = new Timer(DEFAULT_DELAY, new ActionListener() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                // the timer is stopped before its action is performed, 
+                // a cancel in between must be honored
+                if (!scheduled) return;
+                scheduled = false;
+                query(pattern, 0, false);
+            }
+        });
+        timer.setRepeats(false);
+    }
+    
+    /**
+     * Returns the current candidates. The model is updated on the EDT 
+     * whenever the results of a query arrive.
+     * 
+     * @return the current candidates
+     */
+    public ListModel getCandidateModel() {
+        return candidates;
+    }
+    
+    /**
+     * @return the maximum number of candidates per query
+     */
+    public int getPageSize() {
+        return pageSize;
+    }
+    
+    /**
+     * Sets the maximum number of candidates per query. The default is 
+     * DEFAULT_PAGE_SIZE.
+     * 
+     * @param pageSize the maximum number of candidates per query
+     * @throws IllegalArgumentException if pageSize is not positive
+     */
+    public void setPageSize(int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be positive but was: " + pageSize);
+        }
+        this.pageSize = pageSize;
+    }
+    
+    /**
+     * @return the delay after the last change of the text before querying, 
+     *   in milliseconds
+     */
+    public int getDelay() {
+        return timer.getInitialDelay();
+    }
+    
+    /**
+     * Sets the delay after the last change of the text before querying. 
+     * The default is DEFAULT_DELAY.
+     * 
+     * @param delay the delay in milliseconds
+     * @throws IllegalArgumentException if delay is negative
+     */
+    public void setDelay(int delay) {
+        if (delay < 0) {
+            throw new IllegalArgumentException("delay must not be negative but was: " + delay);
+        }
+        timer.setInitialDelay(delay);
+    }
+    
+    /**
+     * @return true if a query is waiting for the delay or running
+     */
+    public boolean isLoading() {
+        return scheduled || query != null;
+    }
+    
+    /**
+     * @return true if the last query returned a full page of candidates
+     */
+    public boolean hasMoreCandidates() {
+        return hasMore;
+    }
+    
+    /**
+     * Queries the next page of candidates for the current pattern and appends 
+     * them to the candidates. Does nothing if a query is pending or there are
+     * no more candidates.
+     */
+    public void loadMoreCandidates() {
+        if (isLoading() || !hasMore) return;
+        query(candidatesPattern, candidates.getSize(), true);
+    }
+    
+    /**
+     * Cancels the pending query, if any. 
+     */
+    public void cancel() {
+        timer.stop();
+        scheduled = false;
+        generation++;
+        if (query != null) {
+            query.cancel(true);
+            query = null;
+        }
+    }
+    
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Implemented to schedule a query for the new pattern.
+     */
+    @Override
+    void patternChanged(AutoCompleteDocument document, String pattern) {
+        this.document = document;
+        if (isLoading() ? pattern.equals(this.pattern) : pattern.equals(candidatesPattern)) {
+            return;
+        }
+        this.pattern = pattern;
+        // don't let a stale query block the executor
+        cancel();
+        scheduled = true;
+        timer.restart();
+    }
+    
+    private void query(final String pattern, final int offset, final boolean append) {
+        cancel();
+        final int queryGeneration = generation;
+        query = new FutureTask<List<?>>(new Callable<List<?>>() {
+            @Override
+            public List<?> call() throws Exception {
+                return provider.getCandidates(pattern, offset, pageSize);
+            }
+        }) {
+            @Override
+            protected void done() {
+                if (isCancelled()) return;
+                final FutureTask<List<?>> task = this;
+                SwingUtilities.invokeLater(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (queryGeneration != generation) return;
+                        query = null;
+                        List<?> result;
+                        try {
+                            result = task.get();
+                        } catch (InterruptedException e) {
+                            // can't happen, the task is done
+                            return;
+                        } catch (ExecutionException e) {
+                            LOG.log(Level.WARNING, "querying candidates failed for " + pattern, 
+                                    e.getCause());
+                            result = null;
+                        }
+                        candidatesArrived(pattern, result, append);
+                    }
+                });
+            }
+        };
+        executor.execute(query);
+    }
+    
+    /**
+     * Updates the candidates with the results of a query and completes the 
+     * text, if appropriate.
+     */
+    private void candidatesArrived(String pattern, List<?> result, boolean append) {
+        if (result == null) {
+            result = Collections.emptyList();
+        }
+        candidatesPattern = pattern;
+        hasMore = result.size() >= pageSize;
+        if (append) {
+            candidates.addAll(result);
+        } else {
+            candidates.setAll(result);
+            invalidateIndex();
+            if (document != null) {
+                document.candidatesChanged(pattern);
+            }
+        }
+    }
+    
+    @Override
+    public Object getSelectedItem() {
+        return selectedItem;
+    }
+    
+    @Override
+    public void setSelectedItem(Object item) {
+        selectedItem = item;
+    }
+    
+    @Override
+    public int getItemCount() {
+        return candidates.getSize();
+    }
+    
+    @Override
+    public Object getItem(int index) {
+        return candidates.getElementAt(index);
+    }
+    
+    @Override
+    public JTextComponent getTextComponent() {
+        return textComponent;
+    }
+    
+    private static synchronized ExecutorService getSharedExecutor() {
+        if (sharedExecutor == null) {
+            sharedExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "AsyncCandidateAdaptor");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return sharedExecutor;
+    }
+    
+    /**
+     * The list of the current candidates.
+     */
+    @SuppressWarnings("serial")
+    private static class CandidateModel extends AbstractListModel {
+        private final List<Object> items = new ArrayList<Object>();
+        
+        @Override
+        public int getSize() {
+            return items.size();
+        }
+        
+        @Override
+        public Object getElementAt(int index) {
+            return items.get(index);
+        }
+        
+        public void setAll(List<?> result) {
+            int oldSize = items.size();
+            items.clear();
+            if (oldSize > 0) {
+                fireIntervalRemoved(this, 0, oldSize - 1);
+            }
+            addAll(result);
+        }
+        
+        public void addAll(List<?> result) {
+            if (result.isEmpty()) return;
+            int first = items.size();
+            items.addAll(result);
+            fireIntervalAdded(this, first, items.size() - 1);
+        }
+    }
+}
@@ -31,7 +31,11 @@ import java.awt.event.KeyListener;
 import java.beans.PropertyChangeEvent;
 
 import javax.swing.Action;
+import javax.swing.ComboBoxModel;
 import javax.swing.JComboBox;
+import javax.swing.ListModel;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
 import javax.swing.text.JTextComponent;
 
 /**
@@ -120,10 +124,19 @@ final class AutoComplete {
             
             AutoCompleteComboBoxEditor acEditor = (AutoCompleteComboBoxEditor) evt.getOldValue();
             boolean strictMatching = false;
+            boolean indexed = false;
+            MatchMode matchMode = MatchMode.PREFIX;
+            int matchTimeBudget = AbstractAutoCompleteAdaptor.DEFAULT_MATCH_TIME_BUDGET;
             
             if (acEditor.getEditorComponent() != null) {
                 JTextComponent textComponent = (JTextComponent) acEditor.getEditorComponent();
-                strictMatching = ((AutoCompleteDocument) textComponent.getDocument()).strictMatching;
+                AutoCompleteDocument oldDocument = (AutoCompleteDocument) textComponent.getDocument();
+                strictMatching = oldDocument.strictMatching;
+                indexed = oldDocument.adaptor.isIndexed();
+                matchMode = oldDocument.adaptor.getMatchMode();
+                matchTimeBudget = oldDocument.adaptor.getMatchTimeBudget();
+                // release the listeners to the combo
+                oldDocument.adaptor.resetIndexing();
                 
                 undecorate(textComponent);
                 
@@ -137,6 +150,9 @@ final class AutoComplete {
 
             JTextComponent editorComponent = (JTextComponent) comboBox.getEditor().getEditorComponent();
             AbstractAutoCompleteAdaptor adaptor = new ComboBoxAdaptor(comboBox);
+            adaptor.setIndexed(indexed);
+            adaptor.setMatchMode(matchMode);
+            adaptor.setMatchTimeBudget(matchTimeBudget);
             AutoCompleteDocument document = createAutoCompleteDocument(adaptor, strictMatching,
                     acEditor.stringConverter, editorComponent.getDocument());
             decorate(editorComponent, document, adaptor);
@@ -148,6 +164,53 @@ final class AutoComplete {
         }
     }
 
+    /**
+     * Invalidates the lookup index of an adaptor on changes of the list
+     * model and follows changes of the "model" property.
+     */
+    static class IndexInvalidator implements ListDataListener, 
+            java.beans.PropertyChangeListener {
+        private AbstractAutoCompleteAdaptor adaptor;
+        
+        public IndexInvalidator(AbstractAutoCompleteAdaptor adaptor) {
+            this.adaptor = adaptor;
+        }
+        
+        @Override
+        public void intervalAdded(ListDataEvent e) {
+            adaptor.invalidateIndex();
+        }
+
+        @Override
+        public void intervalRemoved(ListDataEvent e) {
+            adaptor.invalidateIndex();
+        }
+
+        @Override
+        public void contentsChanged(ListDataEvent e) {
+            // JComboBox models fire on selection changes as well 
+            if (e.getIndex0() == -1 && e.getIndex1() == -1 
+                    && e.getSource() instanceof ComboBoxModel) {
+                return;
+            }
+            adaptor.invalidateIndex();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void propertyChange(PropertyChangeEvent evt) {
+            if (evt.getOldValue() instanceof ListModel) {
+                ((ListModel) evt.getOldValue()).removeListDataListener(this);
+            }
+            if (evt.getNewValue() instanceof ListModel) {
+                ((ListModel) evt.getNewValue()).addListDataListener(this);
+            }
+            adaptor.invalidateIndex();
+        }
+    }
+    
     static class SelectionAction implements Action {
         private Action delegate;
         
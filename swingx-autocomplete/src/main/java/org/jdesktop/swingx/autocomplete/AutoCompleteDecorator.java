@@ -194,6 +194,8 @@ public class AutoCompleteDecorator {
         
         if (editorComponent.getDocument() instanceof AutoCompleteDocument) {
             AutoCompleteDocument doc = (AutoCompleteDocument) editorComponent.getDocument();
+            // release the listeners to the combo
+            doc.adaptor.resetIndexing();
             
             if (doc.strictMatching) {
                 ActionMap map = comboBox.getActionMap();
@@ -274,6 +276,7 @@ public class AutoCompleteDecorator {
     static void undecorate(JList list) {
         for (ListSelectionListener l : list.getListSelectionListeners()) {
             if (l instanceof ListAdaptor) {
+                ((ListAdaptor) l).resetIndexing();
                 list.removeListSelectionListener(l);
                 break;
             }
@@ -307,6 +310,27 @@ public class AutoCompleteDecorator {
         decorate(textComponent, document, adaptor);
     }
     
+    /**
+     * Enables automatic completion for the given JTextComponent based on the
+     * candidates of the given provider. The candidates are queried 
+     * asynchronously while typing, the automatic completion is never strict.
+     * 
+     * @param textComponent the text component that will be used for automatic
+     * completion.
+     * @param provider the source of the candidates
+     * @param stringConverter the converter used to transform items to strings
+     * @return the adaptor querying the provider, f.i. to access the current 
+     *   candidates
+     * @see AsyncCandidateAdaptor
+     */
+    public static AsyncCandidateAdaptor decorate(JTextComponent textComponent, 
+            CandidateProvider provider, ObjectToStringConverter stringConverter) {
+        AsyncCandidateAdaptor adaptor = new AsyncCandidateAdaptor(textComponent, provider);
+        AutoCompleteDocument document = createAutoCompleteDocument(adaptor, false, stringConverter, textComponent.getDocument());
+        decorate(textComponent, document, adaptor);
+        return adaptor;
+    }
+    
     /**
      * Decorates a given text component for automatic completion using the
      * given AutoCompleteDocument and AbstractAutoCompleteAdaptor.
@@ -365,6 +389,11 @@ public class AutoCompleteDecorator {
             
             textComponent.getActionMap().put("nonstrict-backspace", null);
             
+            AbstractAutoCompleteAdaptor adaptor = ((AutoCompleteDocument) doc).adaptor;
+            if (adaptor instanceof AsyncCandidateAdaptor) {
+                ((AsyncCandidateAdaptor) adaptor).cancel();
+            }
+            
             //remove old focus listener
             for (FocusListener l : textComponent.getFocusListeners()) {
                 if (l instanceof AutoComplete.FocusAdapter) {
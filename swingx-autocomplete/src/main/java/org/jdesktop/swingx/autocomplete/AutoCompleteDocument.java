@@ -20,7 +20,9 @@
  */
 package org.jdesktop.swingx.autocomplete;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import static org.jdesktop.swingx.autocomplete.ObjectToStringConverter.DEFAULT_IMPLEMENTATION;
 
 import javax.swing.UIManager;
@@ -276,6 +278,7 @@ public class AutoCompleteDocument implements Document {
         // return immediately when selecting an item
         if (selecting) return;
         delegate.remove(offs, len);
+        adaptor.patternChanged(this, getText(0, getLength()));
         if (!strictMatching) {
             setSelectedItem(getText(0, getLength()), getText(0, getLength()));
             adaptor.getTextComponent().setCaretPosition(offs);
@@ -291,6 +294,7 @@ public class AutoCompleteDocument implements Document {
         // lookup and select a matching item
         LookupResult lookupResult;
         String pattern = getText(0, getLength());
+        adaptor.patternChanged(this, pattern);
 
         if(pattern == null || pattern.length() == 0) {
             lookupResult = new LookupResult(null, "");
@@ -322,6 +326,12 @@ public class AutoCompleteDocument implements Document {
             }
         }
 
+        if (lookupResult.fragment) {
+            // the item doesn't start with the text, keep it as typed
+            adaptor.getTextComponent().setCaretPosition(offs + (str == null ? 0 : str.length()));
+            return;
+        }
+        
         setText(lookupResult.matchingString);
 
         // select the completed part
@@ -330,6 +340,35 @@ public class AutoCompleteDocument implements Document {
         adaptor.markText(offs);
     }
 
+    /**
+     * Completes the text after the items of the adaptor changed. Does 
+     * nothing if the current text isn't the given pattern, that is if the
+     * text changed in the meantime or is already completed.
+     * 
+     * @param pattern the text typed into the document when the items
+     *   were requested
+     */
+    void candidatesChanged(String pattern) {
+        if (selecting || strictMatching || pattern.length() == 0) return;
+        String text;
+        try {
+            text = getText(0, getLength());
+        } catch (BadLocationException e) {
+            throw new RuntimeException(e.toString());
+        }
+        if (!pattern.equals(text)) return;
+        if (!adaptor.listContainsSelectedItem()) {
+            // the typed text, don't prefer it over the new items
+            setSelectedItem(null, null);
+        }
+        LookupResult lookupResult = lookupItem(pattern);
+        if (lookupResult.matchingItem == null) return;
+        setSelectedItem(lookupResult.matchingItem, lookupResult.matchingString);
+        if (lookupResult.fragment) return;
+        setText(lookupResult.matchingString);
+        adaptor.markText(pattern.length());
+    }
+    
     /**
      * Sets the text of this AutoCompleteDocument to the given text.
      *
@@ -360,7 +399,9 @@ public class AutoCompleteDocument implements Document {
     /**
      * Searches for an item that matches the given pattern. The AbstractAutoCompleteAdaptor
      * is used to access the candidate items. The match is not case-sensitive
-     * and will only match at the beginning of each item's string representation.
+     * and will only match at the beginning of each item's string representation,
+     * unless the adaptor's match mode allows other matches if there is no such
+     * item and matching isn't strict.
      *
      * @param pattern the pattern that should be matched
      * @return the first item that matches the pattern or <code>null</code> if no item matches
@@ -391,10 +432,56 @@ public class AutoCompleteDocument implements Document {
 
         lookupResult = lookupItem(pattern, STARTS_WITH_IGNORE_CASE);
         if (lookupResult != null) return lookupResult;
+        
+        // third try: substring or fuzzy, not in strict mode as the text 
+        // would no longer be one of the items' strings
+        
+        if (!strictMatching && adaptor.getMatchMode() != MatchMode.PREFIX) {
+            TrigramIndex index = adaptor.getTrigramIndex(stringConverter);
+            int[] entries = search(index, pattern, 1);
+            if (entries.length > 0) {
+                lookupResult = new LookupResult(adaptor.getItem(index.getItem(entries[0])), 
+                        index.getString(entries[0]));
+                lookupResult.fragment = true;
+                return lookupResult;
+            }
+        }
 
         // no item starts with the pattern => return null
         return new LookupResult(null, "");
     }
+    
+    /**
+     * Returns the items matching the given pattern in the adaptor's match mode,
+     * best match first. The pattern is matched ignoring case. Items whose string
+     * starts with the pattern rank highest, followed by items containing it 
+     * and, in FUZZY mode, items sharing enough trigrams with it. The search
+     * stops after the adaptor's match time budget, returning the best of the 
+     * items found so far. <p>
+     * 
+     * This is useful to show the candidates for the typed text in a popup.
+     * 
+     * @param pattern the pattern to match
+     * @param maxCount the maximal number of items to return
+     * @return the matching items, best match first
+     * 
+     * @see AbstractAutoCompleteAdaptor#setMatchMode(MatchMode)
+     * @see AbstractAutoCompleteAdaptor#setMatchTimeBudget(int)
+     */
+    public List<Object> getMatchingItems(String pattern, int maxCount) {
+        List<Object> items = new ArrayList<Object>();
+        if (pattern == null || pattern.length() == 0) return items;
+        TrigramIndex index = adaptor.getTrigramIndex(stringConverter);
+        for (int entry : search(index, pattern, maxCount)) {
+            items.add(adaptor.getItem(index.getItem(entry)));
+        }
+        return items;
+    }
+    
+    private int[] search(TrigramIndex index, String pattern, int maxCount) {
+        long deadline = System.nanoTime() + adaptor.getMatchTimeBudget() * 1000000L;
+        return index.search(pattern, adaptor.getMatchMode(), maxCount, deadline);
+    }
 
     private LookupResult lookupOneItem(Object item, String pattern, Comparator<String> comparator) {
         String[] possibleStrings = stringConverter.getPossibleStringsForItem(item);
@@ -409,6 +496,14 @@ public class AutoCompleteDocument implements Document {
     }
 
     private LookupResult lookupItem(String pattern, Comparator<String> comparator) {
+        LookupIndex index = adaptor.getLookupIndex(stringConverter);
+        if (index != null) {
+            int entry = index.lookup(pattern, 
+                    comparator == STARTS_WITH || comparator == STARTS_WITH_IGNORE_CASE, 
+                    comparator == EQUALS_IGNORE_CASE || comparator == STARTS_WITH_IGNORE_CASE);
+            return entry < 0 ? null 
+                    : new LookupResult(adaptor.getItem(index.getItem(entry)), index.getString(entry));
+        }
         // iterate over all items and return first match
         for (int i = 0, n = adaptor.getItemCount(); i < n; i++) {
             Object currentItem = adaptor.getItem(i);
@@ -421,6 +516,8 @@ public class AutoCompleteDocument implements Document {
     private static class LookupResult {
         Object matchingItem;
         String matchingString;
+        /** true if the matching string doesn't start with the pattern. */
+        boolean fragment;
         public LookupResult(Object matchingItem, String matchingString) {
             this.matchingItem = matchingItem;
             this.matchingString = matchingString;
@@ -547,6 +644,15 @@ public class AutoCompleteDocument implements Document {
         delegate.render(r);
     }
 
+    /**
+     * Returns the adaptor that is used to find and select items.
+     * 
+     * @return the adaptor used by this document
+     */
+    public AbstractAutoCompleteAdaptor getAdaptor() {
+        return adaptor;
+    }
+    
     /**
      * Returns if only items from the adaptor's list should be allowed to be entered.
      * @return if only items from the adaptor's list should be allowed to be entered
@@ -0,0 +1,52 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.autocomplete;
+
+import java.util.List;
+
+/**
+ * A source of candidates for automatic completion which is too large to 
+ * be loaded into a model, f.i. a database or a remote service. The 
+ * candidates are queried page by page on a background thread.
+ * 
+ * @author agent
+ * 
+ * @see AsyncCandidateAdaptor
+ * @see AutoCompleteDecorator#decorate(javax.swing.text.JTextComponent, CandidateProvider, ObjectToStringConverter)
+ */
+public interface CandidateProvider {
+
+    /**
+     * Returns a page of the candidates matching the given pattern. This is 
+     * called on a background thread, implementations must be thread-safe. 
+     * A query is cancelled by interrupting the thread, long running 
+     * implementations should check the interrupted state of the thread 
+     * and give up early.
+     * 
+     * @param pattern the text typed by the user
+     * @param offset the index of the first candidate to return
+     * @param count the maximum number of candidates to return
+     * @return the candidates matching the pattern, may be shorter than 
+     *   count if there are no more candidates
+     * @throws Exception if the candidates cannot be queried
+     */
+    List<?> getCandidates(String pattern, int offset, int count) throws Exception;
+}
@@ -42,6 +42,9 @@ public class ComboBoxAdaptor extends AbstractAutoCompleteAdaptor implements Acti
     /** the combobox being adapted */
     private JComboBox comboBox;
     
+    /** the listener to invalidate the index on model changes */
+    private AutoComplete.IndexInvalidator indexInvalidator;
+    
     /**
      * Creates a new ComobBoxAdaptor for the given combobox.
      * @param comboBox the combobox that should be adapted
@@ -62,6 +65,24 @@ public class ComboBoxAdaptor extends AbstractAutoCompleteAdaptor implements Acti
         markEntireText();
     }
     
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Overridden to listen to the combo box' model while indexing.
+     */
+    @Override
+    void indexingChanged() {
+        if (isIndexing() && indexInvalidator == null) {
+            indexInvalidator = new AutoComplete.IndexInvalidator(this);
+            comboBox.getModel().addListDataListener(indexInvalidator);
+            comboBox.addPropertyChangeListener("model", indexInvalidator);
+        } else if (!isIndexing() && indexInvalidator != null) {
+            comboBox.getModel().removeListDataListener(indexInvalidator);
+            comboBox.removePropertyChangeListener("model", indexInvalidator);
+            indexInvalidator = null;
+        }
+    }
+    
     @Override
     public int getItemCount() {
         return comboBox.getItemCount();
@@ -38,6 +38,8 @@ public class ListAdaptor extends AbstractAutoCompleteAdaptor implements ListSele
     JTextComponent textComponent;
     /** the converter used to transform items to strings */
     ObjectToStringConverter stringConverter;
+    /** the listener to invalidate the index on model changes */
+    private AutoComplete.IndexInvalidator indexInvalidator;
     
     /**
      * Creates a new JListAdaptor for the given list and text component using
@@ -90,6 +92,24 @@ public class ListAdaptor extends AbstractAutoCompleteAdaptor implements ListSele
         return list.getSelectedValue();
     }
     
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Overridden to listen to the list's model while indexing.
+     */
+    @Override
+    void indexingChanged() {
+        if (isIndexing() && indexInvalidator == null) {
+            indexInvalidator = new AutoComplete.IndexInvalidator(this);
+            list.getModel().addListDataListener(indexInvalidator);
+            list.addPropertyChangeListener("model", indexInvalidator);
+        } else if (!isIndexing() && indexInvalidator != null) {
+            list.getModel().removeListDataListener(indexInvalidator);
+            list.removePropertyChangeListener("model", indexInvalidator);
+            indexInvalidator = null;
+        }
+    }
+    
     @Override
     public int getItemCount() {
         return list.getModel().getSize();
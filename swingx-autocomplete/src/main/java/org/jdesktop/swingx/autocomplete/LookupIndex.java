@@ -0,0 +1,183 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * A sorted index of the case-folded string representations of the items of
+ * an adaptor. Finds the first item (in the adaptor's order) with a string 
+ * representation which equals or starts with a pattern in O(log n + k), 
+ * where k is the number of strings matching the pattern ignoring case.
+ * <p>
+ * 
+ * Case folding is per-char as in {@code String.regionMatches(true, ...)}, 
+ * so the ignore-case lookups produce the same results as the linear scans
+ * in AutoCompleteDocument.
+ * 
+ * @author agent
+ */
+final class LookupIndex {
+
+    private static final Comparator<Entry> FOLDED_ORDER = new Comparator<Entry>() {
+        @Override
+        public int compare(Entry o1, Entry o2) {
+            return o1.folded.compareTo(o2.folded);
+        }
+    };
+    
+    private final ObjectToStringConverter stringConverter;
+    private final int itemCount;
+    /** all entries, sorted by their folded string. */
+    private final Entry[] entries;
+    
+    /**
+     * Creates the index of the given adaptor's items.
+     * 
+     * @param adaptor the adaptor to access the items
+     * @param stringConverter the converter used to transform items to strings
+     */
+    public LookupIndex(AbstractAutoCompleteAdaptor adaptor, 
+            ObjectToStringConverter stringConverter) {
+        this.stringConverter = stringConverter;
+        this.itemCount = adaptor.getItemCount();
+        List<Entry> list = new ArrayList<Entry>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            String[] possibleStrings = stringConverter.getPossibleStringsForItem(adaptor.getItem(i));
+            if (possibleStrings == null) continue;
+            for (int j = 0; j < possibleStrings.length; j++) {
+                if (possibleStrings[j] != null) {
+                    list.add(new Entry(possibleStrings[j], i, j));
+                }
+            }
+        }
+        entries = list.toArray(new Entry[list.size()]);
+        // stable: equal folded strings stay in item order
+        Arrays.sort(entries, FOLDED_ORDER);
+    }
+    
+    /**
+     * Returns a flag indicating whether this index is created for the given 
+     * converter and number of items.
+     * 
+     * @param stringConverter the converter used to transform items to strings
+     * @param itemCount the current number of items
+     * @return true if this index can be used, false otherwise
+     */
+    public boolean isValid(ObjectToStringConverter stringConverter, int itemCount) {
+        return this.stringConverter == stringConverter && this.itemCount == itemCount;
+    }
+    
+    /**
+     * Returns the first match of the pattern, that is the first string of 
+     * the first item which matches.
+     * 
+     * @param pattern the pattern to match
+     * @param prefix true to match strings starting with the pattern, false
+     *    to match strings equal to the pattern
+     * @param ignoreCase true to match ignoring case
+     * @return the index of the matching entry, or -1 if there is none
+     */
+    public int lookup(String pattern, boolean prefix, boolean ignoreCase) {
+        String folded = fold(pattern);
+        Entry best = null;
+        int bestIndex = -1;
+        for (int i = lowerBound(folded); i < entries.length; i++) {
+            Entry entry = entries[i];
+            if (prefix ? !entry.folded.startsWith(folded) : !entry.folded.equals(folded)) {
+                break;
+            }
+            if (!ignoreCase && (prefix ? !entry.string.startsWith(pattern) 
+                    : !entry.string.equals(pattern))) {
+                continue;
+            }
+            if (best == null || entry.item < best.item 
+                    || (entry.item == best.item && entry.position < best.position)) {
+                best = entry;
+                bestIndex = i;
+            }
+        }
+        return bestIndex;
+    }
+    
+    /**
+     * @param entry the index of the entry as returned by lookup
+     * @return the index of the entry's item
+     */
+    public int getItem(int entry) {
+        return entries[entry].item;
+    }
+    
+    /**
+     * @param entry the index of the entry as returned by lookup
+     * @return the string representation of the entry
+     */
+    public String getString(int entry) {
+        return entries[entry].string;
+    }
+    
+    /**
+     * Returns the index of the first entry whose folded string is not less 
+     * than the given.
+     */
+    private int lowerBound(String folded) {
+        int low = 0;
+        int high = entries.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (entries[mid].folded.compareTo(folded) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    
+    /**
+     * Returns the case-folded string: two chars are equal ignoring case 
+     * if and only if their folded chars are equal.
+     */
+    static String fold(String string) {
+        char[] chars = string.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(Character.toUpperCase(chars[i]));
+        }
+        return new String(chars);
+    }
+    
+    private static class Entry {
+        final String folded;
+        final String string;
+        final int item;
+        final int position;
+        
+        public Entry(String string, int item, int position) {
+            this.string = string;
+            this.folded = fold(string);
+            this.item = item;
+            this.position = position;
+        }
+    }
+}
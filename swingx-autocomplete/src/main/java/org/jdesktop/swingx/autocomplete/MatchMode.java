@@ -0,0 +1,49 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.autocomplete;
+
+/**
+ * The ways the typed text is matched against the string representations
+ * of the items. 
+ * 
+ * @author agent
+ * 
+ * @see AbstractAutoCompleteAdaptor#setMatchMode(MatchMode)
+ */
+public enum MatchMode {
+    /**
+     * Matches items whose string starts with the typed text. The
+     * text is completed to the item's string.
+     */
+    PREFIX,
+    /**
+     * Matches items whose string starts with the typed text or, if there
+     * is none, contains it. Items containing the text are selected 
+     * without completing the text.
+     */
+    SUBSTRING,
+    /**
+     * Matches as SUBSTRING, followed by the items whose strings share 
+     * enough trigrams (sequences of three chars) with the typed text, 
+     * most similar first. 
+     */
+    FUZZY
+}
@@ -0,0 +1,377 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * An inverted index from the trigrams (sequences of three chars) of the 
+ * case-folded string representations of the items of an adaptor to the 
+ * strings containing them. Finds the strings containing a pattern by 
+ * intersecting the lists of the pattern's trigrams and checking the 
+ * remaining candidates only, and the strings similar to a pattern by
+ * counting the trigrams they share. 
+ * <p>
+ * 
+ * Matches are ranked: strings containing the pattern before similar strings,
+ * earlier occurrences of the pattern and higher similarity first, shorter
+ * strings first, finally in item order. A search returns at most one 
+ * string per item and stops at a deadline, returning the best of the 
+ * matches found so far.
+ * 
+ * @author agent
+ * 
+ * @see MatchMode
+ */
+final class TrigramIndex {
+
+    /** the minimal fraction of shared trigrams of a fuzzy match. */
+    static final float FUZZY_THRESHOLD = 0.3f;
+    
+    /** the number of candidates to check between tests of the deadline. */
+    private static final int CHECK_INTERVAL = 256;
+    
+    private final ObjectToStringConverter stringConverter;
+    private final int itemCount;
+    /** the strings, in item order. */
+    private final String[] strings;
+    /** the case-folded strings. */
+    private final String[] folded;
+    /** the index of the item per string. */
+    private final int[] items;
+    /** the number of distinct trigrams per string. */
+    private final int[] gramCounts;
+    /** the ascending indices of the strings containing a trigram. */
+    private final Map<Long, int[]> postings;
+    
+    /**
+     * Creates the index of the given adaptor's items.
+     * 
+     * @param adaptor the adaptor to access the items
+     * @param stringConverter the converter used to transform items to strings
+     */
+    public TrigramIndex(AbstractAutoCompleteAdaptor adaptor, 
+            ObjectToStringConverter stringConverter) {
+        this.stringConverter = stringConverter;
+        this.itemCount = adaptor.getItemCount();
+        List<String> stringList = new ArrayList<String>(itemCount);
+        IntList itemList = new IntList(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            String[] possibleStrings = stringConverter.getPossibleStringsForItem(adaptor.getItem(i));
+            if (possibleStrings == null) continue;
+            for (int j = 0; j < possibleStrings.length; j++) {
+                if (possibleStrings[j] != null) {
+                    stringList.add(possibleStrings[j]);
+                    itemList.add(i);
+                }
+            }
+        }
+        strings = stringList.toArray(new String[stringList.size()]);
+        items = itemList.toArray();
+        folded = new String[strings.length];
+        gramCounts = new int[strings.length];
+        Map<Long, IntList> lists = new HashMap<Long, IntList>();
+        for (int entry = 0; entry < strings.length; entry++) {
+            folded[entry] = LookupIndex.fold(strings[entry]);
+            for (int i = 0; i + 3 <= folded[entry].length(); i++) {
+                Long gram = gram(folded[entry], i);
+                IntList list = lists.get(gram);
+                if (list == null) {
+                    list = new IntList(4);
+                    lists.put(gram, list);
+                }
+                // entries are added in ascending order, skip repeated trigrams
+                if (list.size == 0 || list.data[list.size - 1] != entry) {
+                    list.add(entry);
+                    gramCounts[entry]++;
+                }
+            }
+        }
+        postings = new HashMap<Long, int[]>(lists.size() * 4 / 3 + 1);
+        for (Map.Entry<Long, IntList> e : lists.entrySet()) {
+            postings.put(e.getKey(), e.getValue().toArray());
+        }
+    }
+    
+    /**
+     * Returns a flag indicating whether this index is created for the given 
+     * converter and number of items.
+     * 
+     * @param stringConverter the converter used to transform items to strings
+     * @param itemCount the current number of items
+     * @return true if this index can be used, false otherwise
+     */
+    public boolean isValid(ObjectToStringConverter stringConverter, int itemCount) {
+        return this.stringConverter == stringConverter && this.itemCount == itemCount;
+    }
+    
+    /**
+     * Returns the strings matching the pattern ignoring case, best match first. 
+     * 
+     * @param pattern the pattern to match
+     * @param mode the mode to match in, PREFIX matches the strings starting 
+     *    with the pattern only
+     * @param maxCount the maximal number of matches to return
+     * @param deadline the value of System.nanoTime() at which to stop searching
+     * @return the indices of the matching strings, best match first
+     */
+    public int[] search(String pattern, MatchMode mode, int maxCount, long deadline) {
+        String foldedPattern = LookupIndex.fold(pattern);
+        boolean prefix = mode == MatchMode.PREFIX;
+        Ranking ranking = new Ranking(maxCount);
+        if (foldedPattern.length() < 3) {
+            // no trigrams to look up
+            matchSubstrings(foldedPattern, prefix, null, ranking, deadline);
+        } else {
+            long[] grams = grams(foldedPattern);
+            matchSubstrings(foldedPattern, prefix, intersect(grams), ranking, deadline);
+            if (mode == MatchMode.FUZZY && !ranking.isFull()) {
+                matchSimilar(foldedPattern, grams, ranking, deadline);
+            }
+        }
+        return ranking.toArray();
+    }
+    
+    /**
+     * @param entry the index of the string as returned by search
+     * @return the index of the string's item
+     */
+    public int getItem(int entry) {
+        return items[entry];
+    }
+    
+    /**
+     * @param entry the index of the string as returned by search
+     * @return the string
+     */
+    public String getString(int entry) {
+        return strings[entry];
+    }
+    
+    /**
+     * Ranks the candidates containing the pattern, all strings if the 
+     * candidates are null.
+     */
+    private void matchSubstrings(String foldedPattern, boolean prefix, 
+            int[] candidates, Ranking ranking, long deadline) {
+        int count = candidates != null ? candidates.length : folded.length;
+        for (int i = 0; i < count; i++) {
+            if (i % CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0) return;
+            int entry = candidates != null ? candidates[i] : i;
+            int position = prefix ? (folded[entry].startsWith(foldedPattern) ? 0 : -1)
+                    : folded[entry].indexOf(foldedPattern);
+            if (position >= 0) {
+                // in (1, 2], a prefix ranks highest
+                ranking.offer(entry, 1f + 1f / (1 + position));
+            }
+        }
+    }
+    
+    /**
+     * Ranks the strings sharing enough trigrams with the pattern, by the 
+     * fraction of their combined trigrams they share.
+     */
+    private void matchSimilar(String foldedPattern, long[] grams, Ranking ranking, 
+            long deadline) {
+        int[] shared = new int[folded.length];
+        for (long gram : grams) {
+            if (System.nanoTime() - deadline > 0) return;
+            int[] list = postings.get(gram);
+            if (list == null) continue;
+            for (int entry : list) {
+                shared[entry]++;
+            }
+        }
+        for (int entry = 0; entry < shared.length; entry++) {
+            if (entry % CHECK_INTERVAL == 0 && System.nanoTime() - deadline > 0) return;
+            int count = shared[entry];
+            if (count == 0) continue;
+            // strings containing the pattern are already ranked
+            if (count == grams.length && folded[entry].contains(foldedPattern)) continue;
+            float similarity = (float) count / (grams.length + gramCounts[entry] - count);
+            if (similarity >= FUZZY_THRESHOLD) {
+                ranking.offer(entry, similarity);
+            }
+        }
+    }
+    
+    /**
+     * Returns the ascending indices of the strings containing all the 
+     * given trigrams.
+     */
+    private int[] intersect(long[] grams) {
+        int[][] lists = new int[grams.length][];
+        for (int i = 0; i < grams.length; i++) {
+            lists[i] = postings.get(grams[i]);
+            if (lists[i] == null) return new int[0];
+        }
+        // shortest first, keeps the intermediate results small
+        Arrays.sort(lists, new Comparator<int[]>() {
+            @Override
+            public int compare(int[] o1, int[] o2) {
+                return o1.length - o2.length;
+            }
+        });
+        int[] result = lists[0];
+        for (int i = 1; i < lists.length && result.length > 0; i++) {
+            int[] list = lists[i];
+            int[] merged = new int[result.length];
+            int size = 0;
+            for (int r = 0, l = 0; r < result.length && l < list.length;) {
+                if (result[r] < list[l]) {
+                    r++;
+                } else if (result[r] > list[l]) {
+                    l++;
+                } else {
+                    merged[size++] = result[r];
+                    r++;
+                    l++;
+                }
+            }
+            result = Arrays.copyOf(merged, size);
+        }
+        return result;
+    }
+    
+    /**
+     * Returns the distinct trigrams of the given string.
+     */
+    private static long[] grams(String string) {
+        long[] grams = new long[string.length() - 2];
+        int size = 0;
+        outer: for (int i = 0; i < grams.length; i++) {
+            long gram = gram(string, i);
+            for (int j = 0; j < size; j++) {
+                if (grams[j] == gram) continue outer;
+            }
+            grams[size++] = gram;
+        }
+        return Arrays.copyOf(grams, size);
+    }
+    
+    /**
+     * Returns the trigram starting at the given index, packed into a long.
+     */
+    private static long gram(String string, int index) {
+        return ((long) string.charAt(index) << 32) 
+            | ((long) string.charAt(index + 1) << 16) 
+            | string.charAt(index + 2);
+    }
+    
+    /**
+     * A string with its score, the higher the better.
+     */
+    private static class Match {
+        final int entry;
+        final float score;
+        
+        public Match(int entry, float score) {
+            this.entry = entry;
+            this.score = score;
+        }
+    }
+    
+    /**
+     * Keeps the best matches, at most one per item.
+     */
+    private class Ranking {
+        private final Comparator<Match> order = new Comparator<Match>() {
+            @Override
+            public int compare(Match o1, Match o2) {
+                if (o1.score != o2.score) return o1.score > o2.score ? -1 : 1;
+                int length = strings[o1.entry].length() - strings[o2.entry].length();
+                if (length != 0) return length;
+                // item order, then order of the item's strings
+                return o1.entry - o2.entry;
+            }
+        };
+        private final int maxCount;
+        /** the kept matches, worst first. */
+        private final PriorityQueue<Match> queue;
+        private final Map<Integer, Match> byItem;
+        
+        public Ranking(int maxCount) {
+            this.maxCount = maxCount;
+            queue = new PriorityQueue<Match>(Math.max(1, maxCount), 
+                    Collections.reverseOrder(order));
+            byItem = new HashMap<Integer, Match>();
+        }
+        
+        public boolean isFull() {
+            return queue.size() >= maxCount;
+        }
+        
+        public void offer(int entry, float score) {
+            if (maxCount <= 0) return;
+            Match match = new Match(entry, score);
+            Match old = byItem.get(items[entry]);
+            if (old != null) {
+                if (order.compare(match, old) >= 0) return;
+                queue.remove(old);
+            } else if (isFull()) {
+                if (order.compare(match, queue.peek()) >= 0) return;
+                byItem.remove(items[queue.poll().entry]);
+            }
+            queue.add(match);
+            byItem.put(items[entry], match);
+        }
+        
+        public int[] toArray() {
+            Match[] matches = queue.toArray(new Match[queue.size()]);
+            Arrays.sort(matches, order);
+            int[] result = new int[matches.length];
+            for (int i = 0; i < matches.length; i++) {
+                result[i] = matches[i].entry;
+            }
+            return result;
+        }
+    }
+    
+    /**
+     * A growable list of ints.
+     */
+    private static class IntList {
+        int[] data;
+        int size;
+        
+        public IntList(int capacity) {
+            data = new int[Math.max(1, capacity)];
+        }
+        
+        public void add(int value) {
+            if (size == data.length) {
+                data = Arrays.copyOf(data, size * 2);
+            }
+            data[size++] = value;
+        }
+        
+        public int[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+    }
+}
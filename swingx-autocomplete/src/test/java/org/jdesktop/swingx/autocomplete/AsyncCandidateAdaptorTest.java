@@ -0,0 +1,206 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ */
+package org.jdesktop.swingx.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.JTextField;
+import javax.swing.SwingUtilities;
+import javax.swing.text.JTextComponent;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests of AsyncCandidateAdaptor.
+ * 
+ * @author agent
+ */
+@RunWith(JUnit4.class)
+public class AsyncCandidateAdaptorTest extends TestCase {
+
+    private static final List<String> ITEMS = Arrays.asList(
+            "apple", "apricot", "banana", "blueberry", "cherry", "xylophone", "xyz");
+    
+    /**
+     * Typing is debounced into a single query, the text is completed when
+     * the candidates arrive.
+     */
+    @Test
+    public void testCompletion() throws Exception {
+        final RecordingProvider provider = new RecordingProvider();
+        final JTextComponent textField = new JTextField();
+        final AsyncCandidateAdaptor adaptor = onEDT(new Callable<AsyncCandidateAdaptor>() {
+            @Override
+            public AsyncCandidateAdaptor call() throws Exception {
+                AsyncCandidateAdaptor adaptor = AutoCompleteDecorator.decorate(textField, provider, null);
+                adaptor.setDelay(20);
+                textField.getDocument().insertString(0, "a", null);
+                textField.getDocument().insertString(1, "p", null);
+                return adaptor;
+            }
+        });
+        waitForCandidates(adaptor);
+        assertEquals(Arrays.asList("ap"), provider.patterns);
+        onEDT(new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                assertEquals(2, adaptor.getCandidateModel().getSize());
+                assertEquals("apple", textField.getText());
+                assertEquals("apple", adaptor.getSelectedItem());
+                assertEquals("ple", textField.getSelectedText());
+                return null;
+            }
+        });
+    }
+    
+    /**
+     * A running query is cancelled by typing, its results are discarded.
+     */
+    @Test
+    public void testCancel() throws Exception {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final RecordingProvider provider = new RecordingProvider() {
+            @Override
+            public List<?> getCandidates(String pattern, int offset, int count) throws Exception {
+                if ("x".equals(pattern)) {
+                    started.countDown();
+                    try {
+                        Thread.sleep(10000);
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                        throw e;
+                    }
+                }
+                return super.getCandidates(pattern, offset, count);
+            }
+        };
+        final JTextComponent textField = new JTextField();
+        final AsyncCandidateAdaptor adaptor = onEDT(new Callable<AsyncCandidateAdaptor>() {
+            @Override
+            public AsyncCandidateAdaptor call() throws Exception {
+                AsyncCandidateAdaptor adaptor = AutoCompleteDecorator.decorate(textField, provider, null);
+                adaptor.setDelay(0);
+                textField.getDocument().insertString(0, "x", null);
+                return adaptor;
+            }
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        onEDT(new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                textField.getDocument().insertString(1, "yl", null);
+                return null;
+            }
+        });
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        waitForCandidates(adaptor);
+        onEDT(new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                assertEquals(1, adaptor.getCandidateModel().getSize());
+                assertEquals("xylophone", textField.getText());
+                return null;
+            }
+        });
+    }
+    
+    /**
+     * More candidates are appended page by page.
+     */
+    @Test
+    public void testLoadMore() throws Exception {
+        final RecordingProvider provider = new RecordingProvider();
+        final JTextComponent textField = new JTextField();
+        final AsyncCandidateAdaptor adaptor = onEDT(new Callable<AsyncCandidateAdaptor>() {
+            @Override
+            public AsyncCandidateAdaptor call() throws Exception {
+                AsyncCandidateAdaptor adaptor = AutoCompleteDecorator.decorate(textField, provider, null);
+                adaptor.setDelay(0);
+                adaptor.setPageSize(3);
+                textField.getDocument().insertString(0, "", null);
+                return adaptor;
+            }
+        });
+        waitForCandidates(adaptor);
+        onEDT(new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                assertEquals(3, adaptor.getCandidateModel().getSize());
+                assertTrue(adaptor.hasMoreCandidates());
+                adaptor.loadMoreCandidates();
+                return null;
+            }
+        });
+        waitForCandidates(adaptor);
+        onEDT(new Callable<Void>() {
+            @Override
+            public Void call() throws Exception {
+                assertEquals(6, adaptor.getCandidateModel().getSize());
+                assertEquals("xylophone", adaptor.getCandidateModel().getElementAt(5));
+                return null;
+            }
+        });
+    }
+    
+    @Test (expected = IllegalArgumentException.class)
+    public void testPageSize() {
+        new AsyncCandidateAdaptor(new JTextField(), new RecordingProvider()).setPageSize(0);
+    }
+    
+    private void waitForCandidates(final AsyncCandidateAdaptor adaptor) throws Exception {
+        long end = System.currentTimeMillis() + 5000;
+        while (System.currentTimeMillis() < end) {
+            boolean loading = onEDT(new Callable<Boolean>() {
+                @Override
+                public Boolean call() throws Exception {
+                    return adaptor.isLoading();
+                }
+            });
+            if (!loading) return;
+            Thread.sleep(10);
+        }
+        fail("candidates didn't arrive");
+    }
+    
+    private <T> T onEDT(Callable<T> callable) throws Exception {
+        FutureTask<T> task = new FutureTask<T>(callable);
+        SwingUtilities.invokeAndWait(task);
+        return task.get();
+    }
+    
+    /**
+     * Provider of the items starting with the pattern.
+     */
+    private static class RecordingProvider implements CandidateProvider {
+        final List<String> patterns = Collections.synchronizedList(new ArrayList<String>());
+        
+        @Override
+        public List<?> getCandidates(String pattern, int offset, int count) throws Exception {
+            patterns.add(pattern);
+            List<String> result = new ArrayList<String>();
+            for (String item : ITEMS) {
+                if (item.startsWith(pattern)) {
+                    result.add(item);
+                }
+            }
+            return result.subList(Math.min(offset, result.size()), 
+                    Math.min(offset + count, result.size()));
+        }
+    }
+}
@@ -22,7 +22,12 @@
 package org.jdesktop.swingx.autocomplete;
 
 import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
+import javax.swing.DefaultComboBoxModel;
+import javax.swing.JComboBox;
 import javax.swing.JTextField;
 import javax.swing.text.Document;
 import javax.swing.text.JTextComponent;
@@ -66,4 +71,203 @@ public class AutoCompleteDocumentTest extends TestCase {
         document.insertString(4, "t", null);
         assertTrue(adaptor.getSelectedItem().equals("exact"));
     }
+
+    /**
+     * Indexed lookup must find the same items as the scans.
+     */
+    @Test
+    public void testIndexedLookup() throws Exception {
+        List<String> items = Arrays.asList("Apple", "apple", "APPLY", "banana", "Ban", 
+                "ban", "bAnd", "exact", "exacter", "Exactest", "\u00df", "stra\u00dfe", "\u0130stanbul");
+        ObjectToStringConverter reversing = new ObjectToStringConverter() {
+            @Override
+            public String[] getPossibleStringsForItem(Object item) {
+                if (item == null) return new String[0];
+                return new String[] {item.toString(), 
+                        new StringBuilder(item.toString()).reverse().toString()};
+            }
+            
+            @Override
+            public String getPreferredStringForItem(Object item) {
+                return item == null ? null : item.toString();
+            }
+        };
+        for (ObjectToStringConverter converter : Arrays.asList(null, reversing)) {
+            for (boolean strict : new boolean[] {true, false}) {
+                Set<String> patterns = new LinkedHashSet<String>();
+                for (String item : items) {
+                    for (int i = 1; i <= item.length(); i++) {
+                        String prefix = item.substring(0, i);
+                        patterns.add(prefix);
+                        patterns.add(prefix.toUpperCase());
+                        patterns.add(prefix.toLowerCase());
+                    }
+                }
+                patterns.add("nomatch");
+                for (String pattern : patterns) {
+                    assertLookup(items, pattern, strict, converter);
+                }
+            }
+        }
+    }
+    
+    private void assertLookup(List<String> items, String pattern, boolean strict, 
+            ObjectToStringConverter converter) throws Exception {
+        JTextComponent scanning = new JTextField();
+        TextComponentAdaptor scanningAdaptor = new TextComponentAdaptor(scanning, items);
+        scanning.setDocument(new AutoCompleteDocument(scanningAdaptor, strict, converter));
+        JTextComponent indexing = new JTextField();
+        TextComponentAdaptor indexingAdaptor = new TextComponentAdaptor(indexing, items);
+        indexingAdaptor.setIndexed(true);
+        indexing.setDocument(new AutoCompleteDocument(indexingAdaptor, strict, converter));
+        
+        scanning.getDocument().insertString(0, pattern, null);
+        indexing.getDocument().insertString(0, pattern, null);
+        assertEquals(pattern, scanningAdaptor.getSelectedItem(), indexingAdaptor.getSelectedItem());
+        assertEquals(pattern, scanning.getText(), indexing.getText());
+    }
+    
+    /**
+     * Indexed lookup must follow changes of the combo box' model.
+     */
+    @Test
+    public void testIndexedComboBox() throws Exception {
+        DefaultComboBoxModel model = new DefaultComboBoxModel(
+                new String[] {"alpha", "beta", "gamma"});
+        JComboBox comboBox = new JComboBox(model);
+        AutoCompleteDecorator.decorate(comboBox);
+        JTextComponent editor = (JTextComponent) comboBox.getEditor().getEditorComponent();
+        AutoCompleteDocument document = (AutoCompleteDocument) editor.getDocument();
+        document.getAdaptor().setIndexed(true);
+        
+        document.remove(0, document.getLength());
+        document.insertString(0, "b", null);
+        assertEquals("beta", comboBox.getSelectedItem());
+        // same size, different content
+        model.removeElement("gamma");
+        model.insertElementAt("bar", 0);
+        document.remove(0, document.getLength());
+        document.insertString(0, "ba", null);
+        assertEquals("bar", comboBox.getSelectedItem());
+        comboBox.setModel(new DefaultComboBoxModel(new String[] {"alpha", "bingo", "delta"}));
+        document.remove(0, document.getLength());
+        document.insertString(0, "bi", null);
+        assertEquals("bingo", comboBox.getSelectedItem());
+    }
+    
+    /**
+     * Substring mode: selects an item containing the text without completing,
+     * prefers items starting with the text.
+     */
+    @Test
+    public void testSubstringMatch() throws Exception {
+        List<String> items = Arrays.asList("Apple", "Banana", "Pineapple", "Grape");
+        JTextComponent textComponent = new JTextField();
+        TextComponentAdaptor adaptor = new TextComponentAdaptor(textComponent, items);
+        adaptor.setMatchMode(MatchMode.SUBSTRING);
+        textComponent.setDocument(new AutoCompleteDocument(adaptor, false));
+        
+        textComponent.getDocument().insertString(0, "NEA", null);
+        assertEquals("Pineapple", adaptor.getSelectedItem());
+        assertEquals("NEA", textComponent.getText());
+        assertEquals(3, textComponent.getCaretPosition());
+        
+        textComponent.setText("");
+        textComponent.getDocument().insertString(0, "ap", null);
+        assertEquals("Apple", adaptor.getSelectedItem());
+        assertEquals("Apple", textComponent.getText());
+    }
+    
+    /**
+     * Strict matching ignores substring matches: the text must stay one of 
+     * the items' strings.
+     */
+    @Test
+    public void testSubstringMatchStrict() throws Exception {
+        List<String> items = Arrays.asList("Apple", "Banana", "Pineapple", "Grape");
+        JTextComponent textComponent = new JTextField();
+        TextComponentAdaptor adaptor = new TextComponentAdaptor(textComponent, items);
+        adaptor.setMatchMode(MatchMode.SUBSTRING);
+        AutoCompleteDocument document = new AutoCompleteDocument(adaptor, true);
+        textComponent.setDocument(document);
+        
+        document.insertString(0, "ap", null);
+        assertEquals("Apple", adaptor.getSelectedItem());
+        assertEquals("Apple", textComponent.getText());
+        
+        document.remove(0, document.getLength());
+        document.insertString(0, "n", null);
+        assertFalse("Pineapple".equals(adaptor.getSelectedItem()));
+        assertTrue(items.contains(textComponent.getText()));
+        assertEquals(Arrays.<Object>asList("Banana", "Pineapple"), 
+                document.getMatchingItems("n", 10));
+    }
+    
+    /**
+     * Fuzzy mode: selects the item sharing the most trigrams.
+     */
+    @Test
+    public void testFuzzyMatch() throws Exception {
+        List<String> items = Arrays.asList("Washington", "Wellington", "Lexington");
+        JTextComponent textComponent = new JTextField();
+        TextComponentAdaptor adaptor = new TextComponentAdaptor(textComponent, items);
+        adaptor.setMatchMode(MatchMode.FUZZY);
+        textComponent.setDocument(new AutoCompleteDocument(adaptor, false));
+        
+        textComponent.getDocument().insertString(0, "lexingtn", null);
+        assertEquals("Lexington", adaptor.getSelectedItem());
+        assertEquals("lexingtn", textComponent.getText());
+        
+        adaptor.setMatchMode(MatchMode.SUBSTRING);
+        textComponent.setText("");
+        textComponent.getDocument().insertString(0, "lexingtn", null);
+        assertEquals("lexingtn", adaptor.getSelectedItem());
+    }
+    
+    /**
+     * Matching items are ranked: prefix, shorter strings, substring, similar.
+     */
+    @Test
+    public void testMatchingItems() throws Exception {
+        List<String> items = Arrays.asList("xab", "zzABC", "abcd", "ab", "abc", "abx");
+        JTextComponent textComponent = new JTextField();
+        TextComponentAdaptor adaptor = new TextComponentAdaptor(textComponent, items);
+        AutoCompleteDocument document = new AutoCompleteDocument(adaptor, false);
+        
+        assertEquals(Arrays.asList("abc", "abcd"), document.getMatchingItems("abc", 10));
+        adaptor.setMatchMode(MatchMode.SUBSTRING);
+        assertEquals(Arrays.asList("abc", "abcd", "zzABC"), document.getMatchingItems("abc", 10));
+        assertEquals(Arrays.asList("abc", "abcd"), document.getMatchingItems("abc", 2));
+        assertEquals(Arrays.asList("ab", "abc", "abx", "abcd"), 
+                document.getMatchingItems("ab", 4));
+        adaptor.setMatchMode(MatchMode.FUZZY);
+        assertEquals(Arrays.asList("abc", "abcd", "zzABC"), document.getMatchingItems("abc", 10));
+        assertEquals(Arrays.asList("abc", "abcd"), document.getMatchingItems("abcx", 10));
+    }
+    
+    /**
+     * Substring matching must follow changes of the combo box' model.
+     */
+    @Test
+    public void testSubstringComboBox() throws Exception {
+        DefaultComboBoxModel model = new DefaultComboBoxModel(
+                new String[] {"alpha", "beta", "gamma"});
+        JComboBox comboBox = new JComboBox(model);
+        comboBox.setEditable(true);
+        AutoCompleteDecorator.decorate(comboBox);
+        JTextComponent editor = (JTextComponent) comboBox.getEditor().getEditorComponent();
+        AutoCompleteDocument document = (AutoCompleteDocument) editor.getDocument();
+        document.getAdaptor().setMatchMode(MatchMode.SUBSTRING);
+        
+        document.remove(0, document.getLength());
+        document.insertString(0, "mm", null);
+        assertEquals("gamma", comboBox.getSelectedItem());
+        assertEquals("mm", editor.getText());
+        // same size, different content
+        model.removeElement("alpha");
+        model.insertElementAt("summit", 0);
+        document.remove(0, document.getLength());
+        document.insertString(0, "mmi", null);
+        assertEquals("summit", comboBox.getSelectedItem());
+    }
 }
@@ -32,7 +32,9 @@ import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 
 import org.jdesktop.beans.JavaBean;
+import org.jdesktop.swingx.search.AsyncSearchable;
 import org.jdesktop.swingx.search.PatternModel;
+import org.jdesktop.swingx.search.SearchCallback;
 import org.jdesktop.swingx.search.Searchable;
 
 /**
@@ -53,6 +55,7 @@ public class JXFindPanel extends AbstractPatternPanel {
     protected JCheckBox wrapCheck;
     protected JCheckBox backCheck;
     private boolean initialized;
+    private boolean asyncSearch;
 
     /**
      * Default constructor for the find panel. Constructs panel not targeted to
@@ -93,6 +96,33 @@ public class JXFindPanel extends AbstractPatternPanel {
         firePropertyChange("searchable", old, this.searchable);
     }
     
+    /**
+     * Sets a flag indicating whether to search in the background if the
+     * searchable supports it. Typically enabled for incremental search
+     * in big targets, to keep the ui responsive while typing. The default
+     * value is false.
+     * 
+     * @param asyncSearch true to search asynchronously, false to search 
+     *   on the EDT.
+     *   
+     * @see AsyncSearchable   
+     */
+    public void setAsyncSearch(boolean asyncSearch) {
+        boolean old = isAsyncSearch();
+        this.asyncSearch = asyncSearch;
+        firePropertyChange("asyncSearch", old, isAsyncSearch());
+    }
+    
+    /**
+     * Returns a flag indicating whether to search in the background
+     * if the searchable supports it.
+     * 
+     * @return true if searching asynchronously, false otherwise.
+     */
+    public boolean isAsyncSearch() {
+        return asyncSearch;
+    }
+    
     /**
      * Notifies this component that it now has a parent component.
      * When this method is invoked, the chain of parent components is
@@ -190,6 +220,10 @@ public class JXFindPanel extends AbstractPatternPanel {
     protected void doFind() {
         if (searchable == null)
             return;
+        if (isAsyncSearch() && (searchable instanceof AsyncSearchable)) {
+            doFindAsync(false);
+            return;
+        }
         int foundIndex = doSearch();
         boolean notFound = (foundIndex == -1) && !getPatternModel().isEmpty();
         if (notFound) {
@@ -204,6 +238,41 @@ public class JXFindPanel extends AbstractPatternPanel {
         }
     }
 
+    /**
+     * Asynchronous variant of doFind, used if asyncSearch is enabled and the
+     * searchable supports it. Reports the result using showFoundMessage and 
+     * showNotFoundMessage respectively, as soon as it is available.
+     * 
+     * @param wrapped a flag indicating whether the search is the second, 
+     *    wrapped attempt.
+     */
+    protected void doFindAsync(final boolean wrapped) {
+        ((AsyncSearchable) searchable).searchAsync(getPatternModel().getPattern(), 
+                getPatternModel().getFoundIndex(), getPatternModel().isBackwards(), 
+                new SearchCallback() {
+            
+            @Override
+            public void matchFound(int index) {
+                getPatternModel().setFoundIndex(index);
+                boolean notFound = (getPatternModel().getFoundIndex() == -1) 
+                    && !getPatternModel().isEmpty();
+                if (notFound && !wrapped && getPatternModel().isWrapping()) {
+                    doFindAsync(true);
+                    return;
+                }
+                if (notFound) {
+                    showNotFoundMessage();
+                } else {
+                    showFoundMessage();
+                }
+            }
+            
+            @Override
+            public void searchFinished(int matchCount) {
+            }
+        });
+    }
+    
     /**
      * Performs search and returns index of the next match.
      *
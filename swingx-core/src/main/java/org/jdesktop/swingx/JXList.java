@@ -68,6 +68,7 @@ import org.jdesktop.swingx.search.Searchable;
 import org.jdesktop.swingx.sort.DefaultSortController;
 import org.jdesktop.swingx.sort.ListSortController;
 import org.jdesktop.swingx.sort.SortController;
+import org.jdesktop.swingx.sort.StringValueCache;
 import org.jdesktop.swingx.sort.StringValueRegistry;
 import org.jdesktop.swingx.table.TableColumnExt;
 
@@ -1088,6 +1089,9 @@ public class JXList extends JList {
     @Override
     public void setModel(ListModel model) {
         super.setModel(model);
+        if (isStringCacheEnabled()) {
+            getStringValueRegistry().getStringCache().install(model);
+        }
         if (getAutoCreateRowSorter()) {
             setRowSorter(createDefaultRowSorter());
         }
@@ -1178,8 +1182,8 @@ public class JXList extends JList {
          */
         @Override
         public String getStringAt(int row, int column) {
-            StringValue sv = list.getStringValueRegistry().getStringValue(row, column);
-            return sv.getString(getValueAt(row, column));
+            return list.getStringValueRegistry().getString(row, column, 
+                    getValueAt(row, column));
         }
 
         /**
@@ -1370,6 +1374,50 @@ public class JXList extends JList {
     protected StringValueRegistry createDefaultStringValueRegistry() {
         return new StringValueRegistry();
     }
+
+    /**
+     * Sets a flag indicating whether the string representation of items
+     * should be cached. If enabled, the strings are shared by sorting, 
+     * filtering, searching and highlighting and converted only once until
+     * the model changes. The default value is false. <p>
+     * 
+     * Note: the cache is updated on changes of the model and the 
+     * StringValues registered with the list. Client code which changes
+     * the state of a registered StringValue must re-set this property to 
+     * clear the cache.
+     * 
+     * @param enabled true to cache the string representation of items, 
+     *   false otherwise.
+     *   
+     * @see #getStringAt(int)
+     * @see StringValueCache  
+     */
+    public void setStringCacheEnabled(boolean enabled) {
+        boolean old = isStringCacheEnabled();
+        StringValueCache cache = getStringValueRegistry().getStringCache();
+        if (cache != null) {
+            cache.uninstall();
+        }
+        if (enabled) {
+            cache = new StringValueCache();
+            cache.install(getModel());
+        } else {
+            cache = null;
+        }
+        getStringValueRegistry().setStringCache(cache);
+        firePropertyChange("stringCacheEnabled", old, isStringCacheEnabled());
+    }
+    
+    /**
+     * Returns a flag indicating whether the string representation of items
+     * is cached.
+     * 
+     * @return true if the string representation of items is cached, false
+     *   otherwise.
+     */
+    public boolean isStringCacheEnabled() {
+        return getStringValueRegistry().getStringCache() != null;
+    }
     
     
     
@@ -1382,9 +1430,8 @@ public class JXList extends JList {
      */
     public String getStringAt(int row) {
         // changed implementation to use StringValueRegistry
-        StringValue stringValue = getStringValueRegistry().getStringValue(
-                convertIndexToModel(row), 0);
-        return stringValue.getString(getElementAt(row));
+        return getStringValueRegistry().getString(convertIndexToModel(row), 0, 
+                getElementAt(row));
     }
 
     private DelegatingRenderer getDelegatingRenderer() {
@@ -39,6 +39,7 @@ import org.jdesktop.swingx.renderer.LocalizableStringValue;
 import org.jdesktop.swingx.renderer.StringValue;
 import org.jdesktop.swingx.search.PatternMatcher;
 import org.jdesktop.swingx.search.PatternModel;
+import org.jdesktop.swingx.sort.SortController;
 /**
  * <p>
  * {@code JXSearchPanel} provides complex searching features. Users are able to
@@ -66,6 +67,14 @@ import org.jdesktop.swingx.search.PatternModel;
  * }
  * </pre>
  * <p>
+ * Alternatively, the panel filters the rows of {@link SortController}s added
+ * as filter targets. The filters of the predefined match rules compare the 
+ * literal text, without the overhead of regex matching.
+ * </p>
+ * <pre>
+ * searchPanel.addFilterTarget((SortController&lt;?&gt;) table.getRowSorter());
+ * </pre>
+ * <p>
  * TODO: allow custom PatternModel and/or access to configuration of bound
  * PatternModel.
  * </p>
@@ -87,6 +96,8 @@ public class JXSearchPanel extends AbstractPatternPanel {
 
     private List<PatternMatcher> patternMatchers;
     
+    private List<FilterTarget> filterTargets;
+    
 
     /**
      * Creates a search panel.
@@ -112,6 +123,21 @@ public class JXSearchPanel extends AbstractPatternPanel {
         updateFieldName(matcher);
     }
     
+    /**
+     * Adds a sort controller to filter by the current pattern. On each
+     * match, its row filter is replaced by the filter created by the 
+     * PatternModel.
+     * 
+     * @param controller the sort controller to filter.
+     * @param indices the indices of the values to check. If not supplied all
+     *            values are evaluated
+     * 
+     * @see PatternModel#createRowFilter(int...)
+     */
+    public void addFilterTarget(SortController<?> controller, int... indices) {
+        getFilterTargets().add(new FilterTarget(controller, indices));
+    }
+    
     /**
      * sets the PatternFilter control.
      * 
@@ -179,6 +205,16 @@ public class JXSearchPanel extends AbstractPatternPanel {
             iter.next().setPattern(getPattern());
             
         }
+        for (FilterTarget target : getFilterTargets()) {
+            updateRowFilter(target.controller, target.indices);
+        }
+    }
+    
+    /**
+     * Sets the filter created by the PatternModel on the given controller.
+     */
+    private <M> void updateRowFilter(SortController<M> controller, int[] indices) {
+        controller.setRowFilter(getPatternModel().<M, Integer>createRowFilter(indices));
     }
 
     /**
@@ -199,6 +235,26 @@ public class JXSearchPanel extends AbstractPatternPanel {
         }
         return patternMatchers;
     }
+    
+    private List<FilterTarget> getFilterTargets() {
+        if (filterTargets == null) {
+            filterTargets = new ArrayList<FilterTarget>();
+        }
+        return filterTargets;
+    }
+    
+    /**
+     * A sort controller and the indices of the values to filter.
+     */
+    private static class FilterTarget {
+        private final SortController<?> controller;
+        private final int[] indices;
+        
+        FilterTarget(SortController<?> controller, int[] indices) {
+            this.controller = controller;
+            this.indices = indices;
+        }
+    }
 
     //---------------- init actions and model
     
@@ -27,6 +27,7 @@ import java.awt.Component;
 import java.awt.ComponentOrientation;
 import java.awt.Container;
 import java.awt.Dimension;
+import java.awt.Graphics;
 import java.awt.KeyboardFocusManager;
 import java.awt.Point;
 import java.awt.Rectangle;
@@ -37,6 +38,7 @@ import java.awt.print.PrinterException;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
@@ -96,6 +98,7 @@ import org.jdesktop.swingx.action.BoundAction;
 import org.jdesktop.swingx.decorator.ComponentAdapter;
 import org.jdesktop.swingx.decorator.CompoundHighlighter;
 import org.jdesktop.swingx.decorator.Highlighter;
+import org.jdesktop.swingx.decorator.HighlighterPipeline;
 import org.jdesktop.swingx.decorator.ResetDTCRColorHighlighter;
 import org.jdesktop.swingx.event.TableColumnModelExtListener;
 import org.jdesktop.swingx.hyperlink.HyperlinkAction;
@@ -122,6 +125,7 @@ import org.jdesktop.swingx.search.TableSearchable;
 import org.jdesktop.swingx.sort.DefaultSortController;
 import org.jdesktop.swingx.sort.SortController;
 import org.jdesktop.swingx.sort.SortUtils;
+import org.jdesktop.swingx.sort.StringValueCache;
 import org.jdesktop.swingx.sort.StringValueRegistry;
 import org.jdesktop.swingx.sort.TableSortController;
 import org.jdesktop.swingx.table.ColumnControlButton;
@@ -464,6 +468,9 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
     /** Listens for changes from the highlighters. */
     private ChangeListener highlighterChangeListener;
 
+    /** The compiled highlighters, null if compiled highlighting is disabled. */
+    private HighlighterPipeline highlighterPipeline;
+
     /** the factory to use for column creation and configuration. */
     private ColumnFactory columnFactory;
 
@@ -1651,6 +1658,7 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
         }
         if ((isStructureChanged(e))) {
             updateStringValueRegistryColumnClasses();
+            invalidateHighlighterPipeline();
         }
         postprocessModelChange(e);
     }
@@ -1729,6 +1737,9 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
             this.autoCreateRowSorter = old;
             this.ignoreAddColumn = false;
         }
+        if (isStringCacheEnabled()) {
+            getStringValueRegistry().getStringCache().install(dataModel);
+        }
         if (getAutoCreateRowSorter()) {
             setRowSorter(createDefaultRowSorter());
         }
@@ -1743,6 +1754,7 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
     @Override
     public void setColumnModel(TableColumnModel columnModel) {
         super.setColumnModel(columnModel);
+        invalidateHighlighterPipeline();
         configureSorterProperties();
         initPerColumnStringValues();
     }
@@ -2293,6 +2305,7 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
     @Override
     public void columnAdded(TableColumnModelEvent e) {
         super.columnAdded(e);
+        invalidateHighlighterPipeline();
         // PENDING JW: check for visibility event?
         TableColumn column = getColumn(e.getToIndex());
         updateStringValueForColumn(column, column.getCellRenderer());
@@ -2301,6 +2314,30 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
         updateComparatorAfterColumnChanged(column, column instanceof TableColumnExt ? ((TableColumnExt) column).getComparator() : null);
     }
 
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Overridden to invalidate compiled highlighters.
+     */
+    @Override
+    public void columnRemoved(TableColumnModelEvent e) {
+        super.columnRemoved(e);
+        invalidateHighlighterPipeline();
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Overridden to invalidate compiled highlighters.
+     */
+    @Override
+    public void columnMoved(TableColumnModelEvent e) {
+        super.columnMoved(e);
+        if (e.getFromIndex() != e.getToIndex()) {
+            invalidateHighlighterPipeline();
+        }
+    }
+
 
 
     // ----------------- enhanced column support: delegation to TableColumnModel
@@ -2574,7 +2611,10 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
         } else if (event.getPropertyName().equals("cellRenderer")) {
             updateStringValueForColumn((TableColumn) event.getSource(), 
                     (TableCellRenderer) event.getNewValue());
+        } else if (event.getPropertyName().equals("identifier")) {
+            invalidateHighlighterPipeline();
         } else if (event.getPropertyName().startsWith("highlighter")) {
+            invalidateHighlighterPipeline();
             if (event.getSource() instanceof TableColumnExt
                     && getRowCount() > 0) {
                 TableColumnExt column = (TableColumnExt) event.getSource();
@@ -3290,8 +3330,8 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
          */
         @Override
         public String getStringAt(int row, int column) {
-            StringValue sv = table.getStringValueRegistry().getStringValue(row, column);
-            return sv.getString(getValueAt(row, column));
+            return table.getStringValueRegistry().getString(row, column, 
+                    getValueAt(row, column));
         }
 
         /**
@@ -3390,6 +3430,7 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
     public void setHighlighters(Highlighter... highlighters) {
         Highlighter[] old = getHighlighters();
         getCompoundHighlighter().setHighlighters(highlighters);
+        invalidateHighlighterPipeline();
         firePropertyChange("highlighters", old, getHighlighters());
     }
 
@@ -3418,6 +3459,7 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
     public void addHighlighter(Highlighter highlighter) {
         Highlighter[] old = getHighlighters();
         getCompoundHighlighter().addHighlighter(highlighter);
+        invalidateHighlighterPipeline();
         firePropertyChange("highlighters", old, getHighlighters());
     }
 
@@ -3434,6 +3476,7 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
     public void removeHighlighter(Highlighter highlighter) {
         Highlighter[] old = getHighlighters();
         getCompoundHighlighter().removeHighlighter(highlighter);
+        invalidateHighlighterPipeline();
         firePropertyChange("highlighters", old, getHighlighters());
     }
 
@@ -3478,11 +3521,92 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
         return new ChangeListener() {
             @Override
             public void stateChanged(ChangeEvent e) {
+                invalidateHighlighterPipeline();
                 repaint();
             }
         };
     }
 
+    /**
+     * Enables/disables compiled highlighting. If enabled, the table's and
+     * columns' Highlighters are compiled into a per-column pipeline which
+     * is used in prepareRenderer. The pipeline flattens compound highlighters,
+     * evaluates column-only predicates once per column and row-only predicates
+     * once per row while painting. The visual result is the same as without 
+     * compilation.
+     * <p>
+     * 
+     * The default value is false.
+     * <p>
+     * 
+     * This is a bound property.
+     * 
+     * @param compiled a boolean indicating whether the highlighters should be
+     *   compiled.
+     *   
+     * @see #isCompiledHighlighting()
+     * @see org.jdesktop.swingx.decorator.HighlighterPipeline
+     */
+    public void setCompiledHighlighting(boolean compiled) {
+        boolean old = isCompiledHighlighting();
+        if (old == compiled) return;
+        highlighterPipeline = compiled ? new HighlighterPipeline() : null;
+        firePropertyChange("compiledHighlighting", old, isCompiledHighlighting());
+        repaint();
+    }
+
+    /**
+     * Returns a boolean indicating whether compiled highlighting is enabled.
+     * 
+     * @return a boolean indicating whether the highlighters are compiled.
+     * 
+     * @see #setCompiledHighlighting(boolean)
+     */
+    public boolean isCompiledHighlighting() {
+        return highlighterPipeline != null;
+    }
+
+    /**
+     * Discards the compiled highlighters, if any. They are re-compiled lazily 
+     * on the next call to prepareRenderer. This is called internally on any change 
+     * which might effect the compiled state, subclasses which introduce additional
+     * state must call it as appropriate.
+     * 
+     * @see #setCompiledHighlighting(boolean)
+     */
+    protected void invalidateHighlighterPipeline() {
+        if (highlighterPipeline != null) {
+            highlighterPipeline.invalidate();
+        }
+    }
+
+    /**
+     * Returns the up-to-date compiled highlighters, compiling them if 
+     * necessary.
+     * 
+     * @return the compiled highlighters
+     */
+    private HighlighterPipeline getHighlighterPipeline() {
+        boolean rowSelectionOnly = getRowSelectionAllowed() && !getColumnSelectionAllowed();
+        if (!highlighterPipeline.isValid(getColumnCount(), rowSelectionOnly)) {
+            Highlighter[][] highlighters = new Highlighter[getColumnCount()][];
+            for (int column = 0; column < highlighters.length; column++) {
+                List<Highlighter> list = new ArrayList<Highlighter>();
+                if (compoundHighlighter != null) {
+                    list.add(compoundHighlighter);
+                }
+                TableColumnExt columnExt = getColumnExt(column);
+                if (columnExt != null) {
+                    list.addAll(Arrays.asList(columnExt.getHighlighters()));
+                }
+                highlighters[column] = list.toArray(new Highlighter[list.size()]);
+            }
+            highlighterPipeline.compile(highlighters, getComponentAdapter(), 
+                    rowSelectionOnly);
+        }
+        return highlighterPipeline;
+    }
+
     /**
      * Returns the StringValueRegistry which defines the string representation for
      * each cells. This is strictly for internal use by the table, which has the 
@@ -3507,6 +3631,52 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
     protected StringValueRegistry createDefaultStringValueRegistry() {
         return new StringValueRegistry();
     }
+
+    /**
+     * Sets a flag indicating whether the string representation of cells
+     * should be cached. If enabled, the strings are shared by sorting, 
+     * filtering, searching and highlighting and converted only once until
+     * the model changes. This is recommended for big tables with costly 
+     * conversion, f.i. formatted numbers or dates. The default value is 
+     * false. <p>
+     * 
+     * Note: the cache is updated on changes of the model and the 
+     * StringValues registered with the table. Client code which changes
+     * the state of a registered StringValue, f.i. the Format of a 
+     * FormatStringValue, must re-set this property to clear the cache.
+     * 
+     * @param enabled true to cache the string representation of cells, 
+     *   false otherwise.
+     *   
+     * @see #getStringAt(int, int)
+     * @see StringValueCache  
+     */
+    public void setStringCacheEnabled(boolean enabled) {
+        boolean old = isStringCacheEnabled();
+        StringValueCache cache = getStringValueRegistry().getStringCache();
+        if (cache != null) {
+            cache.uninstall();
+        }
+        if (enabled) {
+            cache = new StringValueCache();
+            cache.install(getModel());
+        } else {
+            cache = null;
+        }
+        getStringValueRegistry().setStringCache(cache);
+        firePropertyChange("stringCacheEnabled", old, isStringCacheEnabled());
+    }
+    
+    /**
+     * Returns a flag indicating whether the string representation of cells
+     * is cached.
+     * 
+     * @return true if the string representation of cells is cached, false
+     *   otherwise.
+     */
+    public boolean isStringCacheEnabled() {
+        return getStringValueRegistry().getStringCache() != null;
+    }
     
     
     /**
@@ -3582,9 +3752,8 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
      */
     public String getStringAt(int row, int column) {
         // changed implementation to use StringValueRegistry
-        StringValue stringValue = getStringValueRegistry().getStringValue(
-                convertRowIndexToModel(row), convertColumnIndexToModel(column));
-        return stringValue.getString(getValueAt(row, column));
+        return getStringValueRegistry().getString(convertRowIndexToModel(row), 
+                convertColumnIndexToModel(column), getValueAt(row, column));
     }
 
     /**
@@ -3655,6 +3824,10 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
         // #258-swingx: hacking around DefaultTableCellRenderer color memory.
         resetDefaultTableCellRendererColors(stamp, row, column);
 
+        if (highlighterPipeline != null) {
+            return getHighlighterPipeline().highlight(stamp, 
+                    getComponentAdapter(row, column));
+        }
         ComponentAdapter adapter = getComponentAdapter(row, column);
         // a very slight optimization: if this instance never had a highlighter
         // added then don't create a compound here.
@@ -3692,6 +3865,29 @@ public class JXTable extends JTable implements TableColumnModelExtListener {
     public Component prepareRenderer(int row, int col) {
         return prepareRenderer(getCellRenderer(row, col), row, col);
     }
+
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Overridden to enable caching of row-only highlight predicates during 
+     * painting if compiled highlighting is enabled.
+     * 
+     * @see #setCompiledHighlighting(boolean)
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        if (highlighterPipeline == null) {
+            super.paintComponent(g);
+            return;
+        }
+        HighlighterPipeline pipeline = highlighterPipeline;
+        pipeline.setRowCaching(true);
+        try {
+            super.paintComponent(g);
+        } finally {
+            pipeline.setRowCaching(false);
+        }
+    }
     
     /**
      * 
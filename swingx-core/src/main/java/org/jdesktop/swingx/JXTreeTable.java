@@ -66,6 +66,7 @@ import javax.swing.table.TableColumn;
 import javax.swing.table.TableModel;
 import javax.swing.tree.DefaultTreeCellRenderer;
 import javax.swing.tree.DefaultTreeSelectionModel;
+import javax.swing.tree.ExpandVetoException;
 import javax.swing.tree.TreeCellRenderer;
 import javax.swing.tree.TreePath;
 import javax.swing.tree.TreeSelectionModel;
@@ -1323,12 +1324,23 @@ public class JXTreeTable extends JXTable {
 
 
     
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Overridden to not pass inserts and deletes to super, the selection 
+     * is updated from the tree. Repaints the rows from the row above
+     * the change (which might have changed its expansion handle).
+     */
     @Override
     public void tableChanged(TableModelEvent e) {
         if (isStructureChanged(e) || isUpdate(e)) {
             super.tableChanged(e);
-        } else {
+        } else if (isDataChanged(e)) {
             resizeAndRepaint();
+        } else {
+            revalidate();
+            Rectangle dirty = getCellRect(Math.max(e.getFirstRow() - 1, 0), 0, true);
+            repaint(0, dirty.y, getWidth(), getHeight() - dirty.y);
         }
     }
 
@@ -2319,6 +2331,12 @@ public class JXTreeTable extends JXTable {
         private TreeModelListener treeModelListener;
         private final JTree tree; // immutable
         private JXTreeTable treeTable; // logically immutable
+        /** the path of the upcoming expansion change. */
+        private TreePath expansionPath;
+        /** the tree row count before the upcoming expansion change. */
+        private int expansionRowCount;
+        /** the number of visible descendants before the upcoming expansion change. */
+        private int expansionDescendantCount;
         
         /**
          * Maintains a TreeTableModel and a JTree as purely implementation details.
@@ -2334,9 +2352,23 @@ public class JXTreeTable extends JXTable {
 
             this.tree = tree; // need tree to implement getRowCount()
             tree.getModel().addTreeModelListener(getTreeModelListener());
+            tree.addTreeWillExpandListener(new TreeWillExpandListener() {
+                
+                @Override
+                public void treeWillExpand(TreeExpansionEvent event)
+                        throws ExpandVetoException {
+                    prepareExpansionEvent(event);
+                }
+                
+                @Override
+                public void treeWillCollapse(TreeExpansionEvent event)
+                        throws ExpandVetoException {
+                    prepareExpansionEvent(event);
+                }
+            });
             tree.addTreeExpansionListener(new TreeExpansionListener() {
-                // Don't use fireTableRowsInserted() here; the selection model
-                // would get updated twice.
+                // Note: JXTreeTable doesn't pass inserts/deletes to super, 
+                // the selection model is updated by the tree selection only.
                 @Override
                 public void treeExpanded(TreeExpansionEvent event) {
                     updateAfterExpansionEvent(event);
@@ -2370,7 +2402,70 @@ public class JXTreeTable extends JXTable {
             // moved to let the renderer handle directly
 //            treeTable.getTreeTableHacker().setExpansionChangedFlag();
             // JW: delayed fire leads to a certain sluggishness occasionally? 
-            fireTableDataChanged();
+            TreePath path = event.getPath();
+            boolean prepared = path.equals(expansionPath);
+            expansionPath = null;
+            int row = tree.getRowForPath(path);
+            if (!prepared || row < 0) {
+                fireTableDataChanged();
+                return;
+            }
+            int rowCount = tree.getRowCount();
+            if (tree.isExpanded(path)) {
+                int count = getVisibleDescendantCount(path, row);
+                if (rowCount != expansionRowCount + count) {
+                    // f.i. collapsed parents expanded as well
+                    fireTableDataChanged();
+                } else if (count > 0) {
+                    fireTableRowsInserted(row + 1, row + count);
+                }
+            } else {
+                int count = expansionDescendantCount;
+                if (rowCount != expansionRowCount - count) {
+                    fireTableDataChanged();
+                } else if (count > 0) {
+                    fireTableRowsDeleted(row + 1, row + count);
+                }
+            }
+        }
+
+        /**
+         * Stores the tree state before an expansion change, used to 
+         * fire precise events after the change.
+         * 
+         * @param event the TreeExpansionEvent of the upcoming change.
+         */
+        private void prepareExpansionEvent(TreeExpansionEvent event) {
+            TreePath path = event.getPath();
+            expansionPath = path;
+            expansionRowCount = tree.getRowCount();
+            int row = tree.getRowForPath(path);
+            expansionDescendantCount = row >= 0 && tree.isExpanded(path) 
+                    ? getVisibleDescendantCount(path, row) : 0;
+        }
+        
+        /**
+         * Returns the number of visible rows below the given path. 
+         * The rows of descendants are contiguous, so a binary search 
+         * finds the first row which isn't.
+         * 
+         * @param path the path to count the descendants of
+         * @param row the row of the path
+         * @return the number of visible descendants
+         */
+        private int getVisibleDescendantCount(TreePath path, int row) {
+            int low = row + 1;
+            int high = tree.getRowCount();
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                TreePath midPath = tree.getPathForRow(mid);
+                if (midPath != null && path.isDescendant(midPath)) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low - row - 1;
         }
 
         /**
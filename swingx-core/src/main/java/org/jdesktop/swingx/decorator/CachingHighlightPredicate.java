@@ -0,0 +1,119 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.decorator;
+
+import java.awt.Component;
+
+/**
+ * A HighlightPredicate which caches the results of a delegate predicate. 
+ * The results are stored in model coordinates in a 
+ * <code>PredicateResultCache</code>, so they survive sorting, filtering and
+ * column re-ordering. Its intended usage is to wrap a costly predicate, like 
+ * a <code>PatternPredicate</code> on a big table, which is evaluated 
+ * for every cell on every repaint. <p>
+ * 
+ * The cache must be kept in synch with the data: typically, it is installed
+ * on the component's model by client code. Then a cached result is cleared
+ * on each change notification which might effect it. <p>
+ * 
+ * <pre><code>
+ * CachingHighlightPredicate predicate = 
+ *       new CachingHighlightPredicate(new PatternPredicate("^M", 1));
+ * predicate.getCache().install(table.getModel());
+ * table.addHighlighter(new ColorHighlighter(predicate, Color.YELLOW, null));
+ * </code></pre>
+ * 
+ * <b>Note</b>: caching is valid only if the delegate depends exclusively on 
+ * the cell content (the value at the model coordinates), not on any visual 
+ * state like selection, focus, rollover or view position. Also, the cache is 
+ * bound to one model, so each component needs its own instance. 
+ * 
+ * @author agent
+ * 
+ * @see PredicateResultCache
+ */
+public class CachingHighlightPredicate implements HighlightPredicate {
+
+    private HighlightPredicate delegate;
+    private PredicateResultCache cache;
+
+    /**
+     * Instantiates a predicate which caches the results of the given
+     * predicate in a new, uninstalled cache. 
+     * 
+     * @param delegate the predicate to cache, must not be null.
+     * @throws NullPointerException if the delegate is null
+     */
+    public CachingHighlightPredicate(HighlightPredicate delegate) {
+        this(delegate, null);
+    }
+    
+    /**
+     * Instantiates a predicate which caches the results of the given 
+     * predicate in the given cache.
+     * 
+     * @param delegate the predicate to cache, must not be null.
+     * @param cache the cache to use, a new cache is created if null.
+     * @throws NullPointerException if the delegate is null
+     */
+    public CachingHighlightPredicate(HighlightPredicate delegate, PredicateResultCache cache) {
+        if (delegate == null) 
+            throw new NullPointerException("predicate must not be null");
+        this.delegate = delegate;
+        this.cache = cache != null ? cache : new PredicateResultCache();
+    }
+    
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Implemented to return the cached result, if available. Otherwise
+     * evaluates the delegate and caches its result.
+     */
+    @Override
+    public boolean isHighlighted(Component renderer, ComponentAdapter adapter) {
+        int row = adapter.convertRowIndexToModel(adapter.row);
+        int column = adapter.convertColumnIndexToModel(adapter.column);
+        if (row < 0 || column < 0) {
+            return delegate.isHighlighted(renderer, adapter);
+        }
+        int cached = cache.get(row, column);
+        if (cached != PredicateResultCache.UNKNOWN) {
+            return cached == PredicateResultCache.TRUE;
+        }
+        boolean result = delegate.isHighlighted(renderer, adapter);
+        cache.put(row, column, result);
+        return result;
+    }
+
+    /**
+     * @return the cached predicate, guaranteed to be not null.
+     */
+    public HighlightPredicate getHighlightPredicate() {
+        return delegate;
+    }
+    
+    /**
+     * @return the cache of results, guaranteed to be not null.
+     */
+    public PredicateResultCache getCache() {
+        return cache;
+    }
+}
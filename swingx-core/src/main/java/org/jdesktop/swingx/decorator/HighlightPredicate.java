@@ -34,10 +34,13 @@ import javax.swing.AbstractButton;
 import javax.swing.Icon;
 import javax.swing.JComponent;
 import javax.swing.JLabel;
+import javax.swing.JTable;
 import javax.swing.SwingConstants;
 import javax.swing.SwingUtilities;
 
 import org.jdesktop.swingx.rollover.RolloverProducer;
+import org.jdesktop.swingx.table.PrimitiveTableModel;
+import org.jdesktop.swingx.table.PrimitiveTableModel.ColumnType;
 import org.jdesktop.swingx.util.Contract;
 
 /**
@@ -730,6 +733,72 @@ public interface HighlightPredicate {
         
     }
 
+    /**
+     * Predicate testing whether the componentAdapter value is a number in 
+     * a fixed range. The value of a numeric column of a 
+     * <code>PrimitiveTableModel</code> is read as a primitive, without 
+     * boxing.
+     * 
+     * @see PrimitiveTableModel
+     */
+    public static class RangeHighlightPredicate implements HighlightPredicate {
+
+        private final double minimum;
+        private final double maximum;
+        
+        /**
+         * Instantiates a predicate with the given range.
+         * 
+         * @param minimum the lower bound of the range, inclusive
+         * @param maximum the upper bound of the range, inclusive
+         */
+        public RangeHighlightPredicate(double minimum, double maximum) {
+            this.minimum = minimum;
+            this.maximum = maximum;
+        }
+        
+        /**
+         * {@inheritDoc}
+         * 
+         * Implemented to return true if the adapter value is a number 
+         * in this predicate's range.
+         */
+        @Override
+        public boolean isHighlighted(Component renderer, ComponentAdapter adapter) {
+            if (adapter.getComponent() instanceof JTable 
+                    && ((JTable) adapter.getComponent()).getModel() instanceof PrimitiveTableModel) {
+                PrimitiveTableModel model = (PrimitiveTableModel) ((JTable) adapter.getComponent()).getModel();
+                int column = adapter.convertColumnIndexToModel(adapter.column);
+                ColumnType type = model.getColumnType(column);
+                if (type == ColumnType.INT || type == ColumnType.LONG || type == ColumnType.DOUBLE) {
+                    int row = adapter.convertRowIndexToModel(adapter.row);
+                    if (model.isNull(row, column)) return false;
+                    return isInRange(model.getDouble(row, column));
+                }
+            }
+            Object value = adapter.getValue();
+            return value instanceof Number && isInRange(((Number) value).doubleValue());
+        }
+        
+        private boolean isInRange(double value) {
+            return value >= minimum && value <= maximum;
+        }
+        
+        /**
+         * @return the lower bound of the range, inclusive
+         */
+        public double getMinimum() {
+            return minimum;
+        }
+        
+        /**
+         * @return the upper bound of the range, inclusive
+         */
+        public double getMaximum() {
+            return maximum;
+        }
+    }
+
     /**
      * Predicate testing the componentAdapter value type against a given
      * Class. 
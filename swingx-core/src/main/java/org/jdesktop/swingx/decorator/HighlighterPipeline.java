@@ -0,0 +1,465 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.decorator;
+
+import java.awt.Component;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.jdesktop.swingx.decorator.HighlightPredicate.AndHighlightPredicate;
+import org.jdesktop.swingx.decorator.HighlightPredicate.ColumnHighlightPredicate;
+import org.jdesktop.swingx.decorator.HighlightPredicate.ColumnTypeHighlightPredicate;
+import org.jdesktop.swingx.decorator.HighlightPredicate.DepthHighlightPredicate;
+import org.jdesktop.swingx.decorator.HighlightPredicate.IdentifierHighlightPredicate;
+import org.jdesktop.swingx.decorator.HighlightPredicate.NotHighlightPredicate;
+import org.jdesktop.swingx.decorator.HighlightPredicate.OrHighlightPredicate;
+import org.jdesktop.swingx.decorator.HighlightPredicate.RowGroupHighlightPredicate;
+
+/**
+ * A "compiled" form of the Highlighters of a collection component with 
+ * columns. For each column, the pipeline keeps a flat array of the 
+ * Highlighters which are applicable to the column, with the predicates 
+ * partially evaluated:
+ * 
+ * <ul>
+ * <li> nested CompoundHighlighters are flattened
+ * <li> predicates which depend on the column only (column index, identifier
+ *   or class) are evaluated once at compile time, Highlighters which never 
+ *   apply to the column are dropped
+ * <li> predicates which depend on the row only (EVEN, ODD, ROLLOVER_ROW, 
+ *   row groups, depth and IS_SELECTED if the selection is row-based) are 
+ *   hoisted, they are evaluated at most once per row while row caching
+ *   is enabled
+ * <li> all other predicates are evaluated per cell, as usual
+ * </ul>
+ * 
+ * Only Highlighters of type <code>AbstractHighlighter</code> which don't 
+ * override <code>highlight</code> are decomposed, all others are called 
+ * as-is. Logical predicates are decomposed only if they are of the exact
+ * types provided by <code>HighlightPredicate</code>.
+ * <p>
+ * 
+ * The pipeline isn't self-updating: the owning component is responsible to
+ * invalidate it on any change which might effect the compiled state, that is
+ * changes of the highlighters, their state, the columns or the column classes.
+ * Row caching is safe only as long as the row-related state doesn't change, 
+ * typically it is enabled during a paint cycle only.
+ * 
+ * @author agent
+ * 
+ * @see org.jdesktop.swingx.JXTable#setCompiledHighlighting(boolean)
+ */
+public class HighlighterPipeline {
+
+    /** cache of decomposable Highlighter classes. */
+    private static final Map<Class<?>, Boolean> DECOMPOSABLE = 
+        new WeakHashMap<Class<?>, Boolean>();
+    
+    private Entry[][] columns;
+    private HighlightPredicate[] rowPredicates;
+    private byte[] rowResults;
+    private int cachedRow = -1;
+    private boolean rowCaching;
+    private boolean rowSelectionOnly;
+    
+    /**
+     * Compiles the given highlighters. 
+     * 
+     * @param highlighters the Highlighters per column, in the order they
+     *    should be applied. 
+     * @param adapter the adapter to use for evaluating column-only predicates,
+     *    its column field is changed during compiling.
+     * @param rowSelectionOnly flag to indicate whether the selection state of 
+     *    a cell depends on the row only.
+     */
+    public void compile(Highlighter[][] highlighters, ComponentAdapter adapter, 
+            boolean rowSelectionOnly) {
+        this.rowSelectionOnly = rowSelectionOnly;
+        Compiler compiler = new Compiler(adapter);
+        columns = new Entry[highlighters.length][];
+        for (int column = 0; column < highlighters.length; column++) {
+            adapter.column = column;
+            columns[column] = compiler.compileColumn(highlighters[column]);
+        }
+        rowPredicates = compiler.rowPredicates.toArray(
+                new HighlightPredicate[compiler.rowPredicates.size()]);
+        rowResults = new byte[rowPredicates.length];
+        cachedRow = -1;
+    }
+    
+    /**
+     * Returns a boolean indicating whether the pipeline is compiled and
+     * up-to-date with the given state.
+     * 
+     * @param columnCount the number of columns
+     * @param rowSelectionOnly flag to indicate whether the selection state of 
+     *    a cell depends on the row only.
+     * @return true if the pipeline is compiled for the given column count and
+     *   selection mode, false otherwise.
+     */
+    public boolean isValid(int columnCount, boolean rowSelectionOnly) {
+        return columns != null && columns.length == columnCount
+            && this.rowSelectionOnly == rowSelectionOnly;
+    }
+    
+    /**
+     * Discards the compiled state.
+     */
+    public void invalidate() {
+        columns = null;
+        rowPredicates = null;
+        cachedRow = -1;
+    }
+    
+    /**
+     * Enables/disables caching of hoisted row predicates. Any change resets
+     * the cache.
+     * 
+     * @param rowCaching the new value of the row caching property
+     */
+    public void setRowCaching(boolean rowCaching) {
+        this.rowCaching = rowCaching;
+        cachedRow = -1;
+    }
+    
+    /**
+     * Returns the row caching property.
+     * 
+     * @return a boolean indicating whether row predicates are cached.
+     */
+    public boolean isRowCaching() {
+        return rowCaching;
+    }
+
+    /**
+     * Applies the compiled highlighters of the adapter's column to the given
+     * component. Does nothing if the pipeline isn't compiled or the column
+     * is out of range.
+     * 
+     * @param component the cell renderer component that is to be decorated
+     * @param adapter the ComponentAdapter for this decorate operation
+     * @return the decorated cell rendering component
+     */
+    public Component highlight(Component component, ComponentAdapter adapter) {
+        if (columns == null || adapter.column < 0 
+                || adapter.column >= columns.length) return component;
+        for (Entry entry : columns[adapter.column]) {
+            component = entry.highlight(component, adapter);
+        }
+        return component;
+    }
+
+    /**
+     * Returns the number of Highlighters compiled for the given column. This is
+     * exposed for testing only.
+     * 
+     * @param column the column index
+     * @return the number of highlighters applicable to the column
+     */
+    int getHighlighterCount(int column) {
+        return columns[column].length;
+    }
+    
+    /**
+     * Returns the number of distinct hoisted row predicates. This is
+     * exposed for testing only.
+     * 
+     * @return the number of row predicates
+     */
+    int getRowPredicateCount() {
+        return rowPredicates.length;
+    }
+    
+    /**
+     * Returns the result of the hoisted row predicate at the given slot, 
+     * evaluates it if not cached.
+     */
+    boolean isRowHighlighted(int slot, Component component, ComponentAdapter adapter) {
+        if (!rowCaching) {
+            return rowPredicates[slot].isHighlighted(component, adapter);
+        }
+        if (adapter.row != cachedRow) {
+            Arrays.fill(rowResults, (byte) 0);
+            cachedRow = adapter.row;
+        }
+        if (rowResults[slot] == 0) {
+            rowResults[slot] = rowPredicates[slot].isHighlighted(component, adapter) 
+                    ? (byte) 1 : (byte) 2;
+        }
+        return rowResults[slot] == 1;
+    }
+
+    /**
+     * Returns a boolean indicating whether the given Highlighter can be 
+     * decomposed into predicate and decoration.
+     */
+    private static boolean isDecomposable(Highlighter highlighter) {
+        if (!(highlighter instanceof AbstractHighlighter)) return false;
+        Class<?> clazz = highlighter.getClass();
+        synchronized (DECOMPOSABLE) {
+            Boolean result = DECOMPOSABLE.get(clazz);
+            if (result == null) {
+                try {
+                    result = clazz.getMethod("highlight", Component.class, 
+                            ComponentAdapter.class).getDeclaringClass() == AbstractHighlighter.class;
+                } catch (NoSuchMethodException e) {
+                    result = false;
+                }
+                DECOMPOSABLE.put(clazz, result);
+            }
+            return result;
+        }
+    }
+
+//-------------------- compiled state    
+    
+    /** the result of partially evaluating a predicate for a column. */
+    private static final int TRUE = 0;
+    private static final int FALSE = 1;
+    private static final int ROW = 2;
+    private static final int CELL = 3;
+    
+    /**
+     * One highlighter in the compiled column array.
+     */
+    private class Entry {
+        final Highlighter highlighter;
+        final AbstractHighlighter decomposed;
+        final int kind;
+        final HighlightPredicate predicate;
+        final int slot;
+        
+        /** creates an entry for a highlighter which is used as-is. */
+        Entry(Highlighter highlighter) {
+            this(highlighter, null, CELL, null, -1);
+        }
+        
+        Entry(Highlighter highlighter, AbstractHighlighter decomposed, int kind, 
+                HighlightPredicate predicate, int slot) {
+            this.highlighter = highlighter;
+            this.decomposed = decomposed;
+            this.kind = kind;
+            this.predicate = predicate;
+            this.slot = slot;
+        }
+        
+        Component highlight(Component component, ComponentAdapter adapter) {
+            if (decomposed == null) {
+                return highlighter.highlight(component, adapter);
+            }
+            if (!decomposed.canHighlight(component, adapter)) return component;
+            boolean highlighted;
+            if (kind == TRUE) {
+                highlighted = true;
+            } else if (kind == ROW) {
+                highlighted = isRowHighlighted(slot, component, adapter);
+            } else {
+                highlighted = predicate.isHighlighted(component, adapter);
+            }
+            return highlighted ? decomposed.doHighlight(component, adapter) : component;
+        }
+    }
+    
+    /**
+     * The result of partially evaluating a predicate.
+     */
+    private static class Compiled {
+        static final Compiled ALWAYS = new Compiled(TRUE, HighlightPredicate.ALWAYS);
+        static final Compiled NEVER = new Compiled(FALSE, HighlightPredicate.NEVER);
+        
+        final int kind;
+        final HighlightPredicate predicate;
+        
+        Compiled(int kind, HighlightPredicate predicate) {
+            this.kind = kind;
+            this.predicate = predicate;
+        }
+    }
+    
+    /**
+     * Compiles the highlighters of all columns, collecting the distinct
+     * row predicates.
+     */
+    private class Compiler {
+        final ComponentAdapter adapter;
+        final List<HighlightPredicate> rowPredicates = new ArrayList<HighlightPredicate>();
+        final Map<HighlightPredicate, Integer> slots = 
+            new IdentityHashMap<HighlightPredicate, Integer>();
+        /** interned logical row predicates built from row-only parts. */
+        final Map<List<Object>, HighlightPredicate> interned = 
+            new HashMap<List<Object>, HighlightPredicate>();
+        
+        Compiler(ComponentAdapter adapter) {
+            this.adapter = adapter;
+        }
+        
+        Entry[] compileColumn(Highlighter[] highlighters) {
+            List<Entry> entries = new ArrayList<Entry>();
+            for (Highlighter highlighter : highlighters) {
+                addHighlighter(entries, highlighter);
+            }
+            return entries.toArray(new Entry[entries.size()]);
+        }
+
+        void addHighlighter(List<Entry> entries, Highlighter highlighter) {
+            if (!isDecomposable(highlighter)) {
+                entries.add(new Entry(highlighter));
+                return;
+            }
+            AbstractHighlighter hl = (AbstractHighlighter) highlighter;
+            Compiled compiled = compile(hl.getHighlightPredicate());
+            if (compiled.kind == FALSE) return;
+            if (hl.getClass() == CompoundHighlighter.class) {
+                if (compiled.kind == TRUE) {
+                    for (Highlighter child : ((CompoundHighlighter) hl).getHighlighters()) {
+                        addHighlighter(entries, child);
+                    }
+                } else {
+                    entries.add(new Entry(highlighter));
+                }
+                return;
+            }
+            int slot = compiled.kind == ROW ? getSlot(compiled.predicate) : -1;
+            entries.add(new Entry(highlighter, hl, compiled.kind, compiled.predicate, slot));
+        }
+        
+        int getSlot(HighlightPredicate predicate) {
+            Integer slot = slots.get(predicate);
+            if (slot == null) {
+                slot = rowPredicates.size();
+                rowPredicates.add(predicate);
+                slots.put(predicate, slot);
+            }
+            return slot;
+        }
+        
+        /**
+         * Partially evaluates the given predicate for the adapter's column.
+         */
+        Compiled compile(HighlightPredicate predicate) {
+            if (predicate == HighlightPredicate.ALWAYS) return Compiled.ALWAYS;
+            if (predicate == HighlightPredicate.NEVER) return Compiled.NEVER;
+            if (isRowPredicate(predicate)) return new Compiled(ROW, predicate);
+            if (isColumnPredicate(predicate)) {
+                return predicate.isHighlighted(null, adapter) ? Compiled.ALWAYS : Compiled.NEVER;
+            }
+            Class<?> clazz = predicate.getClass();
+            if (clazz == NotHighlightPredicate.class) {
+                Compiled compiled = compile(((NotHighlightPredicate) predicate).getHighlightPredicate());
+                switch (compiled.kind) {
+                case TRUE: return Compiled.NEVER;
+                case FALSE: return Compiled.ALWAYS;
+                case ROW: return new Compiled(ROW, intern(NotHighlightPredicate.class, 
+                        Arrays.asList(compiled.predicate)));
+                default: return new Compiled(CELL, predicate);
+                }
+            }
+            if (clazz == AndHighlightPredicate.class) {
+                return compileLogical(predicate, 
+                        ((AndHighlightPredicate) predicate).getHighlightPredicates(), true);
+            }
+            if (clazz == OrHighlightPredicate.class) {
+                return compileLogical(predicate, 
+                        ((OrHighlightPredicate) predicate).getHighlightPredicates(), false);
+            }
+            return new Compiled(CELL, predicate);
+        }
+        
+        /**
+         * Partially evaluates a logical and/or predicate.
+         */
+        Compiled compileLogical(HighlightPredicate predicate, 
+                HighlightPredicate[] children, boolean and) {
+            // an empty and is false, same as an empty or
+            if (children.length == 0) return Compiled.NEVER;
+            Compiled dominant = and ? Compiled.NEVER : Compiled.ALWAYS;
+            List<HighlightPredicate> rowParts = new ArrayList<HighlightPredicate>();
+            boolean cell = false;
+            for (HighlightPredicate child : children) {
+                Compiled compiled = compile(child);
+                if (compiled.kind == dominant.kind) return dominant;
+                if (compiled.kind == ROW) {
+                    rowParts.add(compiled.predicate);
+                } else if (compiled.kind == CELL) {
+                    cell = true;
+                }
+            }
+            if (cell) return new Compiled(CELL, predicate);
+            if (rowParts.isEmpty()) return and ? Compiled.ALWAYS : Compiled.NEVER;
+            if (rowParts.size() == 1) return new Compiled(ROW, rowParts.get(0));
+            return new Compiled(ROW, intern(and ? AndHighlightPredicate.class 
+                    : OrHighlightPredicate.class, rowParts));
+        }
+        
+        /**
+         * Returns a shared logical predicate of the given type over the 
+         * given row-only parts.
+         */
+        HighlightPredicate intern(Class<?> type, List<HighlightPredicate> parts) {
+            List<Object> key = new ArrayList<Object>();
+            key.add(type);
+            key.addAll(parts);
+            HighlightPredicate predicate = interned.get(key);
+            if (predicate == null) {
+                if (type == NotHighlightPredicate.class) {
+                    predicate = new NotHighlightPredicate(parts.get(0));
+                } else if (type == AndHighlightPredicate.class) {
+                    predicate = new AndHighlightPredicate(parts);
+                } else {
+                    predicate = new OrHighlightPredicate(parts);
+                }
+                interned.put(key, predicate);
+            }
+            return predicate;
+        }
+        
+        /**
+         * Returns a boolean indicating whether the predicate depends on
+         * the row only.
+         */
+        boolean isRowPredicate(HighlightPredicate predicate) {
+            if (predicate == HighlightPredicate.EVEN || predicate == HighlightPredicate.ODD
+                    || predicate == HighlightPredicate.ROLLOVER_ROW
+                    || predicate == HighlightPredicate.IS_LEAF
+                    || predicate == HighlightPredicate.IS_FOLDER) return true;
+            if (predicate == HighlightPredicate.IS_SELECTED) return rowSelectionOnly;
+            Class<?> clazz = predicate.getClass();
+            return clazz == RowGroupHighlightPredicate.class 
+                || clazz == DepthHighlightPredicate.class;
+        }
+        
+        /**
+         * Returns a boolean indicating whether the predicate depends on
+         * the column only.
+         */
+        boolean isColumnPredicate(HighlightPredicate predicate) {
+            Class<?> clazz = predicate.getClass();
+            return clazz == ColumnHighlightPredicate.class 
+                || clazz == IdentifierHighlightPredicate.class
+                || clazz == ColumnTypeHighlightPredicate.class;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.decorator;
+
+import java.util.Arrays;
+
+/**
+ * An immutable, sorted index of cell coordinates, typically the result of 
+ * finding all matches of a search. The coordinates are stored as one
+ * <code>long</code> per cell, sorted by row and then by column, so lookup 
+ * is a binary search. <p>
+ * 
+ * The coordinates follow the convention of <code>SearchPredicate</code>:
+ * rows in view and columns in model coordinates. The index is a snapshot, 
+ * it's the responsibility of client code to re-create it if the target's 
+ * content or view order changes.
+ * 
+ * @author agent
+ * 
+ * @see SearchPredicate
+ */
+public class MatchIndex {
+
+    /** the shared empty index. */
+    public static final MatchIndex EMPTY = new MatchIndex(new long[0]);
+    
+    private final long[] cells;
+    
+    /**
+     * Instantiates an index with the given coordinates. The arrays are 
+     * copied, they need not be sorted.
+     * 
+     * @param rows the row indices in view coordinates
+     * @param columns the column indices in model coordinates
+     * @throws IllegalArgumentException if the arrays have different length
+     */
+    public MatchIndex(int[] rows, int[] columns) {
+        if (rows.length != columns.length) 
+            throw new IllegalArgumentException("rows and columns must have same length " 
+                    + rows.length + "/" + columns.length);
+        cells = new long[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            cells[i] = toCell(rows[i], columns[i]);
+        }
+        Arrays.sort(cells);
+    }
+    
+    /**
+     * Instantiates an index with the given encoded coordinates. The array
+     * is not copied.
+     * 
+     * @param cells the sorted cells, encoded by toCell
+     */
+    private MatchIndex(long[] cells) {
+        this.cells = cells;
+    }
+
+    /**
+     * Creates and returns an index with the given encoded coordinates.
+     * The array is sorted in place and not copied, client code must 
+     * not change it after calling this method.
+     * 
+     * @param cells the cells, encoded by toCell
+     * @return an index of the given cells
+     * 
+     * @see #toCell(int, int)
+     */
+    public static MatchIndex create(long[] cells) {
+        Arrays.sort(cells);
+        return new MatchIndex(cells);
+    }
+    
+    /**
+     * Encodes the given coordinates into a long, such that the natural
+     * ordering of the result is by row, then by column.
+     * 
+     * @param row the row index, must not be negative
+     * @param column the column index, must not be negative
+     * @return the encoded cell
+     */
+    public static long toCell(int row, int column) {
+        return ((long) row << 32) | (column & 0xFFFFFFFFL);
+    }
+    
+    /**
+     * Returns a boolean indicating whether the given cell is in this index.
+     * 
+     * @param row the row index in view coordinates
+     * @param column the column index in model coordinates
+     * @return true if the cell is contained, false otherwise
+     */
+    public boolean contains(int row, int column) {
+        return Arrays.binarySearch(cells, toCell(row, column)) >= 0;
+    }
+    
+    /**
+     * Returns a boolean indicating whether the given row contains
+     * at least one cell in this index.
+     * 
+     * @param row the row index in view coordinates
+     * @return true if the row contains a cell of this index
+     */
+    public boolean containsRow(int row) {
+        int index = Arrays.binarySearch(cells, toCell(row, 0));
+        if (index >= 0) return true;
+        index = -index - 1;
+        return index < cells.length && getRow(index) == row;
+    }
+    
+    /**
+     * Returns the number of cells in this index.
+     * 
+     * @return the number of cells.
+     */
+    public int getMatchCount() {
+        return cells.length;
+    }
+    
+    /**
+     * Returns the row of the cell at the given position.
+     * 
+     * @param index the position in this index, 0 <= index < getMatchCount()
+     * @return the row index of the cell in view coordinates.
+     */
+    public int getRow(int index) {
+        return (int) (cells[index] >>> 32);
+    }
+    
+    /**
+     * Returns the column of the cell at the given position.
+     * 
+     * @param index the position in this index, 0 <= index < getMatchCount()
+     * @return the column index of the cell in model coordinates.
+     */
+    public int getColumn(int index) {
+        return (int) cells[index];
+    }
+}
@@ -0,0 +1,403 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.decorator;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import javax.swing.JTree;
+import javax.swing.ListModel;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.event.TreeExpansionEvent;
+import javax.swing.event.TreeExpansionListener;
+import javax.swing.event.TreeModelEvent;
+import javax.swing.event.TreeModelListener;
+import javax.swing.table.TableModel;
+import javax.swing.tree.TreeModel;
+import javax.swing.tree.TreePath;
+
+/**
+ * A cache of boolean predicate results, keyed by model coordinates. The results
+ * are stored per column in a pair of bitsets (one for "known", one for the 
+ * value), so the cost per cell is two bits.
+ * <p>
+ * 
+ * The cache can be installed on a <code>TableModel</code>, a 
+ * <code>ListModel</code> or a <code>JTree</code>. It listens to change 
+ * notifications of the source and invalidates exactly the affected ranges:
+ * updates clear the results of the changed rows (and columns, for tables), 
+ * inserts and removes shift the cached results of the following rows. For
+ * trees, the coordinates are view rows. Because expanding or collapsing a 
+ * node and inserting or removing nodes below a visible parent changes the 
+ * rows of everything below it, the cache is cleared from that row to the 
+ * end.
+ * <p>
+ * 
+ * Note: the cache doesn't know about the cached predicate, it's the 
+ * responsibility of client code to use it with predicates which depend
+ * on the cell content only.
+ * 
+ * @author agent
+ * 
+ * @see CachingHighlightPredicate
+ */
+public class PredicateResultCache {
+
+    /** constant for a not-cached result. */
+    public static final int UNKNOWN = -1;
+    /** constant for a cached result of false. */
+    public static final int FALSE = 0;
+    /** constant for a cached result of true. */
+    public static final int TRUE = 1;
+    
+    /** the per-column bits of known results. */
+    private final List<BitSet> known;
+    /** the per-column bits of the results. */
+    private final List<BitSet> values;
+    
+    private TableModel tableModel;
+    private ListModel listModel;
+    private JTree tree;
+    private TreeModel treeModel;
+    private Listener listener;
+    
+    /**
+     * Instantiates an empty, uninstalled cache.
+     */
+    public PredicateResultCache() {
+        known = new ArrayList<BitSet>();
+        values = new ArrayList<BitSet>();
+    }
+
+    /**
+     * Returns the cached result for the given cell.
+     * 
+     * @param row the row index in model coordinates
+     * @param column the column index in model coordinates
+     * @return one of TRUE, FALSE or UNKNOWN
+     */
+    public int get(int row, int column) {
+        if (column >= known.size() || !known.get(column).get(row)) return UNKNOWN;
+        return values.get(column).get(row) ? TRUE : FALSE;
+    }
+    
+    /**
+     * Stores the result for the given cell.
+     * 
+     * @param row the row index in model coordinates
+     * @param column the column index in model coordinates
+     * @param result the result to cache
+     */
+    public void put(int row, int column, boolean result) {
+        while (column >= known.size()) {
+            known.add(new BitSet());
+            values.add(new BitSet());
+        }
+        known.get(column).set(row);
+        values.get(column).set(row, result);
+    }
+    
+    /**
+     * Clears all cached results.
+     */
+    public void invalidate() {
+        for (BitSet bits : known) {
+            bits.clear();
+        }
+    }
+    
+    /**
+     * Clears the cached results of the given rows in all columns.
+     * 
+     * @param first the first row to clear, inclusive
+     * @param last the last row to clear, inclusive
+     */
+    public void invalidateRows(int first, int last) {
+        for (int column = 0; column < known.size(); column++) {
+            invalidate(first, last, column);
+        }
+    }
+    
+    /**
+     * Clears the cached results of the given rows in the given column.
+     * 
+     * @param first the first row to clear, inclusive
+     * @param last the last row to clear, inclusive
+     * @param column the column index in model coordinates
+     */
+    public void invalidate(int first, int last, int column) {
+        if (column >= known.size() || first > last) return;
+        BitSet bits = known.get(column);
+        if (first < bits.length()) {
+            bits.clear(first, Math.min(last + 1, bits.length()));
+        }
+    }
+    
+    /**
+     * Shifts the cached results of the rows at and after first, to make
+     * room for inserted rows. The inserted rows are unknown.
+     * 
+     * @param first the index of the first inserted row
+     * @param count the number of inserted rows
+     */
+    public void rowsInserted(int first, int count) {
+        for (int column = 0; column < known.size(); column++) {
+            shift(known.get(column), first, count);
+            shift(values.get(column), first, count);
+        }
+    }
+    
+    /**
+     * Removes the cached results of the given rows, shifting the results
+     * of the following rows.
+     * 
+     * @param first the index of the first removed row
+     * @param count the number of removed rows
+     */
+    public void rowsRemoved(int first, int count) {
+        for (int column = 0; column < known.size(); column++) {
+            shift(known.get(column), first, -count);
+            shift(values.get(column), first, -count);
+        }
+    }
+    
+//----------------------- install/uninstall
+    
+    /**
+     * Installs the cache on the given TableModel. Uninstalls from a 
+     * previous source, if any.
+     * 
+     * @param model the model to listen to
+     */
+    public void install(TableModel model) {
+        uninstall();
+        this.tableModel = model;
+        model.addTableModelListener(getListener());
+    }
+
+    /**
+     * Installs the cache on the given ListModel. Uninstalls from a 
+     * previous source, if any.
+     * 
+     * @param model the model to listen to
+     */
+    public void install(ListModel model) {
+        uninstall();
+        this.listModel = model;
+        model.addListDataListener(getListener());
+    }
+    
+    /**
+     * Installs the cache on the given tree, listening to its model and
+     * expansion changes. Uninstalls from a previous source, if any. <p>
+     * 
+     * Note: the cache doesn't follow a change of the tree's model, client
+     * code must re-install as appropriate.
+     * 
+     * @param tree the tree to listen to
+     */
+    public void install(JTree tree) {
+        uninstall();
+        this.tree = tree;
+        this.treeModel = tree.getModel();
+        tree.addTreeExpansionListener(getListener());
+        if (treeModel != null) {
+            treeModel.addTreeModelListener(getListener());
+        }
+    }
+    
+    /**
+     * Uninstalls the cache from its current source, if any, and clears
+     * all cached results.
+     */
+    public void uninstall() {
+        if (tableModel != null) {
+            tableModel.removeTableModelListener(listener);
+            tableModel = null;
+        }
+        if (listModel != null) {
+            listModel.removeListDataListener(listener);
+            listModel = null;
+        }
+        if (tree != null) {
+            tree.removeTreeExpansionListener(listener);
+            tree = null;
+        }
+        if (treeModel != null) {
+            treeModel.removeTreeModelListener(listener);
+            treeModel = null;
+        }
+        invalidate();
+    }
+
+    private Listener getListener() {
+        if (listener == null) {
+            listener = new Listener();
+        }
+        return listener;
+    }
+    
+    /**
+     * Shifts all bits at or above index by delta. A negative delta removes
+     * the bits in the range index ... index - delta - 1.
+     */
+    private static void shift(BitSet bits, int index, int delta) {
+        int tailStart = delta < 0 ? index - delta : index;
+        if (tailStart >= bits.length()) {
+            bits.clear(index, Math.max(index, bits.length()));
+            return;
+        }
+        BitSet tail = bits.get(tailStart, bits.length());
+        bits.clear(index, bits.length());
+        int offset = index + Math.max(delta, 0);
+        for (int i = tail.nextSetBit(0); i >= 0; i = tail.nextSetBit(i + 1)) {
+            bits.set(offset + i);
+        }
+    }
+    
+    /**
+     * Clears all cached results from the given row to the end.
+     */
+    private void invalidateFrom(int row) {
+        for (BitSet bits : known) {
+            if (row < bits.length()) {
+                bits.clear(Math.max(row, 0), bits.length());
+            }
+        }
+    }
+    
+    /**
+     * Updates the cache on notification of the tree model. 
+     */
+    private void treeChanged(TreeModelEvent e, boolean changed) {
+        TreePath parent = e.getTreePath();
+        if (parent == null || parent.getPathCount() == 0) {
+            invalidate();
+            return;
+        }
+        int parentRow = tree.getRowForPath(parent);
+        if (changed) {
+            Object[] children = e.getChildren();
+            if (children == null) {
+                if (parentRow >= 0) {
+                    invalidateRows(parentRow, parentRow);
+                }
+                return;
+            }
+            for (Object child : children) {
+                int row = tree.getRowForPath(parent.pathByAddingChild(child));
+                if (row >= 0) {
+                    invalidateRows(row, row);
+                }
+            }
+        } else if (parentRow >= 0 || tree.isRootVisible() == false 
+                && parent.getParentPath() == null) {
+            // rows below the parent are shifted if it is expanded,
+            // the parent itself might change from leaf to folder
+            invalidateFrom(Math.max(parentRow, 0));
+        }
+    }
+    
+    /**
+     * The listener to all supported sources.
+     */
+    private class Listener implements TableModelListener, ListDataListener, 
+        TreeModelListener, TreeExpansionListener {
+
+        @Override
+        public void tableChanged(TableModelEvent e) {
+            if (e.getFirstRow() == TableModelEvent.HEADER_ROW 
+                    || e.getLastRow() == Integer.MAX_VALUE) {
+                invalidate();
+                return;
+            }
+            int count = e.getLastRow() - e.getFirstRow() + 1;
+            switch (e.getType()) {
+            case TableModelEvent.INSERT:
+                rowsInserted(e.getFirstRow(), count);
+                break;
+            case TableModelEvent.DELETE:
+                rowsRemoved(e.getFirstRow(), count);
+                break;
+            default:
+                if (e.getColumn() == TableModelEvent.ALL_COLUMNS) {
+                    invalidateRows(e.getFirstRow(), e.getLastRow());
+                } else {
+                    invalidate(e.getFirstRow(), e.getLastRow(), e.getColumn());
+                }
+            }
+        }
+
+        @Override
+        public void intervalAdded(ListDataEvent e) {
+            rowsInserted(e.getIndex0(), e.getIndex1() - e.getIndex0() + 1);
+        }
+
+        @Override
+        public void intervalRemoved(ListDataEvent e) {
+            rowsRemoved(e.getIndex0(), e.getIndex1() - e.getIndex0() + 1);
+        }
+
+        @Override
+        public void contentsChanged(ListDataEvent e) {
+            if (e.getIndex0() < 0 || e.getIndex1() < 0) {
+                invalidate();
+            } else {
+                invalidateRows(Math.min(e.getIndex0(), e.getIndex1()), 
+                        Math.max(e.getIndex0(), e.getIndex1()));
+            }
+        }
+
+        @Override
+        public void treeNodesChanged(TreeModelEvent e) {
+            treeChanged(e, true);
+        }
+
+        @Override
+        public void treeNodesInserted(TreeModelEvent e) {
+            treeChanged(e, false);
+        }
+
+        @Override
+        public void treeNodesRemoved(TreeModelEvent e) {
+            treeChanged(e, false);
+        }
+
+        @Override
+        public void treeStructureChanged(TreeModelEvent e) {
+            treeChanged(e, false);
+        }
+
+        @Override
+        public void treeExpanded(TreeExpansionEvent event) {
+            invalidateFrom(tree.getRowForPath(event.getPath()) + 1);
+        }
+
+        @Override
+        public void treeCollapsed(TreeExpansionEvent event) {
+            invalidateFrom(tree.getRowForPath(event.getPath()) + 1);
+        }
+    }
+}
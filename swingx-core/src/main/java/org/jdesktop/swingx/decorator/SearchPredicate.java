@@ -43,6 +43,7 @@ public class SearchPredicate implements HighlightPredicate {
     private int highlightColumn;
     private int highlightRow; // in view coordinates?
     private Pattern pattern;
+    private MatchIndex matchIndex;
 
     /**
      * Instantiates a Predicate with the given Pattern. 
@@ -89,6 +90,25 @@ public class SearchPredicate implements HighlightPredicate {
         this.highlightRow = row;
     }
 
+    /**
+     * Instantiates a Predicate with the given Pattern and the index of 
+     * its matches. All cells contained in the index are highlighted, the 
+     * cell values are not tested against the pattern. <p>
+     * 
+     * Note: the index must be re-created whenever the content or the
+     * view order of the target changes.
+     * 
+     * @param pattern the Pattern the index was created with
+     * @param matchIndex the index of all matching cells, may be null to 
+     *   test the cell values
+     *   
+     * @see org.jdesktop.swingx.search.AbstractSearchable#findAll(Pattern)   
+     */
+    public SearchPredicate(Pattern pattern, MatchIndex matchIndex) {
+        this(pattern, ALL, ALL);
+        this.matchIndex = matchIndex;
+    }
+    
     /**
      * Instantiates a Predicate with a Pattern compiled from the given
      * regular expression. 
@@ -162,6 +182,15 @@ public class SearchPredicate implements HighlightPredicate {
         return pattern;
     }
 
+    /**
+     * 
+     * @return returns the index of matching cells or null if the cell values
+     *    are tested against the pattern
+     */
+    public MatchIndex getMatchIndex() {
+        return matchIndex;
+    }
+
 
     /**
      * {@inheritDoc}
@@ -186,6 +215,9 @@ public class SearchPredicate implements HighlightPredicate {
         // PENDING JW: why convert here? we are focused on the adapter's cell
         // looks like an oversight as of ol' days ;-)
          int  columnToTest = adapter.convertColumnIndexToModel(adapter.column);
+         if (matchIndex != null) {
+             return matchIndex.contains(adapter.row, columnToTest);
+         }
          String value = adapter.getString(columnToTest);
          
          if ((value == null) || (value.length() == 0)) {
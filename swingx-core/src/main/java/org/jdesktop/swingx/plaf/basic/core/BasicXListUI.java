@@ -40,6 +40,7 @@ import java.awt.event.MouseEvent;
 import java.awt.geom.Point2D;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.util.Arrays;
 
 import javax.swing.Action;
 import javax.swing.CellRendererPane;
@@ -119,6 +120,10 @@ import org.jdesktop.swingx.plaf.basic.core.DragRecognitionSupport.BeforeDrag;
  * <li> changed createListDataListener to return a ListDataHandler
  * <li> changed ListSelectionHandler to check if event handled by SortUI and 
  *   delegate to handler only if not
+ * <li> removed the protected field cellHeights: the heights of variable height
+ *   rows are kept in a private prefix sum structure, which is updated 
+ *   incrementally on ListDataEvents. Subclasses must query the height of a
+ *   row with getRowHeight(int).
  * </ul> changed createListSelectionListener to return a ListSelectionHandler
  * 
  * Differences for bug fixes (due to incorrectly extending super):
@@ -155,7 +160,24 @@ public class BasicXListUI  extends BasicListUI
     protected PropertyChangeListener propertyChangeListener;
     private Handler handler;
 
-    protected int[] cellHeights = null;
+    /**
+     * The heights of variable height rows, null if the rows have a
+     * fixed height.
+     */
+    private RowHeights rowHeights;
+    /**
+     * The preferred widths of the cells, null if the cells have a fixed
+     * width or there is no renderer.
+     */
+    private CellWidths cellWidths;
+    /**
+     * The height given to rows which are not yet measured.
+     */
+    private int estimatedRowHeight;
+    /**
+     * Local cache of JList's client property "List.estimatedRowHeights"
+     */
+    private boolean estimatedRowHeights;
     protected int cellHeight = -1;
     protected int cellWidth = -1;
     protected int updateLayoutStateNeeded = modelChanged;
@@ -204,6 +226,17 @@ public class BasicXListUI  extends BasicListUI
      */
     private boolean isFileList = false;
 
+    /**
+     * The client property key to enable estimated row heights. If the 
+     * property is Boolean.TRUE and the list has variable row heights in 
+     * vertical layout, only the rows initially visible are measured 
+     * by the renderer, all others are given the average height of those. 
+     * Rows are measured when they are painted. Useful for very large 
+     * models, at the price of preferred size and scroll positions being 
+     * approximations until all rows are painted.
+     */
+    public static final String ESTIMATED_ROW_HEIGHTS = "List.estimatedRowHeights";
+
     /**
      * Local cache of JList's component orientation property
      */
@@ -516,6 +549,7 @@ public class BasicXListUI  extends BasicListUI
 
         // Determine how many columns we need to paint
         Rectangle paintBounds = g.getClipBounds();
+        measureRows(paintBounds.y, paintBounds.y + paintBounds.height);
 
         int startColumn, endColumn;
         if (c.getComponentOrientation().isLeftToRight()) {
@@ -1053,6 +1087,8 @@ public class BasicXListUI  extends BasicListUI
         timeFactor = (l!=null) ? l.longValue() : 1000L;
 
         updateIsFileList();
+        estimatedRowHeights = Boolean.TRUE.equals(
+                list.getClientProperty(ESTIMATED_ROW_HEIGHTS));
     }
 
     private void updateIsFileList() {
@@ -1153,7 +1189,8 @@ public class BasicXListUI  extends BasicListUI
         uninstallKeyboardActions();
 
         cellWidth = cellHeight = -1;
-        cellHeights = null;
+        rowHeights = null;
+        cellWidths = null;
 
         listWidth = listHeight = -1;
 
@@ -1273,16 +1310,14 @@ public class BasicXListUI  extends BasicListUI
             break;
         default:
             x = insets.left;
-            if (cellHeights == null) {
+            if (rowHeights == null) {
                 y += (cellHeight * row);
             }
-            else if (row >= cellHeights.length) {
+            else if (row >= rowHeights.getSize()) {
                 y = 0;
             }
             else {
-                for(int i = 0; i < row; i++) {
-                    y += cellHeights[i];
-                }
+                y += rowHeights.getY(row);
             }
             w = list.getWidth() - (insets.left + insets.right);
             h = getRowHeight(index);
@@ -1350,8 +1385,8 @@ public class BasicXListUI  extends BasicListUI
         if (row >= getElementCount()) {
             return -1;
         }
-        return (cellHeights == null) ? cellHeight :
-                           ((row < cellHeights.length) ? cellHeights[row] : -1);
+        return (rowHeights == null) ? cellHeight :
+                           ((row < rowHeights.getSize()) ? rowHeights.getHeight(row) : -1);
     }
 
     /**
@@ -1367,7 +1402,7 @@ public class BasicXListUI  extends BasicListUI
             return -1;
         }
         Insets insets = list.getInsets();
-        if (cellHeights == null) {
+        if (rowHeights == null) {
             int row = (cellHeight == 0) ? 0 :
                            ((y0 - insets.top) / cellHeight);
             if (closest) {
@@ -1380,25 +1415,16 @@ public class BasicXListUI  extends BasicListUI
             }
             return row;
         }
-        else if (size > cellHeights.length) {
+        else if (size > rowHeights.getSize()) {
             return -1;
         }
         else {
-            int y = insets.top;
-            int row = 0;
-
-            if (closest && y0 < y) {
-                return 0;
-            }
-            int i;
-            for (i = 0; i < size; i++) {
-                if ((y0 >= y) && (y0 < y + cellHeights[i])) {
-                    return row;
-                }
-                y += cellHeights[i];
-                row += 1;
+            if (y0 < insets.top) {
+                // the closest is the first, otherwise none contains y0 
+                // which (historically) maps to the last
+                return closest ? 0 : size - 1;
             }
-            return i - 1;
+            return Math.min(rowHeights.getRow(y0 - insets.top), size - 1);
         }
     }
 
@@ -1568,7 +1594,7 @@ public class BasicXListUI  extends BasicListUI
 
 
     /**
-     * Recompute the value of cellHeight or cellHeights based
+     * Recompute the value of cellHeight or the variable row heights based
      * and cellWidth, based on the current font and the current
      * values of fixedCellWidth, fixedCellHeight, and prototypeCellValue.
      *
@@ -1578,7 +1604,7 @@ public class BasicXListUI  extends BasicListUI
     {
         /* If both JList fixedCellWidth and fixedCellHeight have been
          * set, then initialize cellWidth and cellHeight, and set
-         * cellHeights to null.
+         * the variable row heights to null.
          */
 
         int fixedCellHeight = list.getFixedCellHeight();
@@ -1586,19 +1612,22 @@ public class BasicXListUI  extends BasicListUI
 
         cellWidth = (fixedCellWidth != -1) ? fixedCellWidth : -1;
 
+        int[] heights = null;
+        rowHeights = null;
+        cellWidths = null;
         if (fixedCellHeight != -1) {
             cellHeight = fixedCellHeight;
-            cellHeights = null;
         }
         else {
             cellHeight = -1;
-            cellHeights = new int[getElementCount()];
+            heights = new int[getElementCount()];
         }
 
         /* If either of  JList fixedCellWidth and fixedCellHeight haven't
-         * been set, then initialize cellWidth and cellHeights by
-         * scanning through the entire model.  Note: if the renderer is
-         * null, we just set cellWidth and cellHeights[*] to zero,
+         * been set, then initialize cellWidth and the row heights by
+         * scanning through the entire model (or the first visible rows, if 
+         * estimating).  Note: if the renderer is
+         * null, we just set cellWidth and the row heights to zero,
          * if they're not set already.
          */
 
@@ -1608,30 +1637,47 @@ public class BasicXListUI  extends BasicListUI
             int dataModelSize = dataModel.getSize();
             ListCellRenderer renderer = list.getCellRenderer();
 
+            // estimate only if the heights are not needed 
+            int measuredSize = dataModelSize;
+            if (isEstimatingRowHeights()) {
+                measuredSize = Math.min(dataModelSize, 
+                        Math.max(1, list.getVisibleRowCount()));
+            }
             if (renderer != null) {
-                for(int index = 0; index < dataModelSize; index++) {
-                    Object value = dataModel.getElementAt(index);
-                    Component c = renderer.getListCellRendererComponent(list, value, index, false, false);
-                    rendererPane.add(c);
-                    Dimension cellSize = c.getPreferredSize();
+                int[] widths = (fixedCellWidth == -1) ? new int[dataModelSize] : null;
+                for(int index = 0; index < measuredSize; index++) {
+                    Dimension cellSize = getCellSize(renderer, dataModel, index);
                     if (fixedCellWidth == -1) {
                         cellWidth = Math.max(cellSize.width, cellWidth);
+                        widths[index] = cellSize.width;
                     }
                     if (fixedCellHeight == -1) {
-                        cellHeights[index] = cellSize.height;
+                        heights[index] = cellSize.height;
                     }
                 }
+                if (widths != null) {
+                    cellWidths = new CellWidths(widths, dataModelSize);
+                }
             }
             else {
                 if (cellWidth == -1) {
                     cellWidth = 0;
                 }
-                if (cellHeights == null) {
-                    cellHeights = new int[dataModelSize];
+                if (heights == null) {
+                    heights = new int[dataModelSize];
                 }
                 for(int index = 0; index < dataModelSize; index++) {
-                    cellHeights[index] = 0;
+                    heights[index] = 0;
+                }
+                measuredSize = dataModelSize;
+            }
+            if (heights != null) {
+                estimatedRowHeight = getEstimatedRowHeight(heights, measuredSize);
+                if (measuredSize < dataModelSize) {
+                    Arrays.fill(heights, measuredSize, dataModelSize, 
+                            estimatedRowHeight);
                 }
+                rowHeights = new RowHeights(heights, dataModelSize, measuredSize);
             }
         }
 
@@ -1641,6 +1687,156 @@ public class BasicXListUI  extends BasicListUI
         }
     }
 
+    /**
+     * Updates the layout state in place for the given change of the 
+     * model, measuring the added or changed rows only. Does nothing if 
+     * that's not possible, that is if the layout state is invalid anyway, 
+     * the layout is not vertical or the change is unspecified.
+     * 
+     * @param type the type of the ListDataEvent
+     * @param index0 the first index of the change
+     * @param index1 the last index of the change
+     * @return true if the layout state is updated, false if a full update
+     *   is needed
+     */
+    private boolean updateLayoutState(int type, int index0, int index1) {
+        if (updateLayoutStateNeeded != 0 || layoutOrientation != JList.VERTICAL
+                || index0 < 0 || index1 < index0) {
+            return false;
+        }
+        ListCellRenderer renderer = list.getCellRenderer();
+        if (renderer == null) return false;
+        if ((list.getFixedCellHeight() == -1) != (rowHeights != null)
+                || (list.getFixedCellWidth() == -1) != (cellWidths != null)) {
+            return false;
+        }
+        int count = index1 - index0 + 1;
+        int size = getElementCount();
+        int oldSize = size;
+        if (type == ListDataEvent.INTERVAL_ADDED) {
+            oldSize -= count;
+        } else if (type == ListDataEvent.INTERVAL_REMOVED) {
+            oldSize += count;
+        }
+        if ((rowHeights != null && rowHeights.getSize() != oldSize)
+                || (cellWidths != null && cellWidths.getSize() != oldSize)
+                || index1 >= Math.max(size, oldSize)) {
+            return false;
+        }
+        if (type == ListDataEvent.INTERVAL_REMOVED) {
+            if (rowHeights != null) {
+                rowHeights.remove(index0, count);
+            }
+            if (cellWidths != null) {
+                cellWidths.remove(index0, count);
+                cellWidth = cellWidths.getMaxWidth();
+            }
+            return true;
+        }
+        if (type == ListDataEvent.INTERVAL_ADDED) {
+            if (rowHeights != null) {
+                rowHeights.insert(index0, count, estimatedRowHeight, false);
+            }
+            if (cellWidths != null) {
+                cellWidths.insert(index0, count);
+            }
+        }
+        if (isEstimatingRowHeights()) {
+            // measure when painted
+            for (int index = index0; index <= index1; index++) {
+                rowHeights.setHeight(index, rowHeights.getHeight(index), false);
+            }
+        } else if (rowHeights != null || cellWidths != null) {
+            ListModel dataModel = getViewModel();
+            for (int index = index0; index <= index1; index++) {
+                Dimension cellSize = getCellSize(renderer, dataModel, index);
+                if (rowHeights != null) {
+                    rowHeights.setHeight(index, cellSize.height, true);
+                }
+                if (cellWidths != null) {
+                    cellWidths.setWidth(index, cellSize.width);
+                }
+            }
+        }
+        if (cellWidths != null) {
+            cellWidth = cellWidths.getMaxWidth();
+        }
+        return true;
+    }
+    
+    /**
+     * Returns the preferred size of the renderer component for the given 
+     * row.
+     */
+    private Dimension getCellSize(ListCellRenderer renderer, ListModel dataModel,
+            int index) {
+        Object value = dataModel.getElementAt(index);
+        Component c = renderer.getListCellRendererComponent(list, value, index, false, false);
+        rendererPane.add(c);
+        return c.getPreferredSize();
+    }
+    
+    /**
+     * Returns a flag indicating whether the heights of rows not yet painted
+     * are estimated.
+     * 
+     * @see #ESTIMATED_ROW_HEIGHTS
+     */
+    private boolean isEstimatingRowHeights() {
+        return estimatedRowHeights && layoutOrientation == JList.VERTICAL
+            && list.getFixedCellHeight() == -1;
+    }
+    
+    /**
+     * Returns the average of the given measured heights.
+     */
+    private int getEstimatedRowHeight(int[] heights, int measuredSize) {
+        if (measuredSize == 0) return 0;
+        long sum = 0;
+        for (int i = 0; i < measuredSize; i++) {
+            sum += heights[i];
+        }
+        return (int) (sum / measuredSize);
+    }
+    
+    /**
+     * Measures the rows with estimated heights which are visible in the
+     * given vertical range. Revalidates the list if the preferred size 
+     * changed. <p>
+     * 
+     * Note: the heights of the rows above the range are unchanged, so 
+     * the range's start row is stable.
+     */
+    private void measureRows(int minY, int maxY) {
+        if (rowHeights == null || !isEstimatingRowHeights()) return;
+        ListCellRenderer renderer = list.getCellRenderer();
+        if (renderer == null) return;
+        int size = rowHeights.getSize();
+        int row = convertLocationToRow(0, minY, true);
+        if (row < 0) return;
+        ListModel dataModel = getViewModel();
+        int top = list.getInsets().top;
+        int oldHeight = rowHeights.getTotalHeight();
+        int oldWidth = cellWidth;
+        int fixedCellWidth = list.getFixedCellWidth();
+        for (int y = top + rowHeights.getY(row); row < size && y < maxY; row++) {
+            if (!rowHeights.isMeasured(row)) {
+                Dimension cellSize = getCellSize(renderer, dataModel, row);
+                if (fixedCellWidth == -1) {
+                    cellWidth = Math.max(cellSize.width, cellWidth);
+                    if (cellWidths != null) {
+                        cellWidths.setWidth(row, cellSize.width);
+                    }
+                }
+                rowHeights.setHeight(row, cellSize.height, true);
+            }
+            y += rowHeights.getHeight(row);
+        }
+        if (oldHeight != rowHeights.getTotalHeight() || oldWidth != cellWidth) {
+            list.revalidate();
+        }
+    }
+
     /**
      * Invoked when the list is layed out horizontally to determine how
      * many columns to create.
@@ -1671,16 +1867,9 @@ public class BasicXListUI  extends BasicListUI
         }
         else {
             // Determine the max of the renderer heights.
-            int maxHeight = 0;
-            if (cellHeights.length > 0) {
-                maxHeight = cellHeights[cellHeights.length - 1];
-                for (int counter = cellHeights.length - 2;
-                     counter >= 0; counter--) {
-                    maxHeight = Math.max(maxHeight, cellHeights[counter]);
-                }
-            }
+            int maxHeight = rowHeights.getMaxHeight();
             height = cellHeight = maxHeight;
-            cellHeights = null;
+            rowHeights = null;
         }
         // The number of rows is either determined by the visible row
         // count, or by the height of the list.
@@ -2809,6 +2998,10 @@ public class BasicXListUI  extends BasicListUI
             } else if ("List.isFileList" == propertyName) {
                 updateIsFileList();
                 redrawList();
+            } else if (ESTIMATED_ROW_HEIGHTS == propertyName) {
+                estimatedRowHeights = Boolean.TRUE.equals(e.getNewValue());
+                updateLayoutStateNeeded |= modelChanged;
+                redrawList();
             } else if ("dropLocation" == propertyName) {
                 JList.DropLocation oldValue = (JList.DropLocation)e.getOldValue();
                 repaintDropLocation(oldValue);
@@ -2838,11 +3031,13 @@ public class BasicXListUI  extends BasicListUI
         // ListDataListener
         //
         public void intervalAdded(ListDataEvent e) {
-            updateLayoutStateNeeded = modelChanged;
-
             int minIndex = Math.min(e.getIndex0(), e.getIndex1());
             int maxIndex = Math.max(e.getIndex0(), e.getIndex1());
 
+            if (!updateLayoutState(e.getType(), minIndex, maxIndex)) {
+                updateLayoutStateNeeded = modelChanged;
+            }
+
             /* Sync the SelectionModel with the DataModel.
              */
 
@@ -2861,7 +3056,10 @@ public class BasicXListUI  extends BasicListUI
 
         public void intervalRemoved(ListDataEvent e)
         {
-            updateLayoutStateNeeded = modelChanged;
+            if (!updateLayoutState(e.getType(), Math.min(e.getIndex0(), e.getIndex1()),
+                    Math.max(e.getIndex0(), e.getIndex1()))) {
+                updateLayoutStateNeeded = modelChanged;
+            }
 
             /* Sync the SelectionModel with the DataModel.
              */
@@ -2881,7 +3079,10 @@ public class BasicXListUI  extends BasicListUI
 
 
         public void contentsChanged(ListDataEvent e) {
-            updateLayoutStateNeeded = modelChanged;
+            if (!updateLayoutState(e.getType(), Math.min(e.getIndex0(), e.getIndex1()),
+                    Math.max(e.getIndex0(), e.getIndex1()))) {
+                updateLayoutStateNeeded = modelChanged;
+            }
             redrawList();
         }
 
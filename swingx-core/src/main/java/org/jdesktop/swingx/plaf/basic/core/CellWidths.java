@@ -0,0 +1,125 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.plaf.basic.core;
+
+import java.util.Arrays;
+
+/**
+ * The preferred widths of the cells of a list, keeping track of the 
+ * maximum. Supports inserting and removing cells without re-measuring
+ * the others.
+ * 
+ * @author agent
+ */
+final class CellWidths {
+
+    /** the widths, capacity may be greater than size. */
+    private int[] widths;
+    private int size;
+    private int maxWidth;
+    
+    /**
+     * Instantiates the widths of the given number of cells.
+     * 
+     * @param widths the widths of the cells, the array is owned by this
+     * @param size the number of cells
+     */
+    public CellWidths(int[] widths, int size) {
+        this.widths = widths;
+        this.size = size;
+        updateMaxWidth();
+    }
+    
+    /**
+     * @return the number of cells
+     */
+    public int getSize() {
+        return size;
+    }
+    
+    /**
+     * @return the maximum of all widths, or -1 if there are no cells
+     */
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+    
+    /**
+     * Sets the width of the cell at the given index.
+     * 
+     * @param index the index of the cell
+     * @param width the new width
+     */
+    public void setWidth(int index, int width) {
+        int old = widths[index];
+        widths[index] = width;
+        if (width >= maxWidth) {
+            maxWidth = width;
+        } else if (old == maxWidth) {
+            updateMaxWidth();
+        }
+    }
+    
+    /**
+     * Inserts count cells with a width of 0 at index.
+     * 
+     * @param index the index of the first inserted cell
+     * @param count the number of inserted cells
+     */
+    public void insert(int index, int count) {
+        if (size + count > widths.length) {
+            widths = Arrays.copyOf(widths, 
+                    Math.max(size + count, widths.length + (widths.length >> 1)));
+        }
+        System.arraycopy(widths, index, widths, index + count, size - index);
+        Arrays.fill(widths, index, index + count, 0);
+        size += count;
+        maxWidth = Math.max(maxWidth, 0);
+    }
+    
+    /**
+     * Removes count cells starting at index.
+     * 
+     * @param index the index of the first removed cell
+     * @param count the number of removed cells
+     */
+    public void remove(int index, int count) {
+        boolean removesMax = false;
+        for (int i = index; i < index + count; i++) {
+            if (widths[i] == maxWidth) {
+                removesMax = true;
+                break;
+            }
+        }
+        System.arraycopy(widths, index + count, widths, index, size - index - count);
+        size -= count;
+        if (removesMax) {
+            updateMaxWidth();
+        }
+    }
+    
+    private void updateMaxWidth() {
+        maxWidth = -1;
+        for (int i = 0; i < size; i++) {
+            maxWidth = Math.max(maxWidth, widths[i]);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.plaf.basic.core;
+
+import java.util.Arrays;
+
+/**
+ * The heights of variable height rows, backed by a binary indexed (Fenwick) 
+ * tree of prefix sums. Mapping between rows and y-coordinates and updating 
+ * the height of a single row are O(log n). Appending or removing rows at the 
+ * end is O(log n) per row, inserting or removing rows in the middle rebuilds 
+ * the prefix sums in O(n) without touching the renderer.
+ * <p>
+ * 
+ * Additionally keeps track of whether the height of a row is measured or 
+ * estimated.
+ * 
+ * @author agent
+ */
+final class RowHeights {
+
+    /** the raw heights, capacity may be greater than size. */
+    private int[] heights;
+    /** the measured flags, same capacity as heights. */
+    private boolean[] measured;
+    /** the 1-based tree of partial sums, length is capacity + 1. */
+    private int[] tree;
+    private int size;
+    
+    /**
+     * Instantiates the heights of the given number of rows.
+     * 
+     * @param heights the heights of the rows, the array is owned by this
+     * @param size the number of rows
+     * @param measuredSize the number of leading rows with measured heights,
+     *   the heights of the remaining rows are estimated
+     */
+    public RowHeights(int[] heights, int size, int measuredSize) {
+        this.heights = heights;
+        this.size = size;
+        measured = new boolean[heights.length];
+        Arrays.fill(measured, 0, measuredSize, true);
+        tree = new int[heights.length + 1];
+        rebuild();
+    }
+
+    /**
+     * @return the number of rows
+     */
+    public int getSize() {
+        return size;
+    }
+    
+    /**
+     * @param row the row index
+     * @return the height of the row
+     */
+    public int getHeight(int row) {
+        return heights[row];
+    }
+    
+    /**
+     * @param row the row index
+     * @return true if the height of the row is measured, false if it is
+     *   estimated
+     */
+    public boolean isMeasured(int row) {
+        return measured[row];
+    }
+    
+    /**
+     * Sets the height of the row. 
+     * 
+     * @param row the row index
+     * @param height the new height
+     * @param isMeasured flag to indicate whether the height is measured 
+     *    or estimated
+     */
+    public void setHeight(int row, int height, boolean isMeasured) {
+        measured[row] = isMeasured;
+        int delta = height - heights[row];
+        if (delta == 0) return;
+        heights[row] = height;
+        for (int i = row + 1; i <= size; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+    
+    /**
+     * Returns the sum of the heights of the rows above the given row.
+     * 
+     * @param row the row index, may be size
+     * @return the offset of the row relative to the first row 
+     */
+    public int getY(int row) {
+        int sum = 0;
+        for (int i = row; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+    
+    /**
+     * @return the sum of the heights of all rows
+     */
+    public int getTotalHeight() {
+        return getY(size);
+    }
+    
+    /**
+     * Returns the row which contains the given offset relative to the first 
+     * row. Rows with zero height never contain an offset.
+     * 
+     * @param y the offset, must not be negative
+     * @return the index of the row containing y, or size if y is below 
+     *    the last row
+     */
+    public int getRow(int y) {
+        int row = 0;
+        int remaining = y;
+        for (int step = Integer.highestOneBit(Math.max(size, 1)); step > 0; step >>= 1) {
+            int next = row + step;
+            if (next <= size && tree[next] <= remaining) {
+                row = next;
+                remaining -= tree[next];
+            }
+        }
+        return row;
+    }
+    
+    /**
+     * @return the maximum of all row heights
+     */
+    public int getMaxHeight() {
+        int max = 0;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, heights[i]);
+        }
+        return max;
+    }
+    
+    /**
+     * Inserts count rows with the given height at index.
+     * 
+     * @param index the index of the first inserted row
+     * @param count the number of inserted rows
+     * @param height the height of the inserted rows
+     * @param isMeasured flag to indicate whether the height is measured 
+     *    or estimated
+     */
+    public void insert(int index, int count, int height, boolean isMeasured) {
+        ensureCapacity(size + count);
+        if (index == size) {
+            for (int i = 0; i < count; i++) {
+                append(height, isMeasured);
+            }
+            return;
+        }
+        System.arraycopy(heights, index, heights, index + count, size - index);
+        System.arraycopy(measured, index, measured, index + count, size - index);
+        Arrays.fill(heights, index, index + count, height);
+        Arrays.fill(measured, index, index + count, isMeasured);
+        size += count;
+        rebuild();
+    }
+    
+    /**
+     * Removes count rows starting at index.
+     * 
+     * @param index the index of the first removed row
+     * @param count the number of removed rows
+     */
+    public void remove(int index, int count) {
+        if (index + count < size) {
+            System.arraycopy(heights, index + count, heights, index, size - index - count);
+            System.arraycopy(measured, index + count, measured, index, size - index - count);
+            size -= count;
+            rebuild();
+        } else {
+            // the partial sums of the remaining rows are unaffected
+            size = index;
+        }
+    }
+    
+    /**
+     * Appends a row, computing its partial sum from the existing ones.
+     */
+    private void append(int height, boolean isMeasured) {
+        heights[size] = height;
+        measured[size] = isMeasured;
+        size++;
+        tree[size] = height + getY(size - 1) - getY(size - (size & -size));
+    }
+    
+    private void ensureCapacity(int capacity) {
+        if (capacity <= heights.length) return;
+        int newCapacity = Math.max(capacity, heights.length + (heights.length >> 1));
+        heights = Arrays.copyOf(heights, newCapacity);
+        measured = Arrays.copyOf(measured, newCapacity);
+        tree = Arrays.copyOf(tree, newCapacity + 1);
+    }
+    
+    /**
+     * Rebuilds the partial sums of all rows in O(n).
+     */
+    private void rebuild() {
+        for (int i = 1; i <= size; i++) {
+            tree[i] = heights[i - 1];
+        }
+        for (int i = 1; i <= size; i++) {
+            int parent = i + (i & -i);
+            if (parent <= size) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+}
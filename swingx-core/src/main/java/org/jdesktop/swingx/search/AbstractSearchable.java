@@ -21,16 +21,30 @@
 package org.jdesktop.swingx.search;
 
 import java.awt.Color;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
 import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import javax.swing.JComponent;
+import javax.swing.SwingUtilities;
 
 import org.jdesktop.swingx.decorator.AbstractHighlighter;
 import org.jdesktop.swingx.decorator.ColorHighlighter;
 import org.jdesktop.swingx.decorator.HighlightPredicate;
 import org.jdesktop.swingx.decorator.Highlighter;
+import org.jdesktop.swingx.decorator.MatchIndex;
 import org.jdesktop.swingx.decorator.SearchPredicate;
 
 /**
@@ -40,11 +54,23 @@ import org.jdesktop.swingx.decorator.SearchPredicate;
  * Keeps internal state to represent the previous search result.
  * For all methods taking a String as parameter: compiles the String 
  * to a Pattern as-is and routes to the central method taking a Pattern.
+ * <p>
+ * 
+ * Supports asynchronous search if subclasses enable it and provide
+ * access to the cell strings, see {@link #isAsyncSearchSupported()}. 
+ * The matching runs on a worker thread which fetches the strings in chunks 
+ * on the EDT, so the ui stays responsive while searching big targets. 
  * 
  * 
  * @author Jeanette Winzenburg
  */
-public abstract class AbstractSearchable implements Searchable {
+public abstract class AbstractSearchable implements AsyncSearchable {
+
+    /** the number of cells to fetch per roundtrip to the EDT in async search. */
+    private static final int ASYNC_CHUNK_SIZE = 4096;
+    
+    /** the default executor for async searches, lazily created. */
+    private static ExecutorService sharedExecutor;
 
     /**
      * stores the result of the previous search.
@@ -53,6 +79,14 @@ public abstract class AbstractSearchable implements Searchable {
 
     private AbstractHighlighter matchHighlighter;
     
+    private Executor searchExecutor;
+    
+    /** the pending async search, if any. */
+    private AsyncSearch pendingSearch;
+    
+    /** the result of the last findAll, used by the match highlighter. */
+    private MatchIndex matchIndex;
+    private Pattern matchIndexPattern;
 
     /** key for client property to use SearchHighlighter as match marker. */
     public static final String MATCH_HIGHLIGHTER = "match.highlighter";
@@ -154,11 +188,536 @@ public abstract class AbstractSearchable implements Searchable {
      */
     @Override
     public int search(Pattern pattern, int startIndex, boolean backwards) {
+        cancelAsyncSearch();
         int matchingRow = doSearch(pattern, startIndex, backwards);
         moveMatchMarker();
         return matchingRow;
     }
 
+//------------------------ async search
+    
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Implemented to prepare the search state on the EDT, as in 
+     * <code>doSearch</code>, and then loop through the cells on the 
+     * search executor. If async search is not supported, falls back to a 
+     * synchronous search and notifies the callback immediately.
+     * 
+     * @see #isAsyncSearchSupported()
+     * @see #setSearchExecutor(Executor)
+     */
+    @Override
+    public Future<Integer> searchAsync(Pattern pattern, int startIndex,
+            boolean backwards, SearchCallback callback) {
+        cancelAsyncSearch();
+        if (!isAsyncSearchSupported()) {
+            int found = search(pattern, startIndex, backwards);
+            if (callback != null) {
+                callback.matchFound(found);
+                callback.searchFinished(-1);
+            }
+            return createDoneFuture(found);
+        }
+        if (pattern == null) {
+            updateState(null);
+            moveMatchMarker();
+            if (callback != null) {
+                callback.matchFound(-1);
+                callback.searchFinished(0);
+            }
+            return createDoneFuture(-1);
+        }
+        boolean findFirst = true;
+        int startRow = -1;
+        if (startIndex >= getSize()) {
+            updateState(null);
+            moveMatchMarker();
+            if (callback != null) {
+                callback.matchFound(-1);
+            }
+            findFirst = false;
+        } else if (isEqualStartIndex(startIndex)) { 
+            SearchResult searchResult = null;
+            if (!isEqualPattern(pattern)) {
+                searchResult = findExtendedMatch(pattern, startIndex);
+            }
+            if (searchResult != null) {
+                updateState(searchResult);
+                moveMatchMarker();
+                if (callback != null) {
+                    callback.matchFound(lastSearchResult.foundRow);
+                }
+                findFirst = false;
+            } else {
+                startRow = moveStartPosition(startIndex, backwards);
+            }
+        } else {
+            startRow = adjustStartPosition(startIndex, backwards);
+        }
+        AsyncSearch search = new AsyncSearch(pattern, startRow, 
+                lastSearchResult.foundColumn, backwards, findFirst, callback);
+        pendingSearch = search;
+        getSearchExecutor().execute(search.future);
+        return search.future;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void cancelAsyncSearch() {
+        if (pendingSearch != null) {
+            pendingSearch.cancel();
+            pendingSearch = null;
+        }
+    }
+    
+    /**
+     * Finds all cells matching the given pattern. If async search is 
+     * supported, the cell strings are collected on the calling thread, then 
+     * the matching is split across the search executor. The calling thread 
+     * waits for and participates in the matching. Otherwise, the cells are
+     * scanned sequentially by repeated searches. Doesn't change the search 
+     * state. <p>
+     * 
+     * The returned index is a snapshot in view row and model column 
+     * coordinates, it can be used to highlight all matches with a 
+     * <code>SearchPredicate</code>. The match highlighter uses it to mark
+     * all matches of subsequent searches with the same pattern, until the
+     * content or the view order of the target changes.
+     *  
+     * @param pattern the Pattern to match
+     * @return the index of all matching cells, guaranteed to be not null
+     * 
+     * @see #isAsyncSearchSupported()
+     * @see SearchPredicate#SearchPredicate(Pattern, MatchIndex)
+     */
+    public MatchIndex findAll(Pattern pattern) {
+        MatchIndex index = pattern == null ? MatchIndex.EMPTY 
+                : isAsyncSearchSupported() ? findAllParallel(pattern) 
+                : findAllSequential(pattern);
+        matchIndex = pattern == null ? null : index;
+        matchIndexPattern = pattern;
+        if (markByHighlighter() && isMatchIndexPattern(lastSearchResult.pattern)) {
+            moveMatchMarker();
+        }
+        return index;
+    }
+    
+    /**
+     * Finds all matching cells by matching the cell strings in parallel.
+     * 
+     * @param pattern the Pattern to match, must not be null
+     * @return the index of all matching cells
+     */
+    private MatchIndex findAllParallel(final Pattern pattern) {
+        final int columnCount = getColumnCount();
+        long size = (long) getSize() * columnCount;
+        if (size > Integer.MAX_VALUE) 
+            throw new IllegalStateException("too many cells to find all: " + size);
+        final int[] modelColumns = new int[columnCount];
+        for (int column = 0; column < columnCount; column++) {
+            modelColumns[column] = convertColumnIndexToModel(column);
+        }
+        final String[] strings = new String[(int) size];
+        for (int cell = 0; cell < strings.length; cell++) {
+            strings[cell] = getStringAt(cell / columnCount, cell % columnCount);
+        }
+        int chunkCount = (int) Math.min((size + ASYNC_CHUNK_SIZE - 1) / ASYNC_CHUNK_SIZE, 
+                Runtime.getRuntime().availableProcessors() * 4);
+        List<FutureTask<long[]>> tasks = new ArrayList<FutureTask<long[]>>();
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            final int from = (int) (size * chunk / chunkCount);
+            final int to = (int) (size * (chunk + 1) / chunkCount);
+            FutureTask<long[]> task = new FutureTask<long[]>(new Callable<long[]>() {
+                @Override
+                public long[] call() throws Exception {
+                    long[] cells = new long[16];
+                    int count = 0;
+                    for (int cell = from; cell < to; cell++) {
+                        String text = strings[cell];
+                        if (text != null && text.length() > 0 && pattern.matcher(text).find()) {
+                            if (count == cells.length) {
+                                cells = Arrays.copyOf(cells, count * 2);
+                            }
+                            cells[count++] = MatchIndex.toCell(cell / columnCount, 
+                                    modelColumns[cell % columnCount]);
+                        }
+                    }
+                    return Arrays.copyOf(cells, count);
+                }
+            });
+            tasks.add(task);
+            if (chunk > 0) {
+                getSearchExecutor().execute(task);
+            }
+        }
+        List<long[]> results = new ArrayList<long[]>();
+        int total = 0;
+        try {
+            for (FutureTask<long[]> task : tasks) {
+                // run on this thread if not yet picked up by the executor
+                task.run();
+                long[] cells = task.get();
+                results.add(cells);
+                total += cells.length;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return MatchIndex.EMPTY;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException(cause);
+        }
+        long[] all = new long[total];
+        int offset = 0;
+        for (long[] cells : results) {
+            System.arraycopy(cells, 0, all, offset, cells.length);
+            offset += cells.length;
+        }
+        return MatchIndex.create(all);
+    }
+    
+    /**
+     * Finds all matching cells by repeated forward searches, each continuing 
+     * after the previous match. The search state is restored when done.
+     * 
+     * @param pattern the Pattern to match, must not be null
+     * @return the index of all matching cells
+     */
+    private MatchIndex findAllSequential(Pattern pattern) {
+        SearchResult saved = new SearchResult();
+        saved.updateFrom(lastSearchResult);
+        long[] cells = new long[16];
+        int count = 0;
+        try {
+            lastSearchResult.reset();
+            int previousRow = -1;
+            int previousColumn = -1;
+            int row = 0;
+            while (row < getSize()) {
+                findMatchAndUpdateState(pattern, row, false);
+                if (!hasMatch() || lastSearchResult.foundRow < row) break;
+                int foundRow = lastSearchResult.foundRow;
+                int foundColumn = lastSearchResult.foundColumn;
+                if (foundRow == previousRow && foundColumn <= previousColumn) {
+                    // the searchable doesn't continue in the row, go on with the next
+                    row = foundRow + 1;
+                    lastSearchResult.reset();
+                    continue;
+                }
+                if (count == cells.length) {
+                    cells = Arrays.copyOf(cells, count * 2);
+                }
+                cells[count++] = MatchIndex.toCell(foundRow, convertColumnIndexToModel(foundColumn));
+                previousRow = foundRow;
+                previousColumn = foundColumn;
+                // continue with the next column of the found row
+                row = foundRow;
+                lastSearchResult.foundColumn = foundColumn + 1;
+            }
+        } finally {
+            lastSearchResult.updateFrom(saved);
+        }
+        return MatchIndex.create(Arrays.copyOf(cells, count));
+    }
+    
+    /**
+     * Discards the index of the last findAll. Subclasses call this whenever
+     * the content or the view order of the target changes, as the index
+     * is a snapshot in view coordinates. If the match highlighter marks the
+     * index, it is re-configured to mark the current match only.
+     */
+    protected void invalidateMatchIndex() {
+        if (matchIndex == null) return;
+        boolean marked = isMatchIndexPattern(lastSearchResult.pattern);
+        matchIndex = null;
+        matchIndexPattern = null;
+        if (marked && markByHighlighter() && matchHighlighter != null) {
+            matchHighlighter.setHighlightPredicate(createMatchPredicate());
+        }
+    }
+    
+    /**
+     * Returns a boolean indicating whether the given pattern is the pattern
+     * of the last findAll.
+     * 
+     * @param pattern the pattern to compare
+     * @return true if there is a match index for the given pattern
+     */
+    private boolean isMatchIndexPattern(Pattern pattern) {
+        return matchIndex != null && pattern != null 
+                && pattern.pattern().equals(matchIndexPattern.pattern())
+                && pattern.flags() == matchIndexPattern.flags();
+    }
+    
+    /**
+     * Returns a boolean indicating whether this searchable can search
+     * asynchronously and find all matches. If true, subclasses must implement 
+     * <code>getStringAt(int, int)</code> and - if they have more than one
+     * column - <code>getColumnCount</code>. <p>
+     * 
+     * This implementation returns false.
+     * 
+     * @return true if the cells can be searched in the background, false
+     *    otherwise.
+     */
+    protected boolean isAsyncSearchSupported() {
+        return false;
+    }
+    
+    /**
+     * Returns the number of columns searched in each row. Used by
+     * async search and findAll only.<p>
+     * 
+     * This implementation returns 1.
+     * 
+     * @return the number of columns in each row.
+     */
+    protected int getColumnCount() {
+        return 1;
+    }
+    
+    /**
+     * Returns the string to match at the given position. Used by async search
+     * and findAll only, always called on the EDT.<p>
+     * 
+     * This implementation returns null.
+     * 
+     * @param row the row index in view coordinates
+     * @param column the column index in view coordinates
+     * @return the string representation of the cell content.
+     */
+    protected String getStringAt(int row, int column) {
+        return null;
+    }
+    
+    /**
+     * Sets the executor to run asynchronous searches on. A null value 
+     * will re-install the default executor, which is shared by all 
+     * searchables.
+     * 
+     * @param executor the executor to use for async searches.
+     */
+    public void setSearchExecutor(Executor executor) {
+        this.searchExecutor = executor;
+    }
+    
+    /**
+     * Returns the executor to run asynchronous searches on.
+     * 
+     * @return the executor used for async searches, guaranteed to
+     *   be not null.
+     */
+    public Executor getSearchExecutor() {
+        return searchExecutor != null ? searchExecutor : getSharedExecutor();
+    }
+    
+    private static synchronized ExecutorService getSharedExecutor() {
+        if (sharedExecutor == null) {
+            sharedExecutor = Executors.newFixedThreadPool(
+                    Runtime.getRuntime().availableProcessors(), new ThreadFactory() {
+                        private int count;
+                        
+                        @Override
+                        public Thread newThread(Runnable r) {
+                            Thread thread = new Thread(r, "AbstractSearchable-" + count++);
+                            thread.setDaemon(true);
+                            thread.setPriority(Thread.MIN_PRIORITY);
+                            return thread;
+                        }
+                    });
+        }
+        return sharedExecutor;
+    }
+
+    private static Future<Integer> createDoneFuture(final int found) {
+        FutureTask<Integer> future = new FutureTask<Integer>(new Callable<Integer>() {
+            @Override
+            public Integer call() throws Exception {
+                return found;
+            }
+        });
+        future.run();
+        return future;
+    }
+    
+    /**
+     * Runs on the EDT, invokes and waits if called from another thread.
+     */
+    private static void runOnEDT(Runnable runnable) throws InterruptedException {
+        if (SwingUtilities.isEventDispatchThread()) {
+            runnable.run();
+            return;
+        }
+        try {
+            SwingUtilities.invokeAndWait(runnable);
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+    
+    /**
+     * Posts to the EDT, runs immediately if called on the EDT.
+     */
+    private static void postToEDT(Runnable runnable) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            runnable.run();
+        } else {
+            SwingUtilities.invokeLater(runnable);
+        }
+    }
+    
+    /**
+     * The state of an asynchronous search. Loops through the cells in search
+     * order, starting at the start cell, until the first match is found.
+     * Then counts the matches in all cells.  
+     */
+    private class AsyncSearch implements Callable<Integer> {
+        private final Pattern pattern;
+        private final boolean backwards;
+        private final boolean findFirst;
+        private final SearchCallback callback;
+        private final int columnCount;
+        private final long cellCount;
+        private final long startCell;
+        final FutureTask<Integer> future;
+        private volatile boolean cancelled;
+        
+        AsyncSearch(Pattern pattern, int startRow, int startColumn, 
+                boolean backwards, boolean findFirst, SearchCallback callback) {
+            this.pattern = pattern;
+            this.backwards = backwards;
+            this.findFirst = findFirst;
+            this.callback = callback;
+            this.columnCount = Math.max(getColumnCount(), 0);
+            this.cellCount = (long) getSize() * columnCount;
+            if (backwards) {
+                startCell = (long) startRow * columnCount 
+                    + (startColumn < 0 ? columnCount - 1 : startColumn);
+            } else {
+                startCell = (long) startRow * columnCount + Math.max(startColumn, 0);
+            }
+            future = new FutureTask<Integer>(this);
+        }
+
+        void cancel() {
+            cancelled = true;
+            future.cancel(true);
+        }
+        
+        @Override
+        public Integer call() throws Exception {
+            SearchResult first = null;
+            int count = 0;
+            // the cells from start to the end, in search direction 
+            long from = backwards ? 0 : Math.min(Math.max(startCell, 0), cellCount);
+            long to = backwards ? Math.max(Math.min(startCell + 1, cellCount), 0) : cellCount;
+            long tailFrom = backwards ? to : 0;
+            long tailTo = backwards ? cellCount : from;
+            for (long done = 0; done < to - from; done += ASYNC_CHUNK_SIZE) {
+                long start;
+                long end;
+                if (backwards) {
+                    end = to - done;
+                    start = Math.max(end - ASYNC_CHUNK_SIZE, from);
+                } else {
+                    start = from + done;
+                    end = Math.min(start + ASYNC_CHUNK_SIZE, to);
+                }
+                String[] strings = fetch(start, end);
+                if (strings == null) return -1;
+                for (int i = 0; i < strings.length; i++) {
+                    int index = backwards ? strings.length - 1 - i : i;
+                    if (strings[index] == null || strings[index].length() == 0) continue;
+                    Matcher matcher = pattern.matcher(strings[index]);
+                    if (matcher.find()) {
+                        count++;
+                        if (findFirst && first == null) {
+                            long cell = start + index;
+                            first = createSearchResult(matcher, (int) (cell / columnCount), 
+                                    (int) (cell % columnCount));
+                            publishFirst(first);
+                        }
+                    }
+                }
+            }
+            if (findFirst && first == null) {
+                publishFirst(null);
+            }
+            // the remaining cells, for counting only
+            for (long start = tailFrom; start < tailTo; start += ASYNC_CHUNK_SIZE) {
+                String[] strings = fetch(start, Math.min(start + ASYNC_CHUNK_SIZE, tailTo));
+                if (strings == null) return -1;
+                for (String text : strings) {
+                    if (text != null && text.length() > 0 && pattern.matcher(text).find()) {
+                        count++;
+                    }
+                }
+            }
+            publishCount(count);
+            return first != null ? first.foundRow : -1;
+        }
+
+        /**
+         * Returns the strings of the cells in the range or null if cancelled.
+         */
+        private String[] fetch(final long start, long end) throws InterruptedException {
+            if (cancelled) return null;
+            final String[] strings = new String[(int) (end - start)];
+            runOnEDT(new Runnable() {
+                @Override
+                public void run() {
+                    if (cancelled) return;
+                    int rowCount = getSize();
+                    int currentColumnCount = getColumnCount();
+                    for (int i = 0; i < strings.length; i++) {
+                        long cell = start + i;
+                        int row = (int) (cell / columnCount);
+                        int column = (int) (cell % columnCount);
+                        if (row < rowCount && column < currentColumnCount) {
+                            strings[i] = getStringAt(row, column);
+                        }
+                    }
+                }
+            });
+            return cancelled ? null : strings;
+        }
+        
+        private void publishFirst(final SearchResult result) {
+            postToEDT(new Runnable() {
+                @Override
+                public void run() {
+                    if (pendingSearch != AsyncSearch.this) return;
+                    updateState(result);
+                    moveMatchMarker();
+                    if (callback != null) {
+                        callback.matchFound(lastSearchResult.foundRow);
+                    }
+                }
+            });
+        }
+        
+        private void publishCount(final int count) {
+            postToEDT(new Runnable() {
+                @Override
+                public void run() {
+                    if (pendingSearch != AsyncSearch.this) return;
+                    pendingSearch = null;
+                    if (callback != null) {
+                        callback.searchFinished(count);
+                    }
+                }
+            });
+        }
+    }
+
     /**
      * Performs a  search starting at the given startIndex
      * using the pattern; {@link java.util.regex.Pattern}. 
@@ -537,15 +1096,22 @@ public abstract class AbstractSearchable implements Searchable {
 
     /**
      * Creates and returns a HighlightPredicate appropriate for the current
-     * search result.
+     * search result. If the last findAll was done with the pattern of the
+     * current search, the predicate marks all cells of its index, otherwise 
+     * the current match only.
      * 
      * @return a HighlightPredicate appropriate for the current search result.
+     * @see #findAll(Pattern)
      */
     protected HighlightPredicate createMatchPredicate() {
-        return hasMatch() ? 
-                new SearchPredicate(lastSearchResult.pattern, lastSearchResult.foundRow, 
-                        convertColumnIndexToModel(lastSearchResult.foundColumn))
-                : HighlightPredicate.NEVER;
+        if (!hasMatch()) {
+            return HighlightPredicate.NEVER;
+        }
+        if (isMatchIndexPattern(lastSearchResult.pattern)) {
+            return new SearchPredicate(lastSearchResult.pattern, matchIndex);
+        }
+        return new SearchPredicate(lastSearchResult.pattern, lastSearchResult.foundRow, 
+                convertColumnIndexToModel(lastSearchResult.foundColumn));
     }
 
     /**
@@ -0,0 +1,70 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.search;
+
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+/**
+ * A Searchable which supports searching in the background. Intended for 
+ * big targets where looping through the content on the EDT would
+ * freeze the ui, f.i. incremental search in a table with many cells. <p>
+ * 
+ * An asynchronous search has the same semantics as the synchronous 
+ * <code>search(Pattern, int, boolean)</code>: it finds the next match 
+ * starting at the given position and updates the search state and the 
+ * match marker. Additionally, it counts all matches in the target. 
+ * Results are reported back to the given callback on the EDT. <p>
+ * 
+ * Starting a new search (synchronous or asynchronous) cancels a pending
+ * asynchronous search, so only the results of the most recent search are
+ * ever reported.
+ * 
+ * @author agent
+ * 
+ * @see SearchCallback
+ */
+public interface AsyncSearchable extends Searchable {
+
+    /**
+     * Starts a search for the pattern from the start index in the given 
+     * direction. Must be called on the EDT. <p>
+     * 
+     * The returned future's value is the index of the match or -1 if
+     * none is found. It is done after the match count is complete. 
+     * Note: never wait for the future on the EDT, the search
+     * needs the EDT to access the target's content.
+     * 
+     * @param pattern Pattern for search
+     * @param startIndex starting index of search. If -1 then start from the beginning
+     * @param backward indicates the direction if true then search is backwards
+     * @param callback the callback to notify on the EDT, may be null
+     * @return a future to cancel or wait for the search.
+     */
+    public Future<Integer> searchAsync(Pattern pattern, int startIndex, 
+            boolean backward, SearchCallback callback);
+    
+    /**
+     * Cancels a pending asynchronous search, if any. Must be called on the 
+     * EDT. Its callback will not be notified.
+     */
+    public void cancelAsyncSearch();
+}
@@ -20,9 +20,18 @@
  */
 package org.jdesktop.swingx.search;
 
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import javax.swing.ListModel;
+import javax.swing.RowSorter;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import javax.swing.event.RowSorterEvent;
+import javax.swing.event.RowSorterListener;
+
 import org.jdesktop.swingx.JXList;
 import org.jdesktop.swingx.decorator.AbstractHighlighter;
 import org.jdesktop.swingx.decorator.Highlighter;
@@ -33,6 +42,7 @@ public class ListSearchable extends AbstractSearchable {
 
         public ListSearchable(JXList list) {
            this.list = list; 
+           installMatchIndexListener();
         }
         
         @Override
@@ -83,6 +93,26 @@ public class ListSearchable extends AbstractSearchable {
             return list.getElementCount();
         }
 
+        /**
+         * {@inheritDoc} <p>
+         * 
+         * Overridden to return true.
+         */
+        @Override
+        protected boolean isAsyncSearchSupported() {
+            return true;
+        }
+
+        /**
+         * {@inheritDoc} <p>
+         * 
+         * Implemented to return the list's string representation of the item.
+         */
+        @Override
+        protected String getStringAt(int row, int column) {
+            return list.getStringAt(row);
+        }
+
         
         /**
          * {@inheritDoc}
@@ -159,4 +189,66 @@ public class ListSearchable extends AbstractSearchable {
             list.addHighlighter(highlighter);
         }
 
-    }
\ No newline at end of file
+        /**
+         * Installs a listener which invalidates the index of the last findAll
+         * on changes of the list's model and row sorter.
+         */
+        private void installMatchIndexListener() {
+            MatchIndexListener listener = new MatchIndexListener();
+            list.addPropertyChangeListener(listener);
+            list.getModel().addListDataListener(listener);
+            if (list.getRowSorter() != null) {
+                list.getRowSorter().addRowSorterListener(listener);
+            }
+        }
+        
+        /**
+         * Invalidates the index of the last findAll on model, sorter and 
+         * filter changes and keeps itself registered with the current 
+         * model and row sorter.
+         */
+        private class MatchIndexListener implements PropertyChangeListener, 
+            ListDataListener, RowSorterListener {
+
+            @Override
+            public void propertyChange(PropertyChangeEvent evt) {
+                if ("model".equals(evt.getPropertyName())) {
+                    if (evt.getOldValue() != null) {
+                        ((ListModel) evt.getOldValue()).removeListDataListener(this);
+                    }
+                    if (evt.getNewValue() != null) {
+                        ((ListModel) evt.getNewValue()).addListDataListener(this);
+                    }
+                    invalidateMatchIndex();
+                } else if ("rowSorter".equals(evt.getPropertyName())) {
+                    if (evt.getOldValue() != null) {
+                        ((RowSorter<?>) evt.getOldValue()).removeRowSorterListener(this);
+                    }
+                    if (evt.getNewValue() != null) {
+                        ((RowSorter<?>) evt.getNewValue()).addRowSorterListener(this);
+                    }
+                    invalidateMatchIndex();
+                }
+            }
+
+            @Override
+            public void intervalAdded(ListDataEvent e) {
+                invalidateMatchIndex();
+            }
+
+            @Override
+            public void intervalRemoved(ListDataEvent e) {
+                invalidateMatchIndex();
+            }
+
+            @Override
+            public void contentsChanged(ListDataEvent e) {
+                invalidateMatchIndex();
+            }
+
+            @Override
+            public void sorterChanged(RowSorterEvent e) {
+                invalidateMatchIndex();
+            }
+        }
+    }
@@ -27,6 +27,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.regex.Pattern;
 
+import javax.swing.RowFilter;
+
+import org.jdesktop.swingx.sort.RowFilters;
+
 /**
  * Presentation Model for Find/Filter Widgets. 
  * <p>
@@ -240,6 +244,70 @@ public class PatternModel {
         return isEmpty(getRawText());
     }
 
+    /**
+     * Returns a RowFilter which includes entries with at least one value 
+     * matching the current pattern, or null if the pattern is null. <p>
+     * 
+     * If the pattern is the quoted raw text, created by one of the predefined 
+     * match rules, the returned filter matches the literal text without the
+     * overhead of regex matching.
+     * 
+     * @param indices the indices of the values to check.  If not supplied all
+     *               values are evaluated
+     * @return a RowFilter matching the current pattern or null if the pattern
+     *   is null
+     *   
+     * @see RowFilters#containsFilter(String, boolean, int...)  
+     * @see RowFilters#regexFilter(Pattern, int...)  
+     */
+    public <M, I> RowFilter<M, I> createRowFilter(int... indices) {
+        Pattern pattern = getPattern();
+        if (pattern == null) return null;
+        String rule = getLiteralMatchRule();
+        if (rule == null) {
+            return RowFilters.regexFilter(pattern, indices);
+        }
+        boolean caseSensitive = pattern.flags() == 0;
+        if (MATCH_RULE_STARTSWITH.equals(rule)) {
+            return RowFilters.startsWithFilter(getRawText(), caseSensitive, indices);
+        }
+        if (MATCH_RULE_ENDSWITH.equals(rule)) {
+            return RowFilters.endsWithFilter(getRawText(), caseSensitive, indices);
+        }
+        if (MATCH_RULE_EQUALS.equals(rule)) {
+            return RowFilters.equalsFilter(getRawText(), caseSensitive, indices);
+        }
+        return RowFilters.containsFilter(getRawText(), caseSensitive, indices);
+    }
+    
+    /**
+     * Returns the match rule the current pattern was created with from the
+     * quoted raw text, or null if the pattern isn't a literal.
+     * 
+     * @return the literal match rule of the pattern or null
+     */
+    private String getLiteralMatchRule() {
+        Pattern pattern = getPattern();
+        String text = getRawText();
+        if (pattern == null || isEmpty(text)) return null;
+        int flags = pattern.flags();
+        if (flags != 0) {
+            // literal filters fold case per char, not per code point 
+            if (flags != getCaseInsensitiveFlag()) return null;
+            for (int i = 0; i < text.length(); i++) {
+                char c = text.charAt(i);
+                if (Character.isHighSurrogate(c) || Character.isLowSurrogate(c)) return null;
+            }
+        }
+        String quoted = Pattern.quote(text);
+        String regex = pattern.pattern();
+        if (regex.equals(quoted)) return MATCH_RULE_CONTAINS;
+        if (regex.equals("^" + quoted)) return MATCH_RULE_STARTSWITH;
+        if (regex.equals(quoted + "$")) return MATCH_RULE_ENDSWITH;
+        if (regex.equals("^" + quoted + "$")) return MATCH_RULE_EQUALS;
+        return null;
+    }
+    
     /**
      * returns a regEx for compilation into a pattern. Here: either a "contains"
      * (== partial find) or null if the input was empty.
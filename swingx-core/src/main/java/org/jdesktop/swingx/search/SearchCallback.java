@@ -0,0 +1,48 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.search;
+
+/**
+ * Callback for the results of an asynchronous search. All methods are 
+ * called on the EDT.
+ * 
+ * @author agent
+ * 
+ * @see AsyncSearchable
+ */
+public interface SearchCallback {
+
+    /**
+     * Notifies about the next match, called after the search state and
+     * match marker of the searchable are updated.
+     * 
+     * @param index the index of the match or -1 if no match is found
+     */
+    void matchFound(int index);
+    
+    /**
+     * Notifies that the search is complete. 
+     * 
+     * @param matchCount the total number of matches in the target or -1 
+     *   if not available.
+     */
+    void searchFinished(int matchCount);
+}
@@ -21,9 +21,18 @@
 package org.jdesktop.swingx.search;
 
 import java.awt.Rectangle;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import javax.swing.RowSorter;
+import javax.swing.event.RowSorterEvent;
+import javax.swing.event.RowSorterListener;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableModel;
+
 import org.jdesktop.swingx.JXTable;
 import org.jdesktop.swingx.decorator.AbstractHighlighter;
 import org.jdesktop.swingx.decorator.Highlighter;
@@ -45,6 +54,7 @@ public class TableSearchable extends AbstractSearchable {
      */
     public TableSearchable(JXTable table) {
         this.table = table;
+        installMatchIndexListener();
     }
 
     /**
@@ -226,6 +236,36 @@ public class TableSearchable extends AbstractSearchable {
         return table.getRowCount();
     }
 
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Overridden to return true.
+     */
+    @Override
+    protected boolean isAsyncSearchSupported() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Implemented to return the table's column count.
+     */
+    @Override
+    protected int getColumnCount() {
+        return table.getColumnCount();
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Implemented to return the table's string representation of the cell.
+     */
+    @Override
+    protected String getStringAt(int row, int column) {
+        return table.getStringAt(row, column);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -332,4 +372,56 @@ public class TableSearchable extends AbstractSearchable {
         table.addHighlighter(highlighter);
     }
 
-}
\ No newline at end of file
+    /**
+     * Installs a listener which invalidates the index of the last findAll
+     * on changes of the table's model and row sorter.
+     */
+    private void installMatchIndexListener() {
+        MatchIndexListener listener = new MatchIndexListener();
+        table.addPropertyChangeListener(listener);
+        table.getModel().addTableModelListener(listener);
+        if (table.getRowSorter() != null) {
+            table.getRowSorter().addRowSorterListener(listener);
+        }
+    }
+    
+    /**
+     * Invalidates the index of the last findAll on model, sorter and 
+     * filter changes and keeps itself registered with the current 
+     * model and row sorter.
+     */
+    private class MatchIndexListener implements PropertyChangeListener, 
+        TableModelListener, RowSorterListener {
+
+        @Override
+        public void propertyChange(PropertyChangeEvent evt) {
+            if ("model".equals(evt.getPropertyName())) {
+                if (evt.getOldValue() != null) {
+                    ((TableModel) evt.getOldValue()).removeTableModelListener(this);
+                }
+                if (evt.getNewValue() != null) {
+                    ((TableModel) evt.getNewValue()).addTableModelListener(this);
+                }
+                invalidateMatchIndex();
+            } else if ("rowSorter".equals(evt.getPropertyName())) {
+                if (evt.getOldValue() != null) {
+                    ((RowSorter<?>) evt.getOldValue()).removeRowSorterListener(this);
+                }
+                if (evt.getNewValue() != null) {
+                    ((RowSorter<?>) evt.getNewValue()).addRowSorterListener(this);
+                }
+                invalidateMatchIndex();
+            }
+        }
+
+        @Override
+        public void tableChanged(TableModelEvent e) {
+            invalidateMatchIndex();
+        }
+
+        @Override
+        public void sorterChanged(RowSorterEvent e) {
+            invalidateMatchIndex();
+        }
+    }
+}
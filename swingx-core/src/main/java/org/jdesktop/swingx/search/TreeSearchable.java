@@ -20,9 +20,18 @@
  */
 package org.jdesktop.swingx.search;
 
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import javax.swing.JTree;
+import javax.swing.event.TreeExpansionEvent;
+import javax.swing.event.TreeExpansionListener;
+import javax.swing.event.TreeModelEvent;
+import javax.swing.event.TreeModelListener;
+import javax.swing.tree.TreeModel;
+
 import org.jdesktop.swingx.JXTree;
 import org.jdesktop.swingx.decorator.AbstractHighlighter;
 import org.jdesktop.swingx.decorator.Highlighter;
@@ -44,6 +53,7 @@ public class TreeSearchable extends AbstractSearchable {
      */
     public TreeSearchable(JXTree tree) {
         this.tree = Contract.asNotNull(tree, "tree must not be null");
+        installMatchIndexListener();
     }
 
     @Override
@@ -95,6 +105,26 @@ public class TreeSearchable extends AbstractSearchable {
         return tree.getRowCount();
     }
 
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Overridden to return true.
+     */
+    @Override
+    protected boolean isAsyncSearchSupported() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Implemented to return the tree's string representation of the node.
+     */
+    @Override
+    protected String getStringAt(int row, int column) {
+        return tree.getStringAt(row);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -164,4 +194,65 @@ public class TreeSearchable extends AbstractSearchable {
         tree.addHighlighter(highlighter);
     }
 
-}
\ No newline at end of file
+    /**
+     * Installs a listener which invalidates the index of the last findAll
+     * on changes of the tree's model and on expansion changes.
+     */
+    private void installMatchIndexListener() {
+        MatchIndexListener listener = new MatchIndexListener();
+        tree.addPropertyChangeListener(JTree.TREE_MODEL_PROPERTY, listener);
+        tree.addTreeExpansionListener(listener);
+        if (tree.getModel() != null) {
+            tree.getModel().addTreeModelListener(listener);
+        }
+    }
+    
+    /**
+     * Invalidates the index of the last findAll on model and expansion 
+     * changes and keeps itself registered with the current model.
+     */
+    private class MatchIndexListener implements PropertyChangeListener, 
+        TreeModelListener, TreeExpansionListener {
+
+        @Override
+        public void propertyChange(PropertyChangeEvent evt) {
+            if (evt.getOldValue() != null) {
+                ((TreeModel) evt.getOldValue()).removeTreeModelListener(this);
+            }
+            if (evt.getNewValue() != null) {
+                ((TreeModel) evt.getNewValue()).addTreeModelListener(this);
+            }
+            invalidateMatchIndex();
+        }
+
+        @Override
+        public void treeNodesChanged(TreeModelEvent e) {
+            invalidateMatchIndex();
+        }
+
+        @Override
+        public void treeNodesInserted(TreeModelEvent e) {
+            invalidateMatchIndex();
+        }
+
+        @Override
+        public void treeNodesRemoved(TreeModelEvent e) {
+            invalidateMatchIndex();
+        }
+
+        @Override
+        public void treeStructureChanged(TreeModelEvent e) {
+            invalidateMatchIndex();
+        }
+
+        @Override
+        public void treeExpanded(TreeExpansionEvent event) {
+            invalidateMatchIndex();
+        }
+
+        @Override
+        public void treeCollapsed(TreeExpansionEvent event) {
+            invalidateMatchIndex();
+        }
+    }
+}
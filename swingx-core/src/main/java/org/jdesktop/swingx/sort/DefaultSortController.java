@@ -269,6 +269,26 @@ public abstract class DefaultSortController<M> extends DefaultRowSorter<M, Integ
         return stringValueProvider;
     }
 
+    /**
+     * Returns the string representation of the given value at the given cell,
+     * as defined by the StringValueProvider. Uses the provider's string cache
+     * if it is a StringValueRegistry with caching enabled.
+     * 
+     * @param row the row index in model coordinates
+     * @param column the column index in model coordinates
+     * @param value the value at the cell
+     * @return the string representation of the value
+     * 
+     * @see StringValueRegistry#getString(int, int, Object)
+     */
+    protected String getStringAt(int row, int column, Object value) {
+        StringValueProvider provider = getStringValueProvider();
+        if (provider instanceof StringValueRegistry) {
+            return ((StringValueRegistry) provider).getString(row, column, value);
+        }
+        return provider.getStringValue(row, column).getString(value);
+    }
+    
     /**
      * Returns the default cycle.
      * 
@@ -404,4 +424,37 @@ public abstract class DefaultSortController<M> extends DefaultRowSorter<M, Integ
         super.rowsInserted(firstRow, endRow);
     }
     
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Overridden to do nothing if the updated column is neither sorted nor
+     * filtered: the mapping can't change. Super would re-insert all updated 
+     * rows (or even re-sort) into the mapping.
+     */
+    @Override
+    public void rowsUpdated(int firstRow, int endRow, int column) {
+        if (column >= 0 && column < getModelWrapper().getColumnCount()
+                && firstRow >= 0 && firstRow <= endRow && endRow < getModelRowCount()
+                && !hasRowFilter() && !isSorted(column)) {
+            return;
+        }
+        super.rowsUpdated(firstRow, endRow, column);
+    }
+    
+    /**
+     * Returns a boolean indicating whether the given column is part of 
+     * the current sort keys.
+     * 
+     * @param column the column index in model coordinates
+     * @return true if the column is sorted
+     */
+    private boolean isSorted(int column) {
+        for (SortKey key : getSortKeys()) {
+            if (key.getColumn() == column && key.getSortOrder() != SortOrder.UNSORTED) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
 }
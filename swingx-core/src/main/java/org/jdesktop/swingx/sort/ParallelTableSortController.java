@@ -0,0 +1,936 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.sort;
+
+import java.text.CollationKey;
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
+
+import javax.swing.RowFilter;
+import javax.swing.SortOrder;
+import javax.swing.table.TableModel;
+
+import org.jdesktop.swingx.table.PrimitiveTableModel;
+import org.jdesktop.swingx.table.PrimitiveTableModel.ColumnType;
+
+/**
+ * A TableSortController which sorts big models in parallel. It is a 
+ * drop-in replacement of the default controller of a JXTable, the sort 
+ * api and semantics (toggleSortOrder, sort order cycle, sortable, 
+ * comparators, filters) are unchanged. <p>
+ * 
+ * <pre><code>
+ * table.setRowSorter(new ParallelTableSortController&lt;TableModel&gt;(table.getModel()));
+ * </code></pre>
+ * 
+ * On sorting, the controller extracts the sort keys of all included rows 
+ * on the EDT: into primitive arrays if the column class allows 
+ * (<code>Integer, Long, Short, Byte, Date</code> into long, 
+ * <code>Double, Float</code> into double), into CollationKeys for collator 
+ * based comparison and into the plain values otherwise. The keys of a 
+ * {@link PrimitiveTableModel} are read with its typed accessors, without 
+ * boxing, its strings are ranked once per distinct string. Then it merge sorts
+ * the rows on a thread pool and publishes the new mapping at once. The 
+ * calling thread participates in and waits for the sort, so the mapping is 
+ * always consistent with the model as the table expects. <p>
+ * 
+ * Note: custom comparators are not assumed to be thread-safe, if any of 
+ * the sort keys has one the rows are sorted on the calling thread. <p>
+ * 
+ * Small model changes are processed incrementally: inserted and updated rows
+ * are re-filtered and inserted into the sorted view by binary search, which
+ * costs O(k log n) comparisons for k changed rows. Changes of more than a 
+ * tenth of the rows trigger a complete re-sort, as in DefaultRowSorter.
+ * 
+ * @author agent
+ */
+public class ParallelTableSortController<M extends TableModel> extends TableSortController<M> {
+
+    /** the minimal number of rows to sort in parallel. */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 8192;
+    
+    /** the number of rows to sort by insertion sort. */
+    private static final int INSERTION_SORT_THRESHOLD = 16;
+    
+    private static ExecutorService sharedExecutor;
+    
+    private final Executor executor;
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+    
+    /** the view-to-model mapping or null if not transformed. */
+    private int[] viewToModel;
+    /** the model-to-view mapping or null if not transformed. */
+    private int[] modelToView;
+    /** false if the mapping is stale after updates without sortsOnUpdates. */
+    private boolean sorted;
+    
+    /**
+     * Instantiates a controller without a model, using a shared executor.
+     */
+    public ParallelTableSortController() {
+        this(null);
+    }
+    
+    /**
+     * Instantiates a controller for the given model, using a shared executor.
+     * 
+     * @param model the model to sort
+     */
+    public ParallelTableSortController(M model) {
+        this(model, null);
+    }
+    
+    /**
+     * Instantiates a controller for the given model which sorts on the 
+     * given executor.
+     * 
+     * @param model the model to sort
+     * @param executor the executor to sort on, a shared executor is used if null
+     */
+    public ParallelTableSortController(M model, Executor executor) {
+        super(model);
+        this.executor = executor != null ? executor : getSharedExecutor();
+    }
+    
+    /**
+     * Sets the minimal number of rows to sort in parallel. Smaller models
+     * are sorted on the calling thread.
+     * 
+     * @param threshold the minimal number of rows to sort in parallel
+     * @throws IllegalArgumentException if <code>threshold</code> is lower than 1
+     */
+    public void setParallelThreshold(int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be >= 1");
+        }
+        this.parallelThreshold = threshold;
+    }
+    
+    /**
+     * Returns the minimal number of rows to sort in parallel.
+     * 
+     * @return the minimal number of rows to sort in parallel
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+    
+//------------------- sort
+    
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Overridden - that is completely new implementation - to filter on the
+     * calling thread and sort on the executor.
+     */
+    @Override
+    public void sort() {
+        // published mappings are never changed, no need to copy
+        int[] lastViewToModel = viewToModel != null ? viewToModel : new int[0];
+        List<SortKey> keys = getActiveSortKeys();
+        RowFilter<? super M, ? super Integer> filter = getRowFilter();
+        if (keys.isEmpty() && filter == null) {
+            if (viewToModel == null) return;
+            publish(null, null);
+        } else {
+            int modelRowCount = getModelWrapper().getRowCount();
+            int[] rows = filter != null ? filter(filter, modelRowCount) : identity(modelRowCount);
+            if (!keys.isEmpty()) {
+                rows = sort(rows, keys);
+            }
+            publish(rows, createModelToView(rows, modelRowCount));
+        }
+        sorted = true;
+        fireRowSorterChanged(lastViewToModel);
+    }
+
+    private static int[] createModelToView(int[] rows, int modelRowCount) {
+        int[] mapping = new int[modelRowCount];
+        Arrays.fill(mapping, -1);
+        for (int view = 0; view < rows.length; view++) {
+            mapping[rows[view]] = view;
+        }
+        return mapping;
+    }
+
+    private void publish(int[] newViewToModel, int[] newModelToView) {
+        viewToModel = newViewToModel;
+        modelToView = newModelToView;
+    }
+    
+    /**
+     * Returns the sort keys which are not unsorted.
+     */
+    private List<SortKey> getActiveSortKeys() {
+        List<SortKey> keys = new ArrayList<SortKey>();
+        for (SortKey key : getSortKeys()) {
+            if (key.getSortOrder() != SortOrder.UNSORTED) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+    
+    /**
+     * Returns the model indices of the included rows.
+     */
+    private int[] filter(RowFilter<? super M, ? super Integer> filter, int modelRowCount) {
+        FilterEntry entry = new FilterEntry();
+        int[] rows = new int[modelRowCount];
+        int count = 0;
+        for (int row = 0; row < modelRowCount; row++) {
+            entry.modelIndex = row;
+            if (filter.include(entry)) {
+                rows[count++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+    
+    private static int[] identity(int count) {
+        int[] rows = new int[count];
+        for (int i = 0; i < count; i++) {
+            rows[i] = i;
+        }
+        return rows;
+    }
+    
+    /**
+     * Sorts the given model rows by the given keys and returns the sorted 
+     * rows.
+     */
+    private int[] sort(final int[] rows, List<SortKey> keys) {
+        final KeyData[] data = new KeyData[keys.size()];
+        boolean threadSafe = true;
+        for (int i = 0; i < data.length; i++) {
+            data[i] = extract(rows, keys.get(i));
+            threadSafe &= data[i].isThreadSafe();
+        }
+        RowComparator comparator = new RowComparator() {
+            @Override
+            public int compare(int p, int q) {
+                for (KeyData key : data) {
+                    int result = key.compare(p, q);
+                    if (result != 0) return result;
+                }
+                return rows[p] - rows[q];
+            }
+        };
+        int[] positions = identity(rows.length);
+        if (threadSafe && rows.length >= Math.max(parallelThreshold, 2)) {
+            parallelSort(positions, comparator);
+        } else {
+            mergeSort(positions, positions.clone(), 0, positions.length, comparator);
+        }
+        int[] result = new int[rows.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = rows[positions[i]];
+        }
+        return result;
+    }
+    
+    /**
+     * Extracts the values of the given sort key column of the given rows.
+     */
+    private KeyData extract(int[] rows, SortKey key) {
+        int column = key.getColumn();
+        int order = key.getSortOrder() == SortOrder.DESCENDING ? -1 : 1;
+        Comparator<?> comparator = getComparator(column);
+        boolean useToString = useToString(column);
+        if (!useToString && getModel() instanceof PrimitiveTableModel) {
+            KeyData data = extractPrimitive((PrimitiveTableModel) getModel(), rows, column, 
+                    comparator, order);
+            if (data != null) return data;
+        }
+        if (!useToString && comparator == COMPARABLE_COMPARATOR) {
+            Class<?> columnClass = getModel().getColumnClass(column);
+            KeyData data = null;
+            if (columnClass == Integer.class || columnClass == Long.class 
+                    || columnClass == Short.class || columnClass == Byte.class
+                    || columnClass == Date.class) {
+                data = extractLong(rows, column, columnClass, order);
+            } else if (columnClass == Double.class || columnClass == Float.class) {
+                data = extractDouble(rows, column, columnClass, order);
+            }
+            if (data != null) return data;
+        }
+        if (comparator instanceof Collator) {
+            Collator collator = (Collator) comparator;
+            CollationKey[] values = new CollationKey[rows.length];
+            for (int i = 0; i < rows.length; i++) {
+                Object value = getValue(rows[i], column, useToString);
+                // the default comparator for String columns
+                values[i] = value != null ? collator.getCollationKey(value.toString()) : null;
+            }
+            return new ObjectKeyData(values, COMPARABLE_COMPARATOR, order, true);
+        }
+        Object[] values = new Object[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            values[i] = getValue(rows[i], column, useToString);
+        }
+        return new ObjectKeyData(values, comparator, order, comparator == COMPARABLE_COMPARATOR);
+    }
+    
+    /**
+     * Extracts the keys from the typed accessors of the model or returns null
+     * if the column's type and comparator don't allow. Strings are replaced 
+     * by the rank of their code in the sorted dictionary, so the comparator 
+     * is called for the distinct strings only.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private KeyData extractPrimitive(PrimitiveTableModel model, int[] rows, int column, 
+            final Comparator comparator, int order) {
+        ColumnType type = model.getColumnType(column);
+        if (type == ColumnType.STRING) {
+            final String[] strings = new String[model.getDictionarySize(column)];
+            Integer[] codes = new Integer[strings.length];
+            for (int code = 0; code < strings.length; code++) {
+                strings[code] = model.getDictionaryString(column, code);
+                codes[code] = code;
+            }
+            Arrays.sort(codes, new Comparator<Integer>() {
+                @Override
+                public int compare(Integer o1, Integer o2) {
+                    return comparator.compare(strings[o1], strings[o2]);
+                }
+            });
+            int[] ranks = new int[strings.length];
+            for (int i = 1; i < codes.length; i++) {
+                // equal strings share a rank
+                ranks[codes[i]] = ranks[codes[i - 1]] 
+                        + (comparator.compare(strings[codes[i - 1]], strings[codes[i]]) == 0 ? 0 : 1);
+            }
+            long[] values = new long[rows.length];
+            boolean[] nulls = null;
+            for (int i = 0; i < rows.length; i++) {
+                int code = model.getStringCode(rows[i], column);
+                if (code < 0) {
+                    if (nulls == null) {
+                        nulls = new boolean[rows.length];
+                    }
+                    nulls[i] = true;
+                } else {
+                    values[i] = ranks[code];
+                }
+            }
+            return new LongKeyData(values, nulls, order);
+        }
+        if (comparator != COMPARABLE_COMPARATOR) return null;
+        boolean[] nulls = null;
+        for (int i = 0; i < rows.length; i++) {
+            if (model.isNull(rows[i], column)) {
+                if (nulls == null) {
+                    nulls = new boolean[rows.length];
+                }
+                nulls[i] = true;
+            }
+        }
+        if (type == ColumnType.DOUBLE) {
+            double[] values = new double[rows.length];
+            for (int i = 0; i < rows.length; i++) {
+                values[i] = model.getDouble(rows[i], column);
+            }
+            return new DoubleKeyData(values, nulls, order);
+        }
+        long[] values = new long[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            if (type == ColumnType.BOOLEAN) {
+                values[i] = model.getBoolean(rows[i], column) ? 1 : 0;
+            } else {
+                values[i] = model.getLong(rows[i], column);
+            }
+        }
+        return new LongKeyData(values, nulls, order);
+    }
+    
+    private Object getValue(int row, int column, boolean useToString) {
+        return useToString ? getModelWrapper().getStringValueAt(row, column) 
+                : getModelWrapper().getValueAt(row, column);
+    }
+    
+    /**
+     * Extracts long keys or returns null if any value is not of the 
+     * column class.
+     */
+    private KeyData extractLong(int[] rows, int column, Class<?> columnClass, int order) {
+        long[] values = new long[rows.length];
+        boolean[] nulls = null;
+        for (int i = 0; i < rows.length; i++) {
+            Object value = getModelWrapper().getValueAt(rows[i], column);
+            if (value == null) {
+                if (nulls == null) {
+                    nulls = new boolean[rows.length];
+                }
+                nulls[i] = true;
+            } else if (value.getClass() != columnClass) {
+                return null;
+            } else if (value instanceof Date) {
+                values[i] = ((Date) value).getTime();
+            } else {
+                values[i] = ((Number) value).longValue();
+            }
+        }
+        return new LongKeyData(values, nulls, order);
+    }
+    
+    /**
+     * Extracts double keys or returns null if any value is not of the 
+     * column class.
+     */
+    private KeyData extractDouble(int[] rows, int column, Class<?> columnClass, int order) {
+        double[] values = new double[rows.length];
+        boolean[] nulls = null;
+        for (int i = 0; i < rows.length; i++) {
+            Object value = getModelWrapper().getValueAt(rows[i], column);
+            if (value == null) {
+                if (nulls == null) {
+                    nulls = new boolean[rows.length];
+                }
+                nulls[i] = true;
+            } else if (value.getClass() != columnClass) {
+                return null;
+            } else {
+                values[i] = ((Number) value).doubleValue();
+            }
+        }
+        return new DoubleKeyData(values, nulls, order);
+    }
+
+//------------------- merge sort
+    
+    /**
+     * Sorts the positions in chunks on the executor, then merges the
+     * chunks pairwise.
+     */
+    private void parallelSort(int[] positions, final RowComparator comparator) {
+        int chunks = Math.min(Runtime.getRuntime().availableProcessors() * 2, 
+                Math.max(positions.length / Math.max(parallelThreshold / 2, 1), 1));
+        final int[] bounds = new int[chunks + 1];
+        for (int i = 0; i <= chunks; i++) {
+            bounds[i] = (int) ((long) positions.length * i / chunks);
+        }
+        int[] source = positions;
+        int[] target = positions.clone();
+        List<FutureTask<Void>> tasks = new ArrayList<FutureTask<Void>>();
+        for (int i = 0; i < chunks; i++) {
+            final int from = bounds[i];
+            final int to = bounds[i + 1];
+            final int[] a = source;
+            final int[] b = target;
+            tasks.add(new FutureTask<Void>(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    mergeSort(a, b, from, to, comparator);
+                    return null;
+                }
+            }));
+        }
+        runAll(tasks);
+        int[] current = bounds;
+        while (current.length > 2) {
+            // the number of chunks after this round
+            int merged = current.length / 2;
+            int[] next = new int[merged + 1];
+            tasks.clear();
+            for (int i = 0; i < merged; i++) {
+                final int from = current[2 * i];
+                final int mid = current[Math.min(2 * i + 1, current.length - 1)];
+                final int to = current[Math.min(2 * i + 2, current.length - 1)];
+                next[i] = from;
+                final int[] src = source;
+                final int[] dst = target;
+                tasks.add(new FutureTask<Void>(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        merge(src, dst, from, mid, to, comparator);
+                        return null;
+                    }
+                }));
+            }
+            next[merged] = current[current.length - 1];
+            runAll(tasks);
+            int[] swap = source;
+            source = target;
+            target = swap;
+            current = next;
+        }
+        if (source != positions) {
+            System.arraycopy(source, 0, positions, 0, positions.length);
+        }
+    }
+
+    /**
+     * Executes all but the first task on the executor, runs all not yet 
+     * started on the calling thread and waits for completion.
+     */
+    private void runAll(List<FutureTask<Void>> tasks) {
+        for (int i = 1; i < tasks.size(); i++) {
+            executor.execute(tasks.get(i));
+        }
+        try {
+            for (FutureTask<Void> task : tasks) {
+                task.run();
+                task.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while sorting", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+    
+    /**
+     * Sorts the range of a, using the same range of temp as scratch.
+     */
+    static void mergeSort(int[] a, int[] temp, int from, int to, RowComparator comparator) {
+        if (to - from <= INSERTION_SORT_THRESHOLD) {
+            for (int i = from + 1; i < to; i++) {
+                int value = a[i];
+                int j = i - 1;
+                while (j >= from && comparator.compare(a[j], value) > 0) {
+                    a[j + 1] = a[j];
+                    j--;
+                }
+                a[j + 1] = value;
+            }
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(a, temp, from, mid, comparator);
+        mergeSort(a, temp, mid, to, comparator);
+        if (comparator.compare(a[mid - 1], a[mid]) <= 0) return;
+        System.arraycopy(a, from, temp, from, to - from);
+        merge(temp, a, from, mid, to, comparator);
+    }
+    
+    /**
+     * Merges the sorted ranges from..mid and mid..to of source into the
+     * same range of target.
+     */
+    static void merge(int[] source, int[] target, int from, int mid, int to, 
+            RowComparator comparator) {
+        int left = from;
+        int right = mid;
+        for (int i = from; i < to; i++) {
+            if (right >= to || (left < mid && comparator.compare(source[left], source[right]) <= 0)) {
+                target[i] = source[left++];
+            } else {
+                target[i] = source[right++];
+            }
+        }
+    }
+    
+//------------------- replacing super's mapping
+    
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Overridden to use the mapping of this controller.
+     */
+    @Override
+    public int convertRowIndexToModel(int viewIndex) {
+        int[] mapping = viewToModel;
+        if (mapping == null) {
+            return super.convertRowIndexToModel(viewIndex);
+        }
+        if (viewIndex < 0 || viewIndex >= mapping.length) 
+            throw new IndexOutOfBoundsException("valid viewIndex: 0 <= index < " 
+                    + mapping.length + " but was: " + viewIndex);
+        return mapping[viewIndex];
+    }
+    
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Overridden to use the mapping of this controller.
+     */
+    @Override
+    public int convertRowIndexToView(int modelIndex) {
+        int[] mapping = modelToView;
+        if (mapping == null) {
+            return super.convertRowIndexToView(modelIndex);
+        }
+        if (modelIndex < 0 || modelIndex >= mapping.length) 
+            throw new IndexOutOfBoundsException("valid modelIndex: 0 <= index < " 
+                    + mapping.length + " but was: " + modelIndex);
+        return mapping[modelIndex];
+    }
+    
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Overridden to use the mapping of this controller.
+     */
+    @Override
+    public int getViewRowCount() {
+        int[] mapping = viewToModel;
+        return mapping != null ? mapping.length : getModelRowCount();
+    }
+    
+//------------------ overridden notification methods: incremental update
+    
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Overridden to insert the new rows into the current mapping if 
+     * transformed.
+     */
+    @Override
+    public void rowsInserted(int firstRow, int endRow) {
+        super.rowsInserted(firstRow, endRow);
+        if (viewToModel == null) return;
+        int count = endRow - firstRow + 1;
+        if (!shouldUpdateIncrementally(count)) {
+            sort();
+            return;
+        }
+        int[] lastViewToModel = viewToModel;
+        int[] rows = new int[lastViewToModel.length];
+        for (int i = 0; i < rows.length; i++) {
+            int modelIndex = lastViewToModel[i];
+            rows[i] = modelIndex >= firstRow ? modelIndex + count : modelIndex;
+        }
+        insertRows(rows, firstRow, endRow, lastViewToModel);
+    }
+    
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Overridden to remove the rows from the current mapping if transformed.
+     */
+    @Override
+    public void rowsDeleted(int firstRow, int endRow) {
+        super.rowsDeleted(firstRow, endRow);
+        if (viewToModel == null) return;
+        if (!sorted) {
+            sort();
+            return;
+        }
+        int count = endRow - firstRow + 1;
+        int[] lastViewToModel = viewToModel;
+        int[] rows = removeRows(lastViewToModel, firstRow, endRow);
+        for (int i = 0; i < rows.length; i++) {
+            if (rows[i] > endRow) {
+                rows[i] -= count;
+            }
+        }
+        publish(rows, createModelToView(rows, getModelRowCount()));
+        fireRowSorterChanged(lastViewToModel);
+    }
+    
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Overridden to re-filter and re-insert the updated rows into the current
+     * mapping if transformed and sortsOnUpdates.
+     */
+    @Override
+    public void rowsUpdated(int firstRow, int endRow) {
+        super.rowsUpdated(firstRow, endRow);
+        if (viewToModel == null) return;
+        if (!getSortsOnUpdates()) {
+            sorted = false;
+            return;
+        }
+        if (!shouldUpdateIncrementally(endRow - firstRow + 1)) {
+            sort();
+            return;
+        }
+        int[] lastViewToModel = viewToModel;
+        insertRows(removeRows(lastViewToModel, firstRow, endRow), 
+                firstRow, endRow, lastViewToModel);
+    }
+    
+    /**
+     * Returns a boolean indicating whether a change of the given number
+     * of rows should be processed incrementally.
+     */
+    private boolean shouldUpdateIncrementally(int count) {
+        return sorted && count <= viewToModel.length / 10;
+    }
+    
+    /**
+     * Returns the given mapping without the model rows firstRow ... endRow.
+     */
+    private static int[] removeRows(int[] rows, int firstRow, int endRow) {
+        int[] result = new int[rows.length];
+        int count = 0;
+        for (int modelIndex : rows) {
+            if (modelIndex < firstRow || modelIndex > endRow) {
+                result[count++] = modelIndex;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+    
+    /**
+     * Filters the model rows firstRow ... endRow, inserts the included into 
+     * the given sorted rows, publishes the result and notifies listeners.
+     */
+    private void insertRows(int[] rows, int firstRow, int endRow, int[] lastViewToModel) {
+        RowFilter<? super M, ? super Integer> filter = getRowFilter();
+        FilterEntry entry = new FilterEntry();
+        int[] added = new int[endRow - firstRow + 1];
+        int count = 0;
+        for (int modelIndex = firstRow; modelIndex <= endRow; modelIndex++) {
+            entry.modelIndex = modelIndex;
+            if (filter == null || filter.include(entry)) {
+                added[count++] = modelIndex;
+            }
+        }
+        added = Arrays.copyOf(added, count);
+        RowComparator comparator = new ModelRowComparator(getActiveSortKeys());
+        mergeSort(added, added.clone(), 0, count, comparator);
+        int[] result = new int[rows.length + count];
+        int from = 0;
+        int target = 0;
+        for (int modelIndex : added) {
+            // added is sorted: the insertion point can't be before the last
+            int index = binarySearch(rows, from, modelIndex, comparator);
+            System.arraycopy(rows, from, result, target, index - from);
+            target += index - from;
+            result[target++] = modelIndex;
+            from = index;
+        }
+        System.arraycopy(rows, from, result, target, rows.length - from);
+        publish(result, createModelToView(result, getModelRowCount()));
+        fireRowSorterChanged(lastViewToModel);
+    }
+    
+    /**
+     * Returns the insertion point of the model row into the sorted rows,
+     * searching from the given index.
+     */
+    private static int binarySearch(int[] rows, int low, int modelIndex, 
+            RowComparator comparator) {
+        int high = rows.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (comparator.compare(rows[mid], modelIndex) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    
+    private static synchronized ExecutorService getSharedExecutor() {
+        if (sharedExecutor == null) {
+            sharedExecutor = Executors.newFixedThreadPool(
+                    Runtime.getRuntime().availableProcessors(), new ThreadFactory() {
+                        private int count;
+                        
+                        @Override
+                        public Thread newThread(Runnable r) {
+                            Thread thread = new Thread(r, "ParallelTableSortController-" + count++);
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+        }
+        return sharedExecutor;
+    }
+    
+    /**
+     * Compares rows by their position in the extracted keys.
+     */
+    interface RowComparator {
+        int compare(int p, int q);
+    }
+    
+    /**
+     * Compares model rows by their current values, as DefaultRowSorter does.
+     */
+    private class ModelRowComparator implements RowComparator {
+        private final List<SortKey> keys;
+        
+        ModelRowComparator(List<SortKey> keys) {
+            this.keys = keys;
+        }
+        
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        @Override
+        public int compare(int p, int q) {
+            for (SortKey key : keys) {
+                int column = key.getColumn();
+                boolean useToString = useToString(column);
+                Object a = getValue(p, column, useToString);
+                Object b = getValue(q, column, useToString);
+                int result;
+                if (a == null) {
+                    result = b == null ? 0 : -1;
+                } else if (b == null) {
+                    result = 1;
+                } else {
+                    result = ((Comparator) getComparator(column)).compare(a, b);
+                }
+                if (result != 0) {
+                    return key.getSortOrder() == SortOrder.DESCENDING ? -result : result;
+                }
+            }
+            return p - q;
+        }
+    }
+    
+    /**
+     * The extracted values of one sort key.
+     */
+    private abstract static class KeyData {
+        protected final int order;
+        
+        KeyData(int order) {
+            this.order = order;
+        }
+        
+        /**
+         * Compares the values at the given positions, respecting the sort
+         * order. Nulls are less than not-null values, as in DefaultRowSorter.
+         */
+        abstract int compare(int p, int q);
+        
+        boolean isThreadSafe() {
+            return true;
+        }
+    }
+    
+    private static class LongKeyData extends KeyData {
+        private final long[] values;
+        private final boolean[] nulls;
+
+        LongKeyData(long[] values, boolean[] nulls, int order) {
+            super(order);
+            this.values = values;
+            this.nulls = nulls;
+        }
+
+        @Override
+        int compare(int p, int q) {
+            if (nulls != null && (nulls[p] || nulls[q])) {
+                return order * ((nulls[p] ? 0 : 1) - (nulls[q] ? 0 : 1));
+            }
+            long a = values[p];
+            long b = values[q];
+            return order * (a < b ? -1 : (a == b ? 0 : 1));
+        }
+    }
+    
+    private static class DoubleKeyData extends KeyData {
+        private final double[] values;
+        private final boolean[] nulls;
+
+        DoubleKeyData(double[] values, boolean[] nulls, int order) {
+            super(order);
+            this.values = values;
+            this.nulls = nulls;
+        }
+        
+        @Override
+        int compare(int p, int q) {
+            if (nulls != null && (nulls[p] || nulls[q])) {
+                return order * ((nulls[p] ? 0 : 1) - (nulls[q] ? 0 : 1));
+            }
+            return order * Double.compare(values[p], values[q]);
+        }
+    }
+    
+    private static class ObjectKeyData extends KeyData {
+        private final Object[] values;
+        @SuppressWarnings("rawtypes")
+        private final Comparator comparator;
+        private final boolean threadSafe;
+
+        ObjectKeyData(Object[] values, Comparator<?> comparator, int order, boolean threadSafe) {
+            super(order);
+            this.values = values;
+            this.comparator = comparator;
+            this.threadSafe = threadSafe;
+        }
+        
+        @SuppressWarnings("unchecked")
+        @Override
+        int compare(int p, int q) {
+            Object a = values[p];
+            Object b = values[q];
+            int result;
+            if (a == null) {
+                result = b == null ? 0 : -1;
+            } else if (b == null) {
+                result = 1;
+            } else {
+                result = comparator.compare(a, b);
+            }
+            return order * result;
+        }
+        
+        @Override
+        boolean isThreadSafe() {
+            return threadSafe;
+        }
+    }
+    
+    /**
+     * RowFilter.Entry for the model row at modelIndex.
+     */
+    private class FilterEntry extends RowFilter.Entry<M, Integer> {
+        int modelIndex;
+
+        @Override
+        public M getModel() {
+            return getModelWrapper().getModel();
+        }
+
+        @Override
+        public int getValueCount() {
+            return getModelWrapper().getColumnCount();
+        }
+
+        @Override
+        public Object getValue(int index) {
+            return getModelWrapper().getValueAt(modelIndex, index);
+        }
+
+        @Override
+        public String getStringValue(int index) {
+            return getModelWrapper().getStringValueAt(modelIndex, index);
+        }
+
+        @Override
+        public Integer getIdentifier() {
+            return getModelWrapper().getIdentifier(modelIndex);
+        }
+    }
+}
@@ -139,6 +139,93 @@ public class RowFilters {
         return (RowFilter<M,I>)new RegexFilter(pattern, indices);
     }
 
+    /**
+     * Returns a <code>RowFilter</code> which includes entries with at least 
+     * one value containing the given text. The result is the same as of a 
+     * regexFilter with the quoted text, but without the overhead of regex
+     * matching: the filter uses a Boyer-Moore-Horspool search.
+     * 
+     * @param text the literal text to search for
+     * @param caseSensitive if false, case is ignored as by 
+     *     <code>Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE</code>
+     * @param indices the indices of the values to check.  If not supplied all
+     *               values are evaluated
+     * @return a <code>RowFilter</code> implementing the specified criteria
+     * @throws NullPointerException if <code>text</code> is
+     *         <code>null</code>
+     * @throws IllegalArgumentException if any of the <code>indices</code>
+     *         are &lt; 0
+     */
+    public static <M,I> RowFilter<M,I> containsFilter(String text, boolean caseSensitive,
+            int... indices) {
+        return (RowFilter<M,I>) new LiteralFilter(LiteralFilter.CONTAINS, text, caseSensitive, indices);
+    }
+    
+    /**
+     * Returns a <code>RowFilter</code> which includes entries with at least 
+     * one value starting with the given text. The result is the same as of a 
+     * regexFilter with the quoted text anchored at the start.
+     * 
+     * @param text the literal text to search for
+     * @param caseSensitive if false, case is ignored as by 
+     *     <code>Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE</code>
+     * @param indices the indices of the values to check.  If not supplied all
+     *               values are evaluated
+     * @return a <code>RowFilter</code> implementing the specified criteria
+     * @throws NullPointerException if <code>text</code> is
+     *         <code>null</code>
+     * @throws IllegalArgumentException if any of the <code>indices</code>
+     *         are &lt; 0
+     */
+    public static <M,I> RowFilter<M,I> startsWithFilter(String text, boolean caseSensitive,
+            int... indices) {
+        return (RowFilter<M,I>) new LiteralFilter(LiteralFilter.STARTS_WITH, text, caseSensitive, indices);
+    }
+    
+    /**
+     * Returns a <code>RowFilter</code> which includes entries with at least 
+     * one value ending with the given text. The result is the same as of a 
+     * regexFilter with the quoted text anchored at the end, that is a single
+     * trailing line terminator is allowed.
+     * 
+     * @param text the literal text to search for
+     * @param caseSensitive if false, case is ignored as by 
+     *     <code>Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE</code>
+     * @param indices the indices of the values to check.  If not supplied all
+     *               values are evaluated
+     * @return a <code>RowFilter</code> implementing the specified criteria
+     * @throws NullPointerException if <code>text</code> is
+     *         <code>null</code>
+     * @throws IllegalArgumentException if any of the <code>indices</code>
+     *         are &lt; 0
+     */
+    public static <M,I> RowFilter<M,I> endsWithFilter(String text, boolean caseSensitive,
+            int... indices) {
+        return (RowFilter<M,I>) new LiteralFilter(LiteralFilter.ENDS_WITH, text, caseSensitive, indices);
+    }
+    
+    /**
+     * Returns a <code>RowFilter</code> which includes entries with at least 
+     * one value equal to the given text. The result is the same as of a 
+     * regexFilter with the quoted text anchored at start and end, that is a 
+     * single trailing line terminator is allowed.
+     * 
+     * @param text the literal text to search for
+     * @param caseSensitive if false, case is ignored as by 
+     *     <code>Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE</code>
+     * @param indices the indices of the values to check.  If not supplied all
+     *               values are evaluated
+     * @return a <code>RowFilter</code> implementing the specified criteria
+     * @throws NullPointerException if <code>text</code> is
+     *         <code>null</code>
+     * @throws IllegalArgumentException if any of the <code>indices</code>
+     *         are &lt; 0
+     */
+    public static <M,I> RowFilter<M,I> equalsFilter(String text, boolean caseSensitive,
+            int... indices) {
+        return (RowFilter<M,I>) new LiteralFilter(LiteralFilter.EQUALS, text, caseSensitive, indices);
+    }
+    
     /**
      * C&P from core Swing to allow subclassing.
      */
@@ -212,6 +299,124 @@ public class RowFilters {
         }
     }
     
+    /**
+     * Matches literal text, without the overhead of regex.
+     */
+    private static class LiteralFilter extends GeneralFilter {
+        static final int CONTAINS = 0;
+        static final int STARTS_WITH = 1;
+        static final int ENDS_WITH = 2;
+        static final int EQUALS = 3;
+        
+        private final int mode;
+        private final boolean caseSensitive;
+        private final char[] text;
+        /** the Horspool shifts, indexed by the low byte of the char. */
+        private int[] shifts;
+
+        LiteralFilter(int mode, String text, boolean caseSensitive, int[] columns) {
+            super(columns);
+            Contract.asNotNull(text, "text must be non-null");
+            this.mode = mode;
+            this.caseSensitive = caseSensitive;
+            this.text = text.toCharArray();
+            if (!caseSensitive) {
+                for (int i = 0; i < this.text.length; i++) {
+                    this.text[i] = fold(this.text[i]);
+                }
+            }
+            if (mode == CONTAINS) {
+                shifts = new int[256];
+                for (int i = 0; i < shifts.length; i++) {
+                    shifts[i] = this.text.length;
+                }
+                for (int i = 0; i < this.text.length - 1; i++) {
+                    shifts[this.text[i] & 0xFF] = this.text.length - 1 - i;
+                }
+            }
+        }
+
+        @Override
+        protected boolean include(
+                Entry<? extends Object,? extends Object> value, int index) {
+            String string = value.getStringValue(index);
+            if (string == null) return false;
+            switch (mode) {
+            case STARTS_WITH:
+                return regionMatches(string, 0);
+            case ENDS_WITH:
+                return endMatches(string, false);
+            case EQUALS:
+                return endMatches(string, true);
+            default:
+                return indexOf(string) >= 0;
+            }
+        }
+
+        /**
+         * Returns true if the text matches at the end of the string or before 
+         * a final line terminator, as the regex end anchor does.
+         */
+        private boolean endMatches(String string, boolean fromStart) {
+            int end = string.length();
+            if (matchesBefore(string, end, fromStart)) return true;
+            if (end == 0) return false;
+            char last = string.charAt(end - 1);
+            if (last == '\n' && end > 1 && string.charAt(end - 2) == '\r') {
+                return matchesBefore(string, end - 2, fromStart);
+            }
+            if (last == '\n' || last == '\r' || last == '\u0085' 
+                    || last == '\u2028' || last == '\u2029') {
+                return matchesBefore(string, end - 1, fromStart);
+            }
+            return false;
+        }
+        
+        private boolean matchesBefore(String string, int end, boolean fromStart) {
+            int start = end - text.length;
+            if (start < 0 || (fromStart && start != 0)) return false;
+            return regionMatches(string, start);
+        }
+        
+        private boolean regionMatches(String string, int start) {
+            if (start + text.length > string.length()) return false;
+            for (int i = 0; i < text.length; i++) {
+                if (charAt(string, start + i) != text[i]) return false;
+            }
+            return true;
+        }
+        
+        /**
+         * Boyer-Moore-Horspool search of the text in the string.
+         */
+        private int indexOf(String string) {
+            int last = text.length - 1;
+            if (last < 0) return 0;
+            int start = 0;
+            while (start + last < string.length()) {
+                char c = charAt(string, start + last);
+                if (c == text[last] && regionMatches(string, start)) {
+                    return start;
+                }
+                start += shifts[c & 0xFF];
+            }
+            return -1;
+        }
+
+        private char charAt(String string, int index) {
+            char c = string.charAt(index);
+            return caseSensitive ? c : fold(c);
+        }
+        
+        /**
+         * Folds the char such that folded chars are equal if they are equal 
+         * ignoring case, as in String.regionMatches.
+         */
+        private static char fold(char c) {
+            return Character.toLowerCase(Character.toUpperCase(c));
+        }
+    }
+    
     private RowFilters() {};
     
 }
@@ -0,0 +1,397 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.sort;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.swing.ListModel;
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableModel;
+
+/**
+ * A memory-bounded cache of string representations, keyed by model 
+ * coordinates. Typically, it is managed by a <code>StringValueRegistry</code>
+ * and shared by all parties which convert cell values to strings, that 
+ * is sorting, filtering, searching and highlighting. Converting is potentially 
+ * costly (f.i. if the StringValue uses a <code>Format</code>) and 
+ * sorting requires O(n log n) conversions without a cache. <p>
+ * 
+ * The cache is filled lazily, one array of strings per column. Its capacity
+ * is the maximal number of cached cells: if allocating a new column would 
+ * exceed it, the least recently used columns are evicted. Columns with 
+ * more rows than the capacity are not cached at all. <p>
+ * 
+ * The cache must be kept in synch with the model: typically, it is 
+ * installed on the model and then updates itself on change notification.
+ * Note that there is no way to detect changes of the StringValues
+ * themselves, f.i. a changed Format of a FormatStringValue. In this case,
+ * client code must invalidate the cache.<p>
+ * 
+ * This class is not thread-safe, it's meant to be accessed on the EDT only.
+ * 
+ * @author agent
+ * 
+ * @see StringValueRegistry#setStringCache(StringValueCache)
+ */
+public class StringValueCache {
+
+    /** the default capacity of cached cells. */
+    public static final int DEFAULT_CAPACITY = 1 << 20;
+    
+    private final int capacity;
+    /** the cached strings per column, in access order. */
+    private final LinkedHashMap<Integer, String[]> columns;
+    /** the number of allocated cells. */
+    private int size;
+    /** the row count of the installed model or -1 if not installed. */
+    private int rowCount = -1;
+    
+    /** fast path for repeated access to the same column. */
+    private int lastColumn = -1;
+    private String[] lastStrings;
+    
+    private TableModel tableModel;
+    private ListModel listModel;
+    private Listener listener;
+    
+    /**
+     * Instantiates a cache with default capacity.
+     */
+    public StringValueCache() {
+        this(DEFAULT_CAPACITY);
+    }
+    
+    /**
+     * Instantiates a cache with the given capacity.
+     * 
+     * @param capacity the maximal number of cached cells.
+     * @throws IllegalArgumentException if capacity is negative
+     */
+    public StringValueCache(int capacity) {
+        if (capacity < 0) 
+            throw new IllegalArgumentException("capacity must not be negative " + capacity);
+        this.capacity = capacity;
+        columns = new LinkedHashMap<Integer, String[]>(16, 0.75f, true);
+    }
+
+    /**
+     * Returns the cached string for the given cell.
+     * 
+     * @param row the row index in model coordinates
+     * @param column the column index in model coordinates
+     * @return the cached string or null if not cached.
+     */
+    public String get(int row, int column) {
+        String[] strings = getStrings(column);
+        return strings != null && row >= 0 && row < strings.length ? strings[row] : null;
+    }
+    
+    /**
+     * Stores the string for the given cell. 
+     * 
+     * @param row the row index in model coordinates
+     * @param column the column index in model coordinates
+     * @param string the string to cache
+     */
+    public void put(int row, int column, String string) {
+        if (row < 0 || column < 0) return;
+        String[] strings = getStrings(column);
+        if (strings == null || row >= strings.length) {
+            int length = Math.max(row + 1, rowCount);
+            if (strings != null) {
+                // not installed: grow by doubling 
+                length = Math.max(length, Math.min(strings.length * 2, capacity));
+            }
+            strings = allocate(column, length);
+            if (strings == null) return;
+        }
+        strings[row] = string;
+    }
+    
+    /**
+     * Returns the maximal number of cached cells.
+     * 
+     * @return the capacity of this cache.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+    
+    /**
+     * Returns the number of cells currently allocated for caching.
+     * 
+     * @return the number of allocated cells, always &lt;= capacity.
+     */
+    public int getSize() {
+        return size;
+    }
+    
+    /**
+     * Clears the cache.
+     */
+    public void invalidate() {
+        columns.clear();
+        size = 0;
+        clearLastColumn();
+    }
+    
+    /**
+     * Clears the cached strings of the given column.
+     * 
+     * @param column the column index in model coordinates.
+     */
+    public void invalidate(int column) {
+        String[] strings = columns.remove(column);
+        if (strings != null) {
+            size -= strings.length;
+        }
+        clearLastColumn();
+    }
+    
+    /**
+     * Clears the cached strings of the given rows in the given column.
+     * 
+     * @param first the first row to clear, inclusive
+     * @param last the last row to clear, inclusive
+     * @param column the column index in model coordinates or -1 for all columns
+     */
+    public void invalidate(int first, int last, int column) {
+        if (column < 0) {
+            for (String[] strings : columns.values()) {
+                clear(strings, first, last);
+            }
+        } else {
+            clear(columns.get(column), first, last);
+        }
+    }
+    
+    /**
+     * Shifts the cached strings at and after first, to make room for 
+     * the inserted rows.
+     * 
+     * @param first the index of the first inserted row
+     * @param count the number of inserted rows
+     */
+    public void rowsInserted(int first, int count) {
+        if (rowCount >= 0) {
+            rowCount += count;
+        }
+        resizeColumns(first, count);
+    }
+    
+    /**
+     * Removes the cached strings of the given rows, shifting the strings
+     * of the following rows.
+     * 
+     * @param first the index of the first removed row
+     * @param count the number of removed rows
+     */
+    public void rowsRemoved(int first, int count) {
+        if (rowCount >= 0) {
+            rowCount = Math.max(rowCount - count, 0);
+        }
+        resizeColumns(first, -count);
+    }
+
+//----------------------- install/uninstall
+    
+    /**
+     * Installs the cache on the given TableModel. Uninstalls from a 
+     * previous model, if any, and clears the cache.
+     * 
+     * @param model the model to listen to
+     */
+    public void install(TableModel model) {
+        uninstall();
+        this.tableModel = model;
+        rowCount = model.getRowCount();
+        model.addTableModelListener(getListener());
+    }
+    
+    /**
+     * Installs the cache on the given ListModel. Uninstalls from a 
+     * previous model, if any, and clears the cache.
+     * 
+     * @param model the model to listen to
+     */
+    public void install(ListModel model) {
+        uninstall();
+        this.listModel = model;
+        rowCount = model.getSize();
+        model.addListDataListener(getListener());
+    }
+    
+    /**
+     * Uninstalls the cache from its current model, if any, and clears
+     * the cache.
+     */
+    public void uninstall() {
+        if (tableModel != null) {
+            tableModel.removeTableModelListener(listener);
+            tableModel = null;
+        }
+        if (listModel != null) {
+            listModel.removeListDataListener(listener);
+            listModel = null;
+        }
+        rowCount = -1;
+        invalidate();
+    }
+    
+    private Listener getListener() {
+        if (listener == null) {
+            listener = new Listener();
+        }
+        return listener;
+    }
+    
+    private String[] getStrings(int column) {
+        if (column != lastColumn) {
+            lastStrings = columns.get(column);
+            lastColumn = column;
+        }
+        return lastStrings;
+    }
+    
+    private void clearLastColumn() {
+        lastColumn = -1;
+        lastStrings = null;
+    }
+    
+    /**
+     * Allocates the strings of the given column, copying already cached
+     * strings. Evicts the least recently used columns if needed. Returns
+     * null if the length exceeds the capacity.
+     */
+    private String[] allocate(int column, int length) {
+        String[] old = columns.remove(column);
+        if (old != null) {
+            size -= old.length;
+        }
+        clearLastColumn();
+        if (length > capacity) return null;
+        Iterator<Map.Entry<Integer, String[]>> iterator = columns.entrySet().iterator();
+        while (size + length > capacity && iterator.hasNext()) {
+            size -= iterator.next().getValue().length;
+            iterator.remove();
+        }
+        String[] strings = new String[length];
+        if (old != null) {
+            System.arraycopy(old, 0, strings, 0, Math.min(old.length, length));
+        }
+        columns.put(column, strings);
+        size += length;
+        lastColumn = column;
+        lastStrings = strings;
+        return strings;
+    }
+    
+    /**
+     * Shifts the strings of all columns at or above index by delta. A 
+     * negative delta removes the strings in the range index ... index - delta - 1.
+     */
+    private void resizeColumns(int index, int delta) {
+        for (Map.Entry<Integer, String[]> entry : columns.entrySet()) {
+            String[] old = entry.getValue();
+            if (index >= old.length) continue;
+            int length = Math.max(old.length + delta, index);
+            String[] strings = new String[length];
+            System.arraycopy(old, 0, strings, 0, index);
+            int tailStart = delta < 0 ? index - delta : index;
+            if (tailStart < old.length) {
+                System.arraycopy(old, tailStart, strings, index + Math.max(delta, 0), 
+                        old.length - tailStart);
+            }
+            entry.setValue(strings);
+            size += length - old.length;
+        }
+        clearLastColumn();
+        // growing might have exceeded the capacity
+        Iterator<Map.Entry<Integer, String[]>> iterator = columns.entrySet().iterator();
+        while (size > capacity && iterator.hasNext()) {
+            size -= iterator.next().getValue().length;
+            iterator.remove();
+        }
+    }
+    
+    private static void clear(String[] strings, int first, int last) {
+        if (strings == null || first >= strings.length) return;
+        int to = Math.min(last + 1, strings.length);
+        for (int row = Math.max(first, 0); row < to; row++) {
+            strings[row] = null;
+        }
+    }
+    
+    /**
+     * The listener to the model.
+     */
+    private class Listener implements TableModelListener, ListDataListener {
+
+        @Override
+        public void tableChanged(TableModelEvent e) {
+            if (e.getFirstRow() == TableModelEvent.HEADER_ROW 
+                    || e.getLastRow() == Integer.MAX_VALUE) {
+                rowCount = tableModel.getRowCount();
+                invalidate();
+                return;
+            }
+            int count = e.getLastRow() - e.getFirstRow() + 1;
+            switch (e.getType()) {
+            case TableModelEvent.INSERT:
+                rowsInserted(e.getFirstRow(), count);
+                break;
+            case TableModelEvent.DELETE:
+                rowsRemoved(e.getFirstRow(), count);
+                break;
+            default:
+                invalidate(e.getFirstRow(), e.getLastRow(), e.getColumn());
+            }
+        }
+
+        @Override
+        public void intervalAdded(ListDataEvent e) {
+            int first = Math.min(e.getIndex0(), e.getIndex1());
+            rowsInserted(first, Math.abs(e.getIndex1() - e.getIndex0()) + 1);
+        }
+
+        @Override
+        public void intervalRemoved(ListDataEvent e) {
+            int first = Math.min(e.getIndex0(), e.getIndex1());
+            rowsRemoved(first, Math.abs(e.getIndex1() - e.getIndex0()) + 1);
+        }
+
+        @Override
+        public void contentsChanged(ListDataEvent e) {
+            if (e.getIndex0() < 0 || e.getIndex1() < 0) {
+                rowCount = listModel.getSize();
+                invalidate();
+            } else {
+                invalidate(Math.min(e.getIndex0(), e.getIndex1()), 
+                        Math.max(e.getIndex0(), e.getIndex1()), -1);
+            }
+        }
+    }
+}
@@ -47,6 +47,7 @@ public final class StringValueRegistry implements StringValueProvider {
     private Map<Class<?>, StringValue> perClass;
     private HashMap<Integer, StringValue> perColumn;
     private HashMap<Integer, Class<?>> classPerColumn;
+    private StringValueCache stringCache;
     
     /**
      * {@inheritDoc} <p>
@@ -63,6 +64,55 @@ public final class StringValueRegistry implements StringValueProvider {
         return sv != null ? sv : StringValues.TO_STRING;
     }
 
+    /**
+     * Returns the string representation of the given value at the given
+     * cell. Uses the string cache, if available. <p>
+     * 
+     * Note: the value is passed in to keep the registry independent of 
+     * the model, it is not used if a cached string is available.
+     * 
+     * @param row the row of the cell in model coordinates
+     * @param column the column of the cell in model coordinates
+     * @param value the value of the cell
+     * @return the string representation of the value.
+     * 
+     * @see #setStringCache(StringValueCache)
+     */
+    public String getString(int row, int column, Object value) {
+        if (stringCache == null) {
+            return getStringValue(row, column).getString(value);
+        }
+        String string = stringCache.get(row, column);
+        if (string == null) {
+            string = getStringValue(row, column).getString(value);
+            stringCache.put(row, column, string);
+        }
+        return string;
+    }
+    
+    /**
+     * Sets the cache to use for string representations. A null value 
+     * disables caching. <p>
+     * 
+     * The registry clears the cache whenever a StringValue mapping changes,
+     * keeping the cache in synch with the model is the responsibility of
+     * the owner, typically by installing the cache on the model.
+     * 
+     * @param cache the cache to use, may be null
+     */
+    public void setStringCache(StringValueCache cache) {
+        this.stringCache = cache;
+    }
+    
+    /**
+     * Returns the cache used for string representations.
+     * 
+     * @return the cache used for strings or null if none
+     */
+    public StringValueCache getStringCache() {
+        return stringCache;
+    }
+    
 //-------------------- manage     
     /**
      * Sets a StringValue to use for the given column. If the converter is null,
@@ -75,6 +125,7 @@ public final class StringValueRegistry implements StringValueProvider {
     public void setStringValue(StringValue sv, int column) {
         // PENDING really remove mapping if sv null
         getPerColumnMap().put(column, sv);
+        invalidateStringCache(column);
     }
 
     /**
@@ -83,6 +134,7 @@ public final class StringValueRegistry implements StringValueProvider {
      */
     public void clearColumnStringValues() {
         getPerColumnMap().clear();
+        invalidateStringCache(-1);
     }
     
     /**
@@ -95,6 +147,7 @@ public final class StringValueRegistry implements StringValueProvider {
     public void setStringValue(StringValue sv, Class<?> clazz) {
         // PENDING really remove mapping if sv null
         getPerClassMap().put(clazz, sv);
+        invalidateStringCache(-1);
     }
     
     /**
@@ -118,6 +171,7 @@ public final class StringValueRegistry implements StringValueProvider {
      */
     public void setColumnClass(Class<?> clazz, int column) {
         getColumnClassMap().put(column, clazz);
+        invalidateStringCache(column);
     }
     
     /**
@@ -126,8 +180,24 @@ public final class StringValueRegistry implements StringValueProvider {
     public void setColumnClasses(Map<Integer, Class<?>> classPerColumn) {
         this.classPerColumn = classPerColumn != null ? 
                 new HashMap<Integer, Class<?>>(classPerColumn) : null;
+        invalidateStringCache(-1);
     }
 
+    /**
+     * Clears the cached strings of the given column or all if the column
+     * is negative.
+     * 
+     * @param column the column index in model coordinates or -1 for all
+     */
+    private void invalidateStringCache(int column) {
+        if (stringCache == null) return;
+        if (column < 0) {
+            stringCache.invalidate();
+        } else {
+            stringCache.invalidate(column);
+        }
+    }
+    
     /**
      * 
      * @param clazz
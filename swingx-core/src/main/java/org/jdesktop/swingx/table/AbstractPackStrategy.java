@@ -0,0 +1,73 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.table;
+
+import java.awt.Component;
+
+import javax.swing.table.TableCellRenderer;
+
+import org.jdesktop.swingx.JXTable;
+
+/**
+ * Abstract base implementation of a <code>PackStrategy</code>. Contains 
+ * the sizing logic shared by all strategies.
+ * 
+ * @author agent
+ */
+public abstract class AbstractPackStrategy implements PackStrategy {
+
+    /**
+     * Measures and returns the preferred width of the rendering component 
+     * for the given cell. Passes through the table's prepareRenderer to catch
+     * the effect of highlighters.
+     * 
+     * @param table the table to measure
+     * @param renderer the renderer to use
+     * @param row the row index in view coordinates
+     * @param column the column index in view coordinates
+     * @return the preferred width of the cell's rendering component.
+     */
+    protected int measureCell(JXTable table, TableCellRenderer renderer,
+            int row, int column) {
+        Component comp = table.prepareRenderer(renderer, row, column);
+        return comp.getPreferredSize().width;
+    }
+
+    /**
+     * Sets the column's preferred width based on the measured widths. 
+     * 
+     * @param columnExt the column to configure
+     * @param contentWidth the maximal width of the cell content 
+     * @param headerWidth the width of the header
+     * @param margin the extra spacing to add twice
+     * @param max an upper limit to preferredWidth, -1 is interpreted as no
+     *        limit
+     */
+    protected void setPreferredWidth(TableColumnExt columnExt,
+            int contentWidth, int headerWidth, int margin, int max) {
+        int width = Math.max(contentWidth, headerWidth) + 2 * margin;
+        if (max != -1 && width > max) {
+            width = max;
+        }
+        columnExt.setPreferredWidth(width);
+    }
+
+}
@@ -87,6 +87,8 @@ public class ColumnFactory {
     private static ColumnFactory columnFactory;
     /** the default margin to use in pack. */
     private int packMargin = 4;
+    /** the strategy to measure cell content in pack, null for all rows. */
+    private PackStrategy packStrategy;
     
     /**
      * Returns the shared default factory. 
@@ -352,7 +354,9 @@ public class ColumnFactory {
      * 
      * This implementation loops through all rows of the given column and
      * measures the renderers pref width (it's a potential performance sink).
-     * Subclasses can override to implement a different strategy.
+     * If a <code>PackStrategy</code> is set, the measuring of the cells is 
+     * delegated to the strategy instead. Subclasses can override to implement 
+     * a different strategy.
      * <p>
      * 
      * Note: though 2 * margin is added as spacing, this does <b>not</b> imply
@@ -372,6 +376,7 @@ public class ColumnFactory {
      * @throws IllegalStateException if column is not visible
      * 
      * @see #setDefaultPackMargin(int)
+     * @see #setPackStrategy(PackStrategy)
      * @see org.jdesktop.swingx.JXTable#packTable(int)
      * @see org.jdesktop.swingx.JXTable#packColumn(int, int)
      * 
@@ -393,6 +398,12 @@ public class ColumnFactory {
         // returns a (guessed) renderer for invisible columns which must not
         // be used in the loop. For now that's okay, as we back out early anyway
         TableCellRenderer renderer = getCellRenderer(table, columnExt);
+        if (getPackStrategy() != null) {
+            getPackStrategy().packColumn(table, columnExt, renderer, 
+                    getRowCount(table), width, 
+                    margin < 0 ? getDefaultPackMargin() : margin, max);
+            return;
+        }
         for (int r = 0; r < getRowCount(table); r++) {
             // JW: fix for #1215-swing as suggested by the reporter adrienclerc
             Component comp = table.prepareRenderer(renderer, r, column);
@@ -462,5 +473,35 @@ public class ColumnFactory {
         this.packMargin = margin;
     }
 
+    /**
+     * Returns the strategy used to measure the cell content in packColumn.
+     * 
+     * @return the pack strategy, may be null.
+     * 
+     * @see #setPackStrategy(PackStrategy)
+     */
+    public PackStrategy getPackStrategy() {
+        return packStrategy;
+    }
+    
+    /**
+     * Sets the strategy to use for measuring the cell content in packColumn. 
+     * A null strategy measures all rows with the cell renderer. <p>
+     * 
+     * Note: this is a per-factory setting - if the factory is the shared
+     * instance, the strategy is used by all tables which don't have a 
+     * factory of their own.
+     * 
+     * @param strategy the strategy to use for measuring cells, may be null.
+     * 
+     * @see #getPackStrategy()
+     * @see #packColumn(JXTable, TableColumnExt, int, int)
+     * @see SamplingPackStrategy
+     * @see StringWidthPackStrategy
+     */
+    public void setPackStrategy(PackStrategy strategy) {
+        this.packStrategy = strategy;
+    }
+
     
 }
@@ -0,0 +1,518 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.table;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jdesktop.swingx.table.PrimitiveTableModel.ColumnType;
+
+/**
+ * A column of values in a primitive array, indexed by row. This is the 
+ * storage shared by {@link ColumnarTableModel} and 
+ * {@link org.jdesktop.swingx.treetable.ColumnarTreeTableModel}, it is not
+ * meant to be used by client code: it neither checks the row indices nor 
+ * notifies anybody of changes. <p>
+ * 
+ * Nulls are marked in a bitset. The primitive value of a null row is 0, 
+ * false or the string code -1, so code which doesn't care about nulls can 
+ * ignore the marks.
+ * 
+ * @author agent
+ */
+public abstract class ColumnVector {
+    
+    private final BitSet nulls = new BitSet();
+    
+    /**
+     * Creates the vector for the given column class. The supported 
+     * classes are Integer, Long, Double, Boolean and String.
+     * 
+     * @param columnClass the class of the column
+     * @return a new vector for the class
+     * @throws IllegalArgumentException if the class is not supported
+     */
+    public static ColumnVector create(Class<?> columnClass) {
+        if (columnClass == Integer.class) return new IntVector();
+        if (columnClass == Long.class) return new LongVector();
+        if (columnClass == Double.class) return new DoubleVector();
+        if (columnClass == Boolean.class) return new BooleanVector();
+        if (columnClass == String.class) return new StringVector();
+        throw new IllegalArgumentException("unsupported column class: " + columnClass);
+    }
+    
+    ColumnVector() {
+    }
+    
+    /**
+     * @return the type of the values
+     */
+    public abstract ColumnType getType();
+    
+    /**
+     * Grows the vector to hold the given number of rows.
+     * 
+     * @param capacity the number of rows
+     */
+    public abstract void ensureCapacity(int capacity);
+    
+    /**
+     * Returns the boxed value of the row, ignoring the null mark.
+     * 
+     * @param row the row
+     * @return the value of the row
+     */
+    public abstract Object get(int row);
+    
+    /**
+     * Sets the value of the row, converted to the type of the vector: 
+     * Numbers to the primitive, any other object to its string 
+     * representation in a string vector. Null marks the row as null.
+     * 
+     * @param row the row
+     * @param value the new value, may be null
+     * @throws ClassCastException if the value can't be converted
+     */
+    public void set(int row, Object value) {
+        if (value == null) {
+            setNull(row);
+        } else {
+            setValue(row, value);
+            nulls.clear(row);
+        }
+    }
+    
+    /**
+     * @param row the row
+     * @return true if the row is marked as null
+     */
+    public boolean isNull(int row) {
+        return nulls.get(row);
+    }
+    
+    /**
+     * Marks the row as null and resets its primitive value.
+     * 
+     * @param row the row
+     */
+    public void setNull(int row) {
+        nulls.set(row);
+        clear(row);
+    }
+    
+    /**
+     * Marks the given range of rows as null, without resetting their 
+     * values. Intended for new rows, whose values are reset.
+     * 
+     * @param first the first row
+     * @param end the row after the last row
+     */
+    public void setNulls(int first, int end) {
+        nulls.set(first, end);
+    }
+    
+    /**
+     * Removes the given range of rows, shifting the following rows down.
+     * 
+     * @param first the first row to remove
+     * @param last the last row to remove, inclusive
+     * @param size the number of rows in use
+     */
+    public void remove(int first, int last, int size) {
+        removeBits(nulls, first, last, size);
+    }
+    
+    /**
+     * Clears the null mark of the row after its value was set.
+     */
+    void setNotNull(int row) {
+        nulls.clear(row);
+    }
+    
+    /**
+     * Sets the converted, not null value.
+     */
+    abstract void setValue(int row, Object value);
+    
+    /**
+     * Resets the value of the row to 0, false or -1.
+     */
+    abstract void clear(int row);
+    
+    /**
+     * Removes the given range of bits, shifting the following bits down.
+     */
+    static void removeBits(BitSet bits, int first, int last, int size) {
+        BitSet tail = bits.get(last + 1, size);
+        bits.clear(first, size);
+        for (int i = tail.nextSetBit(0); i >= 0; i = tail.nextSetBit(i + 1)) {
+            bits.set(first + i);
+        }
+    }
+    
+    /**
+     * A column of ints.
+     */
+    public static final class IntVector extends ColumnVector {
+        private int[] values = new int[0];
+        
+        IntVector() {
+        }
+        
+        /**
+         * @param row the row
+         * @return the value of the row, 0 if null
+         */
+        public int getInt(int row) {
+            return values[row];
+        }
+        
+        /**
+         * Sets the value and clears the null mark of the row.
+         * 
+         * @param row the row
+         * @param value the new value
+         */
+        public void setInt(int row, int value) {
+            values[row] = value;
+            setNotNull(row);
+        }
+        
+        @Override
+        public ColumnType getType() {
+            return ColumnType.INT;
+        }
+        
+        @Override
+        public void ensureCapacity(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+        
+        @Override
+        public Object get(int row) {
+            return values[row];
+        }
+        
+        @Override
+        void setValue(int row, Object value) {
+            values[row] = ((Number) value).intValue();
+        }
+        
+        @Override
+        void clear(int row) {
+            values[row] = 0;
+        }
+        
+        @Override
+        public void remove(int first, int last, int size) {
+            System.arraycopy(values, last + 1, values, first, size - last - 1);
+            Arrays.fill(values, size - (last - first + 1), size, 0);
+            super.remove(first, last, size);
+        }
+    }
+    
+    /**
+     * A column of longs.
+     */
+    public static final class LongVector extends ColumnVector {
+        private long[] values = new long[0];
+        
+        LongVector() {
+        }
+        
+        /**
+         * @param row the row
+         * @return the value of the row, 0 if null
+         */
+        public long getLong(int row) {
+            return values[row];
+        }
+        
+        /**
+         * Sets the value and clears the null mark of the row.
+         * 
+         * @param row the row
+         * @param value the new value
+         */
+        public void setLong(int row, long value) {
+            values[row] = value;
+            setNotNull(row);
+        }
+        
+        @Override
+        public ColumnType getType() {
+            return ColumnType.LONG;
+        }
+        
+        @Override
+        public void ensureCapacity(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+        
+        @Override
+        public Object get(int row) {
+            return values[row];
+        }
+        
+        @Override
+        void setValue(int row, Object value) {
+            values[row] = ((Number) value).longValue();
+        }
+        
+        @Override
+        void clear(int row) {
+            values[row] = 0;
+        }
+        
+        @Override
+        public void remove(int first, int last, int size) {
+            System.arraycopy(values, last + 1, values, first, size - last - 1);
+            Arrays.fill(values, size - (last - first + 1), size, 0);
+            super.remove(first, last, size);
+        }
+    }
+    
+    /**
+     * A column of doubles.
+     */
+    public static final class DoubleVector extends ColumnVector {
+        private double[] values = new double[0];
+        
+        DoubleVector() {
+        }
+        
+        /**
+         * @param row the row
+         * @return the value of the row, 0 if null
+         */
+        public double getDouble(int row) {
+            return values[row];
+        }
+        
+        /**
+         * Sets the value and clears the null mark of the row.
+         * 
+         * @param row the row
+         * @param value the new value
+         */
+        public void setDouble(int row, double value) {
+            values[row] = value;
+            setNotNull(row);
+        }
+        
+        @Override
+        public ColumnType getType() {
+            return ColumnType.DOUBLE;
+        }
+        
+        @Override
+        public void ensureCapacity(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+        
+        @Override
+        public Object get(int row) {
+            return values[row];
+        }
+        
+        @Override
+        void setValue(int row, Object value) {
+            values[row] = ((Number) value).doubleValue();
+        }
+        
+        @Override
+        void clear(int row) {
+            values[row] = 0;
+        }
+        
+        @Override
+        public void remove(int first, int last, int size) {
+            System.arraycopy(values, last + 1, values, first, size - last - 1);
+            Arrays.fill(values, size - (last - first + 1), size, 0);
+            super.remove(first, last, size);
+        }
+    }
+    
+    /**
+     * A column of booleans, kept in a bitset.
+     */
+    public static final class BooleanVector extends ColumnVector {
+        private final BitSet values = new BitSet();
+        
+        BooleanVector() {
+        }
+        
+        /**
+         * @param row the row
+         * @return the value of the row, false if null
+         */
+        public boolean getBoolean(int row) {
+            return values.get(row);
+        }
+        
+        /**
+         * Sets the value and clears the null mark of the row.
+         * 
+         * @param row the row
+         * @param value the new value
+         */
+        public void setBoolean(int row, boolean value) {
+            values.set(row, value);
+            setNotNull(row);
+        }
+        
+        @Override
+        public ColumnType getType() {
+            return ColumnType.BOOLEAN;
+        }
+        
+        @Override
+        public void ensureCapacity(int capacity) {
+            // bitsets grow as needed
+        }
+        
+        @Override
+        public Object get(int row) {
+            return values.get(row);
+        }
+        
+        @Override
+        void setValue(int row, Object value) {
+            values.set(row, ((Boolean) value).booleanValue());
+        }
+        
+        @Override
+        void clear(int row) {
+            values.clear(row);
+        }
+        
+        @Override
+        public void remove(int first, int last, int size) {
+            removeBits(values, first, last, size);
+            super.remove(first, last, size);
+        }
+    }
+    
+    /**
+     * A column of dictionary encoded strings: the value of a row is the code 
+     * of the string in the dictionary, -1 for null.
+     */
+    public static final class StringVector extends ColumnVector {
+        private int[] codes = new int[0];
+        private final List<String> dictionary = new ArrayList<String>();
+        private final Map<String, Integer> codesByString = new HashMap<String, Integer>();
+        
+        StringVector() {
+        }
+        
+        /**
+         * @param row the row
+         * @return the code of the row's string, -1 if null
+         */
+        public int getCode(int row) {
+            return codes[row];
+        }
+        
+        /**
+         * @return the number of distinct strings
+         */
+        public int getDictionarySize() {
+            return dictionary.size();
+        }
+        
+        /**
+         * @param code the code of a string
+         * @return the string with the code
+         */
+        public String getDictionaryString(int code) {
+            return dictionary.get(code);
+        }
+        
+        /**
+         * @param row the row
+         * @return the string of the row, may be null
+         */
+        public String getString(int row) {
+            int code = codes[row];
+            return code < 0 ? null : dictionary.get(code);
+        }
+        
+        /**
+         * Sets the string of the row, adding it to the dictionary if 
+         * needed. 
+         * 
+         * @param row the row
+         * @param value the new value, may be null
+         */
+        public void setString(int row, String value) {
+            if (value == null) {
+                setNull(row);
+                return;
+            }
+            Integer code = codesByString.get(value);
+            if (code == null) {
+                code = dictionary.size();
+                dictionary.add(value);
+                codesByString.put(value, code);
+            }
+            codes[row] = code;
+            setNotNull(row);
+        }
+        
+        @Override
+        public ColumnType getType() {
+            return ColumnType.STRING;
+        }
+        
+        @Override
+        public void ensureCapacity(int capacity) {
+            int oldCapacity = codes.length;
+            codes = Arrays.copyOf(codes, capacity);
+            Arrays.fill(codes, oldCapacity, capacity, -1);
+        }
+        
+        @Override
+        public Object get(int row) {
+            return getString(row);
+        }
+        
+        @Override
+        void setValue(int row, Object value) {
+            setString(row, value.toString());
+        }
+        
+        @Override
+        void clear(int row) {
+            codes[row] = -1;
+        }
+        
+        @Override
+        public void remove(int first, int last, int size) {
+            System.arraycopy(codes, last + 1, codes, first, size - last - 1);
+            Arrays.fill(codes, size - (last - first + 1), size, -1);
+            super.remove(first, last, size);
+        }
+    }
+}
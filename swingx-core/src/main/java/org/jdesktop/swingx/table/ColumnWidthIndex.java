@@ -0,0 +1,424 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.table;
+
+import static org.jdesktop.swingx.table.TableUtilities.isDataChanged;
+import static org.jdesktop.swingx.table.TableUtilities.isDelete;
+import static org.jdesktop.swingx.table.TableUtilities.isInsert;
+import static org.jdesktop.swingx.table.TableUtilities.isStructureChanged;
+
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.Arrays;
+import java.util.BitSet;
+
+import javax.swing.RowSorter;
+import javax.swing.event.RowSorterEvent;
+import javax.swing.event.RowSorterListener;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.TableCellRenderer;
+import javax.swing.table.TableModel;
+
+import org.jdesktop.swingx.JXTable;
+
+/**
+ * Maintains the preferred widths of the cells of one column, indexed by
+ * model row, and the maximum of all widths. Listens to changes of the 
+ * table model and marks inserted and updated rows as dirty. Dirty rows are
+ * re-measured lazily on the next call to <code>getMaxWidth</code>.
+ * <p>
+ * 
+ * The maximum is kept in a count-per-width histogram, so removing a row
+ * never requires a rescan of the remaining rows. Rows which are filtered
+ * out of the view don't contribute to the maximum.
+ * <p>
+ * 
+ * Any change which might affect all rows (data or structure changed, 
+ * model/renderer/font/highlighter changes) resets the index.
+ * 
+ * @author agent
+ * 
+ * @see IncrementalPackStrategy
+ */
+class ColumnWidthIndex {
+
+    /** marker for rows which need to be measured. */
+    private static final int DIRTY = -1;
+    /** marker for rows which are not visible in the view. */
+    private static final int HIDDEN = -2;
+    
+    private final JXTable table;
+    private final TableColumnExt columnExt;
+    
+    /** the measured widths, indexed by model row. */
+    private int[] widths;
+    /** the number of valid entries in widths. */
+    private int rowCount;
+    /** the model rows to measure. */
+    private final BitSet dirty;
+    /** number of rows with a given width, indexed by width. */
+    private int[] histogram;
+    private int maxWidth;
+    private int hiddenCount;
+    /** flag to indicate that the rows' visibility might have changed. */
+    private boolean visibilityDirty;
+    /** flag to indicate that all rows must be measured. */
+    private boolean invalid;
+    private TableCellRenderer renderer;
+    
+    private TableModel model;
+    private RowSorter<?> rowSorter;
+    private TableModelListener modelListener;
+    private RowSorterListener sorterListener;
+    private PropertyChangeListener propertyListener;
+    
+    /**
+     * Instantiates an index for the given column in the given table and
+     * installs the listeners required to keep it up to date.
+     * 
+     * @param table the table containing the column
+     * @param columnExt the column to index
+     */
+    public ColumnWidthIndex(JXTable table, TableColumnExt columnExt) {
+        this.table = table;
+        this.columnExt = columnExt;
+        this.dirty = new BitSet();
+        this.widths = new int[0];
+        this.histogram = new int[64];
+        invalidate();
+        installListeners();
+    }
+    
+    /**
+     * Returns the table this index is bound to.
+     * 
+     * @return the table
+     */
+    public JXTable getTable() {
+        return table;
+    }
+    
+    /**
+     * Returns the maximal preferred width of all visible cells. Measures
+     * all dirty rows before.
+     * 
+     * @param renderer the renderer to measure with. 
+     * @param strategy the strategy to measure with.
+     * @return the maximal preferred width of all visible cells.
+     */
+    public int getMaxWidth(TableCellRenderer renderer, AbstractPackStrategy strategy) {
+        if (this.renderer != renderer) {
+            this.renderer = renderer;
+            invalidate();
+        }
+        if (invalid) {
+            reset();
+        } else if (visibilityDirty) {
+            updateVisibility();
+        }
+        int column = table.convertColumnIndexToView(columnExt.getModelIndex());
+        for (int row = dirty.nextSetBit(0); row >= 0 && row < rowCount; 
+                row = dirty.nextSetBit(row + 1)) {
+            int viewRow = table.convertRowIndexToView(row);
+            if (viewRow < 0) {
+                clearWidth(row);
+                widths[row] = HIDDEN;
+                hiddenCount++;
+            } else {
+                setWidth(row, strategy.measureCell(table, renderer, viewRow, column));
+            }
+        }
+        dirty.clear();
+        return maxWidth;
+    }
+    
+    /**
+     * Marks all rows as dirty.
+     */
+    public void invalidate() {
+        invalid = true;
+    }
+    
+    /**
+     * Uninstalls all listeners.
+     */
+    public void release() {
+        if (model != null) {
+            model.removeTableModelListener(modelListener);
+            model = null;
+        }
+        if (rowSorter != null) {
+            rowSorter.removeRowSorterListener(sorterListener);
+            rowSorter = null;
+        }
+        table.removePropertyChangeListener(propertyListener);
+        columnExt.removePropertyChangeListener(propertyListener);
+    }
+
+//----------------- update state
+    
+    /**
+     * Clears all measured widths and marks all rows as dirty.
+     */
+    private void reset() {
+        rowCount = table.getModel().getRowCount();
+        widths = new int[Math.max(rowCount, 16)];
+        Arrays.fill(widths, 0, rowCount, DIRTY);
+        Arrays.fill(histogram, 0);
+        maxWidth = 0;
+        hiddenCount = 0;
+        dirty.clear();
+        dirty.set(0, rowCount);
+        visibilityDirty = false;
+        invalid = false;
+    }
+    
+    /**
+     * Compares the visibility of all rows against the recorded state. Rows which 
+     * became hidden are removed from the histogram, rows which became 
+     * visible are marked as dirty.<p>
+     * 
+     * Note: this only loops through the row mapping, no cell is measured. 
+     */
+    private void updateVisibility() {
+        for (int row = 0; row < rowCount; row++) {
+            boolean visible = table.convertRowIndexToView(row) >= 0;
+            if (widths[row] == HIDDEN) {
+                if (visible) {
+                    widths[row] = DIRTY;
+                    hiddenCount--;
+                    dirty.set(row);
+                }
+            } else if (!visible) {
+                clearWidth(row);
+                widths[row] = HIDDEN;
+                hiddenCount++;
+                dirty.clear(row);
+            }
+        }
+        visibilityDirty = false;
+    }
+    
+    /**
+     * Sets the width of the given row and adds it to the histogram.
+     */
+    private void setWidth(int row, int width) {
+        clearWidth(row);
+        widths[row] = width;
+        if (width >= histogram.length) {
+            histogram = Arrays.copyOf(histogram, Math.max(width + 1, histogram.length * 2));
+        }
+        histogram[width]++;
+        maxWidth = Math.max(maxWidth, width);
+    }
+
+    /**
+     * Removes the width of the given row from the histogram and marks
+     * the row as dirty. 
+     */
+    private void clearWidth(int row) {
+        int width = widths[row];
+        if (width == HIDDEN) {
+            hiddenCount--;
+        } else if (width >= 0) {
+            histogram[width]--;
+            if (width == maxWidth) {
+                while (maxWidth > 0 && histogram[maxWidth] == 0) {
+                    maxWidth--;
+                }
+            }
+        }
+        widths[row] = DIRTY;
+    }
+    
+    /**
+     * Updates the index after rows have been inserted into the model. 
+     */
+    private void rowsInserted(int first, int last) {
+        int count = last - first + 1;
+        if (first > rowCount) {
+            invalidate();
+            return;
+        }
+        if (rowCount + count > widths.length) {
+            widths = Arrays.copyOf(widths, Math.max(rowCount + count, widths.length * 3 / 2));
+        }
+        System.arraycopy(widths, first, widths, last + 1, rowCount - first);
+        Arrays.fill(widths, first, last + 1, DIRTY);
+        rowCount += count;
+        shift(dirty, first, count);
+        dirty.set(first, last + 1);
+    }
+    
+    /**
+     * Updates the index after rows have been removed from the model. 
+     */
+    private void rowsDeleted(int first, int last) {
+        if (last >= rowCount) {
+            invalidate();
+            return;
+        }
+        int count = last - first + 1;
+        for (int row = first; row <= last; row++) {
+            clearWidth(row);
+        }
+        System.arraycopy(widths, last + 1, widths, first, rowCount - last - 1);
+        rowCount -= count;
+        shift(dirty, first, -count);
+    }
+
+    /**
+     * Updates the index after rows have been updated in the model. 
+     */
+    private void rowsUpdated(int first, int last) {
+        if (last >= rowCount) {
+            invalidate();
+            return;
+        }
+        for (int row = first; row <= last; row++) {
+            clearWidth(row);
+        }
+        dirty.set(first, last + 1);
+    }
+    
+    /**
+     * Shifts all bits at or above index by delta. A negative delta removes
+     * the bits in the range index ... index - delta - 1.
+     */
+    private static void shift(BitSet bits, int index, int delta) {
+        int tailStart = delta < 0 ? index - delta : index;
+        if (tailStart >= bits.length()) {
+            bits.clear(index, Math.max(index, bits.length()));
+            return;
+        }
+        BitSet tail = bits.get(tailStart, bits.length());
+        bits.clear(index, bits.length());
+        int offset = index + Math.max(delta, 0);
+        for (int i = tail.nextSetBit(0); i >= 0; i = tail.nextSetBit(i + 1)) {
+            bits.set(offset + i);
+        }
+    }
+    
+//------------------ listeners    
+    
+    /**
+     * Updates the index on notification from the model.
+     * 
+     * @param e the event received from the model
+     */
+    protected void tableChanged(TableModelEvent e) {
+        if (invalid) return;
+        if (isStructureChanged(e) || isDataChanged(e)) {
+            invalidate();
+            return;
+        }
+        if (e.getColumn() != TableModelEvent.ALL_COLUMNS 
+                && e.getColumn() != columnExt.getModelIndex()) return;
+        if (isInsert(e)) {
+            rowsInserted(e.getFirstRow(), e.getLastRow());
+        } else if (isDelete(e)) {
+            rowsDeleted(e.getFirstRow(), e.getLastRow());
+        } else {
+            rowsUpdated(e.getFirstRow(), e.getLastRow());
+        }
+        if (!invalid && rowCount != model.getRowCount()) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Updates the index on notification from the table or the column.
+     * 
+     * @param evt the event received from the table or column
+     */
+    protected void propertyChange(PropertyChangeEvent evt) {
+        String property = evt.getPropertyName();
+        if ("model".equals(property)) {
+            updateModelListener();
+            invalidate();
+        } else if ("rowSorter".equals(property)) {
+            updateSorterListener();
+            invalidate();
+        } else if ("font".equals(property) || "highlighters".equals(property)
+                || "cellRenderer".equals(property)) {
+            invalidate();
+        }
+    }
+    
+    /**
+     * Updates the visibility state on notification from the sorter.
+     * 
+     * @param e the event received from the sorter
+     */
+    protected void sorterChanged(RowSorterEvent e) {
+        if (e.getType() != RowSorterEvent.Type.SORTED) return;
+        if (hiddenCount > 0 || table.getRowFilter() != null) {
+            visibilityDirty = true;
+        }
+    }
+    
+    private void installListeners() {
+        modelListener = new TableModelListener() {
+            
+            @Override
+            public void tableChanged(TableModelEvent e) {
+                ColumnWidthIndex.this.tableChanged(e);
+            }
+        };
+        sorterListener = new RowSorterListener() {
+            
+            @Override
+            public void sorterChanged(RowSorterEvent e) {
+                ColumnWidthIndex.this.sorterChanged(e);
+            }
+        };
+        propertyListener = new PropertyChangeListener() {
+            
+            @Override
+            public void propertyChange(PropertyChangeEvent evt) {
+                ColumnWidthIndex.this.propertyChange(evt);
+            }
+        };
+        table.addPropertyChangeListener(propertyListener);
+        columnExt.addPropertyChangeListener(propertyListener);
+        updateModelListener();
+        updateSorterListener();
+    }
+    
+    private void updateModelListener() {
+        if (model != null) {
+            model.removeTableModelListener(modelListener);
+        }
+        model = table.getModel();
+        model.addTableModelListener(modelListener);
+    }
+
+    private void updateSorterListener() {
+        if (rowSorter != null) {
+            rowSorter.removeRowSorterListener(sorterListener);
+        }
+        rowSorter = table.getRowSorter();
+        if (rowSorter != null) {
+            rowSorter.addRowSorterListener(sorterListener);
+        }
+    }
+}
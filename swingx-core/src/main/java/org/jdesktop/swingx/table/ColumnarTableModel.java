@@ -0,0 +1,408 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.table;
+
+import javax.swing.table.AbstractTableModel;
+
+import org.jdesktop.swingx.table.ColumnVector.BooleanVector;
+import org.jdesktop.swingx.table.ColumnVector.DoubleVector;
+import org.jdesktop.swingx.table.ColumnVector.IntVector;
+import org.jdesktop.swingx.table.ColumnVector.LongVector;
+import org.jdesktop.swingx.table.ColumnVector.StringVector;
+import org.jdesktop.swingx.util.Contract;
+
+/**
+ * A <code>PrimitiveTableModel</code> which stores each column in a primitive
+ * array: ints, longs, doubles, booleans in a bitset, and strings as int codes
+ * into a per-column dictionary. Null values are marked in a bitset per 
+ * column. For multi-million cell tables this costs a fraction of the heap of
+ * a DefaultTableModel, whose cells are boxed objects in nested Vectors, and 
+ * the typed accessors don't create any garbage. <p>
+ * 
+ * <pre><code>
+ * ColumnarTableModel model = new ColumnarTableModel(
+ *     new String[] {"Symbol", "Quantity", "Price"}, 
+ *     new Class&lt;?&gt;[] {String.class, Long.class, Double.class});
+ * int row = model.addRows(1);
+ * model.setString(row, 0, "EUR");
+ * model.setLong(row, 1, 100);
+ * JXTable table = new JXTable(model);
+ * </code></pre>
+ * 
+ * The supported column classes are Integer, Long, Double, Boolean and String. 
+ * Cells are not editable by default, setValueAt converts the value to the
+ * column's type.
+ * 
+ * @author agent
+ */
+public class ColumnarTableModel extends AbstractTableModel implements PrimitiveTableModel {
+
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private final String[] columnNames;
+    private final Class<?>[] columnClasses;
+    private final ColumnVector[] columns;
+    private int rowCount;
+    private int capacity;
+    
+    /**
+     * Creates an empty model with the given columns.
+     * 
+     * @param columnNames the names of the columns
+     * @param columnClasses the classes of the columns
+     * @throws IllegalArgumentException if the arrays differ in length or 
+     *   a column class is not supported
+     * @throws NullPointerException if any of the arrays is null
+     */
+    public ColumnarTableModel(String[] columnNames, Class<?>[] columnClasses) {
+        Contract.asNotNull(columnNames, "columnNames must not be null");
+        Contract.asNotNull(columnClasses, "columnClasses must not be null");
+        if (columnNames.length != columnClasses.length) {
+            throw new IllegalArgumentException("column names and classes must have the same length");
+        }
+        this.columnNames = columnNames.clone();
+        this.columnClasses = columnClasses.clone();
+        columns = new ColumnVector[columnClasses.length];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = ColumnVector.create(columnClasses[i]);
+        }
+        ensureCapacity(INITIAL_CAPACITY);
+    }
+    
+    /**
+     * Makes sure the model can hold the given number of rows without
+     * growing its arrays. Useful before adding a large number of rows.
+     * 
+     * @param capacity the number of rows
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity <= this.capacity) return;
+        for (ColumnVector column : columns) {
+            column.ensureCapacity(capacity);
+        }
+        this.capacity = capacity;
+    }
+    
+    /**
+     * Appends the given number of rows, notifying listeners once. All cells 
+     * of the new rows are null.
+     * 
+     * @param count the number of rows to add
+     * @return the index of the first new row
+     * @throws IllegalArgumentException if count is negative
+     */
+    public int addRows(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative: " + count);
+        }
+        int first = rowCount;
+        if (count == 0) return first;
+        if (rowCount + count > capacity) {
+            ensureCapacity(Math.max(rowCount + count, capacity * 2));
+        }
+        for (ColumnVector column : columns) {
+            column.setNulls(first, first + count);
+        }
+        rowCount += count;
+        fireTableRowsInserted(first, rowCount - 1);
+        return first;
+    }
+    
+    /**
+     * Removes the given range of rows.
+     * 
+     * @param firstRow the first row to remove
+     * @param lastRow the last row to remove, inclusive
+     * @throws IndexOutOfBoundsException if the range is not valid
+     */
+    public void removeRows(int firstRow, int lastRow) {
+        if (firstRow < 0 || lastRow >= rowCount || firstRow > lastRow) {
+            throw new IndexOutOfBoundsException("invalid rows " + firstRow + " - " + lastRow 
+                    + ", row count " + rowCount);
+        }
+        for (ColumnVector column : columns) {
+            column.remove(firstRow, lastRow, rowCount);
+        }
+        rowCount -= lastRow - firstRow + 1;
+        fireTableRowsDeleted(firstRow, lastRow);
+    }
+    
+//------------------------ typed setters
+    
+    /**
+     * Sets the value of the cell and notifies listeners.
+     * 
+     * @param row the row index
+     * @param column the index of a column of type INT
+     * @param value the new value
+     * @throws IllegalArgumentException if the column is not of type INT
+     */
+    public void setInt(int row, int column, int value) {
+        checkRow(row);
+        intColumn(column).setInt(row, value);
+        fireTableCellUpdated(row, column);
+    }
+    
+    /**
+     * Sets the value of the cell and notifies listeners.
+     * 
+     * @param row the row index
+     * @param column the index of a column of type LONG
+     * @param value the new value
+     * @throws IllegalArgumentException if the column is not of type LONG
+     */
+    public void setLong(int row, int column, long value) {
+        checkRow(row);
+        longColumn(column).setLong(row, value);
+        fireTableCellUpdated(row, column);
+    }
+    
+    /**
+     * Sets the value of the cell and notifies listeners.
+     * 
+     * @param row the row index
+     * @param column the index of a column of type DOUBLE
+     * @param value the new value
+     * @throws IllegalArgumentException if the column is not of type DOUBLE
+     */
+    public void setDouble(int row, int column, double value) {
+        checkRow(row);
+        doubleColumn(column).setDouble(row, value);
+        fireTableCellUpdated(row, column);
+    }
+    
+    /**
+     * Sets the value of the cell and notifies listeners.
+     * 
+     * @param row the row index
+     * @param column the index of a column of type BOOLEAN
+     * @param value the new value
+     * @throws IllegalArgumentException if the column is not of type BOOLEAN
+     */
+    public void setBoolean(int row, int column, boolean value) {
+        checkRow(row);
+        booleanColumn(column).setBoolean(row, value);
+        fireTableCellUpdated(row, column);
+    }
+    
+    /**
+     * Sets the value of the cell and notifies listeners.
+     * 
+     * @param row the row index
+     * @param column the index of a column of type STRING
+     * @param value the new value, may be null
+     * @throws IllegalArgumentException if the column is not of type STRING
+     */
+    public void setString(int row, int column, String value) {
+        checkRow(row);
+        stringColumn(column).setString(row, value);
+        fireTableCellUpdated(row, column);
+    }
+    
+//------------------------ PrimitiveTableModel
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ColumnType getColumnType(int column) {
+        return columns[column].getType();
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isNull(int row, int column) {
+        checkRow(row);
+        return columns[column].isNull(row);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getInt(int row, int column) {
+        checkRow(row);
+        return intColumn(column).getInt(row);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getLong(int row, int column) {
+        checkRow(row);
+        ColumnVector vector = columns[column];
+        if (vector instanceof IntVector) return ((IntVector) vector).getInt(row);
+        return longColumn(column).getLong(row);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getDouble(int row, int column) {
+        checkRow(row);
+        ColumnVector vector = columns[column];
+        if (vector instanceof IntVector) return ((IntVector) vector).getInt(row);
+        if (vector instanceof LongVector) return ((LongVector) vector).getLong(row);
+        return doubleColumn(column).getDouble(row);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean getBoolean(int row, int column) {
+        checkRow(row);
+        return booleanColumn(column).getBoolean(row);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getStringCode(int row, int column) {
+        checkRow(row);
+        return stringColumn(column).getCode(row);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getDictionarySize(int column) {
+        return stringColumn(column).getDictionarySize();
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getDictionaryString(int column, int code) {
+        return stringColumn(column).getDictionaryString(code);
+    }
+    
+//------------------------ TableModel
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getColumnCount() {
+        return columns.length;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return columnClasses[column];
+    }
+    
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Implemented to box the primitive value. 
+     */
+    @Override
+    public Object getValueAt(int row, int column) {
+        if (isNull(row, column)) return null;
+        return columns[column].get(row);
+    }
+    
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Implemented to store the value converted to the column's type: 
+     * Numbers to the primitive, any other object to its string 
+     * representation in a STRING column.
+     * 
+     * @throws ClassCastException if the value can't be converted
+     */
+    @Override
+    public void setValueAt(Object value, int row, int column) {
+        checkRow(row);
+        columns[column].set(row, value);
+        fireTableCellUpdated(row, column);
+    }
+    
+//------------------------ implementation
+    
+    private void checkRow(int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("row " + row + ", row count " + rowCount);
+        }
+    }
+    
+    private IntVector intColumn(int column) {
+        if (!(columns[column] instanceof IntVector)) {
+            throw new IllegalArgumentException("not an INT column: " + column);
+        }
+        return (IntVector) columns[column];
+    }
+    
+    private LongVector longColumn(int column) {
+        if (!(columns[column] instanceof LongVector)) {
+            throw new IllegalArgumentException("not a LONG column: " + column);
+        }
+        return (LongVector) columns[column];
+    }
+    
+    private DoubleVector doubleColumn(int column) {
+        if (!(columns[column] instanceof DoubleVector)) {
+            throw new IllegalArgumentException("not a DOUBLE column: " + column);
+        }
+        return (DoubleVector) columns[column];
+    }
+    
+    private BooleanVector booleanColumn(int column) {
+        if (!(columns[column] instanceof BooleanVector)) {
+            throw new IllegalArgumentException("not a BOOLEAN column: " + column);
+        }
+        return (BooleanVector) columns[column];
+    }
+    
+    private StringVector stringColumn(int column) {
+        if (!(columns[column] instanceof StringVector)) {
+            throw new IllegalArgumentException("not a STRING column: " + column);
+        }
+        return (StringVector) columns[column];
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.table;
+
+import javax.swing.table.TableCellRenderer;
+
+import org.jdesktop.swingx.JXTable;
+
+/**
+ * A <code>PackStrategy</code> which keeps an index of the cell widths per 
+ * column, so that repeated packing only measures the rows which have been
+ * inserted or updated since the last pack. Deleting rows doesn't require any
+ * measuring at all.
+ * <p>
+ * 
+ * The index is created on the first pack of a column and stored as client 
+ * property of the <code>TableColumnExt</code>. It listens to the table's model,
+ * sorter and relevant properties of table and column to keep itself up to date.
+ * Client code should release the index if a column is no longer used.
+ * <p>
+ * 
+ * Note: the index covers all rows of the model which are visible in the view, 
+ * it doesn't respect the row count restriction of 
+ * {@link ColumnFactory#getRowCount(JXTable)}. It is not updated on changes 
+ * which don't fire any notification, like f.i. state changes of highlighters.
+ * Those require an explicit invalidate.
+ * 
+ * <pre><code>
+ * table.getColumnFactory().setPackStrategy(new IncrementalPackStrategy());
+ * // repeatedly
+ * table.packAll();
+ * </code></pre>
+ * 
+ * @author agent
+ */
+public class IncrementalPackStrategy extends AbstractPackStrategy {
+
+    /** the key of the column's client property which stores the index. */
+    private static final String INDEX_KEY = "IncrementalPackStrategy.index";
+    
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Implemented to look up the width from the column's index, creating
+     * it if necessary.
+     */
+    @Override
+    public void packColumn(JXTable table, TableColumnExt columnExt,
+            TableCellRenderer renderer, int rowCount, int headerWidth,
+            int margin, int max) {
+        ColumnWidthIndex index = getIndex(table, columnExt);
+        setPreferredWidth(columnExt, index.getMaxWidth(renderer, this), 
+                headerWidth, margin, max);
+    }
+    
+    /**
+     * Marks all cells of the given column as dirty, so they will be 
+     * re-measured on the next pack. Does nothing if the column isn't indexed.
+     * 
+     * @param columnExt the column to invalidate
+     */
+    public void invalidate(TableColumnExt columnExt) {
+        ColumnWidthIndex index = (ColumnWidthIndex) columnExt.getClientProperty(INDEX_KEY);
+        if (index != null) {
+            index.invalidate();
+        }
+    }
+    
+    /**
+     * Removes the index of the given column and releases all listeners. 
+     * Does nothing if the column isn't indexed.
+     * 
+     * @param columnExt the column to release
+     */
+    public void release(TableColumnExt columnExt) {
+        ColumnWidthIndex index = (ColumnWidthIndex) columnExt.getClientProperty(INDEX_KEY);
+        if (index != null) {
+            index.release();
+            columnExt.putClientProperty(INDEX_KEY, null);
+        }
+    }
+
+    /**
+     * Returns the index of the given column, lazily creates one if the column
+     * isn't yet indexed or the index is bound to a different table.
+     * 
+     * @param table the table containing the column
+     * @param columnExt the column
+     * @return the index of the column
+     */
+    private ColumnWidthIndex getIndex(JXTable table, TableColumnExt columnExt) {
+        ColumnWidthIndex index = (ColumnWidthIndex) columnExt.getClientProperty(INDEX_KEY);
+        if (index != null && index.getTable() != table) {
+            release(columnExt);
+            index = null;
+        }
+        if (index == null) {
+            index = new ColumnWidthIndex(table, columnExt);
+            columnExt.putClientProperty(INDEX_KEY, index);
+        }
+        return index;
+    }
+}
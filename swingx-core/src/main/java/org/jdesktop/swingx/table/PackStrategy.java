@@ -0,0 +1,66 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.table;
+
+import javax.swing.table.TableCellRenderer;
+
+import org.jdesktop.swingx.JXTable;
+
+/**
+ * Measures the cell content of a column and configures the column's 
+ * <code>preferredWidth</code> to fit it. <code>ColumnFactory</code> delegates
+ * the row-related part of packing a column to its <code>PackStrategy</code>, if any.
+ * <p>
+ * 
+ * Implementations are free to decide which rows to measure and how. They may 
+ * measure synchronously or off the EDT, but must always set the column's 
+ * width on the EDT.
+ * 
+ * @see ColumnFactory#setPackStrategy(PackStrategy)
+ * @see SamplingPackStrategy
+ * @see StringWidthPackStrategy
+ * 
+ * @author agent
+ */
+public interface PackStrategy {
+
+    /**
+     * Measures the cells of the given column and sets its preferred width. The 
+     * resulting width must respect the header width, margin and max as documented 
+     * in {@link ColumnFactory#packColumn(JXTable, TableColumnExt, int, int)}.
+     * <p>
+     * 
+     * This is called by the ColumnFactory on the EDT, the column is guaranteed
+     * to be visible.
+     * 
+     * @param table the context the column lives in.
+     * @param columnExt the column to pack.
+     * @param renderer the cell renderer to use for measuring.
+     * @param rowCount the number of view rows accessible for measuring.
+     * @param headerWidth the preferred width of the header, a lower bound for
+     *    the column width.
+     * @param margin the extra spacing to add twice, guaranteed to be not negative.
+     * @param max an upper limit to preferredWidth, -1 is interpreted as no limit.
+     */
+    void packColumn(JXTable table, TableColumnExt columnExt,
+            TableCellRenderer renderer, int rowCount, int headerWidth,
+            int margin, int max);
+}
@@ -0,0 +1,141 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.table;
+
+import javax.swing.table.TableModel;
+
+/**
+ * A TableModel which stores its columns as primitives and gives typed access 
+ * to them, without boxing. Collaborators which process many cells detect
+ * this interface and use the typed accessors instead of 
+ * <code>getValueAt</code>: the <code>ParallelTableSortController</code> 
+ * extracts its sort keys, the <code>RangeHighlightPredicate</code> tests 
+ * its numbers and the <code>StringWidthPackStrategy</code> measures the 
+ * distinct strings only. <p>
+ * 
+ * The columns of type STRING are dictionary encoded: each value is 
+ * represented by the code of its string in the column's dictionary. Equal
+ * strings have equal codes, so the number of distinct strings of a column
+ * is the size of its dictionary at most. <p>
+ * 
+ * All coordinates are in model coordinates. 
+ * 
+ * @author agent
+ * 
+ * @see ColumnarTableModel
+ * @see org.jdesktop.swingx.sort.ParallelTableSortController
+ * @see org.jdesktop.swingx.decorator.HighlightPredicate.RangeHighlightPredicate
+ * @see StringWidthPackStrategy
+ */
+public interface PrimitiveTableModel extends TableModel {
+
+    /**
+     * The storage of a column.
+     */
+    public enum ColumnType {
+        /** int values, the column class is Integer. */
+        INT,
+        /** long values, the column class is Long. */
+        LONG,
+        /** double values, the column class is Double. */
+        DOUBLE,
+        /** boolean values, the column class is Boolean. */
+        BOOLEAN,
+        /** dictionary encoded strings, the column class is String. */
+        STRING
+    }
+    
+    /**
+     * Returns the storage of the given column.
+     * 
+     * @param column the column index
+     * @return the type of the column
+     */
+    ColumnType getColumnType(int column);
+    
+    /**
+     * Returns a flag indicating whether the value of the given cell is null. 
+     * The typed accessors return 0, false or -1 for null values.
+     * 
+     * @param row the row index
+     * @param column the column index
+     * @return true if the value is null
+     */
+    boolean isNull(int row, int column);
+    
+    /**
+     * @param row the row index
+     * @param column the index of a column of type INT
+     * @return the value of the cell
+     * @throws IllegalArgumentException if the column is not of type INT
+     */
+    int getInt(int row, int column);
+    
+    /**
+     * @param row the row index
+     * @param column the index of a column of type INT or LONG
+     * @return the value of the cell
+     * @throws IllegalArgumentException if the column is not of type INT or LONG
+     */
+    long getLong(int row, int column);
+    
+    /**
+     * @param row the row index
+     * @param column the index of a column of type INT, LONG or DOUBLE
+     * @return the value of the cell
+     * @throws IllegalArgumentException if the column is not numeric
+     */
+    double getDouble(int row, int column);
+    
+    /**
+     * @param row the row index
+     * @param column the index of a column of type BOOLEAN
+     * @return the value of the cell
+     * @throws IllegalArgumentException if the column is not of type BOOLEAN
+     */
+    boolean getBoolean(int row, int column);
+    
+    /**
+     * Returns the code of the string of the given cell in the column's 
+     * dictionary.
+     * 
+     * @param row the row index
+     * @param column the index of a column of type STRING
+     * @return the code of the string, -1 for null
+     * @throws IllegalArgumentException if the column is not of type STRING
+     */
+    int getStringCode(int row, int column);
+    
+    /**
+     * @param column the index of a column of type STRING
+     * @return the number of strings in the column's dictionary
+     * @throws IllegalArgumentException if the column is not of type STRING
+     */
+    int getDictionarySize(int column);
+    
+    /**
+     * @param column the index of a column of type STRING
+     * @param code the code of a string, 0 &lt;= code &lt; dictionary size 
+     * @return the string of the code
+     * @throws IllegalArgumentException if the column is not of type STRING
+     */
+    String getDictionaryString(int column, int code);
+}
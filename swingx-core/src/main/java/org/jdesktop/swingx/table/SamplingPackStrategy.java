@@ -0,0 +1,172 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.table;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.util.BitSet;
+import java.util.Random;
+
+import javax.swing.table.TableCellRenderer;
+
+import org.jdesktop.swingx.JXTable;
+
+/**
+ * A <code>PackStrategy</code> which measures a statistical sample of rows 
+ * instead of all rows. Measured are
+ * 
+ * <ul>
+ * <li> the first and last <code>edgeRowCount</code> rows
+ * <li> the rows currently visible in the table's viewport
+ * <li> <code>sampleSize</code> randomly chosen rows
+ * </ul>
+ * 
+ * If the table contains no more rows than the sum of edge rows and sample 
+ * size, all rows are measured. 
+ * <p>
+ * 
+ * The result is an approximation: an exceptionally wide cell outside of 
+ * the sample will not be taken into account. On the other hand, the cost 
+ * of packing is bounded independent of the number of rows.
+ * 
+ * <pre><code>
+ * table.getColumnFactory().setPackStrategy(new SamplingPackStrategy());
+ * table.packAll();
+ * </code></pre>
+ * 
+ * @author agent
+ */
+public class SamplingPackStrategy extends AbstractPackStrategy {
+
+    /** the default number of rows measured at the start and end. */
+    public static final int DEFAULT_EDGE_ROW_COUNT = 20;
+    /** the default number of randomly chosen rows. */
+    public static final int DEFAULT_SAMPLE_SIZE = 200;
+    
+    private int edgeRowCount;
+    private int sampleSize;
+    private Random random;
+    
+    /**
+     * Instantiates a SamplingPackStrategy with default edge row count
+     * and sample size.
+     */
+    public SamplingPackStrategy() {
+        this(DEFAULT_EDGE_ROW_COUNT, DEFAULT_SAMPLE_SIZE);
+    }
+    
+    /**
+     * Instantiates a SamplingPackStrategy with the given edge row count
+     * and sample size.
+     * 
+     * @param edgeRowCount the number of rows to measure at the start and the
+     *   end of the table
+     * @param sampleSize the number of randomly chosen rows to measure
+     * @throws IllegalArgumentException if any of the parameters is negative
+     */
+    public SamplingPackStrategy(int edgeRowCount, int sampleSize) {
+        if (edgeRowCount < 0 || sampleSize < 0) 
+            throw new IllegalArgumentException("row counts must not be negative but were " 
+                    + edgeRowCount + "/" + sampleSize);
+        this.edgeRowCount = edgeRowCount;
+        this.sampleSize = sampleSize;
+        this.random = new Random();
+    }
+    
+    /**
+     * Returns the number of rows measured at the start and end of the table.
+     * 
+     * @return the number of edge rows.
+     */
+    public int getEdgeRowCount() {
+        return edgeRowCount;
+    }
+    
+    /**
+     * Returns the number of randomly chosen rows to measure.
+     * 
+     * @return the sample size.
+     */
+    public int getSampleSize() {
+        return sampleSize;
+    }
+    
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Implemented to measure the rows returned by getSampleRows.
+     */
+    @Override
+    public void packColumn(JXTable table, TableColumnExt columnExt,
+            TableCellRenderer renderer, int rowCount, int headerWidth,
+            int margin, int max) {
+        int column = table.convertColumnIndexToView(columnExt.getModelIndex());
+        BitSet rows = getSampleRows(table, rowCount);
+        int width = 0;
+        for (int r = rows.nextSetBit(0); r >= 0; r = rows.nextSetBit(r + 1)) {
+            width = Math.max(width, measureCell(table, renderer, r, column));
+        }
+        setPreferredWidth(columnExt, width, headerWidth, margin, max);
+    }
+
+    /**
+     * Returns the view indices of the rows to measure.
+     * 
+     * @param table the table to sample
+     * @param rowCount the number of accessible rows
+     * @return the set of row indices to measure, guaranteed to be in the 
+     *   range 0 <= row < rowCount
+     */
+    protected BitSet getSampleRows(JXTable table, int rowCount) {
+        BitSet rows = new BitSet(rowCount);
+        if (rowCount <= 2 * edgeRowCount + sampleSize) {
+            rows.set(0, rowCount);
+            return rows;
+        }
+        rows.set(0, edgeRowCount);
+        rows.set(rowCount - edgeRowCount, rowCount);
+        addVisibleRows(table, rowCount, rows);
+        for (int i = 0; i < sampleSize; i++) {
+            rows.set(random.nextInt(rowCount));
+        }
+        return rows;
+    }
+
+    /**
+     * Adds the rows currently visible in the table's viewport.
+     * 
+     * @param table the table to sample
+     * @param rowCount the number of accessible rows
+     * @param rows the set of rows to add to
+     */
+    private void addVisibleRows(JXTable table, int rowCount, BitSet rows) {
+        Rectangle visible = table.getVisibleRect();
+        if (visible.isEmpty()) return;
+        int first = table.rowAtPoint(visible.getLocation());
+        if (first < 0 || first >= rowCount) return;
+        int last = table.rowAtPoint(new Point(visible.x, visible.y + visible.height - 1));
+        if (last < 0 || last >= rowCount) {
+            last = rowCount - 1;
+        }
+        rows.set(first, last + 1);
+    }
+
+}
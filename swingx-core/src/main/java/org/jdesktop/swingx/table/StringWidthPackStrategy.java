@@ -0,0 +1,302 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.table;
+
+import java.awt.Component;
+import java.awt.FontMetrics;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.swing.SwingUtilities;
+import javax.swing.table.TableCellRenderer;
+
+import org.jdesktop.swingx.JXTable;
+import org.jdesktop.swingx.renderer.StringValue;
+import org.jdesktop.swingx.renderer.StringValues;
+import org.jdesktop.swingx.table.PrimitiveTableModel.ColumnType;
+
+/**
+ * A <code>PackStrategy</code> which measures the exact string width of all
+ * cells off the EDT. 
+ * <p>
+ * 
+ * On the EDT, this takes a snapshot of the string representation of the
+ * column's values, using the renderer's <code>StringValue</code>, and measures 
+ * the rendering component of the first row once, to find the font metrics and 
+ * the extra space required by the component (insets, icon). The strings are 
+ * then measured in parallel chunks on the executor, using the cached 
+ * <code>FontMetrics</code>. For a dictionary encoded column of a 
+ * <code>PrimitiveTableModel</code>, only the distinct strings are measured. 
+ * The resulting width is set on the EDT after all chunks are done. A new 
+ * pack request for the same column supersedes a pending one.
+ * <p>
+ * 
+ * Note: this assumes that all cells of a column are rendered with the same
+ * font and insets, that is effects of highlighters which change the size
+ * per-cell are not taken into account. The <code>StringValue</code> is 
+ * called on the EDT only, as the default formats of dates and numbers are not
+ * thread-safe.
+ * 
+ * @author agent
+ */
+public class StringWidthPackStrategy extends AbstractPackStrategy {
+
+    private static final Logger LOG = Logger
+            .getLogger(StringWidthPackStrategy.class.getName());
+
+    /** the minimal number of rows measured per chunk. */
+    private static final int MIN_CHUNK_SIZE = 4096;
+
+    private static ExecutorService sharedExecutor;
+    
+    private final Executor executor;
+    /** pending requests per column, accessed on the EDT only. */
+    private final Map<TableColumnExt, PackRequest> pending;
+    
+    /**
+     * Instantiates a StringWidthPackStrategy which uses a shared 
+     * executor with one thread per available processor.
+     */
+    public StringWidthPackStrategy() {
+        this(null);
+    }
+    
+    /**
+     * Instantiates a StringWidthPackStrategy which measures on the given
+     * executor.
+     * 
+     * @param executor the executor to use for measuring, if null a 
+     *   shared default is used.
+     */
+    public StringWidthPackStrategy(Executor executor) {
+        this.executor = executor != null ? executor : getSharedExecutor();
+        this.pending = new WeakHashMap<TableColumnExt, PackRequest>();
+    }
+    
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Implemented to snapshot the string values and measure them in the background. 
+     * The column's width is updated asynchronously on the EDT.
+     */
+    @Override
+    public void packColumn(JXTable table, TableColumnExt columnExt,
+            TableCellRenderer renderer, int rowCount, int headerWidth,
+            int margin, int max) {
+        PackRequest old = pending.remove(columnExt);
+        if (old != null) {
+            old.cancelled = true;
+        }
+        if (rowCount <= 0) {
+            setPreferredWidth(columnExt, 0, headerWidth, margin, max);
+            return;
+        }
+        int column = table.convertColumnIndexToView(columnExt.getModelIndex());
+        StringValue sv = getStringValue(renderer);
+        String[] strings = getStrings(table, column, rowCount, sv);
+        Component comp = table.prepareRenderer(renderer, 0, column);
+        FontMetrics metrics = comp.getFontMetrics(comp.getFont());
+        int extraWidth = Math.max(0, comp.getPreferredSize().width 
+                - metrics.stringWidth(sv.getString(table.getValueAt(0, column))));
+        PackRequest request = new PackRequest(columnExt, strings, metrics, 
+                extraWidth, headerWidth, margin, max);
+        pending.put(columnExt, request);
+        request.start();
+    }
+
+    /**
+     * Returns the strings to measure: the string representation of the values 
+     * of all rows or, for a dictionary encoded column of a 
+     * <code>PrimitiveTableModel</code>, of the distinct values of all rows.
+     * 
+     * @param table the table to pack
+     * @param column the column index in view coordinates
+     * @param rowCount the number of rows to measure
+     * @param sv the converter of the values
+     * @return the strings to measure
+     */
+    private String[] getStrings(JXTable table, int column, int rowCount, StringValue sv) {
+        if (table.getModel() instanceof PrimitiveTableModel) {
+            PrimitiveTableModel model = (PrimitiveTableModel) table.getModel();
+            int modelColumn = table.convertColumnIndexToModel(column);
+            if (model.getColumnType(modelColumn) == ColumnType.STRING) {
+                BitSet codes = new BitSet(model.getDictionarySize(modelColumn));
+                boolean hasNull = false;
+                for (int row = 0; row < rowCount; row++) {
+                    int code = model.getStringCode(table.convertRowIndexToModel(row), modelColumn);
+                    if (code < 0) {
+                        hasNull = true;
+                    } else {
+                        codes.set(code);
+                    }
+                }
+                List<String> strings = new ArrayList<String>(codes.cardinality() + 1);
+                for (int code = codes.nextSetBit(0); code >= 0; code = codes.nextSetBit(code + 1)) {
+                    strings.add(sv.getString(model.getDictionaryString(modelColumn, code)));
+                }
+                if (hasNull) {
+                    strings.add(sv.getString(null));
+                }
+                return strings.toArray(new String[strings.size()]);
+            }
+        }
+        String[] strings = new String[rowCount];
+        for (int row = 0; row < rowCount; row++) {
+            strings[row] = sv.getString(table.getValueAt(row, column));
+        }
+        return strings;
+    }
+    
+    /**
+     * Returns the StringValue to use for converting cell values.
+     * 
+     * @param renderer the renderer used for the column
+     * @return the renderer if it is of type StringValue, the default
+     *   toString converter otherwise. 
+     */
+    protected StringValue getStringValue(TableCellRenderer renderer) {
+        return renderer instanceof StringValue ? (StringValue) renderer : StringValues.TO_STRING;
+    }
+
+    /**
+     * Sets the measured width, if the request is still pending. 
+     * Called on the EDT.
+     * 
+     * @param request the request which is done
+     */
+    private void done(PackRequest request) {
+        if (request.cancelled || pending.get(request.columnExt) != request) return;
+        pending.remove(request.columnExt);
+        setPreferredWidth(request.columnExt, request.maxWidth.get() + request.extraWidth, 
+                request.headerWidth, request.margin, request.max);
+    }
+    
+    /**
+     * Returns the lazily created shared executor.
+     * 
+     * @return the shared executor
+     */
+    private static synchronized ExecutorService getSharedExecutor() {
+        if (sharedExecutor == null) {
+            sharedExecutor = Executors.newFixedThreadPool(
+                    Runtime.getRuntime().availableProcessors(), new ThreadFactory() {
+                        private final AtomicInteger count = new AtomicInteger();
+                        
+                        @Override
+                        public Thread newThread(Runnable r) {
+                            Thread thread = new Thread(r, "StringWidthPackStrategy-" 
+                                    + count.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+        }
+        return sharedExecutor;
+    }
+    
+    /**
+     * State of one pack request.
+     */
+    private class PackRequest {
+        final TableColumnExt columnExt;
+        final String[] strings;
+        final FontMetrics metrics;
+        final int extraWidth;
+        final int headerWidth;
+        final int margin;
+        final int max;
+        final AtomicInteger maxWidth = new AtomicInteger();
+        AtomicInteger remaining;
+        volatile boolean cancelled;
+        
+        PackRequest(TableColumnExt columnExt, String[] strings,
+                FontMetrics metrics, int extraWidth,
+                int headerWidth, int margin, int max) {
+            this.columnExt = columnExt;
+            this.strings = strings;
+            this.metrics = metrics;
+            this.extraWidth = extraWidth;
+            this.headerWidth = headerWidth;
+            this.margin = margin;
+            this.max = max;
+        }
+        
+        /**
+         * Splits the strings into chunks and submits them to the executor.
+         */
+        void start() {
+            int parallelism = Runtime.getRuntime().availableProcessors() * 4;
+            int chunkSize = Math.max(MIN_CHUNK_SIZE, 
+                    (strings.length + parallelism - 1) / parallelism);
+            int chunks = (strings.length + chunkSize - 1) / chunkSize;
+            remaining = new AtomicInteger(chunks);
+            for (int i = 0; i < chunks; i++) {
+                final int from = i * chunkSize;
+                final int to = Math.min(strings.length, from + chunkSize);
+                executor.execute(new Runnable() {
+                    @Override
+                    public void run() {
+                        measure(from, to);
+                    }
+                });
+            }
+        }
+        
+        /**
+         * Measures the strings in the given range and notifies on the 
+         * EDT if this was the last chunk.
+         */
+        void measure(int from, int to) {
+            try {
+                int width = 0;
+                for (int i = from; i < to && !cancelled; i++) {
+                    width = Math.max(width, 
+                            metrics.stringWidth(strings[i]));
+                }
+                int current = maxWidth.get();
+                while (width > current && !maxWidth.compareAndSet(current, width)) {
+                    current = maxWidth.get();
+                }
+            } catch (RuntimeException e) {
+                LOG.log(Level.WARNING, "failed to measure column values", e);
+            } finally {
+                if (remaining.decrementAndGet() == 0 && !cancelled) {
+                    SwingUtilities.invokeLater(new Runnable() {
+                        @Override
+                        public void run() {
+                            done(PackRequest.this);
+                        }
+                    });
+                }
+            }
+        }
+    }
+}
@@ -21,6 +21,7 @@
 package org.jdesktop.swingx.treetable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
@@ -59,15 +60,33 @@ public abstract class AbstractMutableTreeTableNode implements
 
     public AbstractMutableTreeTableNode(Object userObject,
             boolean allowsChildren) {
+        this(userObject, allowsChildren, false);
+    }
+
+    /**
+     * Creates a node which optionally manages its children in an 
+     * {@link IndexedChildrenList}, making {@code getIndex} a constant time
+     * operation for nodes with many children.
+     * 
+     * @param userObject the user object
+     * @param allowsChildren whether the node allows children
+     * @param indexedChildren true to index the children, false to use the 
+     *   list created by {@link #createChildrenList()}
+     */
+    public AbstractMutableTreeTableNode(Object userObject,
+            boolean allowsChildren, boolean indexedChildren) {
         this.userObject = userObject;
         this.allowsChildren = allowsChildren;
-        children = createChildrenList();
+        children = indexedChildren ? new IndexedChildrenList() : createChildrenList();
     }
 
     /**
      * Creates the list used to manage the children of this node.
      * <p>
-     * This method is called by the constructor.
+     * This method is called by the constructor, unless indexed children are
+     * requested. Subclasses with many children per node may return an 
+     * {@link IndexedChildrenList} to make {@code getIndex} a constant time 
+     * operation.
      * 
      * @return a list; this list is guaranteed to be non-{@code null}
      */
@@ -100,6 +119,108 @@ public abstract class AbstractMutableTreeTableNode implements
         }
     }
 
+    /**
+     * Inserts the given nodes as children of this node, starting at the
+     * given index. Nodes which are children of another node are removed
+     * from that node. Nodes which already are children of this node are 
+     * moved, the index is adjusted as in {@link #insert(MutableTreeTableNode, int)}. 
+     * The nodes are added to the list of children in one step.
+     * 
+     * @param nodes the nodes to insert, must not contain duplicates
+     * @param index the index of the first inserted node
+     * @return the index of the first inserted node, adjusted for moved nodes
+     * @throws IllegalStateException if this node doesn't allow children
+     */
+    int insertChildren(MutableTreeTableNode[] nodes, int index) {
+        if (!allowsChildren) {
+            throw new IllegalStateException("this node cannot accept children");
+        }
+        boolean moved = false;
+        for (MutableTreeTableNode node : nodes) {
+            if (node.getParent() == this) {
+                moved = true;
+                break;
+            }
+        }
+        if (moved) {
+            int[] indices = new int[nodes.length];
+            int count = 0;
+            for (MutableTreeTableNode node : nodes) {
+                int old = node.getParent() == this ? children.indexOf(node) : -1;
+                if (old >= 0) {
+                    indices[count++] = old;
+                    if (old < index) {
+                        index--;
+                    }
+                }
+            }
+            indices = Arrays.copyOf(indices, count);
+            Arrays.sort(indices);
+            removeChildren(indices, false);
+        }
+        children.addAll(index, Arrays.asList(nodes));
+        for (MutableTreeTableNode node : nodes) {
+            MutableTreeTableNode oldParent = (MutableTreeTableNode) node.getParent();
+            if (oldParent == this) continue;
+            if (node instanceof AbstractMutableTreeTableNode) {
+                if (oldParent != null) {
+                    oldParent.remove(node);
+                }
+                // all set, don't let setParent look-up and re-insert 
+                ((AbstractMutableTreeTableNode) node).parent = this;
+            } else {
+                node.setParent(this);
+            }
+        }
+        return index;
+    }
+    
+    /**
+     * Removes the children at the given indices in one step.
+     * 
+     * @param indices the indices of the children to remove, 
+     *    must be valid and sorted ascending without duplicates
+     * @throws IllegalArgumentException if the indices are not sorted, contain
+     *    duplicates or are out of range
+     */
+    void removeChildren(int[] indices) {
+        removeChildren(indices, true);
+    }
+
+    private void removeChildren(int[] indices, boolean resetParent) {
+        if (indices.length == 0) return;
+        if (indices[0] < 0 || indices[indices.length - 1] >= children.size()) {
+            throw new IllegalArgumentException("indices out of range");
+        }
+        for (int i = 1; i < indices.length; i++) {
+            if (indices[i] <= indices[i - 1]) {
+                throw new IllegalArgumentException(
+                        "indices must be sorted ascending without duplicates");
+            }
+        }
+        List<MutableTreeTableNode> kept = new ArrayList<MutableTreeTableNode>(
+                children.size() - indices.length);
+        MutableTreeTableNode[] removed = new MutableTreeTableNode[indices.length];
+        int next = 0;
+        for (int i = 0; i < children.size(); i++) {
+            if (next < indices.length && indices[next] == i) {
+                removed[next++] = children.get(i);
+            } else {
+                kept.add(children.get(i));
+            }
+        }
+        children.clear();
+        children.addAll(kept);
+        if (!resetParent) return;
+        for (MutableTreeTableNode node : removed) {
+            if (node instanceof AbstractMutableTreeTableNode) {
+                ((AbstractMutableTreeTableNode) node).parent = null;
+            } else {
+                node.setParent(null);
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,609 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+
+package org.jdesktop.swingx.treetable;
+
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import javax.swing.SwingUtilities;
+import javax.swing.Timer;
+import javax.swing.tree.TreePath;
+
+/**
+ * A tree table model of a file system which lists each directory only once,
+ * in the background.
+ * <p>
+ * 
+ * Contrary to {@code FileSystemModel}, which lists the parent directory on 
+ * each access to a child, this model caches the sorted children of each 
+ * directory and the attributes (directory, length, modification date) of 
+ * each file. A directory is listed the first time its children are requested,
+ * on a background executor. Until then, it has no children. The children 
+ * are published in chunks as they arrive, notifying listeners with 
+ * insert events.
+ * <p>
+ * 
+ * Changes to the file system are picked up on {@link #refresh(File)} of a 
+ * directory, which lists it again and notifies listeners of removed, added 
+ * and changed children. Optionally, all cached directories are refreshed 
+ * periodically, see {@link #setRefreshInterval(int)}.
+ * <p>
+ * 
+ * Note: like all Swing models, this model must be accessed on the EDT only.
+ * 
+ * @author agent
+ * 
+ * @see FileSystemModel
+ */
+public class CachingFileSystemModel extends AbstractTreeTableModel {
+    // the returned file length for directories
+    private static final Long DIRECTORY = 0L;
+    
+    /** the number of children published at once while loading. */
+    private static final int CHUNK_SIZE = 256;
+    
+    private static ExecutorService sharedExecutor;
+    
+    private final Executor executor;
+    
+    /** the cached children, keyed by directory. */
+    private final Map<File, Directory> directories;
+    
+    /** the cached attributes, keyed by file. */
+    private final Map<File, FileInfo> infos;
+    
+    private Timer refreshTimer;
+    
+    /**
+     * Creates a file system model using the root directory as the model root.
+     */
+    public CachingFileSystemModel() {
+        this(new File(File.separator));
+    }
+
+    /**
+     * Creates a file system model using the specified {@code root}.
+     * 
+     * @param root
+     *            the root for this model; this may be different than the root
+     *            directory for a file system.
+     */
+    public CachingFileSystemModel(File root) {
+        this(root, null);
+    }
+    
+    /**
+     * Creates a file system model using the specified {@code root} which
+     * lists directories on the given executor.
+     * 
+     * @param root
+     *            the root for this model; this may be different than the root
+     *            directory for a file system.
+     * @param executor the executor to list directories on, a shared executor 
+     *            is used if null           
+     */
+    public CachingFileSystemModel(File root, Executor executor) {
+        super(root);
+        this.executor = executor != null ? executor : getSharedExecutor();
+        directories = new HashMap<File, Directory>();
+        infos = new HashMap<File, FileInfo>();
+    }
+    
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Implemented to return the cached child. 
+     */
+    @Override
+    public File getChild(Object parent, int index) {
+        if (!(parent instanceof File)) {
+            throw new IllegalArgumentException("parent is not a file governed by this model");
+        }
+        return getDirectory((File) parent).children.get(index);
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Implemented to return the number of cached children. Starts listing 
+     * the directory if not yet done.
+     */
+    @Override
+    public int getChildCount(Object parent) {
+        if (isLeaf(parent)) return 0;
+        return getDirectory((File) parent).children.size();
+    }
+
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Implemented to binary search the sorted cached children.
+     */
+    @Override
+    public int getIndexOfChild(Object parent, Object child) {
+        if (parent instanceof File && child instanceof File) {
+            Directory directory = directories.get(parent);
+            if (directory != null) {
+                int index = Collections.binarySearch(directory.children, (File) child);
+                return index >= 0 ? index : -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isLeaf(Object node) {
+        if (node instanceof File) {
+            return !getInfo((File) node).directory;
+        }
+        return true;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Class<?> getColumnClass(int column) {
+        switch (column) {
+        case 0:
+            return String.class;
+        case 1:
+            return Long.class;
+        case 2:
+            return Boolean.class;
+        case 3:
+            return Date.class;
+        default:
+            return super.getColumnClass(column);
+        }
+    }
+
+    @Override
+    public int getColumnCount() {
+        return 4;
+    }
+
+    @Override
+    public String getColumnName(int column) {
+        switch (column) {
+        case 0:
+            return "Name";
+        case 1:
+            return "Size";
+        case 2:
+            return "Directory";
+        case 3:
+            return "Modification Date";
+        default:
+            return super.getColumnName(column);
+        }
+    }
+
+    @Override
+    public Object getValueAt(Object node, int column) {
+        if (node instanceof File) {
+            File file = (File) node;
+            FileInfo info = getInfo(file);
+            switch (column) {
+            case 0:
+                return file.getName();
+            case 1:
+                return info.directory ? DIRECTORY : info.length;
+            case 2:
+                return info.directory;
+            case 3:
+                return new Date(info.lastModified);
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public File getRoot() {
+        return (File) root;
+    }
+
+    /**
+     * Sets the root for this tree table model and clears all cached 
+     * children. This method will notify listeners that a change has taken 
+     * place.
+     * 
+     * @param root
+     *            the new root node to set
+     */
+    public void setRoot(File root) {
+        this.root = root;
+        directories.clear();
+        infos.clear();
+        modelSupport.fireNewRoot();
+    }
+    
+    /**
+     * Returns a boolean indicating whether the given directory is currently
+     * listed in the background.
+     * 
+     * @param directory the directory to check
+     * @return true if the directory is being listed, false otherwise
+     */
+    public boolean isLoading(File directory) {
+        Directory cached = directories.get(directory);
+        return cached != null && cached.loading;
+    }
+    
+    /**
+     * Lists the given directory again, if it had been listed before, and 
+     * notifies listeners about the differences to the cached children. 
+     * Does nothing if the directory isn't cached.
+     * 
+     * @param directory the directory to refresh
+     */
+    public void refresh(File directory) {
+        Directory cached = directories.get(directory);
+        if (cached == null) return;
+        if (cached.loading) {
+            cached.refreshPending = true;
+        } else {
+            load(directory, cached, true);
+        }
+    }
+    
+    /**
+     * Refreshes all cached directories.
+     * 
+     * @see #refresh(File)
+     */
+    public void refreshAll() {
+        for (File directory : new ArrayList<File>(directories.keySet())) {
+            refresh(directory);
+        }
+    }
+    
+    /**
+     * Sets the interval to refresh all cached directories. A value of 0 
+     * disables periodic refreshing, that's the default.
+     * 
+     * @param millis the refresh interval in milliseconds
+     * @throws IllegalArgumentException if millis is negative
+     * 
+     * @see #refreshAll()
+     */
+    public void setRefreshInterval(int millis) {
+        if (millis < 0) {
+            throw new IllegalArgumentException("interval must not be negative but was: " + millis);
+        }
+        if (refreshTimer != null) {
+            refreshTimer.stop();
+            refreshTimer = null;
+        }
+        if (millis > 0) {
+            refreshTimer = new Timer(millis, new ActionListener() {
+                @Override
+                public void actionPerformed(ActionEvent e) {
+                    refreshAll();
+                }
+            });
+            refreshTimer.start();
+        }
+    }
+    
+    /**
+     * Returns the interval to refresh all cached directories.
+     * 
+     * @return the refresh interval in milliseconds, 0 if disabled
+     */
+    public int getRefreshInterval() {
+        return refreshTimer != null ? refreshTimer.getDelay() : 0;
+    }
+    
+//------------------------ loading
+    
+    /**
+     * Returns the cached directory, starts listing it if not yet cached.
+     */
+    private Directory getDirectory(File file) {
+        Directory directory = directories.get(file);
+        if (directory == null) {
+            directory = new Directory();
+            directories.put(file, directory);
+            load(file, directory, false);
+        }
+        return directory;
+    }
+    
+    /**
+     * Returns the cached attributes, reads them if not yet cached.
+     */
+    private FileInfo getInfo(File file) {
+        FileInfo info = infos.get(file);
+        if (info == null) {
+            info = new FileInfo(file);
+            infos.put(file, info);
+        }
+        return info;
+    }
+    
+    /**
+     * Lists the directory on the executor and publishes the result on the 
+     * EDT, either in chunks or, if refreshing, as a whole.
+     */
+    private void load(final File file, final Directory directory, final boolean refresh) {
+        directory.loading = true;
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                File[] files = file.listFiles();
+                if (files == null) {
+                    files = new File[0];
+                }
+                Arrays.sort(files);
+                FileInfo[] fileInfos = new FileInfo[files.length];
+                if (refresh) {
+                    for (int i = 0; i < files.length; i++) {
+                        fileInfos[i] = new FileInfo(files[i]);
+                    }
+                    publish(file, directory, files, fileInfos, true, true);
+                    return;
+                }
+                int from = 0;
+                do {
+                    int to = Math.min(from + CHUNK_SIZE, files.length);
+                    for (int i = from; i < to; i++) {
+                        fileInfos[i] = new FileInfo(files[i]);
+                    }
+                    publish(file, directory, Arrays.copyOfRange(files, from, to), 
+                            Arrays.copyOfRange(fileInfos, from, to), to == files.length, false);
+                    from = to;
+                } while (from < files.length);
+            }
+        });
+    }
+    
+    private void publish(final File file, final Directory directory, final File[] files,
+            final FileInfo[] fileInfos, final boolean last, final boolean refresh) {
+        SwingUtilities.invokeLater(new Runnable() {
+            @Override
+            public void run() {
+                // outdated by setRoot or removal
+                if (directories.get(file) != directory) return;
+                if (refresh) {
+                    merge(file, directory, files, fileInfos);
+                } else {
+                    append(file, directory, files, fileInfos);
+                }
+                if (last) {
+                    directory.loading = false;
+                    if (directory.refreshPending) {
+                        directory.refreshPending = false;
+                        load(file, directory, true);
+                    }
+                }
+            }
+        });
+    }
+    
+    /**
+     * Appends the chunk of children and notifies listeners.
+     */
+    private void append(File file, Directory directory, File[] files, FileInfo[] fileInfos) {
+        if (files.length == 0) return;
+        int first = directory.children.size();
+        int[] indices = new int[files.length];
+        for (int i = 0; i < files.length; i++) {
+            directory.children.add(files[i]);
+            infos.put(files[i], fileInfos[i]);
+            indices[i] = first + i;
+        }
+        TreePath path = getPathTo(file);
+        if (path != null) {
+            modelSupport.fireChildrenAdded(path, indices, files);
+        }
+    }
+    
+    /**
+     * Replaces the cached children with the new listing and notifies 
+     * listeners about removed, added and changed children. Both the cached
+     * children and the listing are sorted, so they are merged in one pass.
+     */
+    private void merge(File file, Directory directory, File[] files, FileInfo[] fileInfos) {
+        TreePath path = getPathTo(file);
+        List<File> children = directory.children;
+        List<Integer> removedIndices = new ArrayList<Integer>();
+        List<File> removed = new ArrayList<File>();
+        List<File> kept = new ArrayList<File>(children.size());
+        for (int i = 0; i < children.size(); i++) {
+            File child = children.get(i);
+            if (Arrays.binarySearch(files, child) < 0) {
+                removedIndices.add(i);
+                removed.add(child);
+            } else {
+                kept.add(child);
+            }
+        }
+        if (!removed.isEmpty()) {
+            children.clear();
+            children.addAll(kept);
+            purge(removed);
+            if (path != null) {
+                modelSupport.fireChildrenRemoved(path, toArray(removedIndices), removed.toArray());
+            }
+        }
+        List<Integer> addedIndices = new ArrayList<Integer>();
+        List<Integer> changedIndices = new ArrayList<Integer>();
+        int next = 0;
+        for (int i = 0; i < files.length; i++) {
+            FileInfo old = infos.put(files[i], fileInfos[i]);
+            if (next < kept.size() && kept.get(next).equals(files[i])) {
+                next++;
+                if (!fileInfos[i].equals(old)) {
+                    changedIndices.add(i);
+                }
+            } else {
+                addedIndices.add(i);
+            }
+        }
+        if (!addedIndices.isEmpty()) {
+            children.clear();
+            children.addAll(Arrays.asList(files));
+        }
+        if (path == null) return;
+        if (!addedIndices.isEmpty()) {
+            modelSupport.fireChildrenAdded(path, toArray(addedIndices), 
+                    getChildren(children, addedIndices));
+        }
+        if (!changedIndices.isEmpty()) {
+            modelSupport.fireChildrenChanged(path, toArray(changedIndices), 
+                    getChildren(children, changedIndices));
+        }
+    }
+    
+    /**
+     * Removes all cached state of the given files and their descendants, 
+     * in one pass over the cache.
+     */
+    private void purge(List<File> files) {
+        Set<File> purged = new HashSet<File>(files);
+        for (Iterator<File> iter = directories.keySet().iterator(); iter.hasNext();) {
+            if (isDescendantOrSelf(iter.next(), purged)) {
+                iter.remove();
+            }
+        }
+        for (Iterator<File> iter = infos.keySet().iterator(); iter.hasNext();) {
+            if (isDescendantOrSelf(iter.next(), purged)) {
+                iter.remove();
+            }
+        }
+    }
+    
+    private static boolean isDescendantOrSelf(File file, Set<File> ancestors) {
+        for (File f = file; f != null; f = f.getParentFile()) {
+            if (ancestors.contains(f)) return true;
+        }
+        return false;
+    }
+    
+    private static int[] toArray(List<Integer> list) {
+        int[] result = new int[list.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = list.get(i);
+        }
+        return result;
+    }
+    
+    private static Object[] getChildren(List<File> children, List<Integer> indices) {
+        Object[] result = new Object[indices.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = children.get(indices.get(i));
+        }
+        return result;
+    }
+    
+    /**
+     * Returns the path from the root to the given file or null if the file
+     * is not governed by this model.
+     */
+    private TreePath getPathTo(File file) {
+        LinkedList<Object> path = new LinkedList<Object>();
+        for (File f = file; f != null; f = f.getParentFile()) {
+            path.addFirst(f);
+            if (f.equals(root)) {
+                return new TreePath(path.toArray());
+            }
+        }
+        return null;
+    }
+    
+    private static synchronized ExecutorService getSharedExecutor() {
+        if (sharedExecutor == null) {
+            sharedExecutor = Executors.newFixedThreadPool(2, new ThreadFactory() {
+                private int count;
+                
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "CachingFileSystemModel-" + count++);
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return sharedExecutor;
+    }
+    
+    /**
+     * The cached children of a directory.
+     */
+    private static class Directory {
+        final List<File> children = new ArrayList<File>();
+        boolean loading;
+        boolean refreshPending;
+    }
+    
+    /**
+     * The cached attributes of a file.
+     */
+    private static class FileInfo {
+        final boolean directory;
+        final long length;
+        final long lastModified;
+        
+        FileInfo(File file) {
+            directory = file.isDirectory();
+            length = directory ? 0 : file.length();
+            lastModified = file.lastModified();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof FileInfo)) return false;
+            FileInfo other = (FileInfo) obj;
+            return directory == other.directory && length == other.length 
+                    && lastModified == other.lastModified;
+        }
+        
+        @Override
+        public int hashCode() {
+            return (int) (length ^ lastModified) + (directory ? 1 : 0);
+        }
+    }
+}
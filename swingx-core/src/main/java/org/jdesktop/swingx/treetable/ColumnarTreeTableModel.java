@@ -0,0 +1,644 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.treetable;
+
+import java.util.Arrays;
+
+import javax.swing.tree.TreePath;
+
+import org.jdesktop.swingx.table.ColumnVector;
+import org.jdesktop.swingx.table.ColumnVector.DoubleVector;
+import org.jdesktop.swingx.table.ColumnVector.IntVector;
+import org.jdesktop.swingx.table.ColumnVector.LongVector;
+import org.jdesktop.swingx.table.ColumnVector.StringVector;
+import org.jdesktop.swingx.util.Contract;
+
+/**
+ * A {@code TreeTableModel} which stores its nodes in columns of primitive 
+ * arrays, for trees too large to hold a node object per row. <p>
+ * 
+ * The nodes are identified by ints, the root is {@link #ROOT}. The structure
+ * is kept in int arrays of parent, first child, last child and next sibling
+ * links, plus the child count and the index in the parent per node. The 
+ * values are kept in column vectors of ints, longs, doubles or dictionary 
+ * encoded strings, as declared by the column classes. For a tree with
+ * few distinct strings per column, a node costs 24 bytes plus 4 to 8 bytes
+ * per column. <p>
+ * 
+ * The nodes exposed through the {@code TreeModel} methods are flyweight
+ * handles, created on demand and equal if they refer to the same node. 
+ * Client code which knows about this model should use the typed accessors 
+ * taking the int id of a node, which don't box the values. 
+ * 
+ * <pre><code>
+ * ColumnarTreeTableModel model = new ColumnarTreeTableModel(
+ *     new String[] {"Name", "Quantity", "Price"}, 
+ *     new Class&lt;?&gt;[] {String.class, Long.class, Double.class});
+ * int node = model.addNode(ColumnarTreeTableModel.ROOT);
+ * model.setString(node, 0, "EUR");
+ * model.setLong(node, 1, 100);
+ * JXTreeTable treeTable = new JXTreeTable(model);
+ * </code></pre>
+ * 
+ * Removed nodes are unlinked from the tree, their ids are not re-used. 
+ * 
+ * @author agent
+ */
+public class ColumnarTreeTableModel extends AbstractTreeTableModel {
+
+    /** the id of the root node. */
+    public static final int ROOT = 0;
+    
+    /** the link value for no node. */
+    public static final int NONE = -1;
+    
+    private static final int INITIAL_CAPACITY = 16;
+    
+    private final String[] columnNames;
+    private final Class<?>[] columnClasses;
+    private final ColumnVector[] columns;
+    
+    private int nodeCount;
+    private int[] parents;
+    private int[] firstChildren;
+    private int[] lastChildren;
+    private int[] nextSiblings;
+    private int[] childCounts;
+    private int[] indices;
+    
+    /** the last child looked up by index, for sequential access. */
+    private int cursorParent = NONE;
+    private int cursorIndex;
+    private int cursorNode;
+    
+    /**
+     * Creates a model with the given columns and a root node. The 
+     * supported column classes are Integer, Long, Double and String.
+     * 
+     * @param columnNames the names of the columns
+     * @param columnClasses the classes of the columns
+     * @throws IllegalArgumentException if the arrays differ in length or 
+     *   a column class is not supported
+     * @throws NullPointerException if any of the arrays is null
+     */
+    public ColumnarTreeTableModel(String[] columnNames, Class<?>[] columnClasses) {
+        Contract.asNotNull(columnNames, "columnNames must not be null");
+        Contract.asNotNull(columnClasses, "columnClasses must not be null");
+        if (columnNames.length != columnClasses.length) {
+            throw new IllegalArgumentException("column names and classes must have the same length");
+        }
+        this.columnNames = columnNames.clone();
+        this.columnClasses = columnClasses.clone();
+        columns = new ColumnVector[columnClasses.length];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = createColumnVector(columnClasses[i]);
+        }
+        parents = new int[0];
+        firstChildren = new int[0];
+        lastChildren = new int[0];
+        nextSiblings = new int[0];
+        childCounts = new int[0];
+        indices = new int[0];
+        ensureCapacity(INITIAL_CAPACITY);
+        newNode(NONE, 0);
+        root = new Node(this, ROOT);
+    }
+    
+    /**
+     * Makes sure the model can hold the given number of nodes without
+     * growing its arrays. Useful before adding a large number of nodes.
+     * 
+     * @param capacity the number of nodes
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity <= parents.length) return;
+        parents = Arrays.copyOf(parents, capacity);
+        firstChildren = Arrays.copyOf(firstChildren, capacity);
+        lastChildren = Arrays.copyOf(lastChildren, capacity);
+        nextSiblings = Arrays.copyOf(nextSiblings, capacity);
+        childCounts = Arrays.copyOf(childCounts, capacity);
+        indices = Arrays.copyOf(indices, capacity);
+        for (ColumnVector column : columns) {
+            column.ensureCapacity(capacity);
+        }
+    }
+    
+//------------------------ structure
+    
+    /**
+     * Returns the number of nodes ever added, including the root and 
+     * removed nodes. The ids of the nodes are in the range 0 ... 
+     * nodeCount - 1.
+     * 
+     * @return the number of node ids in use
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+    
+    /**
+     * Appends a new node to the children of the given parent. Its values 
+     * are 0 or null.
+     * 
+     * @param parent the id of the parent node
+     * @return the id of the new node
+     */
+    public int addNode(int parent) {
+        return addNodes(parent, 1);
+    }
+    
+    /**
+     * Appends the given number of new nodes to the children of the given 
+     * parent, notifying listeners once. Their values are 0 or null and their
+     * ids are consecutive.
+     * 
+     * @param parent the id of the parent node
+     * @param count the number of nodes to add
+     * @return the id of the first new node
+     * @throws IllegalArgumentException if the parent is not in the tree
+     *   or count is negative
+     */
+    public int addNodes(int parent, int count) {
+        checkNode(parent);
+        if (count < 0) {
+            throw new IllegalArgumentException("count must not be negative: " + count);
+        }
+        if (nodeCount + count > parents.length) {
+            ensureCapacity(Math.max(nodeCount + count, parents.length * 2));
+        }
+        int first = nodeCount;
+        int firstIndex = childCounts[parent];
+        for (int i = 0; i < count; i++) {
+            int node = newNode(parent, childCounts[parent]);
+            if (firstChildren[parent] == NONE) {
+                firstChildren[parent] = node;
+            } else {
+                nextSiblings[lastChildren[parent]] = node;
+            }
+            lastChildren[parent] = node;
+            childCounts[parent]++;
+        }
+        if (count > 0 && hasListeners()) {
+            int[] childIndices = new int[count];
+            Object[] children = new Object[count];
+            for (int i = 0; i < count; i++) {
+                childIndices[i] = firstIndex + i;
+                children[i] = new Node(this, first + i);
+            }
+            modelSupport.fireChildrenAdded(getPath(parent), childIndices, children);
+        }
+        return first;
+    }
+    
+    /**
+     * Removes the given node and its descendants from the tree.
+     * 
+     * @param node the id of the node to remove
+     * @throws IllegalArgumentException if the node is the root or not
+     *   in the tree
+     */
+    public void removeNode(int node) {
+        checkNode(node);
+        if (node == ROOT) {
+            throw new IllegalArgumentException("the root can't be removed");
+        }
+        int parent = parents[node];
+        int index = indices[node];
+        // the path must be created while the node is still linked
+        TreePath parentPath = hasListeners() ? getPath(parent) : null;
+        if (index == 0) {
+            firstChildren[parent] = nextSiblings[node];
+        } else {
+            int previous = getChild(parent, index - 1);
+            nextSiblings[previous] = nextSiblings[node];
+            if (lastChildren[parent] == node) {
+                lastChildren[parent] = previous;
+            }
+        }
+        if (firstChildren[parent] == NONE) {
+            lastChildren[parent] = NONE;
+        }
+        for (int sibling = nextSiblings[node]; sibling != NONE; sibling = nextSiblings[sibling]) {
+            indices[sibling]--;
+        }
+        childCounts[parent]--;
+        parents[node] = NONE;
+        nextSiblings[node] = NONE;
+        cursorParent = NONE;
+        if (parentPath != null) {
+            modelSupport.fireChildRemoved(parentPath, index, new Node(this, node));
+        }
+    }
+    
+    /**
+     * @param node the id of the node
+     * @return the id of the parent or NONE for the root and removed nodes
+     */
+    public int getParent(int node) {
+        return parents[node];
+    }
+    
+    /**
+     * @param node the id of the node
+     * @return the id of the first child or NONE if the node is a leaf
+     */
+    public int getFirstChild(int node) {
+        return firstChildren[node];
+    }
+    
+    /**
+     * @param node the id of the node
+     * @return the id of the next sibling or NONE if the node is the last child
+     */
+    public int getNextSibling(int node) {
+        return nextSiblings[node];
+    }
+    
+    /**
+     * @param node the id of the node
+     * @return the number of children of the node
+     */
+    public int getChildCount(int node) {
+        return childCounts[node];
+    }
+    
+    /**
+     * @param node the id of the node
+     * @return the index of the node in its parent's children
+     */
+    public int getIndex(int node) {
+        return indices[node];
+    }
+    
+    /**
+     * Returns the child at the given index. Walks the siblings, from the
+     * last child looked up if it is before the index: access in ascending
+     * order is O(1) per child.
+     * 
+     * @param parent the id of the parent
+     * @param index the index of the child
+     * @return the id of the child
+     * @throws IndexOutOfBoundsException if the index is not valid
+     */
+    public int getChild(int parent, int index) {
+        if (index < 0 || index >= childCounts[parent]) {
+            throw new IndexOutOfBoundsException("index " + index + " not in children of " + parent);
+        }
+        int node;
+        int i;
+        if (cursorParent == parent && cursorIndex <= index) {
+            node = cursorNode;
+            i = cursorIndex;
+        } else if (index == childCounts[parent] - 1) {
+            node = lastChildren[parent];
+            i = index;
+        } else {
+            node = firstChildren[parent];
+            i = 0;
+        }
+        for (; i < index; i++) {
+            node = nextSiblings[node];
+        }
+        cursorParent = parent;
+        cursorIndex = index;
+        cursorNode = node;
+        return node;
+    }
+    
+    /**
+     * Returns the flyweight handle of the given node, as used by the 
+     * {@code TreeModel} methods.
+     * 
+     * @param node the id of the node
+     * @return the handle of the node
+     */
+    public Object getNode(int node) {
+        return new Node(this, node);
+    }
+    
+    /**
+     * Returns the id of the node referred to by the given handle.
+     * 
+     * @param node a handle of a node of this model
+     * @return the id of the node
+     * @throws IllegalArgumentException if the node is not a handle of this model
+     */
+    public int getId(Object node) {
+        if (!(node instanceof Node) || ((Node) node).model != this) {
+            throw new IllegalArgumentException("not a node of this model: " + node);
+        }
+        return ((Node) node).id;
+    }
+    
+    /**
+     * Returns the path from the root to the given node.
+     * 
+     * @param node the id of the node
+     * @return the path of handles to the node
+     */
+    public TreePath getPath(int node) {
+        int depth = 0;
+        for (int n = node; n != NONE; n = parents[n]) {
+            depth++;
+        }
+        Object[] path = new Object[depth];
+        for (int n = node; n != NONE; n = parents[n]) {
+            path[--depth] = n == ROOT ? root : new Node(this, n);
+        }
+        return new TreePath(path);
+    }
+    
+//------------------------ typed values
+    
+    /**
+     * @param node the id of the node
+     * @param column the index of an Integer column
+     * @return the value of the node in the column
+     * @throws IllegalArgumentException if the column is not an Integer column
+     */
+    public int getInt(int node, int column) {
+        return intColumn(column).getInt(node);
+    }
+    
+    /**
+     * Sets the value of the node in the column and notifies listeners.
+     * 
+     * @param node the id of the node
+     * @param column the index of an Integer column
+     * @param value the new value
+     * @throws IllegalArgumentException if the column is not an Integer column
+     */
+    public void setInt(int node, int column, int value) {
+        intColumn(column).setInt(node, value);
+        fireNodeChanged(node);
+    }
+    
+    /**
+     * @param node the id of the node
+     * @param column the index of a Long column
+     * @return the value of the node in the column
+     * @throws IllegalArgumentException if the column is not a Long column
+     */
+    public long getLong(int node, int column) {
+        return longColumn(column).getLong(node);
+    }
+    
+    /**
+     * Sets the value of the node in the column and notifies listeners.
+     * 
+     * @param node the id of the node
+     * @param column the index of a Long column
+     * @param value the new value
+     * @throws IllegalArgumentException if the column is not a Long column
+     */
+    public void setLong(int node, int column, long value) {
+        longColumn(column).setLong(node, value);
+        fireNodeChanged(node);
+    }
+    
+    /**
+     * @param node the id of the node
+     * @param column the index of a Double column
+     * @return the value of the node in the column
+     * @throws IllegalArgumentException if the column is not a Double column
+     */
+    public double getDouble(int node, int column) {
+        return doubleColumn(column).getDouble(node);
+    }
+    
+    /**
+     * Sets the value of the node in the column and notifies listeners.
+     * 
+     * @param node the id of the node
+     * @param column the index of a Double column
+     * @param value the new value
+     * @throws IllegalArgumentException if the column is not a Double column
+     */
+    public void setDouble(int node, int column, double value) {
+        doubleColumn(column).setDouble(node, value);
+        fireNodeChanged(node);
+    }
+    
+    /**
+     * @param node the id of the node
+     * @param column the index of a String column
+     * @return the value of the node in the column, may be null
+     * @throws IllegalArgumentException if the column is not a String column
+     */
+    public String getString(int node, int column) {
+        return stringColumn(column).getString(node);
+    }
+    
+    /**
+     * Sets the value of the node in the column and notifies listeners.
+     * 
+     * @param node the id of the node
+     * @param column the index of a String column
+     * @param value the new value, may be null
+     * @throws IllegalArgumentException if the column is not a String column
+     */
+    public void setString(int node, int column, String value) {
+        stringColumn(column).setString(node, value);
+        fireNodeChanged(node);
+    }
+    
+//------------------------ TreeTableModel
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getColumnCount() {
+        return columns.length;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Class<?> getColumnClass(int column) {
+        return columnClasses[column];
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getValueAt(Object node, int column) {
+        return columns[column].get(getId(node));
+    }
+    
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Implemented to store the value, converted to the column class. 
+     * Numbers are converted to the primitive type, null to 0.
+     */
+    @Override
+    public void setValueAt(Object value, Object node, int column) {
+        int id = getId(node);
+        columns[column].set(id, value);
+        fireNodeChanged(id);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object getChild(Object parent, int index) {
+        return new Node(this, getChild(getId(parent), index));
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getChildCount(Object parent) {
+        return childCounts[getId(parent)];
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getIndexOfChild(Object parent, Object child) {
+        if (!(parent instanceof Node) || !(child instanceof Node)) return -1;
+        int id = getId(child);
+        return parents[id] == getId(parent) ? indices[id] : -1;
+    }
+    
+//------------------------ implementation
+    
+    private int newNode(int parent, int index) {
+        int node = nodeCount++;
+        parents[node] = parent;
+        firstChildren[node] = NONE;
+        lastChildren[node] = NONE;
+        nextSiblings[node] = NONE;
+        childCounts[node] = 0;
+        indices[node] = index;
+        return node;
+    }
+    
+    private void checkNode(int node) {
+        if (node < 0 || node >= nodeCount) {
+            throw new IllegalArgumentException("not a node: " + node);
+        }
+        // removed nodes and their descendants have no path to the root
+        int n = node;
+        while (n != ROOT) {
+            n = parents[n];
+            if (n == NONE) {
+                throw new IllegalArgumentException("not a node in the tree: " + node);
+            }
+        }
+    }
+    
+    private boolean hasListeners() {
+        return modelSupport.getTreeModelListeners().length > 0;
+    }
+    
+    private void fireNodeChanged(int node) {
+        if (hasListeners()) {
+            modelSupport.firePathChanged(getPath(node));
+        }
+    }
+    
+    private IntVector intColumn(int column) {
+        if (!(columns[column] instanceof IntVector)) {
+            throw new IllegalArgumentException("not an Integer column: " + column);
+        }
+        return (IntVector) columns[column];
+    }
+    
+    private LongVector longColumn(int column) {
+        if (!(columns[column] instanceof LongVector)) {
+            throw new IllegalArgumentException("not a Long column: " + column);
+        }
+        return (LongVector) columns[column];
+    }
+    
+    private DoubleVector doubleColumn(int column) {
+        if (!(columns[column] instanceof DoubleVector)) {
+            throw new IllegalArgumentException("not a Double column: " + column);
+        }
+        return (DoubleVector) columns[column];
+    }
+    
+    private StringVector stringColumn(int column) {
+        if (!(columns[column] instanceof StringVector)) {
+            throw new IllegalArgumentException("not a String column: " + column);
+        }
+        return (StringVector) columns[column];
+    }
+    
+    private static ColumnVector createColumnVector(Class<?> columnClass) {
+        if (columnClass == Boolean.class) {
+            throw new IllegalArgumentException("unsupported column class: " + columnClass);
+        }
+        return ColumnVector.create(columnClass);
+    }
+    
+    /**
+     * The flyweight handle of a node.
+     */
+    private static final class Node {
+        final ColumnarTreeTableModel model;
+        final int id;
+        
+        public Node(ColumnarTreeTableModel model, int id) {
+            this.model = model;
+            this.id = id;
+        }
+        
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Node)) return false;
+            Node other = (Node) obj;
+            return other.id == id && other.model == model;
+        }
+        
+        @Override
+        public int hashCode() {
+            return id;
+        }
+        
+        /**
+         * Returns the value in the hierarchical column, as shown by 
+         * the default tree renderer.
+         */
+        @Override
+        public String toString() {
+            int column = model.getHierarchicalColumn();
+            if (column < 0) return String.valueOf(id);
+            Object value = model.columns[column].get(id);
+            return value != null ? value.toString() : "";
+        }
+    }
+}
@@ -54,6 +54,18 @@ public class DefaultMutableTreeTableNode extends AbstractMutableTreeTableNode {
         super(userObject, allowsChildren);
     }
 
+    /**
+     * @param userObject
+     * @param allowsChildren
+     * @param indexedChildren true to look up the index of children in 
+     *   constant time, recommended for nodes with many children
+     * @see IndexedChildrenList
+     */
+    public DefaultMutableTreeTableNode(Object userObject, boolean allowsChildren, 
+            boolean indexedChildren) {
+        super(userObject, allowsChildren, indexedChildren);
+    }
+
     /**
      * {@inheritDoc}
      */
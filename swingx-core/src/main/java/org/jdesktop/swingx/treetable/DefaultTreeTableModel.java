@@ -21,7 +21,13 @@
 package org.jdesktop.swingx.treetable;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javax.swing.tree.TreePath;
 
@@ -398,6 +404,109 @@ public class DefaultTreeTableModel extends AbstractTreeTableModel {
                 index, node);
     }
 
+    /**
+     * Inserts the given nodes as children of parent, starting at index. 
+     * Fires a single insert notification with the indices of all new 
+     * children. Nodes which already are children of parent are moved.
+     * 
+     * @param newChildren the nodes to insert, must not contain duplicates
+     * @param parent the parent to insert into
+     * @param index the index of the first new child
+     * @see #insertNodeInto(MutableTreeTableNode, MutableTreeTableNode, int)
+     */
+    public void insertNodesInto(MutableTreeTableNode[] newChildren,
+            MutableTreeTableNode parent, int index) {
+        if (newChildren.length == 0) return;
+        if (parent instanceof AbstractMutableTreeTableNode) {
+            index = ((AbstractMutableTreeTableNode) parent).insertChildren(
+                    newChildren, index);
+        } else {
+            for (int i = 0; i < newChildren.length; i++) {
+                parent.insert(newChildren[i], index + i);
+            }
+            index = parent.getIndex(newChildren[0]);
+        }
+        int[] indices = new int[newChildren.length];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = index + i;
+        }
+        modelSupport.fireChildrenAdded(new TreePath(getPathToRoot(parent)),
+                indices, newChildren);
+    }
+    
+    /**
+     * Removes the given nodes from their parents. Fires a single remove 
+     * notification per parent with the indices of all removed children.
+     * 
+     * @param nodes the nodes to remove
+     * @throws IllegalArgumentException if any of the nodes doesn't have a 
+     *   parent
+     * @see #removeNodeFromParent(MutableTreeTableNode)
+     */
+    public void removeNodesFromParent(MutableTreeTableNode... nodes) {
+        Map<MutableTreeTableNode, Set<MutableTreeTableNode>> byParent = 
+            new LinkedHashMap<MutableTreeTableNode, Set<MutableTreeTableNode>>();
+        for (MutableTreeTableNode node : nodes) {
+            MutableTreeTableNode parent = (MutableTreeTableNode) node.getParent();
+            if (parent == null) {
+                throw new IllegalArgumentException("node does not have a parent.");
+            }
+            Set<MutableTreeTableNode> children = byParent.get(parent);
+            if (children == null) {
+                // identity set, duplicates are removed once
+                children = Collections.newSetFromMap(
+                        new IdentityHashMap<MutableTreeTableNode, Boolean>());
+                byParent.put(parent, children);
+            }
+            children.add(node);
+        }
+        for (Map.Entry<MutableTreeTableNode, Set<MutableTreeTableNode>> entry : byParent.entrySet()) {
+            MutableTreeTableNode parent = entry.getKey();
+            int[] indices = getIndices(parent, entry.getValue());
+            Object[] removed = new Object[indices.length];
+            for (int i = 0; i < indices.length; i++) {
+                removed[i] = parent.getChildAt(indices[i]);
+            }
+            if (parent instanceof AbstractMutableTreeTableNode) {
+                ((AbstractMutableTreeTableNode) parent).removeChildren(indices);
+            } else {
+                for (int i = indices.length - 1; i >= 0; i--) {
+                    parent.remove(indices[i]);
+                }
+            }
+            modelSupport.fireChildrenRemoved(new TreePath(getPathToRoot(parent)),
+                    indices, removed);
+        }
+    }
+
+    /**
+     * Returns the sorted indices of the given children of the parent. Looks
+     * up each child if the parent indexes its children, otherwise checks
+     * all children of the parent in one pass.
+     */
+    private int[] getIndices(MutableTreeTableNode parent, Set<MutableTreeTableNode> children) {
+        int[] indices = new int[children.size()];
+        int count = 0;
+        if (parent instanceof AbstractMutableTreeTableNode 
+                && ((AbstractMutableTreeTableNode) parent).children instanceof IndexedChildrenList) {
+            for (MutableTreeTableNode child : children) {
+                indices[count++] = parent.getIndex(child);
+            }
+            Arrays.sort(indices);
+        } else {
+            int childCount = parent.getChildCount();
+            for (int i = 0; i < childCount && count < indices.length; i++) {
+                if (children.contains(parent.getChildAt(i))) {
+                    indices[count++] = i;
+                }
+            }
+        }
+        if (count < indices.length || indices[0] < 0) {
+            throw new IllegalArgumentException("node is not a child of its parent.");
+        }
+        return indices;
+    }
+
     /**
      * Called when value for the item identified by path has been changed. If
      * newValue signifies a truly new value the model should post a {@code
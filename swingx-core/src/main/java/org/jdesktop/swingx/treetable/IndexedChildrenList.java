@@ -0,0 +1,203 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.treetable;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * A list of child nodes with constant time index lookup. The list caches the 
+ * index of each node, keyed by identity. Modifications invalidate the cached 
+ * indices from the modified position to the end, they are renumbered lazily
+ * on the next lookup. So repeated lookups without modification in between 
+ * - as done by <code>JTree</code> and <code>TreeModel.getIndexOfChild</code> - 
+ * are O(1).
+ * <p>
+ * 
+ * To use, override {@code createChildrenList} in a custom node:
+ * 
+ * <pre><code>
+ * DefaultMutableTreeTableNode node = new DefaultMutableTreeTableNode() {
+ *     protected List&lt;MutableTreeTableNode&gt; createChildrenList() {
+ *         return new IndexedChildrenList();
+ *     }
+ * };
+ * </code></pre>
+ * 
+ * Note: the lookup is identity based and the list must not contain 
+ * duplicates, as is the case for the children of a node.
+ * 
+ * @author agent
+ * 
+ * @see AbstractMutableTreeTableNode#createChildrenList()
+ */
+public class IndexedChildrenList extends AbstractList<MutableTreeTableNode> 
+    implements RandomAccess {
+
+    private final List<MutableTreeTableNode> delegate;
+    private final Map<Object, Integer> indices;
+    /** the cached indices are valid below this position. */
+    private int validUpTo;
+    
+    /**
+     * Instantiates an empty list.
+     */
+    public IndexedChildrenList() {
+        delegate = new ArrayList<MutableTreeTableNode>();
+        indices = new IdentityHashMap<Object, Integer>();
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MutableTreeTableNode get(int index) {
+        return delegate.get(index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MutableTreeTableNode set(int index, MutableTreeTableNode element) {
+        MutableTreeTableNode old = delegate.set(index, element);
+        indices.remove(old);
+        invalidate(index);
+        return old;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void add(int index, MutableTreeTableNode element) {
+        delegate.add(index, element);
+        invalidate(index);
+        modCount++;
+    }
+    
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Overridden to insert all elements at once.
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends MutableTreeTableNode> c) {
+        boolean changed = delegate.addAll(index, c);
+        if (changed) {
+            invalidate(index);
+            modCount++;
+        }
+        return changed;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MutableTreeTableNode remove(int index) {
+        MutableTreeTableNode old = delegate.remove(index);
+        indices.remove(old);
+        invalidate(index);
+        modCount++;
+        return old;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        delegate.clear();
+        indices.clear();
+        validUpTo = 0;
+        modCount++;
+    }
+    
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Implemented to return the cached index, renumbers the invalid indices 
+     * if needed. Note: compares by identity.
+     */
+    @Override
+    public int indexOf(Object o) {
+        Integer index = indices.get(o);
+        if (index != null && index < validUpTo) {
+            return index;
+        }
+        if (validUpTo < delegate.size()) {
+            for (int i = validUpTo; i < delegate.size(); i++) {
+                indices.put(delegate.get(i), i);
+            }
+            validUpTo = delegate.size();
+            index = indices.get(o);
+        }
+        return index != null ? index : -1;
+    }
+    
+    /**
+     * {@inheritDoc} <p>
+     * 
+     * Implemented to return the same as indexOf, the list doesn't contain 
+     * duplicates.
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        return indexOf(o);
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+    
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index < 0) return false;
+        remove(index);
+        return true;
+    }
+    
+    private void invalidate(int index) {
+        validUpTo = Math.min(validUpTo, index);
+    }
+}
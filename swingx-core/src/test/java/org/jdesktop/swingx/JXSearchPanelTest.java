@@ -0,0 +1,62 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import javax.swing.table.DefaultTableModel;
+
+import org.jdesktop.swingx.search.PatternModel;
+import org.jdesktop.swingx.sort.SortController;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Test for JXSearchPanel.
+ * 
+ * @author agent
+ */
+@RunWith(JUnit4.class)
+public class JXSearchPanelTest {
+
+    /**
+     * Filter targets: the rows are filtered by the literal filter of the 
+     * match rule, the filter is removed with the text.
+     */
+    @Test
+    public void testFilterTarget() {
+        JXTable table = new JXTable(new DefaultTableModel(new Object[][] {
+                {"alpha", "one"}, {"beta", "two"}, {"alphabet", "three"}, {"gamma", "alpha"}}, 
+                new Object[] {"name", "value"}));
+        JXSearchPanel panel = new JXSearchPanel();
+        panel.addFilterTarget((SortController<?>) table.getRowSorter(), 0);
+        panel.getPatternModel().setMatchRule(PatternModel.MATCH_RULE_STARTSWITH);
+        panel.getPatternModel().setRawText("alpha");
+        assertEquals(2, table.getRowCount());
+        assertTrue(table.getRowFilter().getClass().getName().endsWith("LiteralFilter"));
+        panel.getPatternModel().setRawText("");
+        assertNull(table.getRowFilter());
+        assertEquals(4, table.getRowCount());
+    }
+}
@@ -757,6 +757,56 @@ public class JXTreeTableUnitTest extends InteractiveTestCase {
         });        
     }
 
+    /**
+     * Expanding/collapsing a node must fire inserts/deletes of the rows of
+     * its visible descendants.
+     */
+    @Test
+    public void testTableEventOnExpansion() {
+        TreeTableModel model = createCustomTreeTableModelFromDefault();
+        TreeTableNode sportsNode = (TreeTableNode) model.getChild(model.getRoot(), 1);
+        JXTreeTable table = new JXTreeTable(model);
+        table.setRootVisible(true);
+        table.collapseAll();
+        table.expandRow(0);
+        TableModelReport report = new TableModelReport(table.getModel());
+        table.expandRow(2);
+        assertEquals("tableModel must have fired exactly one event", 1, report.getEventCount());
+        TableModelEvent event = report.getLastEvent();
+        assertEquals("event type must be insert", TableModelEvent.INSERT, event.getType());
+        assertEquals(3, event.getFirstRow());
+        assertEquals(2 + sportsNode.getChildCount(), event.getLastRow());
+        report.clear();
+        table.collapseRow(2);
+        assertEquals("tableModel must have fired exactly one event", 1, report.getEventCount());
+        event = report.getLastEvent();
+        assertEquals("event type must be delete", TableModelEvent.DELETE, event.getType());
+        assertEquals(3, event.getFirstRow());
+        assertEquals(2 + sportsNode.getChildCount(), event.getLastRow());
+        assertEquals(model.getChildCount(model.getRoot()) + 1, table.getRowCount());
+    }
+    
+    /**
+     * Expanding a node with collapsed parents expands the parents first, 
+     * each must fire the inserts of its rows.
+     */
+    @Test
+    public void testTableEventOnExpansionWithCollapsedParent() {
+        TreeTableModel model = createCustomTreeTableModelFromDefault();
+        Object sportsNode = model.getChild(model.getRoot(), 1);
+        JXTreeTable table = new JXTreeTable(model);
+        table.setRootVisible(true);
+        table.collapseAll();
+        TableModelReport report = new TableModelReport(table.getModel());
+        table.expandPath(new TreePath(new Object[] {model.getRoot(), sportsNode}));
+        int rootChildCount = model.getChildCount(model.getRoot());
+        assertEquals(1 + rootChildCount + model.getChildCount(sportsNode), table.getRowCount());
+        assertEquals(2, report.getInsertEventCount());
+        TableModelEvent event = report.getLastInsertEvent();
+        assertEquals(3, event.getFirstRow());
+        assertEquals(2 + model.getChildCount(sportsNode), event.getLastRow());
+    }
+    
     /**
      * Issue #493-swingx: JXTreeTable.TreeTableModelAdapter: Inconsistency
      * firing update.
@@ -0,0 +1,197 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ */
+
+package org.jdesktop.swingx.decorator;
+
+import java.awt.Component;
+
+import javax.swing.DefaultListModel;
+import javax.swing.table.DefaultTableModel;
+import javax.swing.tree.DefaultMutableTreeNode;
+import javax.swing.tree.DefaultTreeModel;
+
+import org.jdesktop.swingx.InteractiveTestCase;
+import org.jdesktop.swingx.decorator.ComponentAdapterTest.JXListT;
+import org.jdesktop.swingx.decorator.ComponentAdapterTest.JXTableT;
+import org.jdesktop.swingx.decorator.ComponentAdapterTest.JXTreeT;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests for CachingHighlightPredicate and PredicateResultCache.
+ * 
+ * @author agent
+ */
+@RunWith(JUnit4.class)
+public class CachingHighlightPredicateTest extends InteractiveTestCase {
+
+    /**
+     * Predicate which counts its evaluations, highlights values starting 
+     * with "a".
+     */
+    public static class CountingPredicate implements HighlightPredicate {
+        int count;
+        @Override
+        public boolean isHighlighted(Component renderer, ComponentAdapter adapter) {
+            count++;
+            return adapter.getString().startsWith("a");
+        }
+    }
+    
+    /**
+     * Cache: evaluated once per cell, re-evaluated after update of the cell.
+     */
+    @Test
+    public void testTableUpdate() {
+        DefaultTableModel model = new DefaultTableModel(new Object[][] {
+                {"a0", "b0"}, {"b1", "a1"}, {"a2", "b2"}}, new Object[] {"A", "B"});
+        JXTableT table = new JXTableT(model);
+        CountingPredicate counting = new CountingPredicate();
+        CachingHighlightPredicate predicate = new CachingHighlightPredicate(counting);
+        predicate.getCache().install(model);
+        assertTrue(predicate.isHighlighted(null, table.getComponentAdapter(0, 0)));
+        assertFalse(predicate.isHighlighted(null, table.getComponentAdapter(0, 1)));
+        assertTrue(predicate.isHighlighted(null, table.getComponentAdapter(0, 0)));
+        assertEquals(2, counting.count);
+        model.setValueAt("b0", 0, 0);
+        assertFalse(predicate.isHighlighted(null, table.getComponentAdapter(0, 0)));
+        assertFalse(predicate.isHighlighted(null, table.getComponentAdapter(0, 1)));
+        assertEquals("updated cell re-evaluated, other cached", 3, counting.count);
+    }
+    
+    /**
+     * Cache: keyed by model coordinates, unaffected by sorting and
+     * column re-ordering.
+     */
+    @Test
+    public void testTableModelCoordinates() {
+        DefaultTableModel model = new DefaultTableModel(new Object[][] {
+                {"b0", "b0"}, {"a1", "a1"}, {"c2", "b2"}}, new Object[] {"A", "B"});
+        JXTableT table = new JXTableT(model);
+        CountingPredicate counting = new CountingPredicate();
+        CachingHighlightPredicate predicate = new CachingHighlightPredicate(counting);
+        predicate.getCache().install(model);
+        for (int row = 0; row < table.getRowCount(); row++) {
+            for (int column = 0; column < table.getColumnCount(); column++) {
+                predicate.isHighlighted(null, table.getComponentAdapter(row, column));
+            }
+        }
+        assertEquals(6, counting.count);
+        table.toggleSortOrder(0);
+        table.getColumnModel().moveColumn(0, 1);
+        assertTrue(predicate.isHighlighted(null, table.getComponentAdapter(0, 1)));
+        assertTrue(predicate.isHighlighted(null, table.getComponentAdapter(0, 0)));
+        assertFalse(predicate.isHighlighted(null, table.getComponentAdapter(2, 1)));
+        assertEquals("all cached", 6, counting.count);
+    }
+    
+    /**
+     * Cache: results of rows after inserted/removed rows are shifted.
+     */
+    @Test
+    public void testTableInsertRemove() {
+        DefaultTableModel model = new DefaultTableModel(new Object[][] {
+                {"a0"}, {"b1"}, {"a2"}}, new Object[] {"A"});
+        JXTableT table = new JXTableT(model);
+        CountingPredicate counting = new CountingPredicate();
+        CachingHighlightPredicate predicate = new CachingHighlightPredicate(counting);
+        predicate.getCache().install(model);
+        for (int row = 0; row < table.getRowCount(); row++) {
+            predicate.isHighlighted(null, table.getComponentAdapter(row, 0));
+        }
+        model.insertRow(1, new Object[] {"b-inserted"});
+        assertFalse(predicate.isHighlighted(null, table.getComponentAdapter(1, 0)));
+        assertEquals("inserted row evaluated", 4, counting.count);
+        assertFalse(predicate.isHighlighted(null, table.getComponentAdapter(2, 0)));
+        assertTrue(predicate.isHighlighted(null, table.getComponentAdapter(3, 0)));
+        assertEquals("shifted rows cached", 4, counting.count);
+        model.removeRow(0);
+        assertFalse(predicate.isHighlighted(null, table.getComponentAdapter(0, 0)));
+        assertTrue(predicate.isHighlighted(null, table.getComponentAdapter(2, 0)));
+        assertEquals("shifted rows cached", 4, counting.count);
+    }
+    
+    /**
+     * Cache: structure change clears all.
+     */
+    @Test
+    public void testTableDataChanged() {
+        DefaultTableModel model = new DefaultTableModel(new Object[][] {
+                {"a0"}, {"b1"}}, new Object[] {"A"});
+        JXTableT table = new JXTableT(model);
+        CountingPredicate counting = new CountingPredicate();
+        CachingHighlightPredicate predicate = new CachingHighlightPredicate(counting);
+        predicate.getCache().install(model);
+        predicate.isHighlighted(null, table.getComponentAdapter(0, 0));
+        model.fireTableDataChanged();
+        predicate.isHighlighted(null, table.getComponentAdapter(0, 0));
+        assertEquals(2, counting.count);
+    }
+    
+    /**
+     * Cache: list model events.
+     */
+    @Test
+    public void testList() {
+        DefaultListModel model = new DefaultListModel();
+        model.addElement("a0");
+        model.addElement("b1");
+        JXListT list = new JXListT(model);
+        CountingPredicate counting = new CountingPredicate();
+        CachingHighlightPredicate predicate = new CachingHighlightPredicate(counting);
+        predicate.getCache().install(model);
+        assertTrue(predicate.isHighlighted(null, list.getComponentAdapter(0)));
+        assertFalse(predicate.isHighlighted(null, list.getComponentAdapter(1)));
+        model.add(0, "b-inserted");
+        assertTrue(predicate.isHighlighted(null, list.getComponentAdapter(1)));
+        assertEquals(2, counting.count);
+        model.set(1, "b0");
+        assertFalse(predicate.isHighlighted(null, list.getComponentAdapter(1)));
+        assertEquals(3, counting.count);
+    }
+    
+    /**
+     * Cache: tree expansion clears rows below the expanded node.
+     */
+    @Test
+    public void testTreeExpansion() {
+        DefaultMutableTreeNode root = new DefaultMutableTreeNode("root");
+        DefaultMutableTreeNode first = new DefaultMutableTreeNode("a-first");
+        first.add(new DefaultMutableTreeNode("b-child"));
+        root.add(first);
+        root.add(new DefaultMutableTreeNode("a-second"));
+        JXTreeT tree = new JXTreeT(new DefaultTreeModel(root));
+        CountingPredicate counting = new CountingPredicate();
+        CachingHighlightPredicate predicate = new CachingHighlightPredicate(counting);
+        predicate.getCache().install(tree);
+        assertTrue(predicate.isHighlighted(null, tree.getComponentAdapter(1)));
+        assertTrue(predicate.isHighlighted(null, tree.getComponentAdapter(2)));
+        tree.expandRow(1);
+        assertFalse(predicate.isHighlighted(null, tree.getComponentAdapter(2)));
+        assertTrue(predicate.isHighlighted(null, tree.getComponentAdapter(1)));
+        assertEquals("row above expanded cached", 3, counting.count);
+    }
+    
+    /**
+     * Cache: uninstalled cache doesn't listen.
+     */
+    @Test
+    public void testUninstall() {
+        DefaultTableModel model = new DefaultTableModel(1, 1);
+        PredicateResultCache cache = new PredicateResultCache();
+        cache.install(model);
+        int listeners = model.getTableModelListeners().length;
+        cache.uninstall();
+        assertEquals(listeners - 1, model.getTableModelListeners().length);
+    }
+    
+    @Test (expected = NullPointerException.class)
+    public void testNullDelegate() {
+        new CachingHighlightPredicate(null);
+    }
+}
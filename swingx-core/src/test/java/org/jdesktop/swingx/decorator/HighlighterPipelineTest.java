@@ -0,0 +1,167 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ */
+
+package org.jdesktop.swingx.decorator;
+
+import java.awt.Color;
+import java.awt.Component;
+import java.awt.Point;
+
+import javax.swing.JLabel;
+import javax.swing.table.DefaultTableModel;
+
+import org.jdesktop.swingx.InteractiveTestCase;
+import org.jdesktop.swingx.JXTable;
+import org.jdesktop.swingx.decorator.ComponentAdapterTest.JXTableT;
+import org.jdesktop.swingx.decorator.HighlightPredicate.AndHighlightPredicate;
+import org.jdesktop.swingx.decorator.HighlightPredicate.ColumnHighlightPredicate;
+import org.jdesktop.swingx.decorator.HighlightPredicate.NotHighlightPredicate;
+import org.jdesktop.swingx.decorator.HighlightPredicate.OrHighlightPredicate;
+import org.jdesktop.swingx.rollover.RolloverProducer;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests for the compiled HighlighterPipeline.
+ * 
+ * @author agent
+ */
+@RunWith(JUnit4.class)
+public class HighlighterPipelineTest extends InteractiveTestCase {
+
+    /**
+     * Compiled: highlighters with column-only predicates are dropped 
+     * from columns they never apply to.
+     */
+    @Test
+    public void testCompileColumnPredicate() {
+        JXTableT table = new JXTableT(new DefaultTableModel(10, 3));
+        Highlighter hl = new ColorHighlighter(new ColumnHighlightPredicate(1), Color.RED, null);
+        HighlighterPipeline pipeline = compile(table, hl);
+        assertEquals(0, pipeline.getHighlighterCount(0));
+        assertEquals(1, pipeline.getHighlighterCount(1));
+        assertEquals(0, pipeline.getHighlighterCount(2));
+    }
+    
+    /**
+     * Compiled: nested compounds are flattened, constant false predicates 
+     * dropped.
+     */
+    @Test
+    public void testCompileFlattenCompound() {
+        JXTableT table = new JXTableT(new DefaultTableModel(10, 2));
+        CompoundHighlighter compound = new CompoundHighlighter(
+                new ColorHighlighter(Color.RED, null),
+                new CompoundHighlighter(new ColorHighlighter(Color.BLUE, null)),
+                new ColorHighlighter(HighlightPredicate.NEVER, Color.RED, null));
+        HighlighterPipeline pipeline = compile(table, compound);
+        assertEquals(2, pipeline.getHighlighterCount(0));
+    }
+    
+    /**
+     * Compiled: row-only predicates are shared across highlighters and columns, 
+     * mixed row/column logical predicates are reduced to their row parts.
+     */
+    @Test
+    public void testCompileRowPredicates() {
+        JXTableT table = new JXTableT(new DefaultTableModel(10, 3));
+        HighlightPredicate mixed = new AndHighlightPredicate(
+                HighlightPredicate.EVEN, new ColumnHighlightPredicate(0));
+        HighlighterPipeline pipeline = compile(table, 
+                new ColorHighlighter(HighlightPredicate.EVEN, Color.RED, null),
+                new ColorHighlighter(mixed, Color.BLUE, null),
+                new ColorHighlighter(new OrHighlightPredicate(HighlightPredicate.ODD, 
+                        new NotHighlightPredicate(HighlightPredicate.EVEN)), Color.BLUE, null));
+        assertEquals(3, pipeline.getHighlighterCount(0));
+        assertEquals(2, pipeline.getHighlighterCount(1));
+        assertEquals("EVEN and interned or", 2, pipeline.getRowPredicateCount());
+    }
+    
+    /**
+     * Compiled: row predicates are evaluated once per row while caching.
+     */
+    @Test
+    public void testRowCaching() {
+        JXTableT table = new JXTableT(new DefaultTableModel(10, 2));
+        Highlighter hl = new ColorHighlighter(HighlightPredicate.ROLLOVER_ROW, Color.RED, null);
+        HighlighterPipeline pipeline = compile(table, hl);
+        pipeline.setRowCaching(true);
+        table.putClientProperty(RolloverProducer.ROLLOVER_KEY, new Point(0, 1));
+        ComponentAdapter adapter = table.getComponentAdapter(1, 0);
+        JLabel label = new JLabel();
+        pipeline.highlight(label, adapter);
+        assertEquals(Color.RED, label.getBackground());
+        // change rollover without leaving the row
+        table.putClientProperty(RolloverProducer.ROLLOVER_KEY, new Point(0, 2));
+        adapter.column = 1;
+        label.setBackground(null);
+        pipeline.highlight(label, adapter);
+        assertEquals("cached row predicate", Color.RED, label.getBackground());
+        pipeline.setRowCaching(false);
+        label.setBackground(null);
+        pipeline.highlight(label, adapter);
+        assertNull("uncached row predicate", label.getBackground());
+    }
+    
+    /**
+     * Compiled: JXTable with compiled highlighting renders the same 
+     * as without.
+     */
+    @Test
+    public void testTableCompiledHighlighting() {
+        JXTable table = new JXTable(new DefaultTableModel(10, 3));
+        table.addHighlighter(HighlighterFactory.createSimpleStriping(Color.YELLOW));
+        table.addHighlighter(new ColorHighlighter(new AndHighlightPredicate(
+                HighlightPredicate.ODD, new ColumnHighlightPredicate(2)), null, Color.RED));
+        table.getColumnExt(1).addHighlighter(new ColorHighlighter(
+                HighlightPredicate.IS_SELECTED, Color.GREEN, null));
+        table.setRowSelectionInterval(3, 3);
+        Color[][] expected = getColors(table);
+        table.setCompiledHighlighting(true);
+        assertTrue(table.isCompiledHighlighting());
+        assertColors(expected, getColors(table));
+        // change after compile must be picked up
+        table.getColumnExt(0).addHighlighter(new ColorHighlighter(
+                HighlightPredicate.EVEN, Color.BLUE, null));
+        table.setCompiledHighlighting(false);
+        expected = getColors(table);
+        table.setCompiledHighlighting(true);
+        assertColors(expected, getColors(table));
+    }
+
+    private void assertColors(Color[][] expected, Color[][] actual) {
+        for (int row = 0; row < expected.length; row++) {
+            for (int column = 0; column < expected[row].length; column++) {
+                assertEquals("cell " + row + "/" + column, 
+                        expected[row][column], actual[row][column]);
+            }
+        }
+    }
+    
+    private Color[][] getColors(JXTable table) {
+        Color[][] colors = new Color[table.getRowCount()][table.getColumnCount() * 2];
+        for (int row = 0; row < table.getRowCount(); row++) {
+            for (int column = 0; column < table.getColumnCount(); column++) {
+                Component comp = table.prepareRenderer(row, column);
+                colors[row][2 * column] = comp.getBackground();
+                colors[row][2 * column + 1] = comp.getForeground();
+            }
+        }
+        return colors;
+    }
+    
+    private HighlighterPipeline compile(JXTableT table, Highlighter... highlighters) {
+        Highlighter[][] perColumn = new Highlighter[table.getColumnCount()][];
+        for (int i = 0; i < perColumn.length; i++) {
+            perColumn[i] = highlighters;
+        }
+        HighlighterPipeline pipeline = new HighlighterPipeline();
+        pipeline.compile(perColumn, table.getComponentAdapter(0, 0), true);
+        return pipeline;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ */
+package org.jdesktop.swingx.plaf.basic.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests the prefix sums of RowHeights against a naive list.
+ * 
+ * @author agent
+ */
+@RunWith(JUnit4.class)
+public class RowHeightsTest extends TestCase {
+
+    @Test
+    public void testInitial() {
+        int[] heights = {3, 0, 5, 2};
+        RowHeights rows = new RowHeights(heights.clone(), 4, 2);
+        assertRows(asList(heights), rows);
+        assertTrue(rows.isMeasured(1));
+        assertFalse(rows.isMeasured(2));
+        assertEquals(10, rows.getTotalHeight());
+        assertEquals(5, rows.getMaxHeight());
+        // zero height row never contains an offset
+        assertEquals(2, rows.getRow(3));
+        assertEquals(4, rows.getRow(10));
+    }
+    
+    @Test
+    public void testEmpty() {
+        RowHeights rows = new RowHeights(new int[0], 0, 0);
+        assertEquals(0, rows.getTotalHeight());
+        assertEquals(0, rows.getRow(0));
+        rows.insert(0, 3, 7, false);
+        assertRows(asList(new int[] {7, 7, 7}), rows);
+    }
+    
+    @Test
+    public void testModifications() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<Integer>();
+        int[] initial = new int[20];
+        for (int i = 0; i < initial.length; i++) {
+            initial[i] = random.nextInt(30);
+            expected.add(initial[i]);
+        }
+        RowHeights rows = new RowHeights(initial, initial.length, initial.length);
+        for (int step = 0; step < 300; step++) {
+            int size = expected.size();
+            switch (random.nextInt(5)) {
+            case 0:
+                // append
+                int height = random.nextInt(30);
+                int count = 1 + random.nextInt(5);
+                rows.insert(size, count, height, true);
+                for (int i = 0; i < count; i++) expected.add(height);
+                break;
+            case 1:
+                // insert
+                int index = random.nextInt(size + 1);
+                height = random.nextInt(30);
+                count = 1 + random.nextInt(5);
+                rows.insert(index, count, height, false);
+                for (int i = 0; i < count; i++) expected.add(index, height);
+                break;
+            case 2:
+                if (size == 0) break;
+                index = random.nextInt(size);
+                count = 1 + random.nextInt(Math.min(5, size - index));
+                rows.remove(index, count);
+                for (int i = 0; i < count; i++) expected.remove(index);
+                break;
+            default:
+                if (size == 0) break;
+                index = random.nextInt(size);
+                height = random.nextInt(30);
+                rows.setHeight(index, height, true);
+                expected.set(index, height);
+            }
+            assertRows(expected, rows);
+        }
+    }
+    
+    private void assertRows(List<Integer> expected, RowHeights rows) {
+        assertEquals(expected.size(), rows.getSize());
+        int y = 0;
+        for (int row = 0; row < expected.size(); row++) {
+            assertEquals(expected.get(row).intValue(), rows.getHeight(row));
+            assertEquals(y, rows.getY(row));
+            if (expected.get(row) > 0) {
+                assertEquals(row, rows.getRow(y));
+                assertEquals(row, rows.getRow(y + expected.get(row) - 1));
+            }
+            y += expected.get(row);
+        }
+        assertEquals(y, rows.getTotalHeight());
+        assertEquals(expected.size(), rows.getRow(y));
+    }
+    
+    private List<Integer> asList(int[] heights) {
+        List<Integer> list = new ArrayList<Integer>();
+        for (int height : heights) {
+            list.add(height);
+        }
+        return list;
+    }
+}
@@ -21,11 +21,20 @@
  */
 package org.jdesktop.swingx.plaf.basic.core;
 
+import java.awt.Component;
+import java.awt.Dimension;
+import java.awt.Graphics;
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.awt.image.BufferedImage;
 import java.util.Arrays;
 import java.util.logging.Logger;
 
 import javax.swing.DefaultListModel;
+import javax.swing.JLabel;
 import javax.swing.JList;
+import javax.swing.ListCellRenderer;
+import javax.swing.ListModel;
 import javax.swing.LookAndFeel;
 import javax.swing.UIManager;
 
@@ -66,6 +75,138 @@ public class XListUITest extends InteractiveTestCase {
     }
 
 
+    /**
+     * Test row geometry of variable height rows.
+     */
+    @Test
+    public void testVariableRowHeights() {
+        CountingRenderer renderer = new CountingRenderer();
+        JXList list = new JXList(createIntegerModel(100));
+        list.setCellRenderer(renderer);
+        int y = list.getInsets().top;
+        for (int i = 0; i < 100; i++) {
+            Rectangle bounds = list.getCellBounds(i, i);
+            assertEquals(y, bounds.y);
+            assertEquals(renderer.getHeight(list.getElementAt(i)), bounds.height);
+            assertEquals(i, list.locationToIndex(new Point(0, y + bounds.height - 1)));
+            y += bounds.height;
+        }
+        assertEquals(y + list.getInsets().bottom, list.getPreferredSize().height);
+    }
+    
+    /**
+     * Test estimated row heights: measure visible rows only.
+     */
+    @Test
+    public void testEstimatedRowHeights() {
+        CountingRenderer renderer = new CountingRenderer();
+        JXList list = new JXList(createIntegerModel(10000));
+        list.putClientProperty(BasicXListUI.ESTIMATED_ROW_HEIGHTS, Boolean.TRUE);
+        list.setVisibleRowCount(8);
+        list.setCellRenderer(renderer);
+        list.getPreferredSize();
+        assertEquals(8, renderer.count);
+        list.setSize(100, 200);
+        BufferedImage image = new BufferedImage(100, 200, BufferedImage.TYPE_INT_ARGB);
+        Graphics g = image.getGraphics();
+        list.paint(g);
+        g.dispose();
+        // painted rows are measured
+        int y = 0;
+        int row = 0;
+        while (y < 200) {
+            Rectangle bounds = list.getCellBounds(row, row);
+            assertEquals(y, bounds.y);
+            assertEquals(renderer.getHeight(list.getElementAt(row)), bounds.height);
+            y += bounds.height;
+            row++;
+        }
+        assertTrue("expected measuring only the visible rows but was: " + renderer.count, 
+                renderer.count < 100);
+    }
+    
+    /**
+     * Test incremental layout updates: measure the changed rows only.
+     */
+    @Test
+    public void testIncrementalLayoutState() {
+        CountingRenderer renderer = new CountingRenderer();
+        DefaultListModel model = (DefaultListModel) createIntegerModel(100);
+        JXList list = new JXList(model);
+        list.setCellRenderer(renderer);
+        assertEquals(119, list.getPreferredSize().width);
+        renderer.count = 0;
+        model.addElement(1000);
+        model.add(10, 1001);
+        assertEquals(2, renderer.count);
+        assertLayout(list, renderer);
+        model.set(20, 5);
+        assertEquals(3, renderer.count);
+        assertLayout(list, renderer);
+        // widest element removed 
+        model.removeElement(99);
+        assertEquals(3, renderer.count);
+        assertEquals(118, list.getPreferredSize().width);
+        assertLayout(list, renderer);
+        model.removeRange(0, 50);
+        assertEquals(3, renderer.count);
+        assertLayout(list, renderer);
+    }
+    
+    /**
+     * Asserts the row geometry and the preferred size of the list are 
+     * the same as after a full update.
+     */
+    private void assertLayout(JXList list, CountingRenderer renderer) {
+        int y = list.getInsets().top;
+        int width = -1;
+        for (int i = 0; i < list.getElementCount(); i++) {
+            Rectangle bounds = list.getCellBounds(i, i);
+            assertEquals(y, bounds.y);
+            assertEquals(renderer.getHeight(list.getElementAt(i)), bounds.height);
+            width = Math.max(width, renderer.getWidth(list.getElementAt(i)));
+            y += bounds.height;
+        }
+        Dimension size = list.getPreferredSize();
+        assertEquals(y + list.getInsets().bottom, size.height);
+        assertEquals(width + list.getInsets().left + list.getInsets().right, size.width);
+    }
+    
+    private ListModel createIntegerModel(int size) {
+        DefaultListModel model = new DefaultListModel();
+        for (int i = 0; i < size; i++) {
+            model.addElement(i);
+        }
+        return model;
+    }
+    
+    /**
+     * Renderer with value dependent sizes which counts measurements.
+     */
+    public static class CountingRenderer implements ListCellRenderer {
+        private JLabel label = new JLabel();
+        private int count;
+        
+        @Override
+        public Component getListCellRendererComponent(JList list, Object value,
+                int index, boolean isSelected, boolean cellHasFocus) {
+            if (!isSelected && !cellHasFocus) {
+                count++;
+            }
+            label.setText(String.valueOf(value));
+            label.setPreferredSize(new Dimension(getWidth(value), getHeight(value)));
+            return label;
+        }
+        
+        public int getWidth(Object value) {
+            return 20 + ((Integer) value).intValue() % 100;
+        }
+        
+        public int getHeight(Object value) {
+            return 10 + ((Integer) value).intValue() % 5;
+        }
+    }
+    
     /**
      * Issue 1152-swingx: JXList re-enable sorting.
      * 
@@ -8,6 +8,8 @@ package org.jdesktop.swingx.search;
 
 import java.util.List;
 
+import javax.swing.RowFilter;
+
 import junit.framework.TestCase;
 
 import org.jdesktop.test.PropertyChangeReport;
@@ -126,6 +128,68 @@ public class PatternModelTest extends TestCase {
                 propertyReport.hasEvents("pattern"));
         
     }
+    /**
+     * The row filter must include the same values as the pattern, literal
+     * or not.
+     */
+    @Test
+    public void testCreateRowFilter() {
+        PatternModel model = new PatternModel();
+        assertNull(model.createRowFilter());
+        String[] values = {"", "t", "T", "xtx", "tx", "xT", "t\n", "\\E.t", "x"};
+        for (String text : new String[] {"t", "\\E.", "."}) {
+            model.setRawText(text);
+            for (Object rule : model.getMatchRules()) {
+                model.setMatchRule((String) rule);
+                for (boolean caseSensitive : new boolean[] {true, false}) {
+                    model.setCaseSensitive(caseSensitive);
+                    RowFilter<Object, Object> filter = model.createRowFilter(0);
+                    for (String value : values) {
+                        assertEquals(rule + " " + text + " " + value, 
+                                model.getPattern().matcher(value).find(), 
+                                filter.include(new StringEntry(value)));
+                    }
+                }
+            }
+        }
+        model.setRegexCreatorKey(PatternModel.REGEX_ANCHORED);
+        model.setRawText("^t.$");
+        RowFilter<Object, Object> filter = model.createRowFilter();
+        assertTrue(filter.include(new StringEntry("tx")));
+        assertFalse(filter.include(new StringEntry("t.x")));
+    }
+    
+    /**
+     * Entry of a single string value.
+     */
+    private static class StringEntry extends RowFilter.Entry<Object, Object> {
+        private final String value;
+        
+        StringEntry(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public Object getModel() {
+            return null;
+        }
+
+        @Override
+        public int getValueCount() {
+            return 1;
+        }
+
+        @Override
+        public Object getValue(int index) {
+            return value;
+        }
+
+        @Override
+        public Object getIdentifier() {
+            return 0;
+        }
+    }
+    
     @Test
     public void testAvailableMatchRules() {
         PatternModel model = new PatternModel();
@@ -23,7 +23,17 @@ package org.jdesktop.swingx.search;
 
 import static org.junit.Assert.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+import javax.swing.DefaultListModel;
+import javax.swing.SortOrder;
+import javax.swing.SwingUtilities;
+import javax.swing.table.DefaultTableModel;
 
 import junit.framework.TestCase;
 
@@ -32,6 +42,9 @@ import org.jdesktop.swingx.JXTable;
 import org.jdesktop.swingx.JXTree;
 import org.jdesktop.swingx.decorator.AbstractHighlighter;
 import org.jdesktop.swingx.decorator.BorderHighlighter;
+import org.jdesktop.swingx.decorator.ComponentAdapter;
+import org.jdesktop.swingx.decorator.ComponentAdapterTest.JXTableT;
+import org.jdesktop.swingx.decorator.MatchIndex;
 import org.jdesktop.swingx.decorator.SearchPredicate;
 import org.jdesktop.swingx.search.FindTest.TestListModel;
 import org.jdesktop.swingx.search.FindTest.TestTableModel;
@@ -186,6 +199,306 @@ public class SearchableTest extends TestCase {
         assertSame("get target same as table", table, searchable.getTarget());
     }
 
+    /**
+     * FindAll: index contains all matching cells, in view row and 
+     * model column coordinates.
+     */
+    @Test
+    public void testTableFindAll() {
+        JXTableT table = new JXTableT(new TestTableModel());
+        table.getColumnModel().moveColumn(0, 3);
+        table.toggleSortOrder(1);
+        Pattern pattern = Pattern.compile("e1");
+        MatchIndex index = ((AbstractSearchable) table.getSearchable()).findAll(pattern);
+        int count = 0;
+        SearchPredicate predicate = new SearchPredicate(pattern);
+        SearchPredicate indexPredicate = new SearchPredicate(pattern, index);
+        for (int row = 0; row < table.getRowCount(); row++) {
+            for (int column = 0; column < table.getColumnCount(); column++) {
+                boolean matches = pattern.matcher(table.getStringAt(row, column)).find();
+                if (matches) count++;
+                assertEquals(matches, index.contains(row, table.convertColumnIndexToModel(column)));
+                ComponentAdapter adapter = table.getComponentAdapter(row, column);
+                assertEquals(predicate.isHighlighted(null, adapter), 
+                        indexPredicate.isHighlighted(null, adapter));
+            }
+        }
+        assertEquals(count, index.getMatchCount());
+        for (int i = 1; i < index.getMatchCount(); i++) {
+            assertTrue("sorted by row", index.getRow(i - 1) <= index.getRow(i));
+        }
+    }
+    
+    /**
+     * FindAll: list and tree.
+     */
+    @Test
+    public void testListTreeFindAll() {
+        JXList list = new JXList(new TestListModel());
+        Pattern pattern = Pattern.compile("1");
+        MatchIndex index = ((AbstractSearchable) list.getSearchable()).findAll(pattern);
+        int count = 0;
+        for (int row = 0; row < list.getElementCount(); row++) {
+            boolean matches = pattern.matcher(list.getStringAt(row)).find();
+            if (matches) count++;
+            assertEquals(matches, index.contains(row, 0));
+            assertEquals(matches, index.containsRow(row));
+        }
+        assertEquals(count, index.getMatchCount());
+        JXTree tree = new JXTree();
+        tree.expandAll();
+        pattern = Pattern.compile("o");
+        index = ((AbstractSearchable) tree.getSearchable()).findAll(pattern);
+        count = 0;
+        for (int row = 0; row < tree.getRowCount(); row++) {
+            if (pattern.matcher(tree.getStringAt(row)).find()) count++;
+        }
+        assertEquals(count, index.getMatchCount());
+        assertSame(MatchIndex.EMPTY, 
+                ((AbstractSearchable) tree.getSearchable()).findAll(null));
+    }
+    
+    /**
+     * FindAll: searchables without cell access scan sequentially, with the
+     * same result.
+     */
+    @Test
+    public void testFindAllSequential() {
+        JXTableT table = new JXTableT(new TestTableModel());
+        table.getColumnModel().moveColumn(0, 3);
+        Pattern pattern = Pattern.compile("e1");
+        MatchIndex expected = ((AbstractSearchable) table.getSearchable()).findAll(pattern);
+        TableSearchable searchable = new TableSearchable(table) {
+            @Override
+            protected boolean isAsyncSearchSupported() {
+                return false;
+            }
+        };
+        searchable.search(pattern, 2);
+        int foundRow = searchable.lastSearchResult.getFoundRow();
+        MatchIndex index = searchable.findAll(pattern);
+        assertTrue(expected.getMatchCount() > 0);
+        assertEquals(expected.getMatchCount(), index.getMatchCount());
+        for (int i = 0; i < index.getMatchCount(); i++) {
+            assertEquals(expected.getRow(i), index.getRow(i));
+            assertEquals(expected.getColumn(i), index.getColumn(i));
+        }
+        assertEquals("search state unchanged", foundRow, searchable.lastSearchResult.getFoundRow());
+        JXList list = new JXList(new TestListModel());
+        pattern = Pattern.compile("1");
+        expected = ((AbstractSearchable) list.getSearchable()).findAll(pattern);
+        ListSearchable listSearchable = new ListSearchable(list) {
+            @Override
+            protected boolean isAsyncSearchSupported() {
+                return false;
+            }
+        };
+        assertEquals(expected.getMatchCount(), listSearchable.findAll(pattern).getMatchCount());
+    }
+    
+    /**
+     * FindAll: the match highlighter marks all cells of the index for 
+     * searches with the same pattern.
+     */
+    @Test
+    public void testMatchHighlighterUsesMatchIndex() {
+        JXTable table = new JXTable(new TestTableModel());
+        AbstractSearchable searchable = (AbstractSearchable) table.getSearchable();
+        Pattern pattern = Pattern.compile("e1");
+        MatchIndex index = searchable.findAll(pattern);
+        searchable.search(Pattern.compile("e1"), -1);
+        SearchPredicate predicate = (SearchPredicate) 
+            searchable.getConfiguredMatchHighlighter().getHighlightPredicate();
+        assertSame(index, predicate.getMatchIndex());
+        searchable.search(Pattern.compile("e2"), -1);
+        predicate = (SearchPredicate) 
+            searchable.getConfiguredMatchHighlighter().getHighlightPredicate();
+        assertNull("other pattern marks the current match only", predicate.getMatchIndex());
+    }
+    
+    /**
+     * FindAll: sorting or editing the table invalidates the index, the
+     * match highlighter marks the current match only.
+     */
+    @Test
+    public void testMatchIndexInvalidatedByTableChanges() {
+        JXTableT table = new JXTableT(new DefaultTableModel(new Object[][] {
+                {"e1", "a"}, {"b", "e1"}, {"e10", "c"}}, new Object[] {"A", "B"}));
+        table.putClientProperty(AbstractSearchable.MATCH_HIGHLIGHTER, Boolean.TRUE);
+        AbstractSearchable searchable = (AbstractSearchable) table.getSearchable();
+        Pattern pattern = Pattern.compile("e1");
+        searchable.findAll(pattern);
+        searchable.search(pattern, -1);
+        assertNotNull(getMatchPredicate(searchable).getMatchIndex());
+        table.toggleSortOrder(0);
+        assertNull("sort must invalidate the index", 
+                getMatchPredicate(searchable).getMatchIndex());
+        // the index of the sorted view marks the sorted rows
+        MatchIndex index = searchable.findAll(pattern);
+        searchable.search(pattern, -1);
+        assertSame(index, getMatchPredicate(searchable).getMatchIndex());
+        for (int row = 0; row < table.getRowCount(); row++) {
+            for (int column = 0; column < table.getColumnCount(); column++) {
+                assertEquals(table.getStringAt(row, column).contains("e1"), 
+                        getMatchPredicate(searchable).isHighlighted(null, 
+                                table.getComponentAdapter(row, column)));
+            }
+        }
+        table.setValueAt("x", 0, 0);
+        assertNull("edit must invalidate the index", 
+                getMatchPredicate(searchable).getMatchIndex());
+        searchable.findAll(pattern);
+        searchable.search(pattern, -1);
+        table.setModel(new DefaultTableModel(2, 2));
+        assertNull("new model must invalidate the index", 
+                getMatchPredicate(searchable).getMatchIndex());
+    }
+    
+    /**
+     * FindAll: model changes of the list and expansion changes of the tree
+     * invalidate the index.
+     */
+    @Test
+    public void testMatchIndexInvalidatedByListTreeChanges() {
+        DefaultListModel model = new DefaultListModel();
+        model.addElement("e1");
+        model.addElement("e2");
+        JXList list = new JXList(model, true);
+        list.putClientProperty(AbstractSearchable.MATCH_HIGHLIGHTER, Boolean.TRUE);
+        AbstractSearchable searchable = (AbstractSearchable) list.getSearchable();
+        Pattern pattern = Pattern.compile("e");
+        searchable.findAll(pattern);
+        searchable.search(pattern, -1);
+        assertNotNull(getMatchPredicate(searchable).getMatchIndex());
+        model.add(0, "e0");
+        assertNull("insert must invalidate the index", 
+                getMatchPredicate(searchable).getMatchIndex());
+        searchable.findAll(pattern);
+        searchable.search(pattern, -1);
+        list.setSortOrder(SortOrder.DESCENDING);
+        assertNull("sort must invalidate the index", 
+                getMatchPredicate(searchable).getMatchIndex());
+        JXTree tree = new JXTree();
+        tree.putClientProperty(AbstractSearchable.MATCH_HIGHLIGHTER, Boolean.TRUE);
+        searchable = (AbstractSearchable) tree.getSearchable();
+        pattern = Pattern.compile("o");
+        searchable.findAll(pattern);
+        searchable.search(pattern, -1);
+        assertNotNull(getMatchPredicate(searchable).getMatchIndex());
+        tree.expandRow(1);
+        assertNull("expansion must invalidate the index", 
+                getMatchPredicate(searchable).getMatchIndex());
+    }
+    
+    private SearchPredicate getMatchPredicate(AbstractSearchable searchable) {
+        return (SearchPredicate) searchable.getMatchHighlighter().getHighlightPredicate();
+    }
+    
+    /**
+     * Async search: same sequence of matches as sync search, forward and 
+     * backward, reports the total count.
+     */
+    @Test
+    public void testTableAsyncSearch() throws Exception {
+        JXTable table = new JXTable(new TestTableModel());
+        JXTable syncTable = new JXTable(new TestTableModel());
+        Pattern pattern = Pattern.compile("e1");
+        int expectedCount = 0;
+        for (int row = 0; row < table.getRowCount(); row++) {
+            for (int column = 0; column < table.getColumnCount(); column++) {
+                if (pattern.matcher(table.getStringAt(row, column)).find()) {
+                    expectedCount++;
+                }
+            }
+        }
+        for (boolean backwards : new boolean[] {false, true}) {
+            int syncIndex = -1;
+            int asyncIndex = -1;
+            for (int i = 0; i < 25; i++) {
+                syncIndex = syncTable.getSearchable().search(pattern, syncIndex, backwards);
+                TestCallback callback = searchAsync(
+                        (AbstractSearchable) table.getSearchable(), pattern, asyncIndex, backwards);
+                asyncIndex = callback.found;
+                assertEquals("match " + i, syncIndex, asyncIndex);
+                assertEquals(expectedCount, callback.count);
+                assertEquals(
+                        ((AbstractSearchable) syncTable.getSearchable()).lastSearchResult.foundColumn, 
+                        ((AbstractSearchable) table.getSearchable()).lastSearchResult.foundColumn);
+            }
+        }
+    }
+    
+    /**
+     * Async search: a new search cancels the pending.
+     */
+    @Test
+    public void testAsyncSearchCancel() throws Exception {
+        final JXList list = new JXList(new TestListModel());
+        final AbstractSearchable searchable = (AbstractSearchable) list.getSearchable();
+        final List<Runnable> tasks = new ArrayList<Runnable>();
+        searchable.setSearchExecutor(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                tasks.add(command);
+            }
+        });
+        final TestCallback first = new TestCallback();
+        final TestCallback second = new TestCallback();
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                searchable.searchAsync(Pattern.compile("1"), -1, false, first);
+                searchable.searchAsync(Pattern.compile("2"), -1, false, second);
+                for (Runnable task : tasks) {
+                    task.run();
+                }
+            }
+        });
+        assertEquals("cancelled search must not report", -2, first.found);
+        assertTrue(second.found >= 0);
+        assertTrue(second.count > 0);
+    }
+    
+    /**
+     * Runs an async search on the EDT, waits for its completion and
+     * returns the callback.
+     */
+    private TestCallback searchAsync(final AbstractSearchable searchable, final Pattern pattern, 
+            final int startIndex, final boolean backwards) throws Exception {
+        final TestCallback callback = new TestCallback();
+        final List<Future<Integer>> future = new ArrayList<Future<Integer>>();
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                future.add(searchable.searchAsync(pattern, startIndex, backwards, callback));
+            }
+        });
+        int found = future.get(0).get();
+        // flush the notification
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+            }
+        });
+        assertEquals("future and callback must report the same index", 
+                callback.found, found);
+        return callback;
+    }
+    
+    public static class TestCallback implements SearchCallback {
+        int found = -2;
+        int count = -2;
+        
+        @Override
+        public void matchFound(int index) {
+            found = index;
+        }
+
+        @Override
+        public void searchFinished(int matchCount) {
+            count = matchCount;
+        }
+    }
     
     @Override
     protected void setUp() throws Exception {
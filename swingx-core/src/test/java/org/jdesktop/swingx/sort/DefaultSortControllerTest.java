@@ -21,9 +21,14 @@
  */
 package org.jdesktop.swingx.sort;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.swing.DefaultComboBoxModel;
 import javax.swing.JTable;
 import javax.swing.RowFilter;
+import javax.swing.event.RowSorterEvent;
+import javax.swing.event.RowSorterListener;
 import javax.swing.table.DefaultTableModel;
 import javax.swing.table.TableModel;
 
@@ -94,6 +99,35 @@ public class DefaultSortControllerTest extends InteractiveTestCase {
 
 
     
+    /**
+     * Update of a column which is neither sorted nor filtered must not
+     * change the mapping nor notify listeners.
+     */
+    @Test
+    public void testUpdateUnsortedColumn() {
+        DefaultTableModel model = new DefaultTableModel(10, 2);
+        for (int i = 0; i < model.getRowCount(); i++) {
+            model.setValueAt(String.valueOf((char) ('j' - i)), i, 0);
+        }
+        DefaultSortController<TableModel> sorter = new TableSortController<TableModel>(model);
+        sorter.toggleSortOrder(0);
+        final List<RowSorterEvent> events = new ArrayList<RowSorterEvent>();
+        sorter.addRowSorterListener(new RowSorterListener() {
+            @Override
+            public void sorterChanged(RowSorterEvent e) {
+                events.add(e);
+            }
+        });
+        model.setValueAt("changed", 3, 1);
+        sorter.rowsUpdated(3, 3, 1);
+        assertEquals(0, events.size());
+        assertEquals(3, sorter.convertRowIndexToView(6));
+        model.setValueAt("0", 3, 0);
+        sorter.rowsUpdated(3, 3, 0);
+        assertEquals(1, events.size());
+        assertEquals(0, sorter.convertRowIndexToView(3));
+    }
+    
 //------------------------ model changes with notification    
 //-------------------- conversion methods: to model
     /**
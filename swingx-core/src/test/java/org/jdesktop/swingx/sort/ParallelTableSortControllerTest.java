@@ -0,0 +1,325 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ */
+package org.jdesktop.swingx.sort;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import javax.swing.RowFilter;
+import javax.swing.RowSorter.SortKey;
+import javax.swing.SortOrder;
+import javax.swing.event.TableModelEvent;
+import javax.swing.event.TableModelListener;
+import javax.swing.table.DefaultTableModel;
+import javax.swing.table.TableModel;
+
+import org.jdesktop.swingx.table.ColumnarTableModel;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Unit test of ParallelTableSortController: runs all tests of 
+ * TableSortController and compares the results of both.
+ * 
+ * @author agent
+ */
+@RunWith(JUnit4.class)
+public class ParallelTableSortControllerTest extends TableSortControllerTest {
+
+    /**
+     * Multiple keys over primitive, nullable and string columns sort as
+     * the core sorter.
+     */
+    @Test
+    public void testMultipleKeys() {
+        TableModel model = createMixedModel(500);
+        ParallelTableSortController<TableModel> parallel = createParallel(model);
+        TableSortController<TableModel> sequential = new TableSortController<TableModel>(model);
+        List<SortKey> keys = new ArrayList<SortKey>();
+        keys.add(new SortKey(0, SortOrder.ASCENDING));
+        keys.add(new SortKey(2, SortOrder.DESCENDING));
+        keys.add(new SortKey(1, SortOrder.ASCENDING));
+        keys.add(new SortKey(3, SortOrder.DESCENDING));
+        parallel.setSortKeys(keys);
+        sequential.setSortKeys(keys);
+        assertSameMapping(sequential, parallel);
+    }
+    
+    /**
+     * Filtering and sorting as the core sorter, including updates of the model.
+     */
+    @Test
+    public void testFilterAndModelChanges() {
+        DefaultTableModel model = createMixedModel(300);
+        ParallelTableSortController<TableModel> parallel = createParallel(model);
+        TableSortController<TableModel> sequential = new TableSortController<TableModel>(model);
+        RowFilter<Object, Object> filter = RowFilter.regexFilter("[13]", 4);
+        parallel.setRowFilter(filter);
+        sequential.setRowFilter(filter);
+        parallel.toggleSortOrder(1);
+        sequential.toggleSortOrder(1);
+        assertSameMapping(sequential, parallel);
+        model.addTableModelListener(new SorterNotifier(parallel, sequential));
+        model.addRow(new Object[] {1, 2.5, "new", null, "13"});
+        model.removeRow(10);
+        model.setValueAt(-1.0, 20, 1);
+        assertSameMapping(sequential, parallel);
+        parallel.toggleSortOrder(1);
+        sequential.toggleSortOrder(1);
+        assertSameMapping(sequential, parallel);
+    }
+    
+    /**
+     * Keys read from the typed accessors of a PrimitiveTableModel sort 
+     * as the core sorter, strings by rank in the dictionary.
+     */
+    @Test
+    public void testPrimitiveModel() {
+        ColumnarTableModel model = new ColumnarTableModel(
+                new String[] {"int", "long", "double", "boolean", "string"}, 
+                new Class<?>[] {Integer.class, Long.class, Double.class, Boolean.class, String.class});
+        Random random = new Random(42);
+        model.addRows(2000);
+        for (int row = 0; row < model.getRowCount(); row++) {
+            if (random.nextInt(10) > 0) model.setInt(row, 0, random.nextInt(50) - 25);
+            if (random.nextInt(10) > 0) model.setLong(row, 1, random.nextLong() % 1000);
+            if (random.nextInt(10) > 0) model.setDouble(row, 2, random.nextInt(100) / 8.0);
+            if (random.nextInt(10) > 0) model.setBoolean(row, 3, random.nextBoolean());
+            if (random.nextInt(10) > 0) {
+                // case variants compare equal or adjacent with the collator
+                String string = "s" + random.nextInt(40);
+                model.setString(row, 4, random.nextBoolean() ? string : string.toUpperCase());
+            }
+        }
+        ParallelTableSortController<TableModel> parallel = createParallel(model);
+        parallel.setParallelThreshold(500);
+        TableSortController<TableModel> sequential = new TableSortController<TableModel>(model);
+        for (int column = 0; column < model.getColumnCount(); column++) {
+            parallel.toggleSortOrder(column);
+            sequential.toggleSortOrder(column);
+            assertSameMapping(sequential, parallel);
+            parallel.toggleSortOrder(column);
+            sequential.toggleSortOrder(column);
+            assertSameMapping(sequential, parallel);
+        }
+        List<SortKey> keys = new ArrayList<SortKey>();
+        keys.add(new SortKey(3, SortOrder.ASCENDING));
+        keys.add(new SortKey(4, SortOrder.DESCENDING));
+        keys.add(new SortKey(2, SortOrder.ASCENDING));
+        parallel.setSortKeys(keys);
+        sequential.setSortKeys(keys);
+        assertSameMapping(sequential, parallel);
+    }
+    
+    /**
+     * Unsorted, unfiltered controller doesn't transform.
+     */
+    @Test
+    public void testUnsorted() {
+        TableModel model = createMixedModel(50);
+        ParallelTableSortController<TableModel> parallel = createParallel(model);
+        parallel.toggleSortOrder(0);
+        parallel.setSortKeys(null);
+        assertEquals(model.getRowCount(), parallel.getViewRowCount());
+        for (int i = 0; i < model.getRowCount(); i++) {
+            assertEquals(i, parallel.convertRowIndexToModel(i));
+            assertEquals(i, parallel.convertRowIndexToView(i));
+        }
+    }
+    
+    /**
+     * Big models are sorted in chunks, the result must be the same.
+     */
+    @Test
+    public void testParallelSort() {
+        TableModel model = createMixedModel(20000);
+        ParallelTableSortController<TableModel> parallel = createParallel(model);
+        parallel.setParallelThreshold(1000);
+        TableSortController<TableModel> sequential = new TableSortController<TableModel>(model);
+        List<SortKey> keys = new ArrayList<SortKey>();
+        keys.add(new SortKey(3, SortOrder.ASCENDING));
+        keys.add(new SortKey(1, SortOrder.DESCENDING));
+        parallel.setSortKeys(keys);
+        sequential.setSortKeys(keys);
+        assertSameMapping(sequential, parallel);
+        keys.clear();
+        keys.add(new SortKey(2, SortOrder.ASCENDING));
+        keys.add(new SortKey(0, SortOrder.ASCENDING));
+        parallel.setSortKeys(keys);
+        sequential.setSortKeys(keys);
+        assertSameMapping(sequential, parallel);
+    }
+    
+    /**
+     * The smallest threshold sorts all models with more than one row 
+     * in chunks, the result must be the same.
+     */
+    @Test
+    public void testParallelSortMinimalThreshold() {
+        TableModel model = createMixedModel(10);
+        ParallelTableSortController<TableModel> parallel = createParallel(model);
+        parallel.setParallelThreshold(1);
+        TableSortController<TableModel> sequential = new TableSortController<TableModel>(model);
+        parallel.toggleSortOrder(0);
+        sequential.toggleSortOrder(0);
+        assertSameMapping(sequential, parallel);
+    }
+    
+    /**
+     * Thresholds lower than 1 are rejected.
+     */
+    @Test
+    public void testParallelThresholdIllegal() {
+        ParallelTableSortController<TableModel> parallel = createParallel(createMixedModel(10));
+        for (int threshold : new int[] {0, -1, -2, Integer.MIN_VALUE}) {
+            try {
+                parallel.setParallelThreshold(threshold);
+                fail("threshold " + threshold + " must be rejected");
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        }
+        assertTrue(parallel.getParallelThreshold() >= 1);
+    }
+    
+    /**
+     * Random inserts, updates and deletes of few rows are processed 
+     * incrementally, the result must be the same as the core sorter's.
+     */
+    @Test
+    public void testIncrementalModelChanges() {
+        DefaultTableModel model = createMixedModel(2000);
+        ParallelTableSortController<TableModel> parallel = createParallel(model);
+        TableSortController<TableModel> sequential = new TableSortController<TableModel>(model);
+        RowFilter<Object, Object> filter = RowFilter.regexFilter("[1-7]$", 4);
+        List<SortKey> keys = new ArrayList<SortKey>();
+        keys.add(new SortKey(0, SortOrder.DESCENDING));
+        keys.add(new SortKey(3, SortOrder.ASCENDING));
+        for (TableSortController<TableModel> sorter : Arrays.asList(parallel, sequential)) {
+            sorter.setRowFilter(filter);
+            sorter.setSortKeys(keys);
+        }
+        model.addTableModelListener(new SorterNotifier(parallel, sequential));
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i++) {
+            int row = random.nextInt(model.getRowCount());
+            switch (i % 3) {
+            case 0:
+                model.insertRow(row, new Object[] {random.nextInt(10), 1.0, "x", 
+                        new Date(random.nextInt(50)), String.valueOf(i)});
+                break;
+            case 1:
+                model.setValueAt(random.nextInt(10), row, 0);
+                model.setValueAt(String.valueOf(i), row, 4);
+                break;
+            default:
+                model.removeRow(row);
+            }
+            assertSameMapping(sequential, parallel);
+        }
+    }
+    
+    /**
+     * Updates without sortsOnUpdates leave the mapping stale, the next
+     * insert must re-sort.
+     */
+    @Test
+    public void testInsertAfterStaleUpdate() {
+        DefaultTableModel model = createMixedModel(100);
+        ParallelTableSortController<TableModel> parallel = createParallel(model);
+        TableSortController<TableModel> sequential = new TableSortController<TableModel>(model);
+        model.addTableModelListener(new SorterNotifier(parallel, sequential));
+        for (TableSortController<TableModel> sorter : Arrays.asList(parallel, sequential)) {
+            sorter.setSortsOnUpdates(false);
+            sorter.toggleSortOrder(0);
+        }
+        model.setValueAt(100, 5, 0);
+        assertSameMapping(sequential, parallel);
+        model.addRow(new Object[] {-1, 1.0, "x", null, "y"});
+        assertSameMapping(sequential, parallel);
+    }
+    
+    private void assertSameMapping(TableSortController<TableModel> expected, 
+            TableSortController<TableModel> actual) {
+        assertEquals(expected.getViewRowCount(), actual.getViewRowCount());
+        for (int i = 0; i < expected.getViewRowCount(); i++) {
+            assertEquals("view row " + i, expected.convertRowIndexToModel(i), 
+                    actual.convertRowIndexToModel(i));
+        }
+        for (int i = 0; i < expected.getModelRowCount(); i++) {
+            assertEquals("model row " + i, expected.convertRowIndexToView(i), 
+                    actual.convertRowIndexToView(i));
+        }
+    }
+    
+    /**
+     * Creates a model with columns of class Integer, Double, String, Date
+     * (with nulls) and String.
+     */
+    private DefaultTableModel createMixedModel(int rows) {
+        final Class<?>[] classes = {Integer.class, Double.class, String.class, Date.class, String.class};
+        DefaultTableModel model = new DefaultTableModel(0, classes.length) {
+            @Override
+            public Class<?> getColumnClass(int columnIndex) {
+                return classes[columnIndex];
+            }
+        };
+        Random random = new Random(42);
+        for (int i = 0; i < rows; i++) {
+            model.addRow(new Object[] {
+                    random.nextInt(10), 
+                    random.nextInt(20) / 4.0,
+                    "s" + random.nextInt(30),
+                    random.nextInt(5) == 0 ? null : new Date(random.nextInt(50)),
+                    String.valueOf(i)});
+        }
+        return model;
+    }
+
+    private ParallelTableSortController<TableModel> createParallel(TableModel model) {
+        return new ParallelTableSortController<TableModel>(model);
+    }
+    
+    @Override
+    protected TableSortController<TableModel> createDefaultSortController(
+            TableModel model) {
+        return createParallel(model);
+    }
+    
+    /**
+     * Notifies the sorters of model changes, as JTable would do.
+     */
+    private static class SorterNotifier implements TableModelListener {
+        private final TableSortController<?>[] sorters;
+
+        SorterNotifier(TableSortController<?>... sorters) {
+            this.sorters = sorters;
+        }
+
+        @Override
+        public void tableChanged(TableModelEvent e) {
+            for (TableSortController<?> sorter : sorters) {
+                switch (e.getType()) {
+                case TableModelEvent.INSERT:
+                    sorter.rowsInserted(e.getFirstRow(), e.getLastRow());
+                    break;
+                case TableModelEvent.DELETE:
+                    sorter.rowsDeleted(e.getFirstRow(), e.getLastRow());
+                    break;
+                default:
+                    sorter.rowsUpdated(e.getFirstRow(), e.getLastRow(), e.getColumn());
+                }
+            }
+        }
+    }
+}
@@ -22,6 +22,10 @@
 package org.jdesktop.swingx.sort;
 
 import java.awt.Color;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
 import java.util.regex.Pattern;
 
 import javax.swing.RowFilter;
@@ -120,6 +124,63 @@ public class RowFiltersTest extends InteractiveTestCase {
         RowFilters.regexFilter(0, "some", 1);
     }
 
+    /**
+     * Literal filters must include the same values as the regex filters of 
+     * the quoted text.
+     */
+    @Test
+    public void testLiteralFiltersAsRegex() {
+        String[] texts = {"", "a", "ab", "aab", "ba", "abab", "\u00e4b", "\\Q*", "x\u0130"};
+        String[] values = {"", "a", "A", "ab", "AB", "xaab", "aabab", "baab", "abab\n", 
+                "ab\r\n", "ab\n\n", "\u00c4B", "x\\Q*y", "\u0101ab", "xi\u0307", "Xi"};
+        Random random = new Random(11);
+        List<String> all = new ArrayList<String>(Arrays.asList(values));
+        for (int i = 0; i < 200; i++) {
+            StringBuilder builder = new StringBuilder();
+            int length = random.nextInt(12);
+            for (int j = 0; j < length; j++) {
+                builder.append("abAB\u0161".charAt(random.nextInt(5)));
+            }
+            all.add(builder.toString());
+        }
+        for (String text : texts) {
+            for (boolean caseSensitive : new boolean[] {true, false}) {
+                int flags = caseSensitive ? 0 : Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE;
+                String quoted = Pattern.quote(text);
+                assertSameInclusion(RowFilters.regexFilter(flags, quoted),
+                        RowFilters.containsFilter(text, caseSensitive), all);
+                assertSameInclusion(RowFilters.regexFilter(flags, "^" + quoted),
+                        RowFilters.startsWithFilter(text, caseSensitive), all);
+                assertSameInclusion(RowFilters.regexFilter(flags, quoted + "$"),
+                        RowFilters.endsWithFilter(text, caseSensitive), all);
+                assertSameInclusion(RowFilters.regexFilter(flags, "^" + quoted + "$"),
+                        RowFilters.equalsFilter(text, caseSensitive), all);
+            }
+        }
+    }
+    
+    @Test
+    public void testLiteralFilterColumn() {
+        RowFilter<TableModel, Integer> filter = RowFilters.containsFilter("jeff", false, 0);
+        entry.modelIndex = 3;
+        assertTrue(filter.include(entry));
+        filter = RowFilters.containsFilter("jeff", false, 1);
+        assertFalse(filter.include(entry));
+    }
+    
+    @Test(expected = NullPointerException.class)
+    public void testLiteralFilterNPEOnNullText() {
+        RowFilters.containsFilter(null, true);
+    }
+    
+    private void assertSameInclusion(RowFilter<Object, Object> expected, 
+            RowFilter<Object, Object> actual, List<String> values) {
+        for (String value : values) {
+            StringEntry entry = new StringEntry(value);
+            assertEquals("value: " + value, expected.include(entry), actual.include(entry));
+        }
+    }
+    
     public void interactiveDebug() {
         JXTable table = new JXTable(teamModel);
         table.getColumn(colorColumn).setCellRenderer(new DefaultTableRenderer(sv));
@@ -163,6 +224,37 @@ public class RowFiltersTest extends InteractiveTestCase {
         }
     }
 
+    /**
+     * Entry of a single string value.
+     */
+    private static class StringEntry extends RowFilter.Entry<Object, Object> {
+        private final String value;
+        
+        StringEntry(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public Object getModel() {
+            return null;
+        }
+
+        @Override
+        public int getValueCount() {
+            return 1;
+        }
+
+        @Override
+        public Object getValue(int index) {
+            return value;
+        }
+
+        @Override
+        public Object getIdentifier() {
+            return 0;
+        }
+    }
+    
     /**
      * Creates and returns a StringValue which maps a Color to it's R/G/B rep, 
      * prepending "R/G/B: "
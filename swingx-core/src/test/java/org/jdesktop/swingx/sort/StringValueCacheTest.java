@@ -0,0 +1,180 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ */
+package org.jdesktop.swingx.sort;
+
+import javax.swing.DefaultListModel;
+import javax.swing.table.DefaultTableModel;
+
+import org.jdesktop.swingx.InteractiveTestCase;
+import org.jdesktop.swingx.JXList;
+import org.jdesktop.swingx.JXTable;
+import org.jdesktop.swingx.renderer.DefaultListRenderer;
+import org.jdesktop.swingx.renderer.DefaultTableRenderer;
+import org.jdesktop.swingx.renderer.StringValue;
+import org.jdesktop.swingx.renderer.StringValues;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Unit tests for StringValueCache and its usage by StringValueRegistry 
+ * and collection views.
+ * 
+ * @author agent
+ */
+@RunWith(JUnit4.class)
+public class StringValueCacheTest extends InteractiveTestCase {
+
+    /**
+     * StringValue which counts its conversions.
+     */
+    public static class CountingStringValue implements StringValue {
+        int count;
+        
+        @Override
+        public String getString(Object value) {
+            count++;
+            return StringValues.TO_STRING.getString(value);
+        }
+    }
+    
+    /**
+     * Cache: sorting converts each cell only once.
+     */
+    @Test
+    public void testTableSortConvertsOnce() {
+        DefaultTableModel model = new DefaultTableModel(500, 1);
+        for (int row = 0; row < model.getRowCount(); row++) {
+            model.setValueAt("item " + ((row * 7919) % 500), row, 0);
+        }
+        JXTable table = new JXTable(model);
+        CountingStringValue sv = new CountingStringValue();
+        table.setDefaultRenderer(Object.class, new DefaultTableRenderer(sv));
+        table.setStringCacheEnabled(true);
+        table.toggleSortOrder(0);
+        assertEquals(model.getRowCount(), sv.count);
+        table.toggleSortOrder(0);
+        assertEquals("sort reversed from cache", model.getRowCount(), sv.count);
+    }
+
+    /**
+     * Cache: lazy filling, update invalidates the changed cell only.
+     */
+    @Test
+    public void testRegistryUpdate() {
+        DefaultTableModel model = new DefaultTableModel(new Object[][] {
+                {"a", "b"}, {"c", "d"}}, new Object[] {"A", "B"});
+        CountingStringValue sv = new CountingStringValue();
+        StringValueRegistry registry = new StringValueRegistry();
+        registry.setStringValue(sv, Object.class);
+        StringValueCache cache = new StringValueCache();
+        cache.install(model);
+        registry.setStringCache(cache);
+        assertEquals("a", registry.getString(0, 0, model.getValueAt(0, 0)));
+        assertEquals("a", registry.getString(0, 0, model.getValueAt(0, 0)));
+        assertEquals("d", registry.getString(1, 1, model.getValueAt(1, 1)));
+        assertEquals(2, sv.count);
+        model.setValueAt("x", 0, 0);
+        assertEquals("x", registry.getString(0, 0, model.getValueAt(0, 0)));
+        assertEquals("d", registry.getString(1, 1, model.getValueAt(1, 1)));
+        assertEquals(3, sv.count);
+        registry.setStringValue(StringValues.EMPTY, 1);
+        assertEquals("changed StringValue must invalidate", 
+                "", registry.getString(1, 1, model.getValueAt(1, 1)));
+    }
+    
+    /**
+     * Cache: inserts and removes shift the cached strings.
+     */
+    @Test
+    public void testInsertRemove() {
+        DefaultTableModel model = new DefaultTableModel(new Object[][] {
+                {"a"}, {"b"}, {"c"}}, new Object[] {"A"});
+        StringValueCache cache = new StringValueCache();
+        cache.install(model);
+        for (int row = 0; row < model.getRowCount(); row++) {
+            cache.put(row, 0, (String) model.getValueAt(row, 0));
+        }
+        model.insertRow(1, new Object[] {"inserted"});
+        assertEquals("a", cache.get(0, 0));
+        assertNull(cache.get(1, 0));
+        assertEquals("b", cache.get(2, 0));
+        assertEquals("c", cache.get(3, 0));
+        model.removeRow(0);
+        assertEquals("b", cache.get(1, 0));
+        assertEquals("c", cache.get(2, 0));
+        model.fireTableDataChanged();
+        assertNull(cache.get(1, 0));
+        assertEquals(0, cache.getSize());
+    }
+    
+    /**
+     * Cache: memory bound, least recently used columns are evicted.
+     */
+    @Test
+    public void testEviction() {
+        StringValueCache cache = new StringValueCache(25);
+        DefaultTableModel model = new DefaultTableModel(10, 3);
+        cache.install(model);
+        cache.put(0, 0, "first");
+        cache.put(0, 1, "second");
+        cache.get(0, 0);
+        cache.put(0, 2, "third");
+        assertEquals(20, cache.getSize());
+        assertEquals("first", cache.get(0, 0));
+        assertNull("least recently used column evicted", cache.get(0, 1));
+        assertEquals("third", cache.get(0, 2));
+        StringValueCache small = new StringValueCache(5);
+        small.install(model);
+        small.put(0, 0, "too many rows");
+        assertNull(small.get(0, 0));
+        assertEquals(0, small.getSize());
+    }
+    
+    /**
+     * Cache: list model events.
+     */
+    @Test
+    public void testList() {
+        DefaultListModel model = new DefaultListModel();
+        model.addElement("a");
+        model.addElement("b");
+        JXList list = new JXList(model);
+        CountingStringValue sv = new CountingStringValue();
+        list.setCellRenderer(new DefaultListRenderer(sv));
+        list.setStringCacheEnabled(true);
+        assertEquals("b", list.getStringAt(1));
+        assertEquals("b", list.getStringAt(1));
+        assertEquals(1, sv.count);
+        model.add(0, "inserted");
+        assertEquals("b", list.getStringAt(2));
+        assertEquals("shifted on insert", 1, sv.count);
+        model.set(2, "changed");
+        assertEquals("changed", list.getStringAt(2));
+        assertEquals(2, sv.count);
+        list.setStringCacheEnabled(false);
+        list.getStringAt(2);
+        assertEquals(3, sv.count);
+    }
+    
+    /**
+     * Cache: property and re-install on setModel.
+     */
+    @Test
+    public void testTableProperty() {
+        JXTable table = new JXTable(10, 2);
+        assertFalse(table.isStringCacheEnabled());
+        table.setStringCacheEnabled(true);
+        assertTrue(table.isStringCacheEnabled());
+        DefaultTableModel model = new DefaultTableModel(new Object[][] {
+                {"a"}, {"b"}}, new Object[] {"A"});
+        table.setModel(model);
+        assertEquals("b", table.getStringAt(1, 0));
+        model.setValueAt("c", 1, 0);
+        assertEquals("cache must listen to new model", "c", table.getStringAt(1, 0));
+    }
+}
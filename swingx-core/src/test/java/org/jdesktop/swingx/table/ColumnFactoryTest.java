@@ -5,9 +5,11 @@
 package org.jdesktop.swingx.table;
 
 import java.awt.Component;
+import java.util.concurrent.Executor;
 
 import javax.swing.BorderFactory;
 import javax.swing.JTable;
+import javax.swing.SwingUtilities;
 import javax.swing.table.DefaultTableCellRenderer;
 import javax.swing.table.DefaultTableModel;
 import javax.swing.table.TableCellRenderer;
@@ -17,6 +19,8 @@ import org.jdesktop.swingx.InteractiveTestCase;
 import org.jdesktop.swingx.JXTable;
 import org.jdesktop.swingx.decorator.BorderHighlighter;
 import org.jdesktop.swingx.decorator.Highlighter;
+import org.jdesktop.swingx.renderer.DefaultTableRenderer;
+import org.jdesktop.swingx.sort.RowFilters;
 import org.jdesktop.test.AncientSwingTeam;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -31,6 +35,160 @@ import org.junit.runners.JUnit4;
 @RunWith(JUnit4.class)
 public class ColumnFactoryTest extends InteractiveTestCase {
     
+    /**
+     * PackStrategy: incremental measures changed rows only.
+     */
+    @Test
+    public void testPackIncrementalStrategy() {
+        final int[] count = new int[1];
+        DefaultTableModel model = new DefaultTableModel(100, 1);
+        JXTable table = new JXTable(model);
+        table.getColumnExt(0).setCellRenderer(new DefaultTableRenderer() {
+
+            @Override
+            public Component getTableCellRendererComponent(JTable table,
+                    Object value, boolean isSelected, boolean hasFocus,
+                    int row, int column) {
+                count[0]++;
+                return super.getTableCellRendererComponent(table, value, isSelected,
+                        hasFocus, row, column);
+            }
+            
+        });
+        ColumnFactory factory = new ColumnFactory();
+        factory.setPackStrategy(new IncrementalPackStrategy());
+        table.setColumnFactory(factory);
+        table.packColumn(0, 0);
+        assertEquals("first pack measures all rows", 100, count[0]);
+        int initial = table.getColumn(0).getPreferredWidth();
+        
+        String value = "just a long string something utterly meaningless";
+        count[0] = 0;
+        model.insertRow(50, new Object[] {value});
+        table.packColumn(0, 0);
+        assertEquals("pack after insert measures inserted row only", 1, count[0]);
+        int wide = table.prepareRenderer(table.getCellRenderer(50, 0), 50, 0)
+                .getPreferredSize().width;
+        assertEquals(wide, table.getColumn(0).getPreferredWidth());
+        
+        count[0] = 0;
+        model.setValueAt("short", 10, 0);
+        table.packColumn(0, 0);
+        assertEquals("pack after update measures updated row only", 1, count[0]);
+        assertEquals(wide, table.getColumn(0).getPreferredWidth());
+        
+        count[0] = 0;
+        model.removeRow(50);
+        table.packColumn(0, 0);
+        assertEquals("pack after remove measures nothing", 0, count[0]);
+        assertTrue(table.getColumn(0).getPreferredWidth() < wide);
+        assertTrue(table.getColumn(0).getPreferredWidth() >= initial);
+    }
+    
+    /**
+     * PackStrategy: incremental respects filtered rows.
+     */
+    @Test
+    public void testPackIncrementalStrategyFilter() {
+        DefaultTableModel model = new DefaultTableModel(10, 1);
+        String value = "just a long string something utterly meaningless";
+        model.setValueAt(value, 5, 0);
+        JXTable table = new JXTable(model);
+        ColumnFactory factory = new ColumnFactory();
+        factory.setPackStrategy(new IncrementalPackStrategy());
+        table.setColumnFactory(factory);
+        table.packColumn(0, 0);
+        int wide = table.getColumn(0).getPreferredWidth();
+        table.setRowFilter(RowFilters.regexFilter("^$"));
+        table.packColumn(0, 0);
+        assertTrue("filtered row must not be measured", 
+                table.getColumn(0).getPreferredWidth() < wide);
+        table.setRowFilter(null);
+        table.packColumn(0, 0);
+        assertEquals(wide, table.getColumn(0).getPreferredWidth());
+    }
+    
+    /**
+     * PackStrategy: sampling measures the edge rows and a bounded number 
+     * of rows only.
+     */
+    @Test
+    public void testPackSamplingStrategy() {
+        final int[] count = new int[1];
+        JXTable table = new JXTable(new DefaultTableModel(1000, 1));
+        table.setValueAt("just a long string something utterly meaningless", 999, 0);
+        table.getColumnExt(0).setCellRenderer(new DefaultTableRenderer() {
+
+            @Override
+            public Component getTableCellRendererComponent(JTable table,
+                    Object value, boolean isSelected, boolean hasFocus,
+                    int row, int column) {
+                count[0]++;
+                return super.getTableCellRendererComponent(table, value, isSelected,
+                        hasFocus, row, column);
+            }
+            
+        });
+        ColumnFactory factory = new ColumnFactory();
+        SamplingPackStrategy strategy = new SamplingPackStrategy(5, 10);
+        factory.setPackStrategy(strategy);
+        table.setColumnFactory(factory);
+        table.packColumn(0, 0);
+        assertTrue("sampled rows must be bounded: " + count[0], 
+                count[0] <= 2 * strategy.getEdgeRowCount() + strategy.getSampleSize());
+        assertEquals("last row must be measured", table.prepareRenderer(
+                table.getCellRenderer(999, 0), 999, 0).getPreferredSize().width,
+                table.getColumn(0).getPreferredWidth());
+    }
+    
+    /**
+     * PackStrategy: sampling measures all rows if the table is small.
+     */
+    @Test
+    public void testPackSamplingStrategySmallTable() {
+        JXTable table = new JXTable(new DefaultTableModel(20, 1));
+        table.setValueAt("just a long string something utterly meaningless", 10, 0);
+        ColumnFactory factory = new ColumnFactory();
+        factory.setPackStrategy(new SamplingPackStrategy(5, 10));
+        table.setColumnFactory(factory);
+        table.packColumn(0, 0);
+        assertEquals(table.prepareRenderer(
+                table.getCellRenderer(10, 0), 10, 0).getPreferredSize().width,
+                table.getColumn(0).getPreferredWidth());
+    }
+
+    /**
+     * PackStrategy: string width strategy measures off the EDT and 
+     * sets the width on the EDT.
+     */
+    @Test
+    public void testPackStringWidthStrategy() throws Exception {
+        JXTable table = new JXTable(new DefaultTableModel(100, 1));
+        String value = "just a long string something utterly meaningless";
+        table.setValueAt(value, 50, 0);
+        ColumnFactory factory = new ColumnFactory();
+        factory.setPackStrategy(new StringWidthPackStrategy(new Executor() {
+            
+            @Override
+            public void execute(Runnable command) {
+                command.run();
+            }
+        }));
+        table.setColumnFactory(factory);
+        int old = table.getColumn(0).getPreferredWidth();
+        table.packColumn(0, 0);
+        assertEquals("width must not be updated before done", 
+                old, table.getColumn(0).getPreferredWidth());
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+            }
+        });
+        assertEquals(table.prepareRenderer(
+                table.getCellRenderer(50, 0), 50, 0).getPreferredSize().width,
+                table.getColumn(0).getPreferredWidth());
+    }
+    
     /**
      * Issue #1215-swingx: ColumnFactory must pack with prepareRenderer.
      * Otherwise, doesn't catch sizing effective highlighters, like f.i. font.
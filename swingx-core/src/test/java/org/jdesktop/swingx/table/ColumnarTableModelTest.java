@@ -0,0 +1,179 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ */
+package org.jdesktop.swingx.table;
+
+import javax.swing.event.TableModelEvent;
+
+import junit.framework.TestCase;
+
+import org.jdesktop.swingx.JXTable;
+import org.jdesktop.swingx.decorator.ComponentAdapter;
+import org.jdesktop.swingx.decorator.HighlightPredicate;
+import org.jdesktop.swingx.decorator.HighlightPredicate.RangeHighlightPredicate;
+import org.jdesktop.swingx.table.PrimitiveTableModel.ColumnType;
+import org.jdesktop.test.TableModelReport;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Unit tests of ColumnarTableModel.
+ * 
+ * @author agent
+ */
+@RunWith(JUnit4.class)
+public class ColumnarTableModelTest extends TestCase {
+
+    private ColumnarTableModel createModel() {
+        return new ColumnarTableModel(
+                new String[] {"int", "long", "double", "boolean", "string"}, 
+                new Class<?>[] {Integer.class, Long.class, Double.class, Boolean.class, String.class});
+    }
+    
+    @Test
+    public void testColumns() {
+        ColumnarTableModel model = createModel();
+        assertEquals(5, model.getColumnCount());
+        assertEquals("double", model.getColumnName(2));
+        assertEquals(Boolean.class, model.getColumnClass(3));
+        assertEquals(ColumnType.STRING, model.getColumnType(4));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedColumnClass() {
+        new ColumnarTableModel(new String[] {"date"}, new Class<?>[] {java.util.Date.class});
+    }
+    
+    @Test
+    public void testValues() {
+        ColumnarTableModel model = createModel();
+        int row = model.addRows(2);
+        for (int column = 0; column < model.getColumnCount(); column++) {
+            assertTrue(model.isNull(row, column));
+            assertNull(model.getValueAt(row, column));
+        }
+        model.setInt(row, 0, -3);
+        model.setLong(row, 1, Long.MIN_VALUE);
+        model.setDouble(row, 2, 1.5);
+        model.setBoolean(row, 3, true);
+        model.setString(row, 4, "text");
+        model.setString(row + 1, 4, "text");
+        assertEquals(-3, model.getValueAt(row, 0));
+        assertEquals(-3L, model.getLong(row, 0));
+        assertEquals(-3.0, model.getDouble(row, 0));
+        assertEquals(Long.MIN_VALUE, model.getValueAt(row, 1));
+        assertEquals(1.5, model.getValueAt(row, 2));
+        assertEquals(Boolean.TRUE, model.getValueAt(row, 3));
+        assertEquals("text", model.getValueAt(row, 4));
+        assertEquals(1, model.getDictionarySize(4));
+        assertEquals(model.getStringCode(row, 4), model.getStringCode(row + 1, 4));
+        
+        model.setValueAt(7.9, row, 0);
+        assertEquals(7, model.getInt(row, 0));
+        model.setValueAt(null, row, 0);
+        assertTrue(model.isNull(row, 0));
+        assertEquals(0, model.getInt(row, 0));
+        model.setValueAt(null, row, 4);
+        assertEquals(-1, model.getStringCode(row, 4));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testTypedAccessorColumnType() {
+        ColumnarTableModel model = createModel();
+        model.addRows(1);
+        model.getLong(0, 2);
+    }
+    
+    @Test
+    public void testRemoveRows() {
+        ColumnarTableModel model = createModel();
+        model.addRows(5);
+        for (int row = 0; row < 5; row++) {
+            model.setInt(row, 0, row);
+            model.setBoolean(row, 3, row % 2 == 0);
+            model.setString(row, 4, "s" + row);
+        }
+        model.setValueAt(null, 4, 0);
+        TableModelReport report = new TableModelReport(model);
+        model.removeRows(1, 2);
+        assertEquals(1, report.getEventCount());
+        assertEquals(TableModelEvent.DELETE, report.getLastEvent().getType());
+        assertEquals(3, model.getRowCount());
+        assertEquals(3, model.getInt(1, 0));
+        assertFalse(model.getBoolean(1, 3));
+        assertEquals("s3", model.getValueAt(1, 4));
+        assertTrue(model.isNull(2, 0));
+        // the freed rows are null when added again
+        model.addRows(2);
+        assertTrue(model.isNull(3, 0));
+        assertEquals(0, model.getInt(3, 0));
+        assertEquals(-1, model.getStringCode(4, 4));
+        assertFalse(model.getBoolean(4, 3));
+    }
+    
+    @Test
+    public void testEvents() {
+        ColumnarTableModel model = createModel();
+        TableModelReport report = new TableModelReport(model);
+        model.addRows(100);
+        assertEquals(1, report.getEventCount());
+        assertEquals(99, report.getLastEvent().getLastRow());
+        report.clear();
+        model.setDouble(5, 2, 1);
+        assertEquals(1, report.getUpdateEventCount());
+        assertEquals(2, report.getLastEvent().getColumn());
+    }
+    
+    /**
+     * The range predicate reads the primitive values.
+     */
+    @Test
+    public void testRangeHighlightPredicate() {
+        ColumnarTableModel model = createModel();
+        model.addRows(3);
+        model.setInt(0, 0, 5);
+        model.setInt(1, 0, 50);
+        model.setDouble(0, 2, 10.5);
+        AdapterTable table = new AdapterTable(model);
+        table.setAutoCreateRowSorter(true);
+        HighlightPredicate predicate = new RangeHighlightPredicate(0, 10);
+        ComponentAdapter adapter = table.getComponentAdapter();
+        adapter.row = 0;
+        adapter.column = 0;
+        assertTrue(predicate.isHighlighted(null, adapter));
+        adapter.row = 1;
+        assertFalse(predicate.isHighlighted(null, adapter));
+        adapter.row = 2;
+        assertFalse("null is not in range", predicate.isHighlighted(null, adapter));
+        adapter.row = 0;
+        adapter.column = 2;
+        assertFalse(predicate.isHighlighted(null, adapter));
+        adapter.column = 4;
+        assertFalse(predicate.isHighlighted(null, adapter));
+        // view coordinates
+        table.toggleSortOrder(0);
+        table.toggleSortOrder(0);
+        adapter.row = 0;
+        adapter.column = 0;
+        assertFalse(predicate.isHighlighted(null, adapter));
+    }
+    
+    /**
+     * Exposes the table's adapter to the tests.
+     */
+    private static class AdapterTable extends JXTable {
+        
+        public AdapterTable(ColumnarTableModel model) {
+            super(model);
+        }
+        
+        @Override
+        public ComponentAdapter getComponentAdapter() {
+            return super.getComponentAdapter();
+        }
+    }
+}
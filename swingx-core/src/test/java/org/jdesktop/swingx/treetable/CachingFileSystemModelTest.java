@@ -0,0 +1,235 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ */
+package org.jdesktop.swingx.treetable;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+
+import javax.swing.SwingUtilities;
+import javax.swing.event.TreeModelEvent;
+
+import org.jdesktop.swingx.InteractiveTestCase;
+import org.jdesktop.test.TreeModelReport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Unit tests of CachingFileSystemModel.
+ * 
+ * @author agent
+ */
+@RunWith(JUnit4.class)
+public class CachingFileSystemModelTest extends InteractiveTestCase {
+
+    private File root;
+    private CachingFileSystemModel model;
+    private TreeModelReport report;
+    
+    /**
+     * Children are listed in the background, sorted, and published with 
+     * insert events.
+     */
+    @Test
+    public void testLoadInBackground() throws Exception {
+        createFiles("b", "a");
+        new File(root, "c").mkdir();
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(0, model.getChildCount(root));
+                assertTrue(model.isLoading(root));
+            }
+        });
+        waitForLoaded(root);
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(3, model.getChildCount(root));
+                assertEquals(new File(root, "a"), model.getChild(root, 0));
+                assertEquals(2, model.getIndexOfChild(root, new File(root, "c")));
+                assertFalse(model.isLeaf(new File(root, "c")));
+                assertTrue(model.isLeaf(new File(root, "a")));
+                assertEquals(1, report.getInsertEventCount());
+                assertEquals(3, report.getLastInsertEvent().getChildIndices().length);
+            }
+        });
+    }
+    
+    /**
+     * Big directories are published in chunks.
+     */
+    @Test
+    public void testLoadInChunks() throws Exception {
+        String[] names = new String[600];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = String.format("f%04d", i);
+        }
+        createFiles(names);
+        loadRoot();
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(600, model.getChildCount(root));
+                assertEquals(3, report.getInsertEventCount());
+                int expected = 0;
+                for (TreeModelEvent event : report.getInsertEvents()) {
+                    for (int index : event.getChildIndices()) {
+                        assertEquals(expected++, index);
+                    }
+                }
+                assertEquals(new File(root, "f0599"), model.getChild(root, 599));
+            }
+        });
+    }
+    
+    /**
+     * Refresh must notify about removed, added and changed children.
+     */
+    @Test
+    public void testRefresh() throws Exception {
+        createFiles("a", "b", "c");
+        loadRoot();
+        report.clear();
+        assertTrue(new File(root, "a").delete());
+        createFiles("d");
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                model.refresh(root);
+            }
+        });
+        waitForLoaded(root);
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(3, model.getChildCount(root));
+                assertEquals(new File(root, "b"), model.getChild(root, 0));
+                assertEquals(new File(root, "d"), model.getChild(root, 2));
+                assertEquals(1, report.getDeleteEventCount());
+                assertEquals(0, report.getLastDeleteEvent().getChildIndices()[0]);
+                assertEquals(1, report.getInsertEventCount());
+                assertEquals(2, report.getLastInsertEvent().getChildIndices()[0]);
+            }
+        });
+    }
+    
+    /**
+     * Refresh must drop the cached listings of removed directories, and
+     * keep the others.
+     */
+    @Test
+    public void testRefreshPurgesRemovedDirectories() throws Exception {
+        final File x = new File(root, "x");
+        final File y = new File(root, "y");
+        assertTrue(x.mkdir());
+        assertTrue(y.mkdir());
+        assertTrue(new File(x, "child").createNewFile());
+        assertTrue(new File(y, "child").createNewFile());
+        loadRoot();
+        loadDirectory(x);
+        loadDirectory(y);
+        delete(x);
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                model.refresh(root);
+            }
+        });
+        waitForLoaded(root);
+        assertTrue(x.mkdir());
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                assertEquals(1, model.getChildCount(root));
+                assertEquals(1, model.getChildCount(y));
+                assertFalse(model.isLoading(y));
+                // the re-created directory is listed again
+                assertEquals(0, model.getChildCount(x));
+                assertTrue(model.isLoading(x));
+            }
+        });
+        waitForLoaded(x);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testRefreshIntervalNegative() {
+        model.setRefreshInterval(-1);
+    }
+
+    private void loadRoot() throws InterruptedException, InvocationTargetException {
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                model.getChildCount(root);
+            }
+        });
+        waitForLoaded(root);
+    }
+    
+    private void loadDirectory(final File directory) throws InterruptedException, InvocationTargetException {
+        SwingUtilities.invokeAndWait(new Runnable() {
+            @Override
+            public void run() {
+                model.getChildCount(directory);
+            }
+        });
+        waitForLoaded(directory);
+    }
+    
+    private void waitForLoaded(final File directory) throws InterruptedException, InvocationTargetException {
+        final boolean[] loading = new boolean[1];
+        for (int i = 0; i < 500; i++) {
+            SwingUtilities.invokeAndWait(new Runnable() {
+                @Override
+                public void run() {
+                    loading[0] = model.isLoading(directory);
+                }
+            });
+            if (!loading[0]) return;
+            Thread.sleep(10);
+        }
+        fail("directory not loaded in time: " + directory);
+    }
+    
+    private void createFiles(String... names) throws IOException {
+        for (String name : names) {
+            assertTrue(new File(root, name).createNewFile());
+        }
+    }
+    
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+    
+    @Override
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+        root = File.createTempFile("swingx", "");
+        root.delete();
+        root.mkdir();
+        model = new CachingFileSystemModel(root);
+        report = new TreeModelReport(model);
+    }
+    
+    @Override
+    @After
+    public void tearDown() throws Exception {
+        delete(root);
+        super.tearDown();
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ */
+package org.jdesktop.swingx.treetable;
+
+import javax.swing.tree.TreePath;
+
+import junit.framework.TestCase;
+
+import org.jdesktop.swingx.JXTreeTable;
+import org.jdesktop.test.TreeModelReport;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Unit tests of ColumnarTreeTableModel.
+ * 
+ * @author agent
+ */
+@RunWith(JUnit4.class)
+public class ColumnarTreeTableModelTest extends TestCase {
+
+    private ColumnarTreeTableModel createModel() {
+        return new ColumnarTreeTableModel(
+                new String[] {"Name", "Count", "Size", "Ratio"}, 
+                new Class<?>[] {String.class, Integer.class, Long.class, Double.class});
+    }
+    
+    @Test
+    public void testColumns() {
+        ColumnarTreeTableModel model = createModel();
+        assertEquals(4, model.getColumnCount());
+        assertEquals("Size", model.getColumnName(2));
+        assertEquals(Double.class, model.getColumnClass(3));
+        assertEquals(0, model.getHierarchicalColumn());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnsupportedColumnClass() {
+        new ColumnarTreeTableModel(new String[] {"Date"}, new Class<?>[] {java.util.Date.class});
+    }
+    
+    @Test
+    public void testStructure() {
+        ColumnarTreeTableModel model = createModel();
+        int first = model.addNodes(ColumnarTreeTableModel.ROOT, 3);
+        int grandChild = model.addNode(first + 1);
+        assertEquals(3, model.getChildCount(model.getRoot()));
+        for (int i = 0; i < 3; i++) {
+            Object child = model.getChild(model.getRoot(), i);
+            assertEquals(model.getNode(first + i), child);
+            assertEquals(i, model.getIndexOfChild(model.getRoot(), child));
+        }
+        Object parent = model.getNode(first + 1);
+        assertFalse(model.isLeaf(parent));
+        assertTrue(model.isLeaf(model.getNode(first)));
+        assertEquals(model.getNode(grandChild), model.getChild(parent, 0));
+        assertEquals(-1, model.getIndexOfChild(model.getRoot(), model.getNode(grandChild)));
+        assertEquals(new TreePath(new Object[] {model.getRoot(), parent, 
+                model.getNode(grandChild)}), model.getPath(grandChild));
+    }
+    
+    /**
+     * Random access to children must be consistent with the cursor for 
+     * sequential access.
+     */
+    @Test
+    public void testChildAccess() {
+        ColumnarTreeTableModel model = createModel();
+        int first = model.addNodes(ColumnarTreeTableModel.ROOT, 10);
+        int[] order = {0, 1, 2, 9, 3, 3, 8, 0, 5, 4};
+        for (int index : order) {
+            assertEquals(first + index, model.getChild(ColumnarTreeTableModel.ROOT, index));
+        }
+    }
+    
+    @Test
+    public void testRemove() {
+        ColumnarTreeTableModel model = createModel();
+        int first = model.addNodes(ColumnarTreeTableModel.ROOT, 4);
+        int grandChild = model.addNode(first + 1);
+        TreeModelReport report = new TreeModelReport(model);
+        model.removeNode(first + 1);
+        assertEquals(1, report.getDeleteEventCount());
+        assertEquals(1, report.getLastDeleteEvent().getChildIndices()[0]);
+        assertEquals(3, model.getChildCount(ColumnarTreeTableModel.ROOT));
+        assertEquals(first + 2, model.getChild(ColumnarTreeTableModel.ROOT, 1));
+        assertEquals(1, model.getIndex(first + 2));
+        model.removeNode(first + 3);
+        assertEquals(first + 2, model.getChild(ColumnarTreeTableModel.ROOT, 1));
+        model.addNode(ColumnarTreeTableModel.ROOT);
+        assertEquals(3, model.getChildCount(ColumnarTreeTableModel.ROOT));
+        try {
+            model.addNode(grandChild);
+            fail("descendant of removed node must not be accepted");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+    
+    @Test
+    public void testValues() {
+        ColumnarTreeTableModel model = createModel();
+        int node = model.addNode(ColumnarTreeTableModel.ROOT);
+        int other = model.addNode(ColumnarTreeTableModel.ROOT);
+        assertNull(model.getString(node, 0));
+        model.setString(node, 0, "name");
+        model.setString(other, 0, "name");
+        model.setInt(node, 1, 42);
+        model.setLong(node, 2, Long.MAX_VALUE);
+        model.setDouble(node, 3, 0.5);
+        assertEquals("name", model.getString(other, 0));
+        assertEquals(42, model.getInt(node, 1));
+        Object handle = model.getNode(node);
+        assertEquals("name", model.getValueAt(handle, 0));
+        assertEquals(42, model.getValueAt(handle, 1));
+        assertEquals(Long.MAX_VALUE, model.getValueAt(handle, 2));
+        assertEquals(0.5, model.getValueAt(handle, 3));
+        assertEquals("name", handle.toString());
+        
+        model.setValueAt(7, handle, 2);
+        assertEquals(7L, model.getLong(node, 2));
+        model.setValueAt(null, handle, 0);
+        assertNull(model.getString(node, 0));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testTypedAccessorColumnClass() {
+        ColumnarTreeTableModel model = createModel();
+        model.getInt(ColumnarTreeTableModel.ROOT, 2);
+    }
+    
+    @Test
+    public void testEvents() {
+        ColumnarTreeTableModel model = createModel();
+        TreeModelReport report = new TreeModelReport(model);
+        int first = model.addNodes(ColumnarTreeTableModel.ROOT, 3);
+        assertEquals(1, report.getInsertEventCount());
+        assertEquals(3, report.getLastInsertEvent().getChildren().length);
+        report.clear();
+        model.setInt(first, 1, 1);
+        assertEquals(1, report.getUpdateEventCount());
+        assertEquals(model.getNode(first), report.getLastUpdateEvent().getChildren()[0]);
+    }
+    
+    @Test
+    public void testTreeTable() {
+        ColumnarTreeTableModel model = createModel();
+        int first = model.addNodes(ColumnarTreeTableModel.ROOT, 2);
+        model.addNodes(first, 3);
+        model.setString(first, 0, "first");
+        JXTreeTable treeTable = new JXTreeTable(model);
+        treeTable.expandAll();
+        // root not visible
+        assertEquals(5, treeTable.getRowCount());
+        assertEquals("first", treeTable.getValueAt(0, 0));
+        model.addNode(first + 1);
+        treeTable.expandAll();
+        assertEquals(6, treeTable.getRowCount());
+    }
+}
@@ -3,7 +3,9 @@
  */
 package org.jdesktop.swingx.treetable;
 
+import java.util.ArrayList;
 import java.util.Enumeration;
+import java.util.List;
 
 import javax.swing.tree.DefaultMutableTreeNode;
 
@@ -314,4 +316,70 @@ public class DefaultMutableTreeTableNodeUnitTest extends TestCase {
 //         b.setAllowsChildren(!b.getAllowsChildren());
 //         assertFalse(b.getAllowsChildren());
      }
+
+    /**
+     * Test the cached indices of IndexedChildrenList after modifications.
+     */
+    @Test
+    public void testIndexedChildrenList() {
+        DefaultMutableTreeTableNode root = new DefaultMutableTreeTableNode("root") {
+            @Override
+            protected List<MutableTreeTableNode> createChildrenList() {
+                return new IndexedChildrenList();
+            }
+        };
+        List<DefaultMutableTreeTableNode> nodes = new ArrayList<DefaultMutableTreeTableNode>();
+        for (int i = 0; i < 10; i++) {
+            DefaultMutableTreeTableNode node = new DefaultMutableTreeTableNode("" + i);
+            nodes.add(node);
+            root.add(node);
+        }
+        assertIndices(root);
+        root.insert(new DefaultMutableTreeTableNode("new"), 3);
+        assertIndices(root);
+        root.remove(5);
+        assertIndices(root);
+        DefaultMutableTreeTableNode removed = nodes.get(0);
+        root.remove(removed);
+        assertEquals(-1, root.getIndex(removed));
+        assertNull(removed.getParent());
+        assertIndices(root);
+        // move to end
+        root.add(nodes.get(2));
+        assertEquals(root.getChildCount() - 1, root.getIndex(nodes.get(2)));
+        assertIndices(root);
+        assertEquals(-1, root.getIndex(new DefaultMutableTreeTableNode("other")));
+    }
+    
+    /**
+     * Indexed children can be requested without subclassing.
+     */
+    @Test
+    public void testIndexedChildrenConstructor() {
+        DefaultMutableTreeTableNode root = new DefaultMutableTreeTableNode("root", true, true);
+        assertTrue(root.children instanceof IndexedChildrenList);
+        assertFalse(new DefaultMutableTreeTableNode("root", true, false).children 
+                instanceof IndexedChildrenList);
+        for (int i = 0; i < 5; i++) {
+            root.add(new DefaultMutableTreeTableNode("" + i));
+        }
+        assertIndices(root);
+    }
+    
+    /**
+     * Batch removal rejects duplicate indices.
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void testRemoveChildrenDuplicateIndices() {
+        DefaultMutableTreeTableNode root = new DefaultMutableTreeTableNode("root");
+        root.add(new DefaultMutableTreeTableNode("a"));
+        root.add(new DefaultMutableTreeTableNode("b"));
+        root.removeChildren(new int[] {1, 1});
+    }
+    
+    private void assertIndices(TreeTableNode parent) {
+        for (int i = 0; i < parent.getChildCount(); i++) {
+            assertEquals(i, parent.getIndex(parent.getChildAt(i)));
+        }
+    }
 }
@@ -1,12 +1,15 @@
 package org.jdesktop.swingx.treetable;
 
+import java.util.Arrays;
 import java.util.Vector;
 
+import javax.swing.event.TreeModelEvent;
 import javax.swing.tree.TreeNode;
 import javax.swing.tree.TreePath;
 
 import junit.framework.TestCase;
 
+import org.jdesktop.test.TreeModelReport;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
@@ -452,4 +455,101 @@ public class DefaultTreeTableModelUnitTest extends TestCase {
 //            //success
 //        }
     }
+
+    /**
+     * Test batch insert: single notification, parents updated.
+     */
+    @Test
+    public void testInsertNodesInto() {
+        TreeModelReport report = new TreeModelReport(model);
+        MutableTreeTableNode[] nodes = new MutableTreeTableNode[] {
+                new DefaultMutableTreeTableNode("new1"), grandchild4, 
+                new DefaultMutableTreeTableNode("new2") };
+        model.insertNodesInto(nodes, child1, 1);
+        assertEquals(1, report.getInsertEventCount());
+        TreeModelEvent event = report.getLastInsertEvent();
+        assertEquals(new TreePath(model.getPathToRoot(child1)), event.getTreePath());
+        assertTrue(Arrays.equals(new int[] {1, 2, 3}, event.getChildIndices()));
+        assertEquals(6, child1.getChildCount());
+        for (int i = 0; i < nodes.length; i++) {
+            assertSame(child1, nodes[i].getParent());
+            assertSame(nodes[i], child1.getChildAt(i + 1));
+        }
+        assertEquals(2, child2.getChildCount());
+        assertEquals(-1, child2.getIndex(grandchild4));
+    }
+    
+    /**
+     * Test batch insert of nodes which already are children of the parent.
+     */
+    @Test
+    public void testInsertNodesIntoSameParent() {
+        model.insertNodesInto(new MutableTreeTableNode[] {grandchild1}, child1, 3);
+        assertEquals(3, child1.getChildCount());
+        assertSame(grandchild1, child1.getChildAt(2));
+        assertSame(child1, grandchild1.getParent());
+    }
+    
+    /**
+     * Test batch remove: single notification per parent, in index order.
+     */
+    @Test
+    public void testRemoveNodesFromParent() {
+        TreeModelReport report = new TreeModelReport(model);
+        model.removeNodesFromParent(grandchild3, grandchild6, grandchild1, grandchild5);
+        assertEquals(2, report.getDeleteEventCount());
+        TreeModelEvent event = report.getLastDeleteEvent();
+        assertEquals(new TreePath(model.getPathToRoot(child2)), event.getTreePath());
+        assertTrue(Arrays.equals(new int[] {1, 2}, event.getChildIndices()));
+        assertTrue(Arrays.equals(new Object[] {grandchild5, grandchild6}, 
+                event.getChildren()));
+        assertEquals(1, child1.getChildCount());
+        assertSame(grandchild2, child1.getChildAt(0));
+        assertEquals(0, child1.getIndex(grandchild2));
+        assertEquals(1, child2.getChildCount());
+        assertNull(grandchild1.getParent());
+        assertNull(grandchild6.getParent());
+    }
+    
+    /**
+     * Test batch remove: a node passed twice is removed once.
+     */
+    @Test
+    public void testRemoveNodesFromParentDuplicates() {
+        TreeModelReport report = new TreeModelReport(model);
+        model.removeNodesFromParent(grandchild1, grandchild1);
+        assertEquals(1, report.getDeleteEventCount());
+        assertTrue(Arrays.equals(new int[] {0}, report.getLastDeleteEvent().getChildIndices()));
+        assertEquals(2, child1.getChildCount());
+        assertNull(grandchild1.getParent());
+    }
+    
+    /**
+     * Test batch remove from a parent with indexed children.
+     */
+    @Test
+    public void testRemoveNodesFromIndexedParent() {
+        DefaultMutableTreeTableNode parent = new DefaultMutableTreeTableNode("parent", true, true);
+        DefaultMutableTreeTableNode[] nodes = new DefaultMutableTreeTableNode[5];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = new DefaultMutableTreeTableNode("node" + i);
+            parent.add(nodes[i]);
+        }
+        DefaultTreeTableModel indexedModel = new DefaultTreeTableModel(parent);
+        TreeModelReport report = new TreeModelReport(indexedModel);
+        indexedModel.removeNodesFromParent(nodes[3], nodes[0], nodes[3]);
+        assertTrue(Arrays.equals(new int[] {0, 3}, report.getLastDeleteEvent().getChildIndices()));
+        assertEquals(3, parent.getChildCount());
+        assertEquals(2, parent.getIndex(nodes[4]));
+    }
+    
+    @Test
+    public void testRemoveNodesFromParentWithoutParent() {
+        try {
+            model.removeNodesFromParent(root);
+            fail("Expected IllegalArgumentException");
+        } catch (IllegalArgumentException e) {
+            //success
+        }
+    }
 }
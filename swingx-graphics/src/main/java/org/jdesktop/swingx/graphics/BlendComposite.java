@@ -873,19 +873,11 @@ public final class BlendComposite implements Composite {
 
     private static abstract class BlendingContext implements CompositeContext {
         protected final BlendComposite composite;
+        private final boolean bgr;
 
-        private BlendingContext(BlendComposite composite) {
+        private BlendingContext(BlendComposite composite, boolean bgr) {
             this.composite = composite;
-        }
-
-        @Override
-        public void dispose() {
-        }
-    }
-
-    private static class BlendingRgbContext extends BlendingContext {
-        private BlendingRgbContext(BlendComposite composite) {
-            super(composite);
+            this.bgr = bgr;
         }
 
         @Override
@@ -894,90 +886,51 @@ public final class BlendComposite implements Composite {
             int height = Math.min(src.getHeight(), dstIn.getHeight());
 
             float alpha = composite.getAlpha();
+            BlendingMode mode = composite.getMode();
 
-            int[] result = new int[4];
-            int[] srcPixel = new int[4];
-            int[] dstPixel = new int[4];
-            int[] srcPixels = new int[width];
             int[] dstPixels = new int[width];
+            if (alpha == 0.0f) {
+                // nothing is drawn
+                if (dstIn != dstOut) {
+                    for (int y = 0; y < height; y++) {
+                        dstIn.getDataElements(0, y, width, 1, dstPixels);
+                        dstOut.setDataElements(0, y, width, 1, dstPixels);
+                    }
+                }
+                return;
+            }
+            int[] srcPixels = new int[width];
+            // the opaque composite needs no mixing, blend in place
+            int[] result = alpha == 1.0f ? dstPixels : new int[width];
 
             for (int y = 0; y < height; y++) {
                 src.getDataElements(0, y, width, 1, srcPixels);
                 dstIn.getDataElements(0, y, width, 1, dstPixels);
-                for (int x = 0; x < width; x++) {
-                    // pixels are stored as INT_ARGB
-                    // our arrays are [R, G, B, A]
-                    int pixel = srcPixels[x];
-                    srcPixel[0] = (pixel >> 16) & 0xFF;
-                    srcPixel[1] = (pixel >>  8) & 0xFF;
-                    srcPixel[2] = (pixel      ) & 0xFF;
-                    srcPixel[3] = (pixel >> 24) & 0xFF;
-
-                    pixel = dstPixels[x];
-                    dstPixel[0] = (pixel >> 16) & 0xFF;
-                    dstPixel[1] = (pixel >>  8) & 0xFF;
-                    dstPixel[2] = (pixel      ) & 0xFF;
-                    dstPixel[3] = (pixel >> 24) & 0xFF;
-
-                    composite.getMode().blend(srcPixel, dstPixel, result);
-
+                BlendKernels.blend(mode, srcPixels, dstPixels, result, width, bgr);
+                if (result != dstPixels) {
                     // mixes the result with the opacity
-                    dstPixels[x] = ((int) (dstPixel[3] + (result[3] - dstPixel[3]) * alpha) & 0xFF) << 24 |
-                                   ((int) (dstPixel[0] + (result[0] - dstPixel[0]) * alpha) & 0xFF) << 16 |
-                                   ((int) (dstPixel[1] + (result[1] - dstPixel[1]) * alpha) & 0xFF) <<  8 |
-                                    (int) (dstPixel[2] + (result[2] - dstPixel[2]) * alpha) & 0xFF;
+                    BlendKernels.mix(dstPixels, result, dstPixels, width, alpha);
                 }
                 dstOut.setDataElements(0, y, width, 1, dstPixels);
             }
         }
-    }
-
-    private static class BlendingBgrContext extends BlendingContext {
-        private BlendingBgrContext(BlendComposite composite) {
-            super(composite);
-        }
 
         @Override
-        public void compose(Raster src, Raster dstIn, WritableRaster dstOut) {
-            int width = Math.min(src.getWidth(), dstIn.getWidth());
-            int height = Math.min(src.getHeight(), dstIn.getHeight());
-
-            float alpha = composite.getAlpha();
-
-            int[] result = new int[4];
-            int[] srcPixel = new int[4];
-            int[] dstPixel = new int[4];
-            int[] srcPixels = new int[width];
-            int[] dstPixels = new int[width];
+        public void dispose() {
+        }
+    }
 
-            for (int y = 0; y < height; y++) {
-                src.getDataElements(0, y, width, 1, srcPixels);
-                dstIn.getDataElements(0, y, width, 1, dstPixels);
-                for (int x = 0; x < width; x++) {
-                    // pixels are stored as INT_ABGR
-                    // our arrays are [R, G, B, A]
-                    int pixel = srcPixels[x];
-                    srcPixel[0] = (pixel      ) & 0xFF;
-                    srcPixel[1] = (pixel >>  8) & 0xFF;
-                    srcPixel[2] = (pixel >> 16) & 0xFF;
-                    srcPixel[3] = (pixel >> 24) & 0xFF;
-
-                    pixel = dstPixels[x];
-                    dstPixel[0] = (pixel      ) & 0xFF;
-                    dstPixel[1] = (pixel >>  8) & 0xFF;
-                    dstPixel[2] = (pixel >> 16) & 0xFF;
-                    dstPixel[3] = (pixel >> 24) & 0xFF;
-
-                    composite.getMode().blend(srcPixel, dstPixel, result);
+    private static class BlendingRgbContext extends BlendingContext {
+        private BlendingRgbContext(BlendComposite composite) {
+            // pixels are stored as INT_ARGB
+            super(composite, false);
+        }
+    }
 
-                    // mixes the result with the opacity
-                    dstPixels[x] = ((int) (dstPixel[3] + (result[3] - dstPixel[3]) * alpha) & 0xFF) << 24 |
-                                   ((int) (dstPixel[0] + (result[0] - dstPixel[0]) * alpha) & 0xFF)       |
-                                   ((int) (dstPixel[1] + (result[1] - dstPixel[1]) * alpha) & 0xFF) <<  8 |
-                                   ((int) (dstPixel[2] + (result[2] - dstPixel[2]) * alpha) & 0xFF) << 16;
-                }
-                dstOut.setDataElements(0, y, width, 1, dstPixels);
-            }
+    private static class BlendingBgrContext extends BlendingContext {
+        private BlendingBgrContext(BlendComposite composite) {
+            // pixels are stored as INT_ABGR
+            super(composite, true);
         }
     }
 }
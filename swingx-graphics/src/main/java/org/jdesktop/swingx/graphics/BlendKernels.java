@@ -0,0 +1,673 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.graphics;
+
+import org.jdesktop.swingx.graphics.BlendComposite.BlendingMode;
+
+/**
+ * The scanline kernels of the blending modes. A kernel blends a row of
+ * packed source pixels with a row of packed destination pixels.
+ * <p>
+ * 
+ * The modes which blend each color channel independently have a loop 
+ * method of their own, in which the channels are unpacked, blended by a small static 
+ * function and packed again, without arrays or virtual calls per pixel. 
+ * The functions use min/max/abs and shifts where the formula allows, the 
+ * remaining conditions guard divisions only. As the channels are blended 
+ * alike, these loops are independent of the channel order (ARGB or ABGR).
+ * The single channel modes (red, green, blue) copy one channel with a
+ * mask chosen for the channel order. The hue, saturation, color and 
+ * luminosity modes go through the per pixel 
+ * {@link BlendingMode#blend(int[], int[], int[])}.
+ * <p>
+ * 
+ * All results are bit-identical to the per pixel blending: the channels
+ * of all modes stay within 0 ... 255, so packing them loses nothing.
+ * 
+ * @author agent
+ */
+final class BlendKernels {
+    private BlendKernels() {
+    }
+
+    /**
+     * Blends the first <code>length</code> source pixels with the 
+     * destination pixels into out. <code>out</code> may be the same array
+     * as <code>dst</code> or <code>src</code>.
+     * 
+     * @param mode the blending mode
+     * @param src the packed source pixels
+     * @param dst the packed destination pixels
+     * @param out the packed blended pixels
+     * @param length the number of pixels to blend
+     * @param bgr true if the pixels are stored as ABGR, false for ARGB
+     */
+    static void blend(BlendingMode mode, int[] src, int[] dst, int[] out, 
+            int length, boolean bgr) {
+        // a loop per mode keeps each compiled loop small enough to inline
+        // its channel function
+        switch (mode) {
+        case AVERAGE:
+            blendAverage(src, dst, out, length);
+            break;
+        case STAMP:
+            blendStamp(src, dst, out, length);
+            break;
+        case DARKEN:
+            blendDarken(src, dst, out, length);
+            break;
+        case MULTIPLY:
+            blendMultiply(src, dst, out, length);
+            break;
+        case COLOR_BURN:
+            blendColorBurn(src, dst, out, length);
+            break;
+        case INVERSE_COLOR_BURN:
+            blendInverseColorBurn(src, dst, out, length);
+            break;
+        case SOFT_BURN:
+            blendSoftBurn(src, dst, out, length);
+            break;
+        case SUBTRACT:
+            blendSubtract(src, dst, out, length);
+            break;
+        case LIGHTEN:
+            blendLighten(src, dst, out, length);
+            break;
+        case SCREEN:
+            blendScreen(src, dst, out, length);
+            break;
+        case COLOR_DODGE:
+            blendColorDodge(src, dst, out, length);
+            break;
+        case INVERSE_COLOR_DODGE:
+            blendInverseColorDodge(src, dst, out, length);
+            break;
+        case SOFT_DODGE:
+            blendSoftDodge(src, dst, out, length);
+            break;
+        case ADD:
+            blendAdd(src, dst, out, length);
+            break;
+        case OVERLAY:
+            blendOverlay(src, dst, out, length);
+            break;
+        case SOFT_LIGHT:
+            blendSoftLight(src, dst, out, length);
+            break;
+        case HARD_LIGHT:
+            blendHardLight(src, dst, out, length);
+            break;
+        case VIVID_LIGHT:
+            blendVividLight(src, dst, out, length);
+            break;
+        case LINEAR_LIGHT:
+            blendLinearLight(src, dst, out, length);
+            break;
+        case PIN_LIGHT:
+            blendPinLight(src, dst, out, length);
+            break;
+        case HARD_MIX:
+            blendHardMix(src, dst, out, length);
+            break;
+        case REFLECT:
+            blendReflect(src, dst, out, length);
+            break;
+        case GLOW:
+            blendGlow(src, dst, out, length);
+            break;
+        case FREEZE:
+            blendFreeze(src, dst, out, length);
+            break;
+        case HEAT:
+            blendHeat(src, dst, out, length);
+            break;
+        case DIFFERENCE:
+            blendDifference(src, dst, out, length);
+            break;
+        case EXCLUSION:
+            blendExclusion(src, dst, out, length);
+            break;
+        case NEGATION:
+            blendNegation(src, dst, out, length);
+            break;
+        case RED:
+            blendChannel(src, dst, out, length, bgr ? 0x000000FF : 0x00FF0000);
+            break;
+        case GREEN:
+            blendChannel(src, dst, out, length, 0x0000FF00);
+            break;
+        case BLUE:
+            blendChannel(src, dst, out, length, bgr ? 0x00FF0000 : 0x000000FF);
+            break;
+        default:
+            blendPixels(mode, src, dst, out, length, bgr);
+        }
+    }
+
+    /**
+     * Blends pixel by pixel with the mode's 
+     * {@link BlendingMode#blend(int[], int[], int[])}.
+     * 
+     * @see #blend(BlendingMode, int[], int[], int[], int, boolean)
+     */
+    static void blendPixels(BlendingMode mode, int[] src, int[] dst, int[] out,
+            int length, boolean bgr) {
+        int[] result = new int[4];
+        int[] srcPixel = new int[4];
+        int[] dstPixel = new int[4];
+        // our arrays are [R, G, B, A]
+        int redShift = bgr ? 0 : 16;
+        int blueShift = bgr ? 16 : 0;
+        for (int i = 0; i < length; i++) {
+            int pixel = src[i];
+            srcPixel[0] = (pixel >> redShift) & 0xFF;
+            srcPixel[1] = (pixel >>  8) & 0xFF;
+            srcPixel[2] = (pixel >> blueShift) & 0xFF;
+            srcPixel[3] = (pixel >> 24) & 0xFF;
+
+            pixel = dst[i];
+            dstPixel[0] = (pixel >> redShift) & 0xFF;
+            dstPixel[1] = (pixel >>  8) & 0xFF;
+            dstPixel[2] = (pixel >> blueShift) & 0xFF;
+            dstPixel[3] = (pixel >> 24) & 0xFF;
+
+            mode.blend(srcPixel, dstPixel, result);
+
+            out[i] = (result[3] & 0xFF) << 24 
+                    | (result[0] & 0xFF) << redShift
+                    | (result[1] & 0xFF) << 8 
+                    | (result[2] & 0xFF) << blueShift;
+        }
+    }
+
+    /**
+     * Mixes the blended pixels with the destination pixels by the given 
+     * opacity, into out. <code>out</code> may be the same array as 
+     * <code>dst</code> or <code>blended</code>.
+     * 
+     * @param dst the packed destination pixels
+     * @param blended the packed blended pixels
+     * @param out the packed mixed pixels
+     * @param length the number of pixels to mix
+     * @param alpha the opacity of the blended pixels
+     */
+    static void mix(int[] dst, int[] blended, int[] out, int length, float alpha) {
+        for (int i = 0; i < length; i++) {
+            int d = dst[i];
+            int r = blended[i];
+            out[i] = mix(d >>> 24, r >>> 24, alpha) << 24
+                    | mix(d >> 16 & 0xFF, r >> 16 & 0xFF, alpha) << 16
+                    | mix(d >> 8 & 0xFF, r >> 8 & 0xFF, alpha) << 8
+                    | mix(d & 0xFF, r & 0xFF, alpha);
+        }
+    }
+
+    private static int mix(int d, int r, float alpha) {
+        return (int) (d + (r - d) * alpha) & 0xFF;
+    }
+
+    /**
+     * Takes the channel of the given mask from the source, the others from
+     * the destination.
+     */
+    private static void blendChannel(int[] src, int[] dst, int[] out, int length, int mask) {
+        int dstMask = ~mask & 0x00FFFFFF;
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24 | s & mask | d & dstMask;
+        }
+    }
+
+//------------------- separable loops
+
+    private static void blendAverage(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24
+                    | average(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | average(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | average(s & 0xFF, d & 0xFF);
+        }
+    }
+
+    private static void blendStamp(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24
+                    | stamp(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | stamp(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | stamp(s & 0xFF, d & 0xFF);
+        }
+    }
+
+    private static void blendDarken(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24
+                    | Math.min(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | Math.min(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | Math.min(s & 0xFF, d & 0xFF);
+        }
+    }
+
+    private static void blendMultiply(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24
+                    | multiply(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | multiply(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | multiply(s & 0xFF, d & 0xFF);
+        }
+    }
+
+    private static void blendColorBurn(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24
+                    | colorBurn(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | colorBurn(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | colorBurn(s & 0xFF, d & 0xFF);
+        }
+    }
+
+    private static void blendInverseColorBurn(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24
+                    | inverseColorBurn(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | inverseColorBurn(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | inverseColorBurn(s & 0xFF, d & 0xFF);
+        }
+    }
+
+    private static void blendSoftBurn(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24
+                    | softBurn(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | softBurn(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | softBurn(s & 0xFF, d & 0xFF);
+        }
+    }
+
+    private static void blendSubtract(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24
+                    | subtract(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | subtract(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | subtract(s & 0xFF, d & 0xFF);
+        }
+    }
+
+    private static void blendLighten(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24
+                    | Math.max(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | Math.max(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | Math.max(s & 0xFF, d & 0xFF);
+        }
+    }
+
+    private static void blendScreen(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24
+                    | screen(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | screen(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | screen(s & 0xFF, d & 0xFF);
+        }
+    }
+
+    private static void blendColorDodge(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24
+                    | colorDodge(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | colorDodge(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | colorDodge(s & 0xFF, d & 0xFF);
+        }
+    }
+
+    private static void blendInverseColorDodge(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24
+                    | inverseColorDodge(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | inverseColorDodge(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | inverseColorDodge(s & 0xFF, d & 0xFF);
+        }
+    }
+
+    private static void blendSoftDodge(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24
+                    | softDodge(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | softDodge(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | softDodge(s & 0xFF, d & 0xFF);
+        }
+    }
+
+    private static void blendAdd(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = addAlpha(s >>> 24, d >>> 24) << 24
+                    | add(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | add(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | add(s & 0xFF, d & 0xFF);
+        }
+    }
+
+    private static void blendOverlay(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24
+                    | overlay(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | overlay(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | overlay(s & 0xFF, d & 0xFF);
+        }
+    }
+
+    private static void blendSoftLight(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24
+                    | softLight(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | softLight(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | softLight(s & 0xFF, d & 0xFF);
+        }
+    }
+
+    private static void blendHardLight(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24
+                    | hardLight(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | hardLight(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | hardLight(s & 0xFF, d & 0xFF);
+        }
+    }
+
+    private static void blendVividLight(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24
+                    | vividLight(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | vividLight(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | vividLight(s & 0xFF, d & 0xFF);
+        }
+    }
+
+    private static void blendLinearLight(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24
+                    | linearLight(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | linearLight(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | linearLight(s & 0xFF, d & 0xFF);
+        }
+    }
+
+    private static void blendPinLight(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24
+                    | pinLight(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | pinLight(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | pinLight(s & 0xFF, d & 0xFF);
+        }
+    }
+
+    private static void blendHardMix(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24
+                    | hardMix(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | hardMix(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | hardMix(s & 0xFF, d & 0xFF);
+        }
+    }
+
+    private static void blendReflect(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24
+                    | reflect(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | reflect(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | reflect(s & 0xFF, d & 0xFF);
+        }
+    }
+
+    private static void blendGlow(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24
+                    | glow(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | glow(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | glow(s & 0xFF, d & 0xFF);
+        }
+    }
+
+    private static void blendFreeze(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24
+                    | freeze(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | freeze(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | freeze(s & 0xFF, d & 0xFF);
+        }
+    }
+
+    private static void blendHeat(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24
+                    | heat(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | heat(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | heat(s & 0xFF, d & 0xFF);
+        }
+    }
+
+    private static void blendDifference(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24
+                    | difference(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | difference(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | difference(s & 0xFF, d & 0xFF);
+        }
+    }
+
+    private static void blendExclusion(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24
+                    | exclusion(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | exclusion(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | exclusion(s & 0xFF, d & 0xFF);
+        }
+    }
+
+    private static void blendNegation(int[] src, int[] dst, int[] out, int length) {
+        for (int i = 0; i < length; i++) {
+            int s = src[i];
+            int d = dst[i];
+            out[i] = alpha(s >>> 24, d >>> 24) << 24
+                    | negation(s >> 16 & 0xFF, d >> 16 & 0xFF) << 16
+                    | negation(s >> 8 & 0xFF, d >> 8 & 0xFF) << 8
+                    | negation(s & 0xFF, d & 0xFF);
+        }
+    }
+
+//------------------- alpha
+
+    private static int alpha(int s, int d) {
+        return Math.min(255, s + d - (s * d) / 255);
+    }
+
+    private static int addAlpha(int s, int d) {
+        return Math.min(255, s + d);
+    }
+
+//------------------- channels, s is the source, d the destination channel
+
+    private static int average(int s, int d) {
+        return (s + d) >> 1;
+    }
+
+    private static int stamp(int s, int d) {
+        return Math.max(0, Math.min(255, d + 2 * s - 256));
+    }
+
+    private static int multiply(int s, int d) {
+        return (s * d + 2) >> 8;
+    }
+
+    private static int colorBurn(int s, int d) {
+        return s == 0 ? 0 : Math.max(0, 255 - (((255 - d) << 8) / s));
+    }
+
+    private static int inverseColorBurn(int s, int d) {
+        return colorBurn(d, s);
+    }
+
+    private static int softBurn(int s, int d) {
+        return d + s < 256
+                ? (d == 255 ? 255 : Math.min(255, (s << 7) / (255 - d)))
+                : Math.max(0, 255 - (((255 - d) << 7) / s));
+    }
+
+    private static int softDodge(int s, int d) {
+        return softBurn(d, s);
+    }
+
+    private static int subtract(int s, int d) {
+        return Math.max(0, s + d - 256);
+    }
+
+    private static int screen(int s, int d) {
+        return 255 - ((255 - s) * (255 - d) >> 8);
+    }
+
+    private static int colorDodge(int s, int d) {
+        return s == 255 ? 255 : Math.min((d << 8) / (255 - s), 255);
+    }
+
+    private static int inverseColorDodge(int s, int d) {
+        return colorDodge(d, s);
+    }
+
+    private static int add(int s, int d) {
+        return Math.min(255, s + d);
+    }
+
+    private static int overlay(int s, int d) {
+        return d < 128 ? d * s >> 7 : 255 - ((255 - d) * (255 - s) >> 7);
+    }
+
+    private static int hardLight(int s, int d) {
+        return overlay(d, s);
+    }
+
+    private static int softLight(int s, int d) {
+        int m = s * d / 255;
+        return m + d * (255 - ((255 - d) * (255 - s) / 255) - m) / 255;
+    }
+
+    private static int vividLight(int s, int d) {
+        return s < 128
+                ? s == 0 ? 0 : Math.max(0, 255 - ((255 - d) << 7) / s)
+                : s == 255 ? 255 : Math.min(255, (d << 7) / (255 - s));
+    }
+
+    private static int linearLight(int s, int d) {
+        return s < 128 ? Math.max(0, d + (s << 1) - 255)
+                : Math.min(255, d + (s - 128 << 1));
+    }
+
+    private static int pinLight(int s, int d) {
+        return s < 128 ? Math.min(d, s << 1) : Math.max(d, (s - 128) << 1);
+    }
+
+    private static int hardMix(int s, int d) {
+        // 0 if s + d < 256, 255 otherwise
+        return ~((s + d - 256) >> 31) & 0xFF;
+    }
+
+    private static int reflect(int s, int d) {
+        return s == 255 ? 255 : Math.min(255, d * d / (255 - s));
+    }
+
+    private static int glow(int s, int d) {
+        return reflect(d, s);
+    }
+
+    private static int freeze(int s, int d) {
+        return s == 0 ? 0 : Math.max(0, 255 - (255 - d) * (255 - d) / s);
+    }
+
+    private static int heat(int s, int d) {
+        return freeze(d, s);
+    }
+
+    private static int difference(int s, int d) {
+        return Math.abs(d - s);
+    }
+
+    private static int exclusion(int s, int d) {
+        return d + s - (d * s >> 7);
+    }
+
+    private static int negation(int s, int d) {
+        return 255 - Math.abs(255 - d - s);
+    }
+}
@@ -0,0 +1,382 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.graphics;
+
+import java.awt.image.BufferedImage;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.jdesktop.swingx.image.PixelBufferPool;
+import org.jdesktop.swingx.util.GraphicsUtilities;
+
+/**
+ * <p>A memory-bounded cache of the images generated by 
+ * <code>ShadowRenderer</code>s and <code>ReflectionRenderer</code>s. 
+ * Components which paint the same pictures with the same effect over and
+ * over can look up the effect here instead of rendering it again:</p>
+ * <pre>
+ * BufferedImage shadow = ImageEffectCache.getSharedInstance()
+ *         .getShadow(shadowRenderer, icon);
+ * </pre>
+ * <p>An entry is keyed by the renderer, the identity and the content of 
+ * the source picture and the properties of the renderer. The content is
+ * compared by a hash of all pixels, which is computed on each lookup but
+ * costs far less than rendering the effect. The cache holds weak 
+ * references to renderers and source pictures only. It listens to the 
+ * property changes of the renderers it has seen and drops their entries 
+ * when they change.</p>
+ * <p>The size of an entry is estimated as four bytes per pixel of the
+ * generated image. When the total size exceeds the maximal size, the least 
+ * recently used entries are evicted.</p>
+ * <p>The returned images are shared, client code must not modify them.</p>
+ * <p>The cache is thread-safe, renderers are not: a renderer must only be
+ * used from one thread at a time, as without the cache.</p>
+ *
+ * @author agent
+ */
+public class ImageEffectCache {
+    /**
+     * <p>The default maximal size, in bytes, of the cached images.</p>
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 16L * 1024 * 1024;
+
+    private static ImageEffectCache sharedInstance;
+
+    private final Map<Key, BufferedImage> entries;
+    private final ReferenceQueue<Object> collected;
+    private final Map<Object, Boolean> listenedRenderers;
+    private final PropertyChangeListener rendererListener;
+    private long maximumSize;
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * <p>Returns the cache shared by all clients.</p>
+     *
+     * @return the shared cache
+     */
+    public static synchronized ImageEffectCache getSharedInstance() {
+        if (sharedInstance == null) {
+            sharedInstance = new ImageEffectCache(DEFAULT_MAXIMUM_SIZE);
+        }
+        return sharedInstance;
+    }
+
+    /**
+     * <p>Creates an empty cache with the given maximal size.</p>
+     *
+     * @param maximumSize the maximal size, in bytes, of the cached images
+     * @throws IllegalArgumentException if <code>maximumSize</code> is negative
+     */
+    public ImageEffectCache(long maximumSize) {
+        entries = new LinkedHashMap<Key, BufferedImage>(16, 0.75f, true);
+        collected = new ReferenceQueue<Object>();
+        listenedRenderers = new WeakHashMap<Object, Boolean>();
+        rendererListener = new PropertyChangeListener() {
+            @Override
+            public void propertyChange(PropertyChangeEvent evt) {
+                invalidate(evt.getSource());
+            }
+        };
+        setMaximumSize(maximumSize);
+    }
+
+    /**
+     * <p>Returns the shadow of the given picture, as generated by
+     * {@link ShadowRenderer#createShadow(BufferedImage)} with the current
+     * properties of the given renderer.</p>
+     *
+     * @param renderer the renderer of the shadow
+     * @param image the picture from which the shadow must be cast
+     * @return the shared picture of the shadow
+     */
+    public BufferedImage getShadow(ShadowRenderer renderer, BufferedImage image) {
+        Key key = new Key(renderer, image, collected, 
+                renderer.getSize(), renderer.getOpacity(), renderer.getColor());
+        BufferedImage shadow = get(key);
+        if (shadow == null) {
+            shadow = renderer.createShadow(image);
+            put(key, shadow, renderer);
+        }
+        return shadow;
+    }
+
+    /**
+     * <p>Returns the reflection of the given picture, as generated by
+     * {@link ReflectionRenderer#createReflection(BufferedImage)} with the 
+     * current properties of the given renderer.</p>
+     *
+     * @param renderer the renderer of the reflection
+     * @param image the source picture
+     * @return the shared picture of the reflection
+     */
+    public BufferedImage getReflection(ReflectionRenderer renderer, BufferedImage image) {
+        Key key = new Key(renderer, image, collected, 
+                renderer.getOpacity(), renderer.getLength(), 
+                renderer.isBlurEnabled(), renderer.getBlurRadius());
+        BufferedImage reflection = get(key);
+        if (reflection == null) {
+            reflection = renderer.createReflection(image);
+            put(key, reflection, renderer);
+        }
+        return reflection;
+    }
+
+    /**
+     * <p>Sets the maximal size, in bytes, of the cached images. Evicts the
+     * least recently used entries if the current size exceeds it.</p>
+     *
+     * @param maximumSize the maximal size of the cached images
+     * @throws IllegalArgumentException if <code>maximumSize</code> is negative
+     */
+    public synchronized void setMaximumSize(long maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize must be >= 0");
+        }
+        this.maximumSize = maximumSize;
+        evict();
+    }
+
+    /**
+     * <p>Returns the maximal size, in bytes, of the cached images.</p>
+     *
+     * @return the maximal size of the cached images
+     */
+    public synchronized long getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * <p>Returns the estimated size, in bytes, of the cached images.</p>
+     *
+     * @return the size of the cached images
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+
+    /**
+     * <p>Returns the number of cached images.</p>
+     *
+     * @return the number of entries
+     */
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+
+    /**
+     * <p>Returns the number of lookups which found a cached image.</p>
+     *
+     * @return the number of hits
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * <p>Returns the number of lookups which rendered the image.</p>
+     *
+     * @return the number of misses
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * <p>Returns the number of entries evicted to keep the cache within its 
+     * maximal size. Entries dropped because their renderer changed are
+     * not counted.</p>
+     *
+     * @return the number of evictions
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * <p>Removes all entries. The statistics are kept.</p>
+     */
+    public synchronized void clear() {
+        entries.clear();
+        size = 0;
+    }
+
+    /**
+     * <p>Removes all entries generated by the given renderer.</p>
+     *
+     * @param renderer the renderer whose entries must be removed
+     */
+    public synchronized void invalidate(Object renderer) {
+        for (Iterator<Map.Entry<Key, BufferedImage>> iterator = 
+                entries.entrySet().iterator(); iterator.hasNext();) {
+            Map.Entry<Key, BufferedImage> entry = iterator.next();
+            if (entry.getKey().renderer.get() == renderer) {
+                size -= getSize(entry.getValue());
+                iterator.remove();
+            }
+        }
+    }
+
+    private synchronized BufferedImage get(Key key) {
+        BufferedImage image = entries.get(key);
+        if (image != null) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+        return image;
+    }
+
+    private synchronized void put(Key key, BufferedImage image, Object renderer) {
+        purgeCollected();
+        long imageSize = getSize(image);
+        if (imageSize > maximumSize) {
+            return;
+        }
+        if (!listenedRenderers.containsKey(renderer)) {
+            listenedRenderers.put(renderer, Boolean.TRUE);
+            if (renderer instanceof ShadowRenderer) {
+                ((ShadowRenderer) renderer).addPropertyChangeListener(rendererListener);
+            } else {
+                ((ReflectionRenderer) renderer).addPropertyChangeListener(rendererListener);
+            }
+        }
+        BufferedImage old = entries.put(key, image);
+        if (old != null) {
+            size -= getSize(old);
+        }
+        size += imageSize;
+        evict();
+    }
+
+    /**
+     * Evicts the least recently used entries until the size is within the 
+     * maximum.
+     */
+    private void evict() {
+        Iterator<BufferedImage> iterator = entries.values().iterator();
+        while (size > maximumSize && iterator.hasNext()) {
+            size -= getSize(iterator.next());
+            iterator.remove();
+            evictionCount++;
+        }
+    }
+
+    /**
+     * Removes the entries whose renderer or source picture was garbage
+     * collected.
+     */
+    private void purgeCollected() {
+        if (collected.poll() == null) {
+            return;
+        }
+        while (collected.poll() != null) {
+            // drain, the entries are found by their cleared references
+        }
+        for (Iterator<Map.Entry<Key, BufferedImage>> iterator = 
+                entries.entrySet().iterator(); iterator.hasNext();) {
+            Map.Entry<Key, BufferedImage> entry = iterator.next();
+            if (entry.getKey().isCollected()) {
+                size -= getSize(entry.getValue());
+                iterator.remove();
+            }
+        }
+    }
+
+    private static long getSize(BufferedImage image) {
+        return 4L * image.getWidth() * image.getHeight();
+    }
+
+    /**
+     * Returns a hash of the dimensions and all pixels of the image.
+     */
+    static int hashContent(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int hash = 31 * width + height;
+        int[] row = PixelBufferPool.acquire(width);
+        try {
+            for (int y = 0; y < height; y++) {
+                GraphicsUtilities.getPixels(image, 0, y, width, 1, row);
+                for (int x = 0; x < width; x++) {
+                    hash = 31 * hash + row[x];
+                }
+            }
+        } finally {
+            PixelBufferPool.release(row);
+        }
+        return hash;
+    }
+
+    /**
+     * The key of a cached image. Renderers and pictures are compared by 
+     * identity.
+     */
+    private static final class Key {
+        private final WeakReference<Object> renderer;
+        private final WeakReference<Object> image;
+        private final int contentHash;
+        private final Object[] parameters;
+        private final int hash;
+
+        Key(Object renderer, BufferedImage image, ReferenceQueue<Object> queue, 
+                Object... parameters) {
+            this.renderer = new WeakReference<Object>(renderer, queue);
+            this.image = new WeakReference<Object>(image, queue);
+            this.contentHash = hashContent(image);
+            this.parameters = parameters;
+            this.hash = 31 * (31 * (31 * System.identityHashCode(renderer) 
+                    + System.identityHashCode(image)) + contentHash) 
+                    + Arrays.hashCode(parameters);
+        }
+
+        boolean isCollected() {
+            return renderer.get() == null || image.get() == null;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key)) return false;
+            Key other = (Key) obj;
+            if (hash != other.hash || contentHash != other.contentHash) return false;
+            Object source = image.get();
+            Object owner = renderer.get();
+            return source != null && source == other.image.get() 
+                    && owner != null && owner == other.renderer.get()
+                    && Arrays.equals(parameters, other.parameters);
+        }
+    }
+}
@@ -121,6 +121,12 @@ public class ReflectionRenderer {
      */
     public static final String BLUR_ENABLED_CHANGED_PROPERTY = "reflection_blur";
 
+    /**
+     * <p>Identifies a change to the radius of the blur of the rendered
+     * reflection.</p>
+     */
+    public static final String BLUR_RADIUS_CHANGED_PROPERTY = "reflection_blur_radius";
+
     // opacity of the reflection
     private float opacity;
 
@@ -407,7 +413,11 @@ public class ReflectionRenderer {
      * @see #getBlurRadius()
      */
     public void setBlurRadius(int radius) {
+        int oldRadius = getBlurRadius();
         this.stackBlurFilter = new StackBlurFilter(radius);
+        changeSupport.firePropertyChange(BLUR_RADIUS_CHANGED_PROPERTY,
+                                         oldRadius,
+                                         getBlurRadius());
     }
 
     /**
@@ -509,7 +519,8 @@ public class ReflectionRenderer {
             g2.dispose();
         }
         
-        return isBlurEnabled() ? stackBlurFilter.filter(buffer, null) :
+        // the filter reads all pixels before writing, blur in place
+        return isBlurEnabled() ? stackBlurFilter.filter(buffer, buffer) :
                 buffer;
     }
 }
@@ -26,7 +26,9 @@ import java.awt.Color;
 import java.awt.image.BufferedImage;
 import java.beans.PropertyChangeListener;
 import java.beans.PropertyChangeSupport;
+import java.util.Arrays;
 
+import org.jdesktop.swingx.image.PixelBufferPool;
 import org.jdesktop.swingx.util.GraphicsUtilities;
 
 /**
@@ -69,6 +71,11 @@ import org.jdesktop.swingx.util.GraphicsUtilities;
  * // renderer setup
  * BufferedImage shadow = renderer.createShadow(bufferedImage);
  * </pre></p>
+ * <p>To render animated shadows without garbage, pass the image of the 
+ * previous frame as destination to {@link #createShadow(BufferedImage, 
+ * BufferedImage)}. The scratch buffers are taken from the 
+ * {@link PixelBufferPool} and the lookup tables are kept as long as size 
+ * and opacity don't change.</p>
  * <p>The generated image dimensions are computed as following:</p>
  * <pre>
  * width  = imageWidth  + 2 * shadowSize
@@ -118,6 +125,10 @@ public class ShadowRenderer {
     // notifies listeners of properties changes
     private PropertyChangeSupport changeSupport;
 
+    // the lookup tables of the horizontal and vertical averages, 
+    // valid for the size and opacity they were created with
+    private volatile SumLookups sumLookups;
+
     /**
      * <p>Creates a default good looking shadow generator.
      * The default shadow renderer provides the following default values:
@@ -282,6 +293,49 @@ public class ShadowRenderer {
      * @return the picture containing the shadow of <code>image</code> 
      */
     public BufferedImage createShadow(final BufferedImage image) {
+        return createShadow(image, null);
+    }
+
+    /**
+     * <p>Generates the shadow for a given picture and the current properties
+     * of the renderer into the given destination. The destination must 
+     * have the dimensions of the generated shadow, its previous content is 
+     * replaced.</p>
+     * @param image the picture from which the shadow must be cast
+     * @param dst the picture to store the shadow into, a new picture is
+     *   created if null
+     * @return the picture containing the shadow of <code>image</code>,
+     *   <code>dst</code> if not null
+     * @throws IllegalArgumentException if <code>dst</code> doesn't have
+     *   the dimensions of the shadow
+     */
+    public BufferedImage createShadow(final BufferedImage image, BufferedImage dst) {
+        int dstWidth = image.getWidth() + size * 2;
+        int dstHeight = image.getHeight() + size * 2;
+        if (dst == null) {
+            dst = createCompatibleTranslucentImage(dstWidth, dstHeight);
+        } else if (dst.getWidth() != dstWidth || dst.getHeight() != dstHeight) {
+            throw new IllegalArgumentException("dst must be " + dstWidth + "x"
+                    + dstHeight + " but was " + dst.getWidth() + "x" + dst.getHeight());
+        }
+
+        int[] dstBuffer = PixelBufferPool.acquire(dstWidth * dstHeight);
+        int[] srcBuffer = PixelBufferPool.acquire(image.getWidth() * image.getHeight());
+        try {
+            createShadow(image, dst, srcBuffer, dstBuffer);
+        } finally {
+            PixelBufferPool.release(srcBuffer);
+            PixelBufferPool.release(dstBuffer);
+        }
+        return dst;
+    }
+
+    /**
+     * Blurs the alpha mask of the picture into the destination, using 
+     * the given scratch buffers.
+     */
+    private void createShadow(final BufferedImage image, BufferedImage dst, 
+            int[] srcBuffer, int[] dstBuffer) {
         // Written by Sesbastien Petrucci
         int shadowSize = size * 2;
 
@@ -302,26 +356,18 @@ public class ShadowRenderer {
 
         int aSum;
 
-        BufferedImage dst = createCompatibleTranslucentImage(dstWidth, dstHeight);
-
-        int[] dstBuffer = new int[dstWidth * dstHeight];
-        int[] srcBuffer = new int[srcWidth * srcHeight];
-
         GraphicsUtilities.getPixels(image, 0, 0, srcWidth, srcHeight, srcBuffer);
 
-        int lastPixelOffset = right * dstWidth;
-        float hSumDivider = 1.0f / shadowSize;
-        float vSumDivider = opacity / shadowSize;
+        // the horizontal pass writes the rows of the source picture only,
+        // the pooled buffer has undefined contents in the rows above and below
+        Arrays.fill(dstBuffer, 0, left * dstWidth, 0);
+        Arrays.fill(dstBuffer, (left + srcHeight) * dstWidth, dstWidth * dstHeight, 0);
 
-        int[] hSumLookup = new int[256 * shadowSize];
-        for (int i = 0; i < hSumLookup.length; i++) {
-            hSumLookup[i] = (int) (i * hSumDivider);
-        }
+        int lastPixelOffset = right * dstWidth;
 
-        int[] vSumLookup = new int[256 * shadowSize];
-        for (int i = 0; i < vSumLookup.length; i++) {
-            vSumLookup[i] = (int) (i * vSumDivider);
-        }
+        SumLookups lookups = getSumLookups(shadowSize, opacity);
+        int[] hSumLookup = lookups.hSumLookup;
+        int[] vSumLookup = lookups.vSumLookup;
 
         int srcOffset;
 
@@ -424,6 +470,49 @@ public class ShadowRenderer {
         }
 
         GraphicsUtilities.setPixels(dst, 0, 0, dstWidth, dstHeight, dstBuffer);
-        return dst;
+    }
+
+    /**
+     * Returns the lookup tables of the horizontal and vertical averages
+     * for the given shadow size and opacity. The tables are re-created if 
+     * size or opacity changed and published as a whole, so concurrent 
+     * callers never see a partially built table.
+     */
+    private SumLookups getSumLookups(int shadowSize, float shadowOpacity) {
+        SumLookups lookups = sumLookups;
+        if (lookups == null || lookups.shadowSize != shadowSize 
+                || lookups.opacity != shadowOpacity) {
+            lookups = new SumLookups(shadowSize, shadowOpacity);
+            sumLookups = lookups;
+        }
+        return lookups;
+    }
+
+    /**
+     * The immutable lookup tables of the horizontal and vertical averages 
+     * for a shadow size and opacity.
+     */
+    private static final class SumLookups {
+        final int shadowSize;
+        final float opacity;
+        final int[] hSumLookup;
+        final int[] vSumLookup;
+
+        SumLookups(int shadowSize, float opacity) {
+            this.shadowSize = shadowSize;
+            this.opacity = opacity;
+            float hSumDivider = 1.0f / shadowSize;
+            float vSumDivider = opacity / shadowSize;
+
+            hSumLookup = new int[256 * shadowSize];
+            for (int i = 0; i < hSumLookup.length; i++) {
+                hSumLookup[i] = (int) (i * hSumDivider);
+            }
+
+            vSumLookup = new int[256 * shadowSize];
+            for (int i = 0; i < vSumLookup.length; i++) {
+                vSumLookup[i] = (int) (i * vSumDivider);
+            }
+        }
     }
 }
@@ -41,6 +41,15 @@ import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
 import java.awt.image.BufferedImageOp;
 import java.awt.image.ColorModel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ThreadFactory;
 
 import org.jdesktop.beans.AbstractBean;
 
@@ -48,11 +57,131 @@ import org.jdesktop.beans.AbstractBean;
  * <p>Provides an abstract implementation of the <code>BufferedImageOp</code>
  * interface. This class can be used to created new image filters based
  * on <code>BufferedImageOp</code>.</p>
+ * <p>Filters can process large pictures on several processors: if the
+ * <code>parallel</code> property is set, subclasses split their passes into
+ * stripes of rows with {@link #processStripes(int, int, Stripe)}, which run
+ * on a shared thread pool. Each stripe computes exactly the pixels the serial
+ * pass computes, so the result is identical in both modes. Pictures with
+ * fewer pixels than the parallel threshold are always processed on the
+ * calling thread.</p>
  *
  * @author Romain Guy <romain.guy@mac.com>
  */
 
 public abstract class AbstractFilter extends AbstractBean implements BufferedImageOp {
+    /**
+     * <p>The default minimal number of pixels to process in parallel.</p>
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 256 * 256;
+
+    private static ExecutorService sharedExecutor;
+
+    private boolean parallel;
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+
+    /**
+     * <p>Sets whether this filter processes large pictures on several
+     * processors. The default is false.</p>
+     *
+     * @param parallel true to process large pictures in parallel
+     */
+    public void setParallel(boolean parallel) {
+        boolean old = isParallel();
+        this.parallel = parallel;
+        firePropertyChange("parallel", old, isParallel());
+    }
+
+    /**
+     * <p>Returns whether this filter processes large pictures on several
+     * processors.</p>
+     *
+     * @return true if large pictures are processed in parallel
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * <p>Sets the minimal number of pixels of a picture to process in
+     * parallel. Smaller pictures are processed on the calling thread.</p>
+     *
+     * @param threshold the minimal number of pixels to process in parallel
+     * @throws IllegalArgumentException if <code>threshold</code> is lower than 1
+     */
+    public void setParallelThreshold(int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be >= 1");
+        }
+        int old = getParallelThreshold();
+        this.parallelThreshold = threshold;
+        firePropertyChange("parallelThreshold", old, getParallelThreshold());
+    }
+
+    /**
+     * <p>Returns the minimal number of pixels of a picture to process in
+     * parallel.</p>
+     *
+     * @return the minimal number of pixels to process in parallel
+     */
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * <p>Processes the rows <code>0 ... rows - 1</code> of a pass over a
+     * picture of the given number of pixels. If this filter is parallel and
+     * the picture is large enough, the rows are split into stripes which are
+     * processed on a shared thread pool, the calling thread participates and
+     * returns when all stripes are done. Otherwise the rows are processed as
+     * a single stripe on the calling thread.</p>
+     * <p>The stripes of a pass must be independent: a stripe must not read
+     * what another stripe writes.</p>
+     *
+     * @param rows the number of rows of the pass
+     * @param pixels the number of pixels of the picture
+     * @param stripe the processing of a range of rows
+     */
+    protected void processStripes(int rows, int pixels, final Stripe stripe) {
+        int count = Math.min(rows, Math.min(
+                Runtime.getRuntime().availableProcessors() * 2,
+                pixels / Math.max(getParallelThreshold() / 2, 1)));
+        if (!isParallel() || pixels < getParallelThreshold() || count < 2) {
+            stripe.process(0, rows);
+            return;
+        }
+        List<FutureTask<Void>> tasks = new ArrayList<FutureTask<Void>>();
+        for (int i = 0; i < count; i++) {
+            final int from = (int) ((long) rows * i / count);
+            final int to = (int) ((long) rows * (i + 1) / count);
+            tasks.add(new FutureTask<Void>(new Callable<Void>() {
+                @Override
+                public Void call() throws Exception {
+                    stripe.process(from, to);
+                    return null;
+                }
+            }));
+        }
+        Executor executor = getSharedExecutor();
+        for (int i = 1; i < tasks.size(); i++) {
+            executor.execute(tasks.get(i));
+        }
+        try {
+            for (FutureTask<Void> task : tasks) {
+                // runs the tasks not yet started by the pool
+                task.run();
+                task.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while filtering", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+
     @Override
     public abstract BufferedImage filter(BufferedImage src, BufferedImage dest);
 
@@ -95,4 +224,36 @@ public abstract class AbstractFilter extends AbstractBean implements BufferedIma
     public RenderingHints getRenderingHints() {
         return null;
     }
+
+    private static synchronized ExecutorService getSharedExecutor() {
+        if (sharedExecutor == null) {
+            sharedExecutor = Executors.newFixedThreadPool(
+                    Runtime.getRuntime().availableProcessors(), new ThreadFactory() {
+                        private int count;
+
+                        @Override
+                        public Thread newThread(Runnable r) {
+                            Thread thread = new Thread(r, "AbstractFilter-" + count++);
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    });
+        }
+        return sharedExecutor;
+    }
+
+    /**
+     * <p>The processing of a range of rows of a filter pass.</p>
+     *
+     * @see AbstractFilter#processStripes(int, int, Stripe)
+     */
+    protected interface Stripe {
+        /**
+         * <p>Processes the rows <code>from ... to - 1</code>.</p>
+         *
+         * @param from the first row, inclusive
+         * @param to the last row, exclusive
+         */
+        void process(int from, int to);
+    }
 }
@@ -140,16 +140,26 @@ public class ColorTintFilter extends AbstractFilter {
         int width = src.getWidth();
         int height = src.getHeight();
 
-        int[] pixels = new int[width * height];
-        GraphicsUtilities.getPixels(src, 0, 0, width, height, pixels);
-        mixColor(pixels);
-        GraphicsUtilities.setPixels(dst, 0, 0, width, height, pixels);
+        final int[] pixels = PixelBufferPool.acquire(width * height);
+        try {
+            GraphicsUtilities.getPixels(src, 0, 0, width, height, pixels);
+            final int rowLength = width;
+            processStripes(height, width * height, new Stripe() {
+                @Override
+                public void process(int from, int to) {
+                    mixColor(pixels, from * rowLength, to * rowLength);
+                }
+            });
+            GraphicsUtilities.setPixels(dst, 0, 0, width, height, pixels);
+        } finally {
+            PixelBufferPool.release(pixels);
+        }
 
         return dst;
     }
 
-    private void mixColor(int[] pixels) {
-        for (int i = 0; i < pixels.length; i++) {
+    private void mixColor(int[] pixels, int from, int to) {
+        for (int i = from; i < to; i++) {
             int argb = pixels[i];
             pixels[i] = (argb & 0xFF000000) |
                         preMultipliedRed[(argb >> 16)   & 0xFF] << 16 |
@@ -35,6 +35,9 @@
 package org.jdesktop.swingx.image;
 
 import java.awt.image.BufferedImage;
+import java.lang.ref.SoftReference;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.jdesktop.swingx.util.GraphicsUtilities;
 
@@ -49,10 +52,16 @@ import org.jdesktop.swingx.util.GraphicsUtilities;
  * source picture, you might need to provide a picture with empty borders
  * to avoid artifacts at the edges. The performance of this filter are
  * independent from the radius.</p>
+ * <p>The scratch pixel buffers are taken from the {@link PixelBufferPool}
+ * and the lookup tables are shared per radius, so filtering into a given
+ * destination image doesn't allocate pixel memory.</p>
  *
  * @author Romain Guy <romain.guy@mac.com>
  */
 public class FastBlurFilter extends AbstractFilter {
+    private static final Map<Integer, SoftReference<int[]>> sumLookupTables = 
+        new HashMap<Integer, SoftReference<int[]>>();
+
     private final int radius;
 
     /**
@@ -97,17 +106,22 @@ public class FastBlurFilter extends AbstractFilter {
             dst = createCompatibleDestImage(src, null);
         }
 
-        int[] srcPixels = new int[width * height];
-        int[] dstPixels = new int[width * height];
+        int[] srcPixels = PixelBufferPool.acquire(width * height);
+        int[] dstPixels = PixelBufferPool.acquire(width * height);
 
-        GraphicsUtilities.getPixels(src, 0, 0, width, height, srcPixels);
-        // horizontal pass
-        blur(srcPixels, dstPixels, width, height, radius);
-        // vertical pass
-        //noinspection SuspiciousNameCombination
-        blur(dstPixels, srcPixels, height, width, radius);
-        // the result is now stored in srcPixels due to the 2nd pass
-        GraphicsUtilities.setPixels(dst, 0, 0, width, height, srcPixels);
+        try {
+            GraphicsUtilities.getPixels(src, 0, 0, width, height, srcPixels);
+            // horizontal pass
+            blur(this, srcPixels, dstPixels, width, height, radius);
+            // vertical pass
+            //noinspection SuspiciousNameCombination
+            blur(this, dstPixels, srcPixels, height, width, radius);
+            // the result is now stored in srcPixels due to the 2nd pass
+            GraphicsUtilities.setPixels(dst, 0, 0, width, height, srcPixels);
+        } finally {
+            PixelBufferPool.release(dstPixels);
+            PixelBufferPool.release(srcPixels);
+        }
 
         return dst;
     }
@@ -128,7 +142,44 @@ public class FastBlurFilter extends AbstractFilter {
      */
     static void blur(int[] srcPixels, int[] dstPixels,
                      int width, int height, int radius) {
-        final int windowSize = radius * 2 + 1;
+        blur(srcPixels, dstPixels, width, height, radius, 
+                getSumLookupTable(radius), 0, height);
+    }
+
+    /**
+     * <p>Blurs the source pixels into the destination pixels, in stripes
+     * of rows as processed by the given filter.</p>
+     *
+     * @param filter the filter which processes the stripes
+     * @param srcPixels the source pixels
+     * @param dstPixels the destination pixels
+     * @param width the width of the source picture
+     * @param height the height of the source picture
+     * @param radius the radius of the blur effect
+     * @see #blur(int[], int[], int, int, int)
+     */
+    static void blur(AbstractFilter filter,
+                     final int[] srcPixels, final int[] dstPixels,
+                     final int width, final int height, final int radius) {
+        final int[] sumLookupTable = getSumLookupTable(radius);
+        filter.processStripes(height, width * height, new Stripe() {
+            @Override
+            public void process(int from, int to) {
+                blur(srcPixels, dstPixels, width, height, radius, 
+                        sumLookupTable, from, to);
+            }
+        });
+    }
+
+    /**
+     * <p>Blurs the rows <code>firstRow ... lastRow - 1</code> of the source
+     * pixels into the destination pixels.</p>
+     *
+     * @see #blur(int[], int[], int, int, int)
+     */
+    private static void blur(int[] srcPixels, int[] dstPixels,
+                     int width, int height, int radius,
+                     int[] sumLookupTable, int firstRow, int lastRow) {
         final int radiusPlusOne = radius + 1;
 
         int sumAlpha;
@@ -136,30 +187,11 @@ public class FastBlurFilter extends AbstractFilter {
         int sumGreen;
         int sumBlue;
 
-        int srcIndex = 0;
+        int srcIndex = firstRow * width;
         int dstIndex;
         int pixel;
 
-        int[] sumLookupTable = new int[256 * windowSize];
-        for (int i = 0; i < sumLookupTable.length; i++) {
-            sumLookupTable[i] = i / windowSize;
-        }
-
-        int[] indexLookupTable = new int[radiusPlusOne];
-        if (radius < width) {
-            for (int i = 0; i < indexLookupTable.length; i++) {
-                indexLookupTable[i] = i;
-            }
-        } else {
-            for (int i = 0; i < width; i++) {
-                indexLookupTable[i] = i;
-            }
-            for (int i = width; i < indexLookupTable.length; i++) {
-                indexLookupTable[i] = width - 1;
-            }
-        }
-
-        for (int y = 0; y < height; y++) {
+        for (int y = firstRow; y < lastRow; y++) {
             sumAlpha = sumRed = sumGreen = sumBlue = 0;
             dstIndex = y;
 
@@ -170,7 +202,7 @@ public class FastBlurFilter extends AbstractFilter {
             sumBlue  += radiusPlusOne * ( pixel        & 0xFF);
 
             for (int i = 1; i <= radius; i++) {
-                pixel = srcPixels[srcIndex + indexLookupTable[i]];
+                pixel = srcPixels[srcIndex + Math.min(i, width - 1)];
                 sumAlpha += (pixel >> 24) & 0xFF;
                 sumRed   += (pixel >> 16) & 0xFF;
                 sumGreen += (pixel >>  8) & 0xFF;
@@ -213,4 +245,28 @@ public class FastBlurFilter extends AbstractFilter {
             srcIndex += width;
         }
     }
+
+    /**
+     * <p>Returns the table of the averages of all sums of a window of the
+     * given radius. The tables are shared per radius and must not be
+     * modified.</p>
+     *
+     * @param radius the radius of the blur effect
+     * @return the lookup table of the averages
+     */
+    static int[] getSumLookupTable(int radius) {
+        synchronized (sumLookupTables) {
+            SoftReference<int[]> reference = sumLookupTables.get(radius);
+            int[] sumLookupTable = reference != null ? reference.get() : null;
+            if (sumLookupTable == null) {
+                final int windowSize = radius * 2 + 1;
+                sumLookupTable = new int[256 * windowSize];
+                for (int i = 0; i < sumLookupTable.length; i++) {
+                    sumLookupTable[i] = i / windowSize;
+                }
+                sumLookupTables.put(radius, new SoftReference<int[]>(sumLookupTable));
+            }
+            return sumLookupTable;
+        }
+    }
 }
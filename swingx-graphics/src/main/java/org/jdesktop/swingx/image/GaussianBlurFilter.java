@@ -40,6 +40,7 @@ import org.jdesktop.swingx.util.GraphicsUtilities;
 
 public class GaussianBlurFilter extends AbstractFilter {
     private final int radius;
+    private final float[] kernel;
 
     /**
      * <p>Creates a new blur filter with a default radius of 3.</p>
@@ -60,6 +61,7 @@ public class GaussianBlurFilter extends AbstractFilter {
         }
 
         this.radius = radius;
+        this.kernel = createGaussianKernel(radius);
     }
 
     /**
@@ -83,18 +85,21 @@ public class GaussianBlurFilter extends AbstractFilter {
             dst = createCompatibleDestImage(src, null);
         }
 
-        int[] srcPixels = new int[width * height];
-        int[] dstPixels = new int[width * height];
-
-        float[] kernel = createGaussianKernel(radius);
-
-        GraphicsUtilities.getPixels(src, 0, 0, width, height, srcPixels);
-        // horizontal pass
-        blur(srcPixels, dstPixels, width, height, kernel, radius);
-        // vertical pass
-        blur(dstPixels, srcPixels, height, width, kernel, radius);
-        // the result is now stored in srcPixels due to the 2nd pass
-        GraphicsUtilities.setPixels(dst, 0, 0, width, height, srcPixels);
+        int[] srcPixels = PixelBufferPool.acquire(width * height);
+        int[] dstPixels = PixelBufferPool.acquire(width * height);
+
+        try {
+            GraphicsUtilities.getPixels(src, 0, 0, width, height, srcPixels);
+            // horizontal pass
+            blur(srcPixels, dstPixels, width, height, kernel);
+            // vertical pass
+            blur(dstPixels, srcPixels, height, width, kernel);
+            // the result is now stored in srcPixels due to the 2nd pass
+            GraphicsUtilities.setPixels(dst, 0, 0, width, height, srcPixels);
+        } finally {
+            PixelBufferPool.release(dstPixels);
+            PixelBufferPool.release(srcPixels);
+        }
 
         return dst;
     }
@@ -117,6 +122,33 @@ public class GaussianBlurFilter extends AbstractFilter {
     static void blur(int[] srcPixels, int[] dstPixels,
                      int width, int height,
                      float[] kernel, int radius) {
+        blur(srcPixels, dstPixels, width, height, kernel, radius, 0, height);
+    }
+
+    /**
+     * <p>Blurs the source pixels into the destination pixels, in stripes
+     * of rows as processed by this filter.</p>
+     */
+    private void blur(final int[] srcPixels, final int[] dstPixels,
+                      final int width, final int height, final float[] kernel) {
+        processStripes(height, width * height, new Stripe() {
+            @Override
+            public void process(int from, int to) {
+                blur(srcPixels, dstPixels, width, height, kernel, radius, from, to);
+            }
+        });
+    }
+
+    /**
+     * <p>Blurs the rows <code>firstRow ... lastRow - 1</code> of the source
+     * pixels into the destination pixels.</p>
+     *
+     * @see #blur(int[], int[], int, int, float[], int)
+     */
+    private static void blur(int[] srcPixels, int[] dstPixels,
+                             int width, int height,
+                             float[] kernel, int radius,
+                             int firstRow, int lastRow) {
         float a;
         float r;
         float g;
@@ -127,7 +159,7 @@ public class GaussianBlurFilter extends AbstractFilter {
         int cg;
         int cb;
 
-        for (int y = 0; y < height; y++) {
+        for (int y = firstRow; y < lastRow; y++) {
             int index = y;
             int offset = y * width;
 
@@ -0,0 +1,133 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.image;
+
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * <p>A pool of scratch pixel buffers, to avoid allocating full size 
+ * <code>int</code> arrays on every filter call. The pool is thread-local:
+ * buffers acquired on a thread are released to and reused from the pool of 
+ * that thread only, so no synchronization is needed.</p>
+ * <p>Buffer lengths are rounded up to buckets of at most an eighth of the 
+ * requested length, so that buffers are reused for pictures of slightly 
+ * different sizes. The contents of an acquired buffer are undefined. The 
+ * pool keeps a few released buffers per thread, by soft reference, so the
+ * garbage collector can reclaim them when memory is low.</p>
+ * <p>Typical usage:</p>
+ * <pre>
+ * int[] pixels = PixelBufferPool.acquire(width * height);
+ * try {
+ *     // use the first width * height elements of pixels
+ * } finally {
+ *     PixelBufferPool.release(pixels);
+ * }
+ * </pre>
+ *
+ * @author agent
+ */
+public final class PixelBufferPool {
+    /** the minimal length of a buffer. */
+    static final int MIN_LENGTH = 1024;
+    
+    /** the maximal number of released buffers kept per thread. */
+    static final int MAX_RELEASED = 4;
+    
+    private static final ThreadLocal<List<SoftReference<int[]>>> RELEASED = 
+        new ThreadLocal<List<SoftReference<int[]>>>() {
+            @Override
+            protected List<SoftReference<int[]>> initialValue() {
+                return new ArrayList<SoftReference<int[]>>(MAX_RELEASED);
+            }
+    };
+    
+    private PixelBufferPool() {
+    }
+    
+    /**
+     * <p>Returns a buffer of at least the given length from the pool of the
+     * current thread, or a new buffer if the pool has none of that size.</p>
+     * 
+     * @param length the minimal length of the buffer
+     * @return a buffer of at least the given length, with undefined contents
+     * @throws IllegalArgumentException if <code>length</code> is negative
+     */
+    public static int[] acquire(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("length must be >= 0");
+        }
+        int bucketLength = getBucketLength(length);
+        List<SoftReference<int[]>> released = RELEASED.get();
+        // the most recently released buffer first
+        ListIterator<SoftReference<int[]>> iterator = released.listIterator(released.size());
+        while (iterator.hasPrevious()) {
+            int[] buffer = iterator.previous().get();
+            if (buffer == null) {
+                iterator.remove();
+            } else if (buffer.length == bucketLength) {
+                iterator.remove();
+                return buffer;
+            }
+        }
+        return new int[bucketLength];
+    }
+    
+    /**
+     * <p>Returns the buffer to the pool of the current thread. The buffer 
+     * must not be used after release. If the pool is full, the least 
+     * recently released buffer is dropped.</p>
+     * 
+     * @param buffer a buffer acquired from this pool, may be null
+     */
+    public static void release(int[] buffer) {
+        if (buffer == null || buffer.length != getBucketLength(buffer.length)) {
+            return;
+        }
+        List<SoftReference<int[]>> released = RELEASED.get();
+        for (Iterator<SoftReference<int[]>> iterator = released.iterator(); iterator.hasNext();) {
+            int[] other = iterator.next().get();
+            if (other == null) {
+                iterator.remove();
+            } else if (other == buffer) {
+                return;
+            }
+        }
+        if (released.size() >= MAX_RELEASED) {
+            released.remove(0);
+        }
+        released.add(new SoftReference<int[]>(buffer));
+    }
+    
+    /**
+     * Returns the length of the bucket of buffers of the given length.
+     */
+    static int getBucketLength(int length) {
+        if (length <= MIN_LENGTH) {
+            return MIN_LENGTH;
+        }
+        int step = Integer.highestOneBit(length - 1) >> 3;
+        return (int) Math.min(((long) length + step - 1) / step * step, Integer.MAX_VALUE);
+    }
+}
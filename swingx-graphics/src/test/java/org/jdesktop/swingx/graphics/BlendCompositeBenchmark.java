@@ -0,0 +1,93 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.graphics;
+
+import java.util.Random;
+
+import org.jdesktop.swingx.graphics.BlendComposite.BlendingMode;
+
+/**
+ * Compares the throughput of the scanline kernels of the blending modes
+ * with the per pixel blending they replace, for several image sizes. Not 
+ * a unit test, run it as an application:
+ * 
+ * <pre>
+ * java org.jdesktop.swingx.graphics.BlendCompositeBenchmark [milliseconds per measurement]
+ * </pre>
+ * 
+ * The reported throughput is in megapixels per second, each measurement is
+ * preceded by a warm-up of the same duration.
+ */
+public class BlendCompositeBenchmark {
+
+    private static final int[] SIZES = {64, 512, 2048};
+    
+    public static void main(String[] args) {
+        long duration = args.length > 0 ? Long.parseLong(args[0]) : 200;
+        Random random = new Random(42);
+        System.out.printf("%-20s %6s %12s %12s %8s%n", "mode", "size", "per pixel", "kernel", "speedup");
+        for (int size : SIZES) {
+            int[] src = new int[size];
+            int[] dst = new int[size];
+            int[] out = new int[size];
+            for (int i = 0; i < size; i++) {
+                src[i] = random.nextInt();
+                dst[i] = random.nextInt();
+            }
+            for (BlendingMode mode : BlendingMode.values()) {
+                double perPixel = measure(mode, src, dst, out, size, false, duration);
+                double kernel = measure(mode, src, dst, out, size, true, duration);
+                System.out.printf("%-20s %6d %12.1f %12.1f %8.2f%n", 
+                        mode, size * size, perPixel, kernel, kernel / perPixel);
+            }
+        }
+    }
+
+    /**
+     * Blends size rows of size pixels until the duration elapsed, returns 
+     * the megapixels per second.
+     */
+    private static double measure(BlendingMode mode, int[] src, int[] dst, int[] out, 
+            int size, boolean kernel, long duration) {
+        run(mode, src, dst, out, size, kernel, duration);
+        return run(mode, src, dst, out, size, kernel, duration);
+    }
+
+    private static double run(BlendingMode mode, int[] src, int[] dst, int[] out, 
+            int size, boolean kernel, long duration) {
+        long pixels = 0;
+        long start = System.nanoTime();
+        long end = start + duration * 1000000;
+        long now;
+        do {
+            for (int row = 0; row < size; row++) {
+                if (kernel) {
+                    BlendKernels.blend(mode, src, dst, out, size, false);
+                } else {
+                    BlendKernels.blendPixels(mode, src, dst, out, size, false);
+                }
+            }
+            pixels += (long) size * size;
+            now = System.nanoTime();
+        } while (now < end);
+        return pixels * 1000.0 / (now - start);
+    }
+}
@@ -0,0 +1,145 @@
+package org.jdesktop.swingx.graphics;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import org.jdesktop.swingx.graphics.BlendComposite.BlendingMode;
+import org.jdesktop.swingx.util.GraphicsUtilities;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests that the scanline kernels produce the same pixels as the per pixel
+ * blending.
+ */
+@RunWith(JUnit4.class)
+public class BlendKernelsTest {
+
+    /**
+     * Returns pixels covering all pairs of source and destination values in 
+     * every channel.
+     */
+    private static int[][] createAllPairs() {
+        int[] src = new int[256 * 256];
+        int[] dst = new int[256 * 256];
+        for (int x = 0; x < 256; x++) {
+            for (int y = 0; y < 256; y++) {
+                int i = x * 256 + y;
+                src[i] = y << 24 | x << 16 | y << 8 | x;
+                dst[i] = x << 24 | y << 16 | x << 8 | (x + y) & 0xFF;
+            }
+        }
+        return new int[][] {src, dst};
+    }
+    
+    /**
+     * The blending of BlendComposite before the kernels.
+     */
+    private static int[] reference(BlendingMode mode, int[] src, int[] dst, 
+            float alpha, boolean bgr) {
+        int[] out = new int[src.length];
+        int[] result = new int[4];
+        int[] srcPixel = new int[4];
+        int[] dstPixel = new int[4];
+        int redShift = bgr ? 0 : 16;
+        int blueShift = bgr ? 16 : 0;
+        for (int x = 0; x < src.length; x++) {
+            int pixel = src[x];
+            srcPixel[0] = (pixel >> redShift) & 0xFF;
+            srcPixel[1] = (pixel >>  8) & 0xFF;
+            srcPixel[2] = (pixel >> blueShift) & 0xFF;
+            srcPixel[3] = (pixel >> 24) & 0xFF;
+
+            pixel = dst[x];
+            dstPixel[0] = (pixel >> redShift) & 0xFF;
+            dstPixel[1] = (pixel >>  8) & 0xFF;
+            dstPixel[2] = (pixel >> blueShift) & 0xFF;
+            dstPixel[3] = (pixel >> 24) & 0xFF;
+
+            mode.blend(srcPixel, dstPixel, result);
+
+            out[x] = ((int) (dstPixel[3] + (result[3] - dstPixel[3]) * alpha) & 0xFF) << 24 |
+                     ((int) (dstPixel[0] + (result[0] - dstPixel[0]) * alpha) & 0xFF) << redShift |
+                     ((int) (dstPixel[1] + (result[1] - dstPixel[1]) * alpha) & 0xFF) <<  8 |
+                     ((int) (dstPixel[2] + (result[2] - dstPixel[2]) * alpha) & 0xFF) << blueShift;
+        }
+        return out;
+    }
+    
+    private void assertKernel(boolean bgr) {
+        int[][] pixels = createAllPairs();
+        int length = pixels[0].length;
+        for (BlendingMode mode : BlendingMode.values()) {
+            int[] out = new int[length];
+            BlendKernels.blend(mode, pixels[0], pixels[1], out, length, bgr);
+            assertArrayEquals(mode.name(), reference(mode, pixels[0], pixels[1], 1.0f, bgr), out);
+            BlendKernels.mix(pixels[1], out, out, length, 0.37f);
+            assertArrayEquals(mode.name(), reference(mode, pixels[0], pixels[1], 0.37f, bgr), out);
+        }
+    }
+    
+    @Test
+    public void testRgbKernels() {
+        assertKernel(false);
+    }
+    
+    @Test
+    public void testBgrKernels() {
+        assertKernel(true);
+    }
+    
+    @Test
+    public void testInPlace() {
+        int[][] pixels = createAllPairs();
+        int length = pixels[0].length;
+        int[] expected = new int[length];
+        BlendKernels.blend(BlendingMode.OVERLAY, pixels[0], pixels[1], expected, length, false);
+        BlendKernels.blend(BlendingMode.OVERLAY, pixels[0], pixels[1], pixels[1], length, false);
+        assertArrayEquals(expected, pixels[1]);
+    }
+    
+    private BufferedImage createImage(long seed) {
+        BufferedImage image = new BufferedImage(37, 23, BufferedImage.TYPE_INT_ARGB);
+        Random random = new Random(seed);
+        for (int x = 0; x < image.getWidth(); x++) {
+            for (int y = 0; y < image.getHeight(); y++) {
+                image.setRGB(x, y, random.nextInt());
+            }
+        }
+        return image;
+    }
+    
+    private int[] compose(BlendComposite composite, BufferedImage dst, BufferedImage src) {
+        Graphics2D g = dst.createGraphics();
+        g.setComposite(composite);
+        g.drawImage(src, 0, 0, null);
+        g.dispose();
+        return GraphicsUtilities.getPixels(dst, 0, 0, dst.getWidth(), dst.getHeight(), null);
+    }
+    
+    @Test
+    public void testComposeTransparent() {
+        BufferedImage dst = createImage(1);
+        int[] expected = GraphicsUtilities.getPixels(dst, 0, 0, dst.getWidth(), dst.getHeight(), null);
+        assertArrayEquals(expected, compose(BlendComposite.Multiply.derive(0.0f), dst, createImage(2)));
+    }
+    
+    @Test
+    public void testComposeTranslucent() {
+        BufferedImage dst = createImage(1);
+        BufferedImage src = createImage(2);
+        int length = dst.getWidth() * dst.getHeight();
+        int[] expected = reference(BlendingMode.SCREEN, 
+                GraphicsUtilities.getPixels(src, 0, 0, src.getWidth(), src.getHeight(), null), 
+                GraphicsUtilities.getPixels(dst, 0, 0, dst.getWidth(), dst.getHeight(), null), 
+                0.6f, false);
+        int[] actual = compose(BlendComposite.Screen.derive(0.6f), dst, src);
+        assertEquals(length, actual.length);
+        assertArrayEquals(expected, actual);
+    }
+}
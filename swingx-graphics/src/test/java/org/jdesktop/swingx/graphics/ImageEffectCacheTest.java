@@ -0,0 +1,115 @@
+package org.jdesktop.swingx.graphics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class ImageEffectCacheTest {
+
+    private ImageEffectCache cache;
+    private BufferedImage image;
+    
+    @Before
+    public void setUp() {
+        cache = new ImageEffectCache(ImageEffectCache.DEFAULT_MAXIMUM_SIZE);
+        image = createImage(40, 30);
+    }
+    
+    private BufferedImage createImage(int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(Color.RED);
+        g.fillOval(5, 5, width - 10, height - 10);
+        g.dispose();
+        return image;
+    }
+    
+    @Test
+    public void testShadowHit() {
+        ShadowRenderer renderer = new ShadowRenderer();
+        BufferedImage shadow = cache.getShadow(renderer, image);
+        assertSame(shadow, cache.getShadow(renderer, image));
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getEntryCount());
+        assertEquals(4L * shadow.getWidth() * shadow.getHeight(), cache.getSize());
+    }
+    
+    @Test
+    public void testContentChange() {
+        ShadowRenderer renderer = new ShadowRenderer();
+        BufferedImage shadow = cache.getShadow(renderer, image);
+        image.setRGB(0, 0, 0xFF000000);
+        assertNotSame(shadow, cache.getShadow(renderer, image));
+        assertEquals(2, cache.getMissCount());
+    }
+    
+    @Test
+    public void testSourceIdentity() {
+        ShadowRenderer renderer = new ShadowRenderer();
+        BufferedImage shadow = cache.getShadow(renderer, image);
+        assertNotSame(shadow, cache.getShadow(renderer, createImage(40, 30)));
+    }
+    
+    @Test
+    public void testRendererChangeDropsEntries() {
+        ShadowRenderer renderer = new ShadowRenderer();
+        BufferedImage shadow = cache.getShadow(renderer, image);
+        cache.getShadow(renderer, createImage(20, 20));
+        ShadowRenderer other = new ShadowRenderer();
+        cache.getShadow(other, image);
+        assertEquals(3, cache.getEntryCount());
+        renderer.setColor(Color.BLUE);
+        assertEquals(1, cache.getEntryCount());
+        assertNotSame(shadow, cache.getShadow(renderer, image));
+        assertEquals(0, cache.getEvictionCount());
+    }
+    
+    @Test
+    public void testReflection() {
+        ReflectionRenderer renderer = new ReflectionRenderer();
+        BufferedImage reflection = cache.getReflection(renderer, image);
+        assertSame(reflection, cache.getReflection(renderer, image));
+        renderer.setBlurRadius(2);
+        assertEquals(0, cache.getEntryCount());
+        renderer.setBlurEnabled(true);
+        assertNotSame(reflection, cache.getReflection(renderer, image));
+    }
+    
+    @Test
+    public void testEviction() {
+        ShadowRenderer renderer = new ShadowRenderer();
+        BufferedImage first = createImage(40, 30);
+        long shadowSize = 4L * 50 * 40;
+        cache.setMaximumSize(2 * shadowSize);
+        cache.getShadow(renderer, first);
+        cache.getShadow(renderer, image);
+        // touch the first, the second is least recently used
+        cache.getShadow(renderer, first);
+        cache.getShadow(renderer, createImage(40, 30));
+        assertEquals(2, cache.getEntryCount());
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(2 * shadowSize, cache.getSize());
+        long misses = cache.getMissCount();
+        cache.getShadow(renderer, first);
+        assertEquals(misses, cache.getMissCount());
+        cache.setMaximumSize(0);
+        assertEquals(0, cache.getEntryCount());
+        assertEquals(0, cache.getSize());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeMaximumSize() {
+        cache.setMaximumSize(-1);
+    }
+}
@@ -0,0 +1,79 @@
+package org.jdesktop.swingx.graphics;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import org.jdesktop.swingx.util.GraphicsUtilities;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class ShadowRendererTest {
+
+    private BufferedImage createImage(int width, int height, Color color) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(color);
+        g.fillOval(width / 4, height / 4, width / 2, height / 2);
+        g.dispose();
+        return image;
+    }
+    
+    private int[] getPixels(BufferedImage image) {
+        return GraphicsUtilities.getPixels(image, 0, 0, 
+                image.getWidth(), image.getHeight(), null);
+    }
+    
+    /**
+     * Shadows created with pooled buffers and a given destination are 
+     * the same as created with fresh buffers.
+     */
+    @Test
+    public void testReusedBuffers() throws Exception {
+        final BufferedImage image = createImage(100, 60, Color.RED);
+        final BufferedImage[] expected = new BufferedImage[1];
+        // a new thread has an empty pool
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                expected[0] = new ShadowRenderer(6, 0.7f, Color.BLUE).createShadow(image);
+            }
+        });
+        thread.start();
+        thread.join();
+        ShadowRenderer renderer = new ShadowRenderer(6, 0.7f, Color.BLUE);
+        BufferedImage opaque = new BufferedImage(100, 60, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = opaque.createGraphics();
+        g.setColor(Color.WHITE);
+        g.fillRect(0, 0, 100, 60);
+        g.dispose();
+        BufferedImage dst = renderer.createShadow(opaque);
+        assertSame(dst, renderer.createShadow(image, dst));
+        assertArrayEquals(getPixels(expected[0]), getPixels(dst));
+    }
+    
+    @Test
+    public void testLookupsFollowProperties() {
+        BufferedImage image = createImage(50, 50, Color.RED);
+        ShadowRenderer renderer = new ShadowRenderer(4, 0.5f, Color.BLACK);
+        renderer.createShadow(image);
+        renderer.setOpacity(0.9f);
+        renderer.setSize(3);
+        BufferedImage shadow = renderer.createShadow(image);
+        assertEquals(56, shadow.getWidth());
+        assertArrayEquals(getPixels(new ShadowRenderer(3, 0.9f, Color.BLACK).createShadow(image)), 
+                getPixels(shadow));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testDestinationSize() {
+        new ShadowRenderer().createShadow(createImage(20, 20, Color.RED), 
+                new BufferedImage(20, 20, BufferedImage.TYPE_INT_ARGB));
+    }
+}
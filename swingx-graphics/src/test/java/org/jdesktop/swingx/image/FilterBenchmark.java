@@ -0,0 +1,74 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.image;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+
+/**
+ * Compares the serial and the parallel mode of the image filters on a
+ * 4K picture. Not a unit test, run it as an application:
+ * 
+ * <pre>
+ * java org.jdesktop.swingx.image.FilterBenchmark [iterations]
+ * </pre>
+ * 
+ * Each measurement is preceded by a warm-up of the same number of 
+ * iterations, the reported time is the average per filter call.
+ */
+public class FilterBenchmark {
+
+    private static final int WIDTH = 3840;
+    private static final int HEIGHT = 2160;
+    
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        BufferedImage src = ParallelFilterTest.createImage(WIDTH, HEIGHT, 42);
+        BufferedImage dst = new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+        AbstractFilter[] filters = {
+                new FastBlurFilter(10),
+                new GaussianBlurFilter(10),
+                new StackBlurFilter(10, 3),
+                new ColorTintFilter(Color.ORANGE, 0.5f),
+        };
+        System.out.println("processors: " + Runtime.getRuntime().availableProcessors());
+        for (AbstractFilter filter : filters) {
+            filter.setParallel(false);
+            double serial = measure(filter, src, dst, iterations);
+            filter.setParallel(true);
+            double parallel = measure(filter, src, dst, iterations);
+            System.out.printf("%-20s serial %8.2f ms  parallel %8.2f ms  speedup %5.2f%n",
+                    filter.getClass().getSimpleName(), serial, parallel, serial / parallel);
+        }
+    }
+
+    private static double measure(AbstractFilter filter, BufferedImage src, 
+            BufferedImage dst, int iterations) {
+        for (int i = 0; i < iterations; i++) {
+            filter.filter(src, dst);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            filter.filter(src, dst);
+        }
+        return (System.nanoTime() - start) / 1e6 / iterations;
+    }
+}
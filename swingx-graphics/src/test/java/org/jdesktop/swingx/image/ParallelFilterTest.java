@@ -0,0 +1,93 @@
+package org.jdesktop.swingx.image;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.util.Random;
+
+import org.jdesktop.swingx.util.GraphicsUtilities;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Tests that the filters produce the same pixels in parallel and serial mode.
+ */
+@RunWith(JUnit4.class)
+public class ParallelFilterTest {
+
+    static BufferedImage createImage(int width, int height, long seed) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Random random = new Random(seed);
+        int[] pixels = new int[width * height];
+        for (int i = 0; i < pixels.length; i++) {
+            pixels[i] = random.nextInt();
+        }
+        GraphicsUtilities.setPixels(image, 0, 0, width, height, pixels);
+        return image;
+    }
+    
+    private void assertSameResult(AbstractFilter filter) {
+        // odd sizes to get stripes of different heights
+        BufferedImage src = createImage(613, 401, 42);
+        filter.setParallel(false);
+        BufferedImage serial = filter.filter(src, null);
+        filter.setParallel(true);
+        filter.setParallelThreshold(1000);
+        BufferedImage parallel = filter.filter(src, null);
+        assertArrayEquals(getPixels(serial), getPixels(parallel));
+    }
+    
+    private int[] getPixels(BufferedImage image) {
+        return GraphicsUtilities.getPixels(image, 0, 0, 
+                image.getWidth(), image.getHeight(), null);
+    }
+    
+    @Test
+    public void testFastBlur() {
+        assertSameResult(new FastBlurFilter(5));
+    }
+    
+    @Test
+    public void testFastBlurRadiusExceedsSize() {
+        FastBlurFilter filter = new FastBlurFilter(20);
+        BufferedImage src = createImage(7, 3000, 1);
+        BufferedImage serial = filter.filter(src, null);
+        filter.setParallel(true);
+        filter.setParallelThreshold(100);
+        assertArrayEquals(getPixels(serial), getPixels(filter.filter(src, null)));
+    }
+    
+    @Test
+    public void testGaussianBlur() {
+        assertSameResult(new GaussianBlurFilter(4));
+    }
+    
+    @Test
+    public void testStackBlur() {
+        assertSameResult(new StackBlurFilter(3, 3));
+    }
+    
+    @Test
+    public void testColorTint() {
+        assertSameResult(new ColorTintFilter(Color.ORANGE, 0.3f));
+    }
+    
+    @Test
+    public void testParallelProperties() {
+        FastBlurFilter filter = new FastBlurFilter();
+        assertFalse(filter.isParallel());
+        assertEquals(AbstractFilter.DEFAULT_PARALLEL_THRESHOLD, filter.getParallelThreshold());
+        filter.setParallel(true);
+        assertTrue(filter.isParallel());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testParallelThresholdPositive() {
+        new FastBlurFilter().setParallelThreshold(0);
+    }
+}
@@ -0,0 +1,82 @@
+package org.jdesktop.swingx.image;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+
+import org.jdesktop.swingx.util.GraphicsUtilities;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+@RunWith(JUnit4.class)
+public class PixelBufferPoolTest {
+
+    @Test
+    public void testBucketLength() {
+        assertEquals(PixelBufferPool.MIN_LENGTH, PixelBufferPool.getBucketLength(0));
+        assertEquals(PixelBufferPool.MIN_LENGTH, PixelBufferPool.getBucketLength(PixelBufferPool.MIN_LENGTH));
+        for (int length = 1000; length < 10000000; length = length * 3 / 2 + 7) {
+            int bucket = PixelBufferPool.getBucketLength(length);
+            assertTrue(bucket >= length);
+            assertTrue("bucket too large for " + length, bucket <= Math.max(length * 9 / 8 + 1, 
+                    PixelBufferPool.MIN_LENGTH));
+            assertEquals(bucket, PixelBufferPool.getBucketLength(bucket));
+        }
+    }
+    
+    @Test
+    public void testReuse() {
+        int[] buffer = PixelBufferPool.acquire(10000);
+        assertTrue(buffer.length >= 10000);
+        PixelBufferPool.release(buffer);
+        assertSame(buffer, PixelBufferPool.acquire(10001));
+        assertNotSame(buffer, PixelBufferPool.acquire(10000));
+    }
+    
+    @Test
+    public void testReleaseTwice() {
+        int[] buffer = PixelBufferPool.acquire(10000);
+        PixelBufferPool.release(buffer);
+        PixelBufferPool.release(buffer);
+        assertSame(buffer, PixelBufferPool.acquire(10000));
+        assertNotSame(buffer, PixelBufferPool.acquire(10000));
+    }
+    
+    @Test
+    public void testThreadLocal() throws Exception {
+        final int[] buffer = PixelBufferPool.acquire(5000);
+        PixelBufferPool.release(buffer);
+        final int[][] other = new int[1][];
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                other[0] = PixelBufferPool.acquire(5000);
+            }
+        });
+        thread.start();
+        thread.join();
+        assertNotSame(buffer, other[0]);
+        assertSame(buffer, PixelBufferPool.acquire(5000));
+    }
+    
+    /**
+     * Stale contents of pooled buffers don't leak into the results.
+     */
+    @Test
+    public void testFilterWithDestination() {
+        FastBlurFilter filter = new FastBlurFilter(4);
+        BufferedImage src = ParallelFilterTest.createImage(120, 80, 7);
+        BufferedImage expected = filter.filter(src, null);
+        // different content with an equal bucket length
+        filter.filter(ParallelFilterTest.createImage(119, 80, 8), null);
+        BufferedImage dst = new BufferedImage(120, 80, BufferedImage.TYPE_INT_ARGB);
+        assertSame(dst, filter.filter(src, dst));
+        assertArrayEquals(GraphicsUtilities.getPixels(expected, 0, 0, 120, 80, null), 
+                GraphicsUtilities.getPixels(dst, 0, 0, 120, 80, null));
+    }
+}
@@ -24,10 +24,13 @@ package org.jdesktop.swingx.painter;
 import java.awt.AlphaComposite;
 import java.awt.Composite;
 import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
 import java.awt.RenderingHints;
+import java.awt.Transparency;
 import java.awt.image.BufferedImage;
 import java.awt.image.BufferedImageOp;
-import java.lang.ref.SoftReference;
+import java.awt.image.VolatileImage;
 
 import org.jdesktop.beans.AbstractBean;
 import org.jdesktop.swingx.util.GraphicsUtilities;
@@ -90,9 +93,16 @@ public abstract class AbstractPainter<T> extends AbstractBean implements Painter
 
     //--------------------------------------------------- Instance Variables
     /**
-     * The cached image, if shouldUseCache() returns true
+     * The maximal number of attempts to paint a volatile cache image which
+     * keeps losing its content.
      */
-    private transient SoftReference<BufferedImage> cachedImage;
+    private static final int MAX_RESTORE_ATTEMPTS = 3;
+
+    /**
+     * Whether the painter cache may hold images of this painter, if
+     * shouldUseCache() returned true
+     */
+    private transient boolean cached;
     private boolean cacheCleared = true;
     private boolean cacheable = false;
     private boolean dirty = false;
@@ -255,16 +265,35 @@ public abstract class AbstractPainter<T> extends AbstractBean implements Painter
      * <p><strong>Subclasses</strong>If overridden in subclasses, you
      * <strong>must</strong> call super.clearCache, or physical
      * resources (such as an Image) may leak.</p>
+     *
+     * <p>If this painter is cacheable, its images in the painter cache are
+     * marked stale, to be painted again on reuse. Otherwise they are
+     * removed.</p>
      */
     public void clearCache() {
-        BufferedImage cache = cachedImage == null ? null : cachedImage.get();
-        if (cache != null) {
-            cache.flush();
+        if (cached) {
+            if (!isCacheable()) {
+                getPainterCache().remove(this);
+                cached = false;
+            } else if (!cacheCleared) {
+                getPainterCache().invalidate(this);
+            }
         }
         cacheCleared = true;
-        if (!isCacheable()) {
-            cachedImage = null;
-        }
+    }
+
+    /**
+     * <p>Returns the cache of the images painted by this painter, if
+     * {@link #shouldUseCache} returns true. The default implementation
+     * returns the cache shared by all painters. Subclasses may override to
+     * return a separate cache, the same instance must be returned on every
+     * call.</p>
+     *
+     * @return the painter cache, never null
+     * @see PainterCache#getSharedInstance()
+     */
+    protected PainterCache getPainterCache() {
+        return PainterCache.getSharedInstance();
     }
 
     /**
@@ -384,52 +413,22 @@ public abstract class AbstractPainter<T> extends AbstractBean implements Painter
         //paint to a temporary image if I'm caching, or if there are filters to apply
         if (shouldUseCache() || filters.length > 0) {
             validate(obj);
-            BufferedImage cache = cachedImage == null ? null : cachedImage.get();
-            boolean invalidCache = null == cache || 
-                                        cache.getWidth() != width || 
-                                        cache.getHeight() != height;
-
-            if (cacheCleared || invalidCache || isDirty()) {
-                //rebuild the cacheable. I do this both if a cacheable is needed, and if any
-                //filters exist. I only *save* the resulting image if caching is turned on
-                if (invalidCache) {
-                    cache = GraphicsUtilities.createCompatibleTranslucentImage(width, height);
-                }
-                Graphics2D gfx = cache.createGraphics();
-                
-                try {
-                    gfx.setClip(0, 0, width, height);
-
-                    if (!invalidCache) {
-                        // If we are doing a repaint, but we didn't have to
-                        // recreate the image, we need to clear it back
-                        // to a fully transparent background.
-                        Composite composite = gfx.getComposite();
-                        gfx.setComposite(AlphaComposite.Clear);
-                        gfx.fillRect(0, 0, width, height);
-                        gfx.setComposite(composite);
-                    }
-
-                    configureGraphics(gfx);
-                    doPaint(gfx, obj, width, height);
-                } finally {
-                    gfx.dispose();
-                }
-
-                if (!isInPaintContext()) {
-                    for (BufferedImageOp f : getFilters()) {
-                        cache = f.filter(cache, null);
-                    }
-                }
-
-                //only save the temporary image as the cacheable if I'm caching
-                if (shouldUseCache()) {
-                    cachedImage = new SoftReference<BufferedImage>(cache);
-                    cacheCleared = false;
-                }
+            //I only *save* the resulting image if caching is turned on
+            PainterCache cache = shouldUseCache() ? getPainterCache() : null;
+            if (cache != null && isDirty() && !cacheCleared) {
+                //dirty without clearing the cache, f.i. a CompoundPainter with dirty children
+                cache.invalidate(this);
+                cacheCleared = true;
+            }
+            Image image = cache == null ? null : cache.get(this, width, height);
+            if (image == null) {
+                image = createCacheImage(g, cache, obj, width, height);
+            }
+            if (image instanceof VolatileImage) {
+                drawVolatileImage(g, (VolatileImage) image, cache, obj, width, height);
+            } else {
+                g.drawImage(image, 0, 0, null);
             }
-
-            g.drawImage(cache, 0, 0, null);
         } else {
             //can't use the cacheable, so just paint
             doPaint(g, obj, width, height);
@@ -438,4 +437,105 @@ public abstract class AbstractPainter<T> extends AbstractBean implements Painter
         //painting has occured, so restore the dirty bit to false
         setDirty(false);
     }
+
+    /**
+     * Paints into a new or reclaimed image of the given size, applies the
+     * filters and stores the result in the cache, if any.
+     */
+    private Image createCacheImage(Graphics2D g, PainterCache cache, T obj, 
+            int width, int height) {
+        //filters need a BufferedImage
+        GraphicsConfiguration gc = cache != null && filters.length == 0 
+                && cache.isVolatileImageEnabled() ? g.getDeviceConfiguration() : null;
+        Image image = cache == null ? null : cache.reclaim(this, width, height);
+        if (image != null && (image instanceof VolatileImage) != (gc != null)
+                || image instanceof VolatileImage 
+                    && ((VolatileImage) image).validate(gc) == VolatileImage.IMAGE_INCOMPATIBLE) {
+            image.flush();
+            image = null;
+        }
+        // If we are doing a repaint, but we didn't have to
+        // recreate the image, we need to clear it back
+        // to a fully transparent background.
+        boolean clear = image != null;
+        if (image == null && gc != null) {
+            VolatileImage volatileImage = gc.createCompatibleVolatileImage(
+                    width, height, Transparency.TRANSLUCENT);
+            if (volatileImage != null) {
+                //a new volatile image reports its first validation as restored
+                volatileImage.validate(gc);
+                image = volatileImage;
+            }
+        }
+        if (image == null) {
+            image = GraphicsUtilities.createCompatibleTranslucentImage(width, height);
+        }
+        paintCacheImage(image, obj, width, height, clear);
+
+        if (!isInPaintContext()) {
+            for (BufferedImageOp f : getFilters()) {
+                image = f.filter((BufferedImage) image, null);
+            }
+        }
+
+        if (cache != null && cache.put(this, width, height, image)) {
+            cached = true;
+            cacheCleared = false;
+        }
+        return image;
+    }
+
+    /**
+     * Draws the volatile image, painting it again as long as its content 
+     * is lost.
+     */
+    private void drawVolatileImage(Graphics2D g, VolatileImage image, PainterCache cache, 
+            T obj, int width, int height) {
+        GraphicsConfiguration gc = g.getDeviceConfiguration();
+        for (int attempt = 0; gc != null && attempt < MAX_RESTORE_ATTEMPTS; attempt++) {
+            int status = image.validate(gc);
+            if (status == VolatileImage.IMAGE_INCOMPATIBLE) {
+                cache.imageRestored();
+                Image restored = createCacheImage(g, cache, obj, width, height);
+                if (!(restored instanceof VolatileImage)) {
+                    g.drawImage(restored, 0, 0, null);
+                    return;
+                }
+                image = (VolatileImage) restored;
+            } else if (status == VolatileImage.IMAGE_RESTORED) {
+                cache.imageRestored();
+                paintCacheImage(image, obj, width, height, true);
+            }
+            g.drawImage(image, 0, 0, null);
+            if (!image.contentsLost()) {
+                return;
+            }
+        }
+        if (gc == null) {
+            g.drawImage(image, 0, 0, null);
+        }
+    }
+
+    /**
+     * Paints this painter into the cache image.
+     */
+    private void paintCacheImage(Image image, T obj, int width, int height, boolean clear) {
+        Graphics2D gfx = (Graphics2D) image.getGraphics();
+
+        try {
+            gfx.setClip(0, 0, width, height);
+
+            if (clear) {
+                Composite composite = gfx.getComposite();
+                gfx.setComposite(AlphaComposite.Clear);
+                gfx.fillRect(0, 0, width, height);
+                gfx.setComposite(composite);
+            }
+
+            configureGraphics(gfx);
+            doPaint(gfx, obj, width, height);
+        } finally {
+            gfx.dispose();
+        }
+    }
 }
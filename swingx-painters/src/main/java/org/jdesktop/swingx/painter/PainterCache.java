@@ -0,0 +1,419 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.painter;
+
+import java.awt.Image;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <p>A memory-bounded cache of the images painted by 
+ * <code>AbstractPainter</code>s. All painters share one budget: when the
+ * total size of the cached images exceeds the maximal size, the least 
+ * recently used entries are evicted.</p>
+ * 
+ * <p>An entry is keyed by the painter and the size it was painted with, so
+ * a painter which is painted at several sizes (f.i. while its component is
+ * resized) keeps an image for each. The cache holds weak references to the 
+ * painters only.</p>
+ * 
+ * <p>When a painter changes, its entries are marked stale instead of being 
+ * dropped: a stale image is not returned by {@link #get}, but can be 
+ * reclaimed by the painter to repaint into it, which saves the allocation 
+ * of a new image of the same size.</p>
+ * 
+ * <p>If enabled, painters without filters cache into 
+ * <code>VolatileImage</code>s, which may be held in accelerated memory. 
+ * Their content may be lost at any time, painters check and repaint
+ * them before drawing.</p>
+ * 
+ * <p>The size of an entry is estimated as four bytes per pixel. An image 
+ * larger than the maximal size evicts all other entries and is kept as the
+ * only one, so that a painter larger than the budget isn't painted again 
+ * on every paint. A maximal size of 0 disables caching. The budget of the
+ * shared cache can be changed with 
+ * <code>PainterCache.getSharedInstance().setMaximumSize(long)</code>. The
+ * cache is thread-safe, painters are not.</p>
+ *
+ * @author agent
+ * 
+ * @see AbstractPainter#getPainterCache()
+ */
+public class PainterCache {
+    /**
+     * <p>The default maximal size, in bytes, of the cached images. This is
+     * the budget of the shared cache, enough for a 2048 x 2048 image.</p>
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 16L * 1024 * 1024;
+    
+    private static PainterCache sharedInstance;
+    
+    private final Map<Key, Entry> entries;
+    private final ReferenceQueue<Object> collected;
+    private long maximumSize;
+    private boolean volatileImageEnabled;
+    private long size;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private long restoreCount;
+    
+    /**
+     * <p>Returns the cache shared by all painters.</p>
+     *
+     * @return the shared cache
+     */
+    public static synchronized PainterCache getSharedInstance() {
+        if (sharedInstance == null) {
+            sharedInstance = new PainterCache(DEFAULT_MAXIMUM_SIZE);
+        }
+        return sharedInstance;
+    }
+    
+    /**
+     * <p>Creates an empty cache with the given maximal size.</p>
+     *
+     * @param maximumSize the maximal size, in bytes, of the cached images
+     * @throws IllegalArgumentException if <code>maximumSize</code> is negative
+     */
+    public PainterCache(long maximumSize) {
+        entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true);
+        collected = new ReferenceQueue<Object>();
+        setMaximumSize(maximumSize);
+    }
+    
+    /**
+     * <p>Returns the valid image cached for the given painter and size.</p>
+     * 
+     * @param painter the painter of the image
+     * @param width the width the image was painted with
+     * @param height the height the image was painted with
+     * @return the cached image or null if there is none or it is stale
+     */
+    public synchronized Image get(Object painter, int width, int height) {
+        Entry entry = entries.get(new Key(painter, width, height, null));
+        if (entry != null && entry.valid) {
+            hitCount++;
+            return entry.image;
+        }
+        missCount++;
+        return null;
+    }
+    
+    /**
+     * <p>Removes the stale image cached for the given painter and size and
+     * returns it, to be painted again by the painter.</p>
+     * 
+     * @param painter the painter of the image
+     * @param width the width the image was painted with
+     * @param height the height the image was painted with
+     * @return the stale image or null if there is none
+     */
+    public synchronized Image reclaim(Object painter, int width, int height) {
+        Key key = new Key(painter, width, height, null);
+        Entry entry = entries.get(key);
+        if (entry == null || entry.valid) {
+            return null;
+        }
+        entries.remove(key);
+        size -= entry.size;
+        return entry.image;
+    }
+    
+    /**
+     * <p>Caches the image painted by the given painter at the given size. 
+     * Replaces a previously cached image of that size. Evicts the least 
+     * recently used entries if the size of the cached images exceeds the 
+     * maximal size. An image larger than the maximal size is kept as the 
+     * only entry.</p>
+     * 
+     * @param painter the painter of the image
+     * @param width the width the image was painted with
+     * @param height the height the image was painted with
+     * @param image the painted image
+     * @return true if the image was cached, false if the maximal size is 0
+     */
+    public synchronized boolean put(Object painter, int width, int height, Image image) {
+        purgeCollected();
+        long imageSize = 4L * width * height;
+        Entry old = entries.remove(new Key(painter, width, height, null));
+        if (old != null) {
+            size -= old.size;
+            if (old.image != image) {
+                old.image.flush();
+            }
+        }
+        if (maximumSize == 0) {
+            return false;
+        }
+        entries.put(new Key(painter, width, height, collected), new Entry(image, imageSize));
+        size += imageSize;
+        evict();
+        return true;
+    }
+    
+    /**
+     * <p>Marks all images of the given painter as stale.</p>
+     * 
+     * @param painter the painter which changed
+     */
+    public synchronized void invalidate(Object painter) {
+        for (Map.Entry<Key, Entry> entry : entries.entrySet()) {
+            if (entry.getKey().painter.get() == painter) {
+                entry.getValue().valid = false;
+            }
+        }
+    }
+    
+    /**
+     * <p>Removes all images of the given painter.</p>
+     * 
+     * @param painter the painter whose images must be removed
+     */
+    public synchronized void remove(Object painter) {
+        for (Iterator<Map.Entry<Key, Entry>> iterator = 
+                entries.entrySet().iterator(); iterator.hasNext();) {
+            Map.Entry<Key, Entry> entry = iterator.next();
+            if (entry.getKey().painter.get() == painter) {
+                remove(iterator, entry.getValue());
+            }
+        }
+    }
+    
+    /**
+     * <p>Removes all entries. The statistics are kept.</p>
+     */
+    public synchronized void clear() {
+        for (Iterator<Entry> iterator = entries.values().iterator(); iterator.hasNext();) {
+            remove(iterator, iterator.next());
+        }
+    }
+    
+    /**
+     * <p>Sets the maximal size, in bytes, of the cached images. Evicts the
+     * least recently used entries if the current size exceeds it, keeping
+     * the most recently used one unless the maximal size is 0.</p>
+     *
+     * @param maximumSize the maximal size of the cached images
+     * @throws IllegalArgumentException if <code>maximumSize</code> is negative
+     */
+    public synchronized void setMaximumSize(long maximumSize) {
+        if (maximumSize < 0) {
+            throw new IllegalArgumentException("maximumSize must be >= 0");
+        }
+        this.maximumSize = maximumSize;
+        evict();
+    }
+    
+    /**
+     * <p>Returns the maximal size, in bytes, of the cached images.</p>
+     *
+     * @return the maximal size of the cached images
+     */
+    public synchronized long getMaximumSize() {
+        return maximumSize;
+    }
+    
+    /**
+     * <p>Sets whether painters without filters should cache into 
+     * <code>VolatileImage</code>s. The default value is false. Takes effect
+     * on the next image a painter creates.</p>
+     * 
+     * @param enabled true to cache into volatile images
+     */
+    public synchronized void setVolatileImageEnabled(boolean enabled) {
+        this.volatileImageEnabled = enabled;
+    }
+    
+    /**
+     * <p>Returns whether painters without filters cache into 
+     * <code>VolatileImage</code>s.</p>
+     * 
+     * @return true if volatile images are used
+     */
+    public synchronized boolean isVolatileImageEnabled() {
+        return volatileImageEnabled;
+    }
+    
+    /**
+     * <p>Returns the estimated size, in bytes, of the cached images, valid
+     * and stale.</p>
+     *
+     * @return the size of the cached images
+     */
+    public synchronized long getSize() {
+        return size;
+    }
+    
+    /**
+     * <p>Returns the number of cached images, valid and stale.</p>
+     *
+     * @return the number of entries
+     */
+    public synchronized int getEntryCount() {
+        return entries.size();
+    }
+    
+    /**
+     * <p>Returns the number of lookups which found a valid image.</p>
+     *
+     * @return the number of hits
+     */
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+    
+    /**
+     * <p>Returns the number of lookups which found no valid image.</p>
+     *
+     * @return the number of misses
+     */
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+    
+    /**
+     * <p>Returns the ratio of hits to all lookups.</p>
+     *
+     * @return the hit rate between 0 and 1, or 0 if there were no lookups
+     */
+    public synchronized double getHitRate() {
+        long lookups = hitCount + missCount;
+        return lookups == 0 ? 0 : (double) hitCount / lookups;
+    }
+    
+    /**
+     * <p>Returns the number of entries evicted to keep the cache within its 
+     * maximal size.</p>
+     *
+     * @return the number of evictions
+     */
+    public synchronized long getEvictionCount() {
+        return evictionCount;
+    }
+    
+    /**
+     * <p>Returns the number of times a cached <code>VolatileImage</code> had
+     * lost its content and was painted again.</p>
+     *
+     * @return the number of restored images
+     */
+    public synchronized long getRestoreCount() {
+        return restoreCount;
+    }
+    
+    /**
+     * Counts a volatile image which was painted again after losing its 
+     * content.
+     */
+    synchronized void imageRestored() {
+        restoreCount++;
+    }
+    
+    /**
+     * Evicts the least recently used entries until the size is within the 
+     * maximum or only the most recently used entry is left.
+     */
+    private void evict() {
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (size > maximumSize && iterator.hasNext() 
+                && (maximumSize == 0 || entries.size() > 1)) {
+            remove(iterator, iterator.next());
+            evictionCount++;
+        }
+    }
+    
+    /**
+     * Removes the entries whose painter was garbage collected.
+     */
+    private void purgeCollected() {
+        if (collected.poll() == null) {
+            return;
+        }
+        while (collected.poll() != null) {
+            // drain, the entries are found by their cleared references
+        }
+        for (Iterator<Map.Entry<Key, Entry>> iterator = 
+                entries.entrySet().iterator(); iterator.hasNext();) {
+            Map.Entry<Key, Entry> entry = iterator.next();
+            if (entry.getKey().painter.get() == null) {
+                remove(iterator, entry.getValue());
+            }
+        }
+    }
+    
+    private void remove(Iterator<?> iterator, Entry entry) {
+        iterator.remove();
+        size -= entry.size;
+        entry.image.flush();
+    }
+    
+    /**
+     * The key of a cached image. Painters are compared by identity.
+     */
+    private static final class Key {
+        private final WeakReference<Object> painter;
+        private final int width;
+        private final int height;
+        private final int hash;
+        
+        Key(Object painter, int width, int height, ReferenceQueue<Object> queue) {
+            this.painter = new WeakReference<Object>(painter, queue);
+            this.width = width;
+            this.height = height;
+            this.hash = 31 * (31 * System.identityHashCode(painter) + width) + height;
+        }
+        
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+        
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Key)) return false;
+            Key other = (Key) obj;
+            if (hash != other.hash || width != other.width || height != other.height) {
+                return false;
+            }
+            Object owner = painter.get();
+            return owner != null && owner == other.painter.get();
+        }
+    }
+    
+    /**
+     * A cached image and its state.
+     */
+    private static final class Entry {
+        private final Image image;
+        private final long size;
+        private boolean valid = true;
+        
+        Entry(Image image, long size) {
+            this.image = image;
+            this.size = size;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * $Id$
+ *
+ * Copyright 2026 The SwingX project contributors.
+ * All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ * 
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin St, Fifth Floor, Boston, MA  02110-1301  USA
+ */
+package org.jdesktop.swingx.painter;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.awt.image.RescaleOp;
+import java.awt.image.VolatileImage;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+/**
+ * Test for PainterCache and its use by AbstractPainter.
+ * 
+ * @author agent
+ */
+@RunWith(JUnit4.class)
+public class PainterCacheTest {
+    
+    private PainterCache cache;
+    private BufferedImage target;
+    
+    @Before
+    public void setUp() {
+        cache = new PainterCache(PainterCache.DEFAULT_MAXIMUM_SIZE);
+        target = new BufferedImage(50, 50, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    /**
+     * A cacheable painter paints once and is drawn from the cache afterwards.
+     */
+    @Test
+    public void testHitAfterPaint() {
+        CountingPainter painter = new CountingPainter(cache);
+        paint(painter, 10, 10);
+        paint(painter, 10, 10);
+        paint(painter, 10, 10);
+        assertThat(painter.count, is(1));
+        assertThat(cache.getMissCount(), is(1L));
+        assertThat(cache.getHitCount(), is(2L));
+        assertThat(cache.getHitRate(), is(2.0 / 3));
+        assertThat(cache.getEntryCount(), is(1));
+        assertThat(cache.getSize(), is(4L * 10 * 10));
+        assertThat(target.getRGB(5, 5), is(Color.RED.getRGB()));
+    }
+    
+    /**
+     * A painter painted at another size keeps the images of previous sizes.
+     */
+    @Test
+    public void testSizeKeyed() {
+        CountingPainter painter = new CountingPainter(cache);
+        paint(painter, 10, 10);
+        paint(painter, 20, 10);
+        paint(painter, 10, 10);
+        paint(painter, 20, 10);
+        assertThat(painter.count, is(2));
+        assertThat(cache.getEntryCount(), is(2));
+        assertThat(cache.getSize(), is(4L * 10 * 10 + 4L * 20 * 10));
+    }
+    
+    /**
+     * A dirty painter paints again, into the image of the stale entry.
+     */
+    @Test
+    public void testDirtyRepaintsIntoStaleImage() {
+        CountingPainter painter = new CountingPainter(cache);
+        paint(painter, 10, 10);
+        Image image = cache.get(painter, 10, 10);
+        painter.setColor(Color.BLUE);
+        assertThat(painter.isCacheCleared(), is(true));
+        assertThat(cache.get(painter, 10, 10), nullValue());
+        assertThat("stale entries are kept", cache.getEntryCount(), is(1));
+        paint(painter, 10, 10);
+        assertThat(painter.count, is(2));
+        assertThat(cache.get(painter, 10, 10), sameInstance(image));
+        assertThat(target.getRGB(5, 5), is(Color.BLUE.getRGB()));
+    }
+    
+    /**
+     * Disabling the cache of a painter removes its images.
+     */
+    @Test
+    public void testNotCacheableRemoves() {
+        CountingPainter painter = new CountingPainter(cache);
+        paint(painter, 10, 10);
+        paint(painter, 20, 20);
+        painter.setCacheable(false);
+        assertThat(cache.getEntryCount(), is(0));
+        assertThat(cache.getSize(), is(0L));
+        paint(painter, 10, 10);
+        assertThat(cache.getEntryCount(), is(0));
+        assertThat(painter.count, is(3));
+    }
+    
+    /**
+     * The least recently used images are evicted when the budget is exceeded.
+     */
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        cache.setMaximumSize(2 * 4L * 10 * 10);
+        CountingPainter first = new CountingPainter(cache);
+        CountingPainter second = new CountingPainter(cache);
+        CountingPainter third = new CountingPainter(cache);
+        paint(first, 10, 10);
+        paint(second, 10, 10);
+        // touch the first
+        paint(first, 10, 10);
+        paint(third, 10, 10);
+        assertThat(cache.getEvictionCount(), is(1L));
+        assertThat(cache.getEntryCount(), is(2));
+        assertThat(cache.get(second, 10, 10), nullValue());
+        assertThat(cache.get(first, 10, 10), notNullValue());
+        assertThat(cache.get(third, 10, 10), notNullValue());
+    }
+    
+    /**
+     * An image larger than the budget evicts all others and is cached alone.
+     */
+    @Test
+    public void testTooLargeCachedAlone() {
+        cache.setMaximumSize(4L * 10 * 10 - 1);
+        CountingPainter small = new CountingPainter(cache);
+        CountingPainter painter = new CountingPainter(cache);
+        paint(small, 5, 5);
+        paint(painter, 10, 10);
+        paint(painter, 10, 10);
+        assertThat(painter.count, is(1));
+        assertThat(cache.getEntryCount(), is(1));
+        assertThat(cache.get(small, 5, 5), nullValue());
+        assertThat(cache.get(painter, 10, 10), notNullValue());
+        assertThat(target.getRGB(5, 5), is(Color.RED.getRGB()));
+        paint(small, 5, 5);
+        assertThat(cache.getEntryCount(), is(1));
+        assertThat(cache.get(painter, 10, 10), nullValue());
+    }
+    
+    /**
+     * A budget of 0 disables caching: images are painted, but not cached.
+     */
+    @Test
+    public void testZeroMaximumSizeNotCached() {
+        cache.setMaximumSize(0);
+        CountingPainter painter = new CountingPainter(cache);
+        paint(painter, 10, 10);
+        paint(painter, 10, 10);
+        assertThat(painter.count, is(2));
+        assertThat(cache.getEntryCount(), is(0));
+        assertThat(painter.isCacheCleared(), is(true));
+        assertThat(target.getRGB(5, 5), is(Color.RED.getRGB()));
+    }
+    
+    /**
+     * Painters without filters may cache into volatile images, painters 
+     * with filters cache into buffered images.
+     */
+    @Test
+    public void testVolatileImage() {
+        cache.setVolatileImageEnabled(true);
+        CountingPainter painter = new CountingPainter(cache);
+        paint(painter, 10, 10);
+        Image image = cache.get(painter, 10, 10);
+        assertThat(image, notNullValue());
+        if (image instanceof VolatileImage) {
+            paint(painter, 10, 10);
+            assertThat(painter.count, is(1));
+            assertThat(target.getRGB(5, 5), is(Color.RED.getRGB()));
+        }
+        painter.setFilters(new RescaleOp(1f, 0f, null));
+        paint(painter, 10, 10);
+        assertThat(cache.get(painter, 10, 10), not(sameInstance(image)));
+        assertThat(cache.get(painter, 10, 10) instanceof BufferedImage, is(true));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeMaximumSize() {
+        new PainterCache(-1);
+    }
+    
+    private void paint(AbstractPainter<Object> painter, int width, int height) {
+        Graphics2D g = target.createGraphics();
+        try {
+            painter.paint(g, null, width, height);
+        } finally {
+            g.dispose();
+        }
+    }
+    
+    /**
+     * A cacheable painter which fills its area and counts its paintings.
+     */
+    private static class CountingPainter extends AbstractPainter<Object> {
+        private final PainterCache cache;
+        private Color color = Color.RED;
+        private int count;
+        
+        CountingPainter(PainterCache cache) {
+            super(true);
+            this.cache = cache;
+        }
+        
+        void setColor(Color color) {
+            this.color = color;
+            setDirty(true);
+        }
+        
+        @Override
+        protected PainterCache getPainterCache() {
+            return cache;
+        }
+        
+        @Override
+        protected void doPaint(Graphics2D g, Object object, int width, int height) {
+            count++;
+            g.setColor(color);
+            g.fillRect(0, 0, width, height);
+        }
+    }
+}